@@ -21,6 +21,7 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
 import java.text.MessageFormat;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -50,6 +51,7 @@ import org.eclipse.core.runtime.Plugin;
 import org.eclipse.core.runtime.SafeRunner;
 import org.eclipse.core.runtime.Status;
 import org.eclipse.core.runtime.jobs.Job;
+import org.eclipse.core.runtime.preferences.IEclipsePreferences.IPreferenceChangeListener;
 import org.eclipse.debug.core.model.IDebugElement;
 import org.eclipse.debug.core.model.IDisconnect;
 import org.eclipse.debug.core.model.IDropToFrame;
@@ -63,6 +65,8 @@ import org.eclipse.debug.core.model.IValue;
 import org.eclipse.debug.core.model.RuntimeProcess;
 import org.eclipse.debug.internal.core.BreakpointManager;
 import org.eclipse.debug.internal.core.DebugCoreMessages;
+import org.eclipse.debug.internal.core.DebugEventCoalescer;
+import org.eclipse.debug.internal.core.DebugEventStatistics;
 import org.eclipse.debug.internal.core.DebugOptions;
 import org.eclipse.debug.internal.core.ExpressionManager;
 import org.eclipse.debug.internal.core.IConfigurationElementConstants;
@@ -449,7 +453,7 @@ public class DebugPlugin extends Plugin {
 	 *
 	 * @since 3.1
 	 */
-	private List<Object> fEventQueue = new ArrayList<>();
+	private ArrayDeque<Object> fEventQueue = new ArrayDeque<>();
 
 	/**
 	 * Job to fire events to listeners.
@@ -457,6 +461,21 @@ public class DebugPlugin extends Plugin {
 	 */
 	private EventDispatchJob fEventDispatchJob = new EventDispatchJob();
 
+	/**
+	 * Whether redundant change events are coalesced before dispatch, see
+	 * {@link IInternalDebugCoreConstants#PREF_COALESCE_DEBUG_EVENTS}.
+	 */
+	private volatile boolean fCoalesceEvents = false;
+
+	/**
+	 * Updates {@link #fCoalesceEvents} when the preference changes.
+	 */
+	private final IPreferenceChangeListener fCoalesceEventsListener = event -> {
+		if (IInternalDebugCoreConstants.PREF_COALESCE_DEBUG_EVENTS.equals(event.getKey())) {
+			updateCoalesceEvents();
+		}
+	};
+
 	/**
 	 * Event dispatch job. Processes event queue of debug events and runnables.
 	 *
@@ -478,19 +497,28 @@ public class DebugPlugin extends Plugin {
 
 		@Override
 		protected IStatus run(IProgressMonitor monitor) {
-
-			while (!fEventQueue.isEmpty()) {
-				Object next = null;
+			List<Object> batch = new ArrayList<>();
+			while (true) {
 				synchronized (fEventQueue) {
-					if (!fEventQueue.isEmpty()) {
-						next = fEventQueue.remove(0);
+					if (fEventQueue.isEmpty()) {
+						break;
+					}
+					for (Object queued : fEventQueue) {
+						batch.add(DebugEventStatistics.getDefault().unwrap(queued));
 					}
+					fEventQueue.clear();
 				}
-				if (next instanceof Runnable) {
-					fRunner.async((Runnable) next);
-				} else if (next != null) {
-					fNotifier.dispatch((DebugEvent[]) next);
+				if (batch.size() > 1 && fCoalesceEvents) {
+					batch = DebugEventCoalescer.coalesce(batch);
 				}
+				for (Object next : batch) {
+					if (next instanceof Runnable) {
+						fRunner.async((Runnable) next);
+					} else if (next != null) {
+						fNotifier.dispatch((DebugEvent[]) next);
+					}
+				}
+				batch.clear();
 			}
 			return Status.OK_STATUS;
 		}
@@ -575,7 +603,7 @@ public class DebugPlugin extends Plugin {
 			return;
 		}
 		synchronized (fEventQueue) {
-			fEventQueue.add(events);
+			fEventQueue.add(DebugEventStatistics.getDefault().wrap(events));
 		}
 		fEventDispatchJob.schedule();
 	}
@@ -615,14 +643,24 @@ public class DebugPlugin extends Plugin {
 	 * @return the launch manager
 	 * @see ILaunchManager
 	 */
-	public synchronized ILaunchManager getLaunchManager() {
-		if (fLaunchManager == null) {
-			fLaunchManager = new LaunchManager();
-			fLaunchManager.getAllLaunchConfigurations();
-			// monitor launch configuration renames for launch groups
-			fLaunchManager.addLaunchConfigurationListener(new GroupMemberChangeListener());
+	public ILaunchManager getLaunchManager() {
+		LaunchManager manager;
+		boolean created = false;
+		synchronized (this) {
+			if (fLaunchManager == null) {
+				fLaunchManager = new LaunchManager();
+				// monitor launch configuration renames for launch groups
+				fLaunchManager.addLaunchConfigurationListener(new GroupMemberChangeListener());
+				created = true;
+			}
+			manager = fLaunchManager;
 		}
-		return fLaunchManager;
+		if (created) {
+			// outside of the monitor, configurations are loaded on threads
+			// which need the launch manager
+			manager.getAllLaunchConfigurations();
+		}
+		return manager;
 	}
 
 	/**
@@ -716,6 +754,7 @@ public class DebugPlugin extends Plugin {
 			fEventFilters.clear();
 
 			SourceLookupUtils.shutdown();
+			Preferences.removePreferenceListener(getUniqueIdentifier(), fCoalesceEventsListener);
 			Preferences.savePreferences(DebugPlugin.getUniqueIdentifier());
 			ResourcesPlugin.getWorkspace().removeSaveParticipant(getUniqueIdentifier());
 		} finally {
@@ -728,6 +767,8 @@ public class DebugPlugin extends Plugin {
 	public void start(BundleContext context) throws Exception {
 		super.start(context);
 		new DebugOptions(context);
+		updateCoalesceEvents();
+		Preferences.addPreferenceListener(getUniqueIdentifier(), fCoalesceEventsListener);
 		ResourcesPlugin.getWorkspace().addSaveParticipant(getUniqueIdentifier(),
 				new ISaveParticipant() {
 					@Override
@@ -735,6 +776,9 @@ public class DebugPlugin extends Plugin {
 						if (fExpressionManager != null) {
 							fExpressionManager.storeWatchExpressions();
 						}
+						if (fLaunchManager != null) {
+							fLaunchManager.persistLaunchConfigurationIndex();
+						}
 						Preferences.savePreferences(DebugPlugin.getUniqueIdentifier());
 					}
 					@Override
@@ -758,6 +802,14 @@ public class DebugPlugin extends Plugin {
 		manager.registerAdapters(actionFactory, IDebugElement.class);
 	}
 
+	/**
+	 * Reads whether redundant change events are coalesced from the
+	 * preferences.
+	 */
+	private void updateCoalesceEvents() {
+		fCoalesceEvents = Platform.getPreferencesService().getBoolean(getUniqueIdentifier(), IInternalDebugCoreConstants.PREF_COALESCE_DEBUG_EVENTS, false, null);
+	}
+
 	/**
 	 * Creates and returns a new process representing the given
 	 * <code>java.lang.Process</code>. A streams proxy is created
@@ -1237,13 +1289,33 @@ public class DebugPlugin extends Plugin {
 		 * @param events debug events
 		 */
 		void dispatch(DebugEvent[] events) {
+			DebugEventStatistics statistics = DebugEventStatistics.getDefault();
+			if (statistics.isEnabled()) {
+				long start = System.nanoTime();
+				dispatch(events, statistics);
+				statistics.recordDispatch(System.nanoTime() - start);
+			} else {
+				dispatch(events, null);
+			}
+		}
+
+		/**
+		 * Filter and dispatch the given events.
+		 *
+		 * @param events debug events
+		 * @param statistics statistics to record the time of each filter and
+		 *            listener or <code>null</code>
+		 */
+		private void dispatch(DebugEvent[] events, DebugEventStatistics statistics) {
 			fEvents = events;
 			if (!fEventFilters.isEmpty()) {
 				fMode = NOTIFY_FILTERS;
 				for (IDebugEventFilter iDebugEventFilter : fEventFilters) {
 					fFilter = iDebugEventFilter;
-					SafeRunner.run(this);
+					safeRun(iDebugEventFilter, statistics);
 					if (fEvents == null || fEvents.length == 0) {
+						fEvents = null;
+						fFilter = null;
 						return;
 					}
 				}
@@ -1257,13 +1329,27 @@ public class DebugPlugin extends Plugin {
 			}
 			for (IDebugEventSetListener iDebugEventSetListener : fEventListeners) {
 				fListener = iDebugEventSetListener;
-				SafeRunner.run(this);
+				safeRun(iDebugEventSetListener, statistics);
 			}
 			fEvents = null;
 			fFilter = null;
 			fListener = null;
 		}
 
+		/**
+		 * Notifies the current filter or listener and records its execution
+		 * time if statistics are given.
+		 */
+		private void safeRun(Object listener, DebugEventStatistics statistics) {
+			if (statistics == null) {
+				SafeRunner.run(this);
+			} else {
+				long start = System.nanoTime();
+				SafeRunner.run(this);
+				statistics.recordListener(listener, System.nanoTime() - start);
+			}
+		}
+
 	}
 
 	/**
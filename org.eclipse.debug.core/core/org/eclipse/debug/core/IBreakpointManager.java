@@ -15,7 +15,10 @@ package org.eclipse.debug.core;
 
 
 import org.eclipse.core.resources.IMarker;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.resources.IWorkspaceRunnable;
 import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.debug.core.model.IBreakpoint;
 import org.eclipse.debug.core.model.IBreakpointImportParticipant;
 
@@ -110,6 +113,33 @@ public interface IBreakpointManager {
 	 */
 	IBreakpoint[] getBreakpoints(String modelIdentifier);
 
+	/**
+	 * Returns a collection of all registered breakpoints whose markers are
+	 * on the given resource. Breakpoints on members of the resource are not
+	 * included. Answers an empty array if no breakpoints are registered for
+	 * the given resource.
+	 *
+	 * @param resource the resource breakpoint markers are on
+	 * @return an array of breakpoints
+	 * @since 3.21
+	 */
+	IBreakpoint[] getBreakpoints(IResource resource);
+
+	/**
+	 * Returns a collection of all registered breakpoints whose markers are
+	 * on the given resource and have the given line number, as stored in the
+	 * {@link IMarker#LINE_NUMBER} marker attribute. Breakpoints whose markers
+	 * have no line number are registered with line number <code>-1</code>.
+	 * Answers an empty array if no breakpoints are registered for the given
+	 * line.
+	 *
+	 * @param resource the resource breakpoint markers are on
+	 * @param lineNumber the line number of the breakpoint markers
+	 * @return an array of breakpoints
+	 * @since 3.21
+	 */
+	IBreakpoint[] getBreakpoints(IResource resource, int lineNumber);
+
 	/**
 	 * Returns whether the given breakpoint is currently
 	 * registered with this breakpoint manager.
@@ -167,6 +197,28 @@ public interface IBreakpointManager {
 	 */
 	void removeBreakpoints(IBreakpoint[] breakpoints, boolean delete) throws CoreException;
 
+	/**
+	 * Runs the given action as a single batch of breakpoint changes. The
+	 * action runs as one atomic workspace operation, so breakpoint markers it
+	 * creates, changes and deletes are reported in a single resource delta.
+	 * Breakpoints added to, removed from and changed in this manager by the
+	 * calling thread while the action runs are reported to listeners when the
+	 * action completes, merging consecutive changes of the same kind into one
+	 * notification. For example, adding any number of breakpoints in a batch
+	 * results in a single <code>breakpointsAdded</code> notification.
+	 * <p>
+	 * Batches may be nested, listeners are notified when the outermost batch
+	 * completes. Listeners are also notified of the changes made before the
+	 * action failed or was canceled.
+	 * </p>
+	 *
+	 * @param action the action to run
+	 * @param monitor progress monitor, or <code>null</code>
+	 * @exception CoreException if the action fails
+	 * @since 3.21
+	 */
+	void runBatch(IWorkspaceRunnable action, IProgressMonitor monitor) throws CoreException;
+
 	/**
 	 * Adds the given listener to the collection of registered breakpoint listeners.
 	 * Has no effect if an identical listener is already registered.
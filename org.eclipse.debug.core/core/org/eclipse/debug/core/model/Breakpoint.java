@@ -14,6 +14,7 @@
 package org.eclipse.debug.core.model;
 
 
+import java.util.Collections;
 import java.util.Map;
 
 import org.eclipse.core.resources.IMarker;
@@ -30,6 +31,7 @@ import org.eclipse.core.runtime.jobs.ISchedulingRule;
 import org.eclipse.debug.core.DebugException;
 import org.eclipse.debug.core.DebugPlugin;
 import org.eclipse.debug.core.IBreakpointManager;
+import org.eclipse.debug.internal.core.BreakpointAttributeCache;
 import org.eclipse.debug.internal.core.BreakpointManager;
 import org.eclipse.debug.internal.core.DebugCoreMessages;
 
@@ -44,6 +46,9 @@ import org.eclipse.debug.internal.core.DebugCoreMessages;
 
 public abstract class Breakpoint extends PlatformObject implements IBreakpoint, ITriggerPoint {
 
+	static {
+		BreakpointAttributeCache.setAccessor(Breakpoint::resetAttributeCache);
+	}
 
 	/**
 	 * Creates a breakpoint.
@@ -60,13 +65,56 @@ public abstract class Breakpoint extends PlatformObject implements IBreakpoint,
 	 */
 	private IMarker fMarker= null;
 
+	/**
+	 * Immutable copy of the attributes of a marker.
+	 */
+	private static final class AttributeSnapshot {
+
+		static final AttributeSnapshot MISSING = new AttributeSnapshot(false, Collections.emptyMap());
+
+		final boolean fExists;
+		final Map<String, Object> fAttributes;
+
+		AttributeSnapshot(boolean exists, Map<String, Object> attributes) {
+			fExists = exists;
+			fAttributes = attributes;
+		}
+	}
+
+	/**
+	 * Cached attributes of the underlying marker or <code>null</code> if not
+	 * yet read.
+	 */
+	private volatile AttributeSnapshot fSnapshot;
+
+	/**
+	 * Whether the attributes of the underlying marker are cached. Only
+	 * breakpoints which enable the cache and are registered with the
+	 * breakpoint manager, which notifies them of marker changes, cache
+	 * attributes. Other breakpoints read the marker directly.
+	 *
+	 * @see #isAttributeCacheEnabled()
+	 */
+	private volatile boolean fCacheAttributes;
+
+	/**
+	 * Incremented whenever the cached attributes are discarded, to avoid
+	 * caching attributes that were read before a change.
+	 */
+	private volatile int fSnapshotGeneration;
+
+	/**
+	 * Lock for discarding and publishing the cached attributes.
+	 */
+	private final Object fSnapshotLock = new Object();
+
 	/**
 	 * @see IBreakpoint#setMarker(IMarker)
 	 */
 	@Override
 	public void setMarker(IMarker marker) throws CoreException {
 		fMarker= marker;
-
+		discardAttributeSnapshot();
 	}
 
 	/**
@@ -102,20 +150,33 @@ public abstract class Breakpoint extends PlatformObject implements IBreakpoint,
 	}
 
 	/**
+	 * Returns the {@link IBreakpoint#ENABLED} attribute of the marker. With
+	 * {@link #isAttributeCacheEnabled() attribute caching} a change made
+	 * directly to the marker is only visible once its marker delta was
+	 * reported.
+	 *
 	 * @see IBreakpoint#isEnabled()
 	 */
 	@Override
 	public boolean isEnabled() throws CoreException {
-		return getMarker().getAttribute(ENABLED, false);
+		return getCachedAttribute(ENABLED, false);
 	}
 
 	/**
+	 * Returns whether the marker exists and its {@link IBreakpoint#REGISTERED}
+	 * attribute is set. Subject to {@link #isAttributeCacheEnabled()
+	 * attribute caching}, like {@link #isEnabled()}.
+	 *
 	 * @see IBreakpoint#isRegistered()
 	 */
 	@Override
 	public boolean isRegistered() throws CoreException {
-			IMarker marker= getMarker();
-			return marker.exists() && marker.getAttribute(REGISTERED, true);
+		AttributeSnapshot snapshot = getAttributeSnapshot();
+		if (snapshot != null) {
+			return snapshot.fExists && getAttribute(snapshot, REGISTERED, true);
+		}
+		IMarker marker= getMarker();
+		return marker.exists() && marker.getAttribute(REGISTERED, true);
 	}
 
 	/**
@@ -140,7 +201,11 @@ public abstract class Breakpoint extends PlatformObject implements IBreakpoint,
 	@Override
 	public void delete() throws CoreException {
 		DebugPlugin.getDefault().getBreakpointManager().removeBreakpoint(this, false);
-		getMarker().delete();
+		try {
+			getMarker().delete();
+		} finally {
+			discardAttributeSnapshot();
+		}
 	}
 
 	/**
@@ -152,11 +217,15 @@ public abstract class Breakpoint extends PlatformObject implements IBreakpoint,
 	}
 
 	/**
+	 * Returns the {@link IBreakpoint#PERSISTED} attribute of the marker.
+	 * Subject to {@link #isAttributeCacheEnabled() attribute caching}, like
+	 * {@link #isEnabled()}.
+	 *
 	 * @see IBreakpoint#isPersisted()
 	 */
 	@Override
 	public boolean isPersisted() throws CoreException {
-		return getMarker().getAttribute(PERSISTED, true);
+		return getCachedAttribute(PERSISTED, true);
 	}
 
 	/**
@@ -170,12 +239,16 @@ public abstract class Breakpoint extends PlatformObject implements IBreakpoint,
 	}
 
 	/**
+	 * Returns the {@link IBreakpoint#TRIGGERPOINT} attribute of the marker.
+	 * Subject to {@link #isAttributeCacheEnabled() attribute caching}, like
+	 * {@link #isEnabled()}.
+	 *
 	 * @see IBreakpoint#isPersisted()
 	 * @since 3.11
 	 */
 	@Override
 	public boolean isTriggerPoint() throws CoreException {
-		return getMarker().getAttribute(TRIGGERPOINT, false);
+		return getCachedAttribute(TRIGGERPOINT, false);
 	}
 
 	/**
@@ -210,7 +283,11 @@ public abstract class Breakpoint extends PlatformObject implements IBreakpoint,
 		IWorkspace workspace= ResourcesPlugin.getWorkspace();
 		IWorkspaceRunnable runnable= monitor -> ensureMarker().setAttribute(attributeName, value);
 
-		workspace.run(runnable, getMarkerRule(), IWorkspace.AVOID_UPDATE, null);
+		try {
+			workspace.run(runnable, getMarkerRule(), IWorkspace.AVOID_UPDATE, null);
+		} finally {
+			discardAttributeSnapshot();
+		}
 	}
 
 	/**
@@ -228,7 +305,11 @@ public abstract class Breakpoint extends PlatformObject implements IBreakpoint,
 		IWorkspace workspace= ResourcesPlugin.getWorkspace();
 		IWorkspaceRunnable runnable= monitor -> ensureMarker().setAttribute(attributeName, value);
 
-		workspace.run(runnable, getMarkerRule(), IWorkspace.AVOID_UPDATE, null);
+		try {
+			workspace.run(runnable, getMarkerRule(), IWorkspace.AVOID_UPDATE, null);
+		} finally {
+			discardAttributeSnapshot();
+		}
 	}
 
 	/**
@@ -246,7 +327,11 @@ public abstract class Breakpoint extends PlatformObject implements IBreakpoint,
 		IWorkspace workspace= ResourcesPlugin.getWorkspace();
 		IWorkspaceRunnable runnable= monitor -> ensureMarker().setAttribute(attributeName, value);
 
-		workspace.run(runnable, getMarkerRule(), IWorkspace.AVOID_UPDATE, null);
+		try {
+			workspace.run(runnable, getMarkerRule(), IWorkspace.AVOID_UPDATE, null);
+		} finally {
+			discardAttributeSnapshot();
+		}
 	}
 
 	/**
@@ -264,7 +349,11 @@ public abstract class Breakpoint extends PlatformObject implements IBreakpoint,
 		IWorkspace workspace= ResourcesPlugin.getWorkspace();
 		IWorkspaceRunnable runnable= monitor -> ensureMarker().setAttributes(attributeNames, values);
 
-		workspace.run(runnable, getMarkerRule(), IWorkspace.AVOID_UPDATE, null);
+		try {
+			workspace.run(runnable, getMarkerRule(), IWorkspace.AVOID_UPDATE, null);
+		} finally {
+			discardAttributeSnapshot();
+		}
 	}
 
 	/**
@@ -281,7 +370,11 @@ public abstract class Breakpoint extends PlatformObject implements IBreakpoint,
 		IWorkspace workspace= ResourcesPlugin.getWorkspace();
 		IWorkspaceRunnable runnable= monitor -> ensureMarker().setAttributes(attributes);
 
-		workspace.run(runnable, getMarkerRule(), IWorkspace.AVOID_UPDATE, null);
+		try {
+			workspace.run(runnable, getMarkerRule(), IWorkspace.AVOID_UPDATE, null);
+		} finally {
+			discardAttributeSnapshot();
+		}
 	}
 
 	/**
@@ -364,9 +457,138 @@ public abstract class Breakpoint extends PlatformObject implements IBreakpoint,
 			ResourcesPlugin.getWorkspace().run(wr, rule, IWorkspace.AVOID_UPDATE, null);
 		} catch (CoreException e) {
 			throw new DebugException(e.getStatus());
+		} finally {
+			discardAttributeSnapshot();
 		}
 	}
 
+	/**
+	 * Discards the cached marker attributes of this breakpoint and sets
+	 * whether marker attributes are cached from now on. Called by the
+	 * breakpoint manager when this breakpoint is registered or unregistered
+	 * and when its marker changes.
+	 *
+	 * @param enabled whether to cache marker attributes
+	 */
+	private void resetAttributeCache(boolean enabled) {
+		synchronized (fSnapshotLock) {
+			fCacheAttributes = enabled && isAttributeCacheEnabled();
+			fSnapshotGeneration++;
+			fSnapshot = null;
+		}
+	}
+
+	/**
+	 * Returns whether this breakpoint caches the attributes of its marker
+	 * while it is registered with the breakpoint manager. Returns
+	 * <code>false</code> by default. Subclasses may override.
+	 * <p>
+	 * With caching, {@link #isEnabled()}, {@link #isRegistered()},
+	 * {@link #isPersisted()}, {@link #isTriggerPoint()} and the position
+	 * getters of {@link LineBreakpoint} answer from an immutable copy of the
+	 * marker attributes without accessing the workspace. Changes made through
+	 * the setters of this class are visible immediately. Changes made directly
+	 * through {@link IMarker} are only visible once the marker delta was
+	 * reported, which is deferred to the end of the enclosing workspace
+	 * operation. A breakpoint should only enable caching if it changes its
+	 * marker through this class or does not depend on reading such changes
+	 * within the same operation.
+	 * </p>
+	 *
+	 * @return whether marker attributes are cached
+	 * @since 3.21
+	 */
+	protected boolean isAttributeCacheEnabled() {
+		return false;
+	}
+
+	/**
+	 * Discards the cached marker attributes after this breakpoint changed its
+	 * marker, without waiting for the marker delta.
+	 */
+	private void discardAttributeSnapshot() {
+		synchronized (fSnapshotLock) {
+			fSnapshotGeneration++;
+			fSnapshot = null;
+		}
+	}
+
+	/**
+	 * Returns the cached attributes of the underlying marker, reading them
+	 * if necessary, or <code>null</code> if attributes are not cached for
+	 * this breakpoint.
+	 *
+	 * @return the cached attributes or <code>null</code>
+	 */
+	private AttributeSnapshot getAttributeSnapshot() {
+		if (!fCacheAttributes) {
+			return null;
+		}
+		AttributeSnapshot snapshot = fSnapshot;
+		if (snapshot != null) {
+			return snapshot;
+		}
+		int generation = fSnapshotGeneration;
+		IMarker marker = getMarker();
+		snapshot = AttributeSnapshot.MISSING;
+		if (marker != null && marker.exists()) {
+			try {
+				Map<String, Object> attributes = marker.getAttributes();
+				snapshot = new AttributeSnapshot(true, attributes == null ? Collections.emptyMap() : attributes);
+			} catch (CoreException e) {
+				// deleted concurrently
+			}
+		}
+		synchronized (fSnapshotLock) {
+			if (generation == fSnapshotGeneration && fCacheAttributes) {
+				fSnapshot = snapshot;
+			}
+		}
+		return snapshot;
+	}
+
+	/**
+	 * Returns the given boolean attribute of the underlying marker, from the
+	 * cached attributes if possible.
+	 *
+	 * @param attributeName attribute name
+	 * @param defaultValue value if the attribute is not a boolean or the
+	 *            marker does not exist
+	 * @return the attribute value
+	 * @see IMarker#getAttribute(String, boolean)
+	 */
+	boolean getCachedAttribute(String attributeName, boolean defaultValue) {
+		AttributeSnapshot snapshot = getAttributeSnapshot();
+		if (snapshot != null) {
+			return getAttribute(snapshot, attributeName, defaultValue);
+		}
+		return getMarker().getAttribute(attributeName, defaultValue);
+	}
+
+	/**
+	 * Returns the given integer attribute of the underlying marker, from the
+	 * cached attributes if possible.
+	 *
+	 * @param attributeName attribute name
+	 * @param defaultValue value if the attribute is not an integer or the
+	 *            marker does not exist
+	 * @return the attribute value
+	 * @see IMarker#getAttribute(String, int)
+	 */
+	int getCachedAttribute(String attributeName, int defaultValue) {
+		AttributeSnapshot snapshot = getAttributeSnapshot();
+		if (snapshot != null) {
+			Object value = snapshot.fAttributes.get(attributeName);
+			return value instanceof Integer ? ((Integer) value).intValue() : defaultValue;
+		}
+		return getMarker().getAttribute(attributeName, defaultValue);
+	}
+
+	private static boolean getAttribute(AttributeSnapshot snapshot, String attributeName, boolean defaultValue) {
+		Object value = snapshot.fAttributes.get(attributeName);
+		return value instanceof Boolean ? ((Boolean) value).booleanValue() : defaultValue;
+	}
+
 	@Override
 	public String toString() {
 		StringBuilder builder = new StringBuilder(getClass().getSimpleName());
@@ -30,37 +30,49 @@ public abstract class LineBreakpoint extends Breakpoint implements ILineBreakpoi
 
 
 	/**
+	 * Returns the {@link IMarker#LINE_NUMBER} attribute of the marker. Subject to
+	 * {@link #isAttributeCacheEnabled() attribute caching}, like
+	 * {@link #isEnabled()}.
+	 *
 	 * @see ILineBreakpoint#getLineNumber()
 	 */
 	@Override
 	public int getLineNumber() throws CoreException {
 		IMarker m = getMarker();
 		if (m != null) {
-			return m.getAttribute(IMarker.LINE_NUMBER, -1);
+			return getCachedAttribute(IMarker.LINE_NUMBER, -1);
 		}
 		return -1;
 	}
 
 	/**
+	 * Returns the {@link IMarker#CHAR_START} attribute of the marker. Subject to
+	 * {@link #isAttributeCacheEnabled() attribute caching}, like
+	 * {@link #isEnabled()}.
+	 *
 	 * @see ILineBreakpoint#getCharStart()
 	 */
 	@Override
 	public int getCharStart() throws CoreException {
 		IMarker m = getMarker();
 		if (m != null) {
-			return m.getAttribute(IMarker.CHAR_START, -1);
+			return getCachedAttribute(IMarker.CHAR_START, -1);
 		}
 		return -1;
 	}
 
 	/**
+	 * Returns the {@link IMarker#CHAR_END} attribute of the marker. Subject to
+	 * {@link #isAttributeCacheEnabled() attribute caching}, like
+	 * {@link #isEnabled()}.
+	 *
 	 * @see ILineBreakpoint#getCharEnd()
 	 */
 	@Override
 	public int getCharEnd() throws CoreException {
 		IMarker m = getMarker();
 		if (m != null) {
-			return m.getAttribute(IMarker.CHAR_END, -1);
+			return getCachedAttribute(IMarker.CHAR_END, -1);
 		}
 		return -1;
 	}
@@ -23,6 +23,7 @@ import java.util.Map;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.Collectors;
 
 import org.eclipse.core.runtime.CoreException;
@@ -37,6 +38,7 @@ import org.eclipse.debug.core.ILaunch;
 import org.eclipse.debug.core.ILaunchConfiguration;
 import org.eclipse.debug.internal.core.DebugCoreMessages;
 import org.eclipse.debug.internal.core.NullStreamsProxy;
+import org.eclipse.debug.internal.core.ProcessIOExecutor;
 import org.eclipse.debug.internal.core.StreamsProxy;
 
 /**
@@ -76,7 +78,7 @@ public class RuntimeProcess extends PlatformObject implements IProcess {
 	 * The monitor which listens for this runtime process' system process
 	 * to terminate.
 	 */
-	private final ProcessMonitorThread fMonitor;
+	private final ProcessMonitor fMonitor;
 
 	/**
 	 * The streams proxy for this process
@@ -152,7 +154,7 @@ public class RuntimeProcess extends PlatformObject implements IProcess {
 		fThreadNameSuffix = getPidInfo(process, launch);
 
 		fStreamsProxy = createStreamsProxy();
-		fMonitor = new ProcessMonitorThread(fThreadNameSuffix);
+		fMonitor = new ProcessMonitor(fThreadNameSuffix);
 		fMonitor.start();
 		launch.addProcess(this);
 		fireCreationEvent();
@@ -477,45 +479,104 @@ public class RuntimeProcess extends PlatformObject implements IProcess {
 	/**
 	 * Monitors a system process, waiting for it to terminate, and
 	 * then notifies the associated runtime process.
+	 * <p>
+	 * If process I/O runs on the shared pool (see
+	 * {@link ProcessIOExecutor#isSharedMode()}) the termination is detected
+	 * with {@link Process#onExit()}. Processes which do not implement
+	 * {@link Process#onExit()} are waited for on the shared pool, as the
+	 * default implementation blocks a common pool thread. Otherwise a
+	 * dedicated thread waits for the process.
+	 * </p>
 	 */
-	private class ProcessMonitorThread extends Thread {
+	private class ProcessMonitor {
 
 		/**
-		 * Whether the thread has been told to exit.
+		 * Whether the monitor has been told to exit.
 		 */
 		private volatile boolean fExit;
 
 		/**
-		 * @see Thread#run()
+		 * Whether the runtime process was already notified.
+		 */
+		private final AtomicBoolean fNotified = new AtomicBoolean();
+
+		private final String fName;
+
+		private final boolean fShared;
+
+		/**
+		 * The task waiting for the process or <code>null</code> if the monitor
+		 * uses {@link Process#onExit()}.
+		 */
+		private ProcessIOExecutor.IOTask fTask;
+
+		/**
+		 * Creates a new process monitor.
+		 *
+		 * @param suffix Thread name suffix
+		 */
+		private ProcessMonitor(String suffix) {
+			fName = DebugCoreMessages.ProcessMonitorJob_0 + suffix;
+			fShared = ProcessIOExecutor.isSharedMode();
+		}
+
+		/**
+		 * Starts monitoring the process for termination.
+		 */
+		private void start() {
+			Process osProcess = RuntimeProcess.this.getSystemProcess();
+			if (fShared && osProcess != null && implementsOnExit(osProcess)) {
+				// onExit() completes on a JVM internal thread which must not
+				// block, so notify from the process I/O pool
+				osProcess.onExit().thenRun(this::notifyTerminatedAsync);
+			} else {
+				fTask = ProcessIOExecutor.newTask(fName, Thread.NORM_PRIORITY, this::waitForTermination, fShared);
+				fTask.start();
+			}
+		}
+
+		/**
+		 * Returns whether the given process overrides {@link Process#onExit()}.
+		 * The default implementation waits for the process on a thread of the
+		 * common fork join pool.
+		 *
+		 * @param process the system process
+		 * @return whether the process implements its own exit notification
 		 */
-		@Override
-		public void run() {
-			Process fOSProcess = RuntimeProcess.this.getSystemProcess();
-			if (!fExit && fOSProcess != null) {
+		private boolean implementsOnExit(Process process) {
+			try {
+				return process.getClass().getMethod("onExit").getDeclaringClass() != Process.class; //$NON-NLS-1$
+			} catch (NoSuchMethodException | SecurityException e) {
+				return false;
+			}
+		}
+
+		private void waitForTermination() {
+			Process osProcess = RuntimeProcess.this.getSystemProcess();
+			if (!fExit && osProcess != null) {
 				try {
-					fOSProcess.waitFor();
+					osProcess.waitFor();
 				} catch (InterruptedException ie) {
 					// clear interrupted state
 					Thread.interrupted();
 				} finally {
-					RuntimeProcess.this.terminated();
+					notifyTerminated();
 				}
 			}
 		}
 
-		/**
-		 * Creates a new process monitor and starts monitoring the process for
-		 * termination.
-		 *
-		 * @param suffix Thread name suffix
-		 */
-		private ProcessMonitorThread(String suffix) {
-			super(DebugCoreMessages.ProcessMonitorJob_0 + suffix);
-			setDaemon(true);
+		private void notifyTerminatedAsync() {
+			ProcessIOExecutor.newTask(fName, Thread.NORM_PRIORITY, this::notifyTerminated, true).start();
+		}
+
+		private void notifyTerminated() {
+			if (fNotified.compareAndSet(false, true)) {
+				RuntimeProcess.this.terminated();
+			}
 		}
 
 		/**
-		 * Kills the monitoring thread.
+		 * Kills the monitor.
 		 *
 		 * This method is to be useful for dealing with the error
 		 * case of an underlying process which has not informed this
@@ -523,7 +584,11 @@ public class RuntimeProcess extends PlatformObject implements IProcess {
 		 */
 		private void killThread() {
 			fExit = true;
-			this.interrupt(); // ignored if monitor thread is not yet running
+			if (fTask != null) {
+				fTask.interrupt(); // monitor will not wait if not yet running
+			} else {
+				notifyTerminatedAsync();
+			}
 		}
 	}
 }
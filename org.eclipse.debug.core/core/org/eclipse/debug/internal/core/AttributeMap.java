@@ -0,0 +1,404 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.debug.internal.core;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Map of launch configuration attributes sorted by attribute name, which can
+ * be copied in constant time.
+ * <p>
+ * The entries are stored in an immutable balanced tree. Changing the map
+ * replaces the nodes on the path to the changed entry and shares all other
+ * nodes with copies of the map, so a copy costs a single allocation no matter
+ * how many attributes there are and copies never see each other's changes.
+ * Lookups and changes take logarithmic time, like in a {@link TreeMap}.
+ * </p>
+ * <p>
+ * Iterators traverse the entries present when the iterator was created and
+ * are not affected by later changes of the map.
+ * {@link Map.Entry#setValue(Object)} changes the map like
+ * {@link #put(String, Object)} and does not affect copies. Keys must not be
+ * <code>null</code>.
+ * </p>
+ * <p>
+ * This class is not thread safe.
+ * </p>
+ */
+public class AttributeMap extends AbstractMap<String, Object> {
+
+	/**
+	 * An immutable node of the balanced tree.
+	 */
+	private static final class Node {
+		final String fKey;
+		final Object fValue;
+		final Node fLeft;
+		final Node fRight;
+		final int fHeight;
+
+		Node(String key, Object value, Node left, Node right) {
+			fKey = key;
+			fValue = value;
+			fLeft = left;
+			fRight = right;
+			fHeight = Math.max(height(left), height(right)) + 1;
+		}
+	}
+
+	/**
+	 * An entry returned by iterators. Setting its value writes through to the
+	 * map, which replaces the path to the entry's node like
+	 * {@link AttributeMap#put(String, Object)}.
+	 */
+	private final class AttributeEntry implements Map.Entry<String, Object> {
+		private final String fKey;
+		private Object fValue;
+
+		AttributeEntry(Node node) {
+			fKey = node.fKey;
+			fValue = node.fValue;
+		}
+
+		@Override
+		public String getKey() {
+			return fKey;
+		}
+
+		@Override
+		public Object getValue() {
+			return fValue;
+		}
+
+		@Override
+		public Object setValue(Object value) {
+			Object old = fValue;
+			put(fKey, value);
+			fValue = value;
+			return old;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (!(obj instanceof Map.Entry)) {
+				return false;
+			}
+			Map.Entry<?, ?> entry = (Map.Entry<?, ?>) obj;
+			return fKey.equals(entry.getKey()) && Objects.equals(fValue, entry.getValue());
+		}
+
+		@Override
+		public int hashCode() {
+			return fKey.hashCode() ^ Objects.hashCode(fValue);
+		}
+
+		@Override
+		public String toString() {
+			return fKey + '=' + fValue;
+		}
+	}
+
+	private Node fRoot;
+
+	private int fSize;
+
+	private Set<Map.Entry<String, Object>> fEntrySet;
+
+	/**
+	 * Creates an empty map.
+	 */
+	public AttributeMap() {
+	}
+
+	/**
+	 * Creates a map with the entries of the given map. Copying another
+	 * {@link AttributeMap} takes constant time.
+	 *
+	 * @param map the entries to copy
+	 */
+	public AttributeMap(Map<String, ?> map) {
+		if (map instanceof AttributeMap) {
+			AttributeMap other = (AttributeMap) map;
+			fRoot = other.fRoot;
+			fSize = other.fSize;
+			return;
+		}
+		if (map.isEmpty()) {
+			return;
+		}
+		// sort once, then build a balanced tree without rebalancing
+		Map<String, ?> sorted = map instanceof TreeMap && ((TreeMap<String, ?>) map).comparator() == null ? map : new TreeMap<>(map);
+		String[] keys = new String[sorted.size()];
+		Object[] values = new Object[keys.length];
+		int i = 0;
+		for (Map.Entry<String, ?> entry : sorted.entrySet()) {
+			keys[i] = Objects.requireNonNull(entry.getKey());
+			values[i] = entry.getValue();
+			i++;
+		}
+		fRoot = build(keys, values, 0, keys.length);
+		fSize = keys.length;
+	}
+
+	/**
+	 * Returns a copy of this map, in constant time.
+	 *
+	 * @return a copy of this map
+	 */
+	public AttributeMap copy() {
+		return new AttributeMap(this);
+	}
+
+	/**
+	 * Returns whether this map and the given map are unchanged copies of each
+	 * other, in constant time. Maps with equal entries created independently
+	 * are not detected.
+	 *
+	 * @param other another map
+	 * @return whether both maps share all their entries
+	 */
+	public boolean sharesEntriesWith(AttributeMap other) {
+		return fRoot == other.fRoot;
+	}
+
+	@Override
+	public int size() {
+		return fSize;
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return fSize == 0;
+	}
+
+	@Override
+	public Object get(Object key) {
+		Node node = find(key);
+		return node == null ? null : node.fValue;
+	}
+
+	@Override
+	public boolean containsKey(Object key) {
+		return find(key) != null;
+	}
+
+	@Override
+	public Object put(String key, Object value) {
+		Node node = find(key);
+		if (node == null) {
+			fRoot = insert(fRoot, key, value);
+			fSize++;
+			return null;
+		}
+		if (node.fValue != value) {
+			fRoot = insert(fRoot, key, value);
+		}
+		return node.fValue;
+	}
+
+	@Override
+	public Object remove(Object key) {
+		Node node = find(key);
+		if (node == null) {
+			return null;
+		}
+		fRoot = delete(fRoot, node.fKey);
+		fSize--;
+		return node.fValue;
+	}
+
+	@Override
+	public void clear() {
+		fRoot = null;
+		fSize = 0;
+	}
+
+	@Override
+	public Set<Map.Entry<String, Object>> entrySet() {
+		if (fEntrySet == null) {
+			fEntrySet = new AbstractSet<Map.Entry<String, Object>>() {
+				@Override
+				public Iterator<Map.Entry<String, Object>> iterator() {
+					return new EntryIterator(fRoot);
+				}
+
+				@Override
+				public int size() {
+					return fSize;
+				}
+
+				@Override
+				public boolean contains(Object o) {
+					if (!(o instanceof Map.Entry)) {
+						return false;
+					}
+					Map.Entry<?, ?> entry = (Map.Entry<?, ?>) o;
+					Node node = find(entry.getKey());
+					return node != null && Objects.equals(node.fValue, entry.getValue());
+				}
+
+				@Override
+				public void clear() {
+					AttributeMap.this.clear();
+				}
+			};
+		}
+		return fEntrySet;
+	}
+
+	/**
+	 * Iterates over the entries of a tree in key order.
+	 */
+	private final class EntryIterator implements Iterator<Map.Entry<String, Object>> {
+		private final Node[] fStack;
+		private int fDepth;
+		private Node fLast;
+
+		EntryIterator(Node root) {
+			fStack = new Node[height(root)];
+			pushLeft(root);
+		}
+
+		private void pushLeft(Node node) {
+			while (node != null) {
+				fStack[fDepth++] = node;
+				node = node.fLeft;
+			}
+		}
+
+		@Override
+		public boolean hasNext() {
+			return fDepth > 0;
+		}
+
+		@Override
+		public Map.Entry<String, Object> next() {
+			if (fDepth == 0) {
+				throw new NoSuchElementException();
+			}
+			Node node = fStack[--fDepth];
+			fStack[fDepth] = null;
+			pushLeft(node.fRight);
+			fLast = node;
+			return new AttributeEntry(node);
+		}
+
+		@Override
+		public void remove() {
+			if (fLast == null) {
+				throw new IllegalStateException();
+			}
+			AttributeMap.this.remove(fLast.fKey);
+			fLast = null;
+		}
+	}
+
+	private Node find(Object key) {
+		String name = (String) Objects.requireNonNull(key);
+		Node node = fRoot;
+		while (node != null) {
+			int c = name.compareTo(node.fKey);
+			if (c == 0) {
+				return node;
+			}
+			node = c < 0 ? node.fLeft : node.fRight;
+		}
+		return null;
+	}
+
+	private static int height(Node node) {
+		return node == null ? 0 : node.fHeight;
+	}
+
+	private static Node build(String[] keys, Object[] values, int from, int to) {
+		if (from >= to) {
+			return null;
+		}
+		int middle = (from + to) >>> 1;
+		return new Node(keys[middle], values[middle], build(keys, values, from, middle), build(keys, values, middle + 1, to));
+	}
+
+	private static Node insert(Node node, String key, Object value) {
+		if (node == null) {
+			return new Node(key, value, null, null);
+		}
+		int c = key.compareTo(node.fKey);
+		if (c < 0) {
+			return balance(node.fKey, node.fValue, insert(node.fLeft, key, value), node.fRight);
+		}
+		if (c > 0) {
+			return balance(node.fKey, node.fValue, node.fLeft, insert(node.fRight, key, value));
+		}
+		return new Node(key, value, node.fLeft, node.fRight);
+	}
+
+	private static Node delete(Node node, String key) {
+		int c = key.compareTo(node.fKey);
+		if (c < 0) {
+			return balance(node.fKey, node.fValue, delete(node.fLeft, key), node.fRight);
+		}
+		if (c > 0) {
+			return balance(node.fKey, node.fValue, node.fLeft, delete(node.fRight, key));
+		}
+		if (node.fLeft == null) {
+			return node.fRight;
+		}
+		if (node.fRight == null) {
+			return node.fLeft;
+		}
+		Node successor = node.fRight;
+		while (successor.fLeft != null) {
+			successor = successor.fLeft;
+		}
+		return balance(successor.fKey, successor.fValue, node.fLeft, deleteFirst(node.fRight));
+	}
+
+	private static Node deleteFirst(Node node) {
+		if (node.fLeft == null) {
+			return node.fRight;
+		}
+		return balance(node.fKey, node.fValue, deleteFirst(node.fLeft), node.fRight);
+	}
+
+	/**
+	 * Creates a node with the given subtrees, rotating if their heights
+	 * differ by more than one.
+	 */
+	private static Node balance(String key, Object value, Node left, Node right) {
+		int leftHeight = height(left);
+		int rightHeight = height(right);
+		if (leftHeight > rightHeight + 1) {
+			if (height(left.fLeft) >= height(left.fRight)) {
+				return new Node(left.fKey, left.fValue, left.fLeft, new Node(key, value, left.fRight, right));
+			}
+			Node middle = left.fRight;
+			return new Node(middle.fKey, middle.fValue, new Node(left.fKey, left.fValue, left.fLeft, middle.fLeft), new Node(key, value, middle.fRight, right));
+		}
+		if (rightHeight > leftHeight + 1) {
+			if (height(right.fRight) >= height(right.fLeft)) {
+				return new Node(right.fKey, right.fValue, new Node(key, value, left, right.fLeft), right.fRight);
+			}
+			Node middle = right.fLeft;
+			return new Node(middle.fKey, middle.fValue, new Node(key, value, left, middle.fLeft), new Node(right.fKey, right.fValue, middle.fRight, right.fRight));
+		}
+		return new Node(key, value, left, right);
+	}
+}
@@ -0,0 +1,68 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.debug.internal.core;
+
+import org.eclipse.debug.core.model.Breakpoint;
+
+/**
+ * Gives the breakpoint manager access to the marker attribute cache of
+ * {@link Breakpoint} without making it API. {@link Breakpoint} registers its
+ * accessor when the class is initialized.
+ */
+public final class BreakpointAttributeCache {
+
+	/**
+	 * Resets the marker attribute cache of a breakpoint.
+	 */
+	public interface Accessor {
+
+		/**
+		 * Discards the cached marker attributes of the given breakpoint and
+		 * sets whether marker attributes are cached from now on.
+		 *
+		 * @param breakpoint the breakpoint
+		 * @param enabled whether to cache marker attributes
+		 */
+		void reset(Breakpoint breakpoint, boolean enabled);
+	}
+
+	private static volatile Accessor fgAccessor = null;
+
+	private BreakpointAttributeCache() {
+	}
+
+	/**
+	 * Sets the accessor, called once by {@link Breakpoint}.
+	 *
+	 * @param accessor the accessor
+	 */
+	public static void setAccessor(Accessor accessor) {
+		if (fgAccessor == null) {
+			fgAccessor = accessor;
+		}
+	}
+
+	/**
+	 * Discards the cached marker attributes of the given breakpoint and sets
+	 * whether marker attributes are cached from now on. Called when the
+	 * breakpoint is registered or unregistered and when its marker changes.
+	 *
+	 * @param breakpoint the breakpoint
+	 * @param enabled whether to cache marker attributes
+	 */
+	public static void reset(Breakpoint breakpoint, boolean enabled) {
+		// the accessor is set when the class of the breakpoint is initialized
+		fgAccessor.reset(breakpoint, enabled);
+	}
+}
@@ -0,0 +1,297 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.debug.internal.core;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.core.resources.IMarker;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.debug.core.model.IBreakpoint;
+
+/**
+ * Index of the registered breakpoints by model identifier, by resource and by
+ * resource and line number, used by the breakpoint manager to answer queries
+ * without scanning all breakpoints.
+ * <p>
+ * Each key maps to an immutable array of breakpoints in registration order,
+ * replaced when a breakpoint with that key is added or removed. Queries read a
+ * single array and never block; updates of the same key are serialized by the
+ * underlying {@link ConcurrentHashMap}. The index remembers the keys each
+ * breakpoint was indexed with, so breakpoints can be removed after their
+ * marker has been deleted and are moved when their line number changes.
+ * </p>
+ */
+class BreakpointIndex {
+
+	private static final IBreakpoint[] EMPTY = new IBreakpoint[0];
+
+	/**
+	 * Keys a breakpoint is indexed with.
+	 */
+	private static final class Keys {
+		final String fModelIdentifier;
+		final IResource fResource;
+		final LineKey fLine;
+
+		Keys(String modelIdentifier, IResource resource, int lineNumber) {
+			fModelIdentifier = modelIdentifier;
+			fResource = resource;
+			fLine = resource == null ? null : new LineKey(resource, lineNumber);
+		}
+	}
+
+	/**
+	 * Key of the breakpoints at a line of a resource.
+	 */
+	private static final class LineKey {
+		final IResource fResource;
+		final int fLineNumber;
+
+		LineKey(IResource resource, int lineNumber) {
+			fResource = resource;
+			fLineNumber = lineNumber;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (!(obj instanceof LineKey)) {
+				return false;
+			}
+			LineKey other = (LineKey) obj;
+			return fLineNumber == other.fLineNumber && fResource.equals(other.fResource);
+		}
+
+		@Override
+		public int hashCode() {
+			return fResource.hashCode() * 31 + fLineNumber;
+		}
+	}
+
+	private final Map<IBreakpoint, Keys> fKeys = new ConcurrentHashMap<>();
+
+	private final Map<String, IBreakpoint[]> fByModelIdentifier = new ConcurrentHashMap<>();
+
+	private final Map<IResource, IBreakpoint[]> fByResource = new ConcurrentHashMap<>();
+
+	private final Map<LineKey, IBreakpoint[]> fByLine = new ConcurrentHashMap<>();
+
+	/**
+	 * Returns whether the given breakpoint is indexed.
+	 *
+	 * @param breakpoint a breakpoint
+	 * @return whether the breakpoint is indexed
+	 */
+	boolean contains(IBreakpoint breakpoint) {
+		return fKeys.containsKey(breakpoint);
+	}
+
+	/**
+	 * Returns the number of indexed breakpoints.
+	 *
+	 * @return the number of indexed breakpoints
+	 */
+	int size() {
+		return fKeys.size();
+	}
+
+	/**
+	 * Returns the breakpoints of the given debug model, in registration order.
+	 *
+	 * @param modelIdentifier debug model identifier
+	 * @return the breakpoints of the model, possibly empty
+	 */
+	IBreakpoint[] getBreakpoints(String modelIdentifier) {
+		return copy(modelIdentifier == null ? null : fByModelIdentifier.get(modelIdentifier));
+	}
+
+	/**
+	 * Returns the breakpoints with markers on the given resource, in
+	 * registration order.
+	 *
+	 * @param resource a resource
+	 * @return the breakpoints on the resource, possibly empty
+	 */
+	IBreakpoint[] getBreakpoints(IResource resource) {
+		return copy(fByResource.get(resource));
+	}
+
+	/**
+	 * Returns the breakpoints with markers on the given line of the given
+	 * resource, in registration order.
+	 *
+	 * @param resource a resource
+	 * @param lineNumber line number, as stored in the {@link IMarker#LINE_NUMBER}
+	 *            marker attribute
+	 * @return the breakpoints at the line, possibly empty
+	 */
+	IBreakpoint[] getBreakpoints(IResource resource, int lineNumber) {
+		return copy(fByLine.get(new LineKey(resource, lineNumber)));
+	}
+
+	/**
+	 * Adds the given breakpoints, ignoring breakpoints that are already
+	 * indexed. Breakpoints sharing a key are appended with a single update
+	 * of that key.
+	 *
+	 * @param breakpoints the breakpoints to add
+	 */
+	void addAll(Collection<IBreakpoint> breakpoints) {
+		Map<String, List<IBreakpoint>> models = new LinkedHashMap<>();
+		Map<IResource, List<IBreakpoint>> resources = new LinkedHashMap<>();
+		Map<LineKey, List<IBreakpoint>> lines = new LinkedHashMap<>();
+		for (IBreakpoint breakpoint : breakpoints) {
+			Keys keys = computeKeys(breakpoint);
+			if (fKeys.putIfAbsent(breakpoint, keys) == null) {
+				group(models, keys.fModelIdentifier, breakpoint);
+				group(resources, keys.fResource, breakpoint);
+				group(lines, keys.fLine, breakpoint);
+			}
+		}
+		append(fByModelIdentifier, models);
+		append(fByResource, resources);
+		append(fByLine, lines);
+	}
+
+	/**
+	 * Removes the given breakpoints, ignoring breakpoints that are not
+	 * indexed.
+	 *
+	 * @param breakpoints the breakpoints to remove
+	 */
+	void removeAll(Collection<IBreakpoint> breakpoints) {
+		Map<String, Set<IBreakpoint>> models = new LinkedHashMap<>();
+		Map<IResource, Set<IBreakpoint>> resources = new LinkedHashMap<>();
+		Map<LineKey, Set<IBreakpoint>> lines = new LinkedHashMap<>();
+		for (IBreakpoint breakpoint : breakpoints) {
+			Keys keys = fKeys.remove(breakpoint);
+			if (keys != null) {
+				groupSet(models, keys.fModelIdentifier, breakpoint);
+				groupSet(resources, keys.fResource, breakpoint);
+				groupSet(lines, keys.fLine, breakpoint);
+			}
+		}
+		remove(fByModelIdentifier, models);
+		remove(fByResource, resources);
+		remove(fByLine, lines);
+	}
+
+	/**
+	 * Re-indexes the given breakpoints whose model identifier or line number
+	 * has changed since they were indexed. Only the changed keys are updated,
+	 * so the breakpoints keep their position for the other keys.
+	 *
+	 * @param breakpoints changed breakpoints
+	 */
+	void updateAll(Collection<IBreakpoint> breakpoints) {
+		Map<String, Set<IBreakpoint>> oldModels = new LinkedHashMap<>();
+		Map<String, List<IBreakpoint>> newModels = new LinkedHashMap<>();
+		Map<LineKey, Set<IBreakpoint>> oldLines = new LinkedHashMap<>();
+		Map<LineKey, List<IBreakpoint>> newLines = new LinkedHashMap<>();
+		for (IBreakpoint breakpoint : breakpoints) {
+			Keys keys = fKeys.get(breakpoint);
+			if (keys == null) {
+				continue;
+			}
+			Keys current = computeKeys(breakpoint);
+			boolean modelChanged = !Objects.equals(keys.fModelIdentifier, current.fModelIdentifier);
+			boolean lineChanged = !Objects.equals(keys.fLine, current.fLine);
+			if ((modelChanged || lineChanged) && fKeys.replace(breakpoint, keys, current)) {
+				if (modelChanged) {
+					groupSet(oldModels, keys.fModelIdentifier, breakpoint);
+					group(newModels, current.fModelIdentifier, breakpoint);
+				}
+				if (lineChanged) {
+					groupSet(oldLines, keys.fLine, breakpoint);
+					group(newLines, current.fLine, breakpoint);
+				}
+			}
+		}
+		remove(fByModelIdentifier, oldModels);
+		append(fByModelIdentifier, newModels);
+		remove(fByLine, oldLines);
+		append(fByLine, newLines);
+	}
+
+	/**
+	 * Removes all breakpoints.
+	 */
+	void clear() {
+		fKeys.clear();
+		fByModelIdentifier.clear();
+		fByResource.clear();
+		fByLine.clear();
+	}
+
+	private static Keys computeKeys(IBreakpoint breakpoint) {
+		IMarker marker = breakpoint.getMarker();
+		if (marker == null) {
+			return new Keys(breakpoint.getModelIdentifier(), null, -1);
+		}
+		// deleted markers answer the default line number
+		return new Keys(breakpoint.getModelIdentifier(), marker.getResource(), marker.getAttribute(IMarker.LINE_NUMBER, -1));
+	}
+
+	private static <K> void group(Map<K, List<IBreakpoint>> groups, K key, IBreakpoint breakpoint) {
+		if (key != null) {
+			groups.computeIfAbsent(key, k -> new ArrayList<>()).add(breakpoint);
+		}
+	}
+
+	private static <K> void groupSet(Map<K, Set<IBreakpoint>> groups, K key, IBreakpoint breakpoint) {
+		if (key != null) {
+			groups.computeIfAbsent(key, k -> new HashSet<>()).add(breakpoint);
+		}
+	}
+
+	private static <K> void append(Map<K, IBreakpoint[]> index, Map<K, List<IBreakpoint>> added) {
+		for (Map.Entry<K, List<IBreakpoint>> entry : added.entrySet()) {
+			List<IBreakpoint> breakpoints = entry.getValue();
+			index.merge(entry.getKey(), breakpoints.toArray(EMPTY), (current, add) -> {
+				IBreakpoint[] result = Arrays.copyOf(current, current.length + add.length);
+				System.arraycopy(add, 0, result, current.length, add.length);
+				return result;
+			});
+		}
+	}
+
+	private static <K> void remove(Map<K, IBreakpoint[]> index, Map<K, Set<IBreakpoint>> removed) {
+		for (Map.Entry<K, Set<IBreakpoint>> entry : removed.entrySet()) {
+			Set<IBreakpoint> breakpoints = entry.getValue();
+			index.computeIfPresent(entry.getKey(), (key, current) -> {
+				IBreakpoint[] result = new IBreakpoint[current.length];
+				int size = 0;
+				for (IBreakpoint breakpoint : current) {
+					if (!breakpoints.contains(breakpoint)) {
+						result[size++] = breakpoint;
+					}
+				}
+				// returning null removes the key
+				return size == 0 ? null : Arrays.copyOf(result, size);
+			});
+		}
+	}
+
+	private static IBreakpoint[] copy(IBreakpoint[] breakpoints) {
+		return breakpoints == null ? EMPTY : breakpoints.clone();
+	}
+}
@@ -52,6 +52,7 @@ import org.eclipse.debug.core.IBreakpointListener;
 import org.eclipse.debug.core.IBreakpointManager;
 import org.eclipse.debug.core.IBreakpointManagerListener;
 import org.eclipse.debug.core.IBreakpointsListener;
+import org.eclipse.debug.core.model.Breakpoint;
 import org.eclipse.debug.core.model.IBreakpoint;
 import org.eclipse.debug.core.model.IBreakpointImportParticipant;
 import org.eclipse.debug.core.model.ITriggerPoint;
@@ -81,6 +82,12 @@ public class BreakpointManager implements IBreakpointManager, IResourceChangeLis
 	 */
 	private Vector<IBreakpoint> fBreakpoints;
 
+	/**
+	 * Index of the registered breakpoints by model identifier, resource and
+	 * line number, kept in sync with {@link #fBreakpoints}.
+	 */
+	private final BreakpointIndex fBreakpointIndex = new BreakpointIndex();
+
 	/**
 	 * Map of breakpoint import participants.
 	 * Map has the form:
@@ -165,6 +172,60 @@ public class BreakpointManager implements IBreakpointManager, IResourceChangeLis
 	 */
 	private final Set<IBreakpoint> fTriggerPointDisabledList = new LinkedHashSet<>();
 
+	/**
+	 * The batch of breakpoint changes the current thread is running, if any.
+	 *
+	 * @see #runBatch(IWorkspaceRunnable, IProgressMonitor)
+	 */
+	private final ThreadLocal<BreakpointBatch> fBatch = new ThreadLocal<>();
+
+	/**
+	 * Collects the notifications of a batch of breakpoint changes. Consecutive
+	 * notifications of the same kind are merged, so listeners see the changes
+	 * in the order they were made with as few notifications as possible.
+	 */
+	static class BreakpointBatch {
+
+		/**
+		 * A queued notification.
+		 */
+		static class Notification {
+			final int fUpdate;
+			final List<IBreakpoint> fBreakpoints = new ArrayList<>();
+			final List<IMarkerDelta> fDeltas = new ArrayList<>();
+
+			Notification(int update) {
+				fUpdate = update;
+			}
+		}
+
+		final List<Notification> fNotifications = new ArrayList<>();
+
+		/**
+		 * Number of nested batches still running.
+		 */
+		int fDepth;
+
+		/**
+		 * Queues the given notification.
+		 *
+		 * @param breakpoints associated breakpoints
+		 * @param deltas or <code>null</code>
+		 * @param update type of change
+		 */
+		void add(List<IBreakpoint> breakpoints, List<IMarkerDelta> deltas, int update) {
+			Notification last = fNotifications.isEmpty() ? null : fNotifications.get(fNotifications.size() - 1);
+			if (last == null || last.fUpdate != update) {
+				last = new Notification(update);
+				fNotifications.add(last);
+			}
+			for (int i = 0; i < breakpoints.size(); i++) {
+				last.fBreakpoints.add(breakpoints.get(i));
+				last.fDeltas.add(deltas == null || i >= deltas.size() ? null : deltas.get(i));
+			}
+		}
+	}
+
 
 	/**
 	 * Listens to POST_CHANGE notifications of breakpoint markers to detect when
@@ -236,9 +297,11 @@ public class BreakpointManager implements IBreakpointManager, IResourceChangeLis
 						case IResourceDelta.ADDED :
 							break;
 						case IResourceDelta.REMOVED :
+							markerChanged(markerDelta.getMarker());
 							break;
 						case IResourceDelta.CHANGED :
 							IMarker marker = markerDelta.getMarker();
+							markerChanged(marker);
 							synchronized (fPostChangMarkersChanged) {
 								if (!fPostBuildMarkersAdded.contains(marker)) {
 									fPostChangMarkersChanged.add(marker);
@@ -253,6 +316,19 @@ public class BreakpointManager implements IBreakpointManager, IResourceChangeLis
 			return true;
 		}
 
+		/**
+		 * Discards the cached attributes of the registered breakpoint of the
+		 * given marker, if any. Done on POST_CHANGE, before breakpoint
+		 * listeners are notified on POST_BUILD.
+		 *
+		 * @param marker a changed or removed marker
+		 */
+		private void markerChanged(IMarker marker) {
+			IBreakpoint breakpoint = fMarkersToBreakpoints.get(marker);
+			if (breakpoint instanceof Breakpoint) {
+				BreakpointAttributeCache.reset((Breakpoint) breakpoint, true);
+			}
+		}
 	}
 
 	/**
@@ -362,6 +438,7 @@ public class BreakpointManager implements IBreakpointManager, IResourceChangeLis
 		if(fMarkersToBreakpoints != null) {
 			fMarkersToBreakpoints.clear();
 		}
+		fBreakpointIndex.clear();
 	}
 
 	/**
@@ -441,17 +518,20 @@ public class BreakpointManager implements IBreakpointManager, IResourceChangeLis
 
 	@Override
 	public IBreakpoint[] getBreakpoints(String modelIdentifier) {
-		Vector<IBreakpoint> allBreakpoints = getBreakpoints0();
-		synchronized (allBreakpoints) {
-			ArrayList<IBreakpoint> temp = new ArrayList<>(allBreakpoints.size());
-			for (IBreakpoint breakpoint : allBreakpoints) {
-				String id= breakpoint.getModelIdentifier();
-				if (id != null && id.equals(modelIdentifier)) {
-					temp.add(breakpoint);
-				}
-			}
-			return temp.toArray(new IBreakpoint[temp.size()]);
-		}
+		getBreakpoints0();
+		return fBreakpointIndex.getBreakpoints(modelIdentifier);
+	}
+
+	@Override
+	public IBreakpoint[] getBreakpoints(IResource resource) {
+		getBreakpoints0();
+		return fBreakpointIndex.getBreakpoints(resource);
+	}
+
+	@Override
+	public IBreakpoint[] getBreakpoints(IResource resource, int lineNumber) {
+		getBreakpoints0();
+		return fBreakpointIndex.getBreakpoints(resource, lineNumber);
 	}
 
 	/**
@@ -475,7 +555,8 @@ public class BreakpointManager implements IBreakpointManager, IResourceChangeLis
 	 */
 	@Override
 	public boolean isRegistered(IBreakpoint breakpoint) {
-		return getBreakpoints0().contains(breakpoint);
+		getBreakpoints0();
+		return fBreakpointIndex.contains(breakpoint);
 	}
 
 
@@ -492,20 +573,25 @@ public class BreakpointManager implements IBreakpointManager, IResourceChangeLis
 	 */
 	@Override
 	public void removeBreakpoints(IBreakpoint[] breakpoints, final boolean delete) throws CoreException {
-		final List<IBreakpoint> remove = new ArrayList<>(breakpoints.length);
+		final Set<IBreakpoint> removeSet = new LinkedHashSet<>();
 		List<IBreakpoint> bps = getBreakpoints0();
 		for (IBreakpoint breakpoint : breakpoints) {
-			if (bps.contains(breakpoint)) {
-				remove.add(breakpoint);
+			if (fBreakpointIndex.contains(breakpoint)) {
+				removeSet.add(breakpoint);
 			}
 		}
-		if (!remove.isEmpty()) {
+		if (!removeSet.isEmpty()) {
+			final List<IBreakpoint> remove = new ArrayList<>(removeSet);
+			bps.removeAll(removeSet);
 			for (IBreakpoint breakpoint : remove) {
-				bps.remove(breakpoint);
-				fMarkersToBreakpoints.remove(breakpoint.getMarker());
+				IBreakpoint registered = fMarkersToBreakpoints.remove(breakpoint.getMarker());
+				if (registered instanceof Breakpoint) {
+					BreakpointAttributeCache.reset((Breakpoint) registered, false);
+				}
 				// If the breakpoint is a trigger point, remove else do nothing.
 				removeTriggerPoint(breakpoint);
 			}
+			fBreakpointIndex.removeAll(remove);
 			fireUpdate(remove, null, REMOVED);
 			refreshTriggerpointDisplay();
 			IWorkspaceRunnable r = monitor -> {
@@ -596,14 +682,19 @@ public class BreakpointManager implements IBreakpointManager, IResourceChangeLis
 	private void addBreakpoints(IBreakpoint[] breakpoints, boolean notify) throws CoreException {
 		List<IBreakpoint> added = new ArrayList<>(breakpoints.length);
 		final List<IBreakpoint> update = new ArrayList<>();
+		Set<IBreakpoint> seen = new HashSet<>();
+		getBreakpoints0();
 		for (IBreakpoint breakpoint : breakpoints) {
-			if (!getBreakpoints0().contains(breakpoint)) {
+			if (!fBreakpointIndex.contains(breakpoint) && seen.add(breakpoint)) {
 				verifyBreakpoint(breakpoint);
 				if (breakpoint.isRegistered()) {
 					// If notify == false, the breakpoints are just being added at startup
 					added.add(breakpoint);
 					getBreakpoints0().add(breakpoint);
 					fMarkersToBreakpoints.put(breakpoint.getMarker(), breakpoint);
+					if (breakpoint instanceof Breakpoint) {
+						BreakpointAttributeCache.reset((Breakpoint) breakpoint, true);
+					}
 					if (breakpoint instanceof ITriggerPoint && ((ITriggerPoint) breakpoint).isTriggerPoint()) {
 						addTriggerPoint(breakpoint);
 					}
@@ -614,6 +705,7 @@ public class BreakpointManager implements IBreakpointManager, IResourceChangeLis
 				}
 			}
 		}
+		fBreakpointIndex.addAll(added);
 		if (notify) {
 			fireUpdate(added, null, ADDED);
 		}
@@ -624,7 +716,11 @@ public class BreakpointManager implements IBreakpointManager, IResourceChangeLis
 					bps.add(breakpoint);
 					breakpoint.setRegistered(true);
 					fMarkersToBreakpoints.put(breakpoint.getMarker(), breakpoint);
+					if (breakpoint instanceof Breakpoint) {
+						BreakpointAttributeCache.reset((Breakpoint) breakpoint, true);
+					}
 				}
+				fBreakpointIndex.addAll(update);
 			};
 			// Need to suppress change notification, since this is really
 			// an add notification
@@ -653,7 +749,7 @@ public class BreakpointManager implements IBreakpointManager, IResourceChangeLis
 	 */
 	@Override
 	public void fireBreakpointChanged(IBreakpoint breakpoint) {
-		if (getBreakpoints0().contains(breakpoint)) {
+		if (isRegistered(breakpoint)) {
 			List<IBreakpoint> changed = new ArrayList<>();
 			changed.add(breakpoint);
 			fireUpdate(changed, null, CHANGED);
@@ -775,6 +871,8 @@ public class BreakpointManager implements IBreakpointManager, IResourceChangeLis
 				}
 			}
 			if (!fChanged.isEmpty()) {
+				// line numbers may have changed
+				fBreakpointIndex.updateAll(fChanged);
 				fireUpdate(fChanged, fChangedDeltas, CHANGED);
 			}
 			reset();
@@ -862,11 +960,9 @@ public class BreakpointManager implements IBreakpointManager, IResourceChangeLis
 		private IBreakpoint findMatchingBreakpoint(IMarker marker) {
 			try {
 				Integer line = (Integer) marker.getAttribute(IMarker.LINE_NUMBER);
-				for (IBreakpoint breakpoint : getBreakpoints0()) {
-					IMarker bpMarker = breakpoint.getMarker();
-					if (bpMarker != null && marker.getResource().equals(bpMarker.getResource()) && bpMarker.getAttribute(IMarker.LINE_NUMBER, -1) == (line == null ? -1 : line.intValue())) {
-						return breakpoint;
-					}
+				IBreakpoint[] breakpoints = getBreakpoints(marker.getResource(), line == null ? -1 : line.intValue());
+				if (breakpoints.length > 0) {
+					return breakpoints[0];
 				}
 			} catch (CoreException e) {
 				// ignore
@@ -953,6 +1049,11 @@ public class BreakpointManager implements IBreakpointManager, IResourceChangeLis
 		if (breakpoints.isEmpty()) {
 			return;
 		}
+		BreakpointBatch batch = fBatch.get();
+		if (batch != null) {
+			batch.add(breakpoints, deltas, update);
+			return;
+		}
 		IBreakpoint[] bpArray = breakpoints.toArray(new IBreakpoint[breakpoints.size()]);
 		IMarkerDelta[] deltaArray = new IMarkerDelta[bpArray.length];
 		if (deltas != null) {
@@ -965,7 +1066,33 @@ public class BreakpointManager implements IBreakpointManager, IResourceChangeLis
 		getBreakpointsNotifier().notify(bpArray, deltaArray, update);
 	}
 
+	/**
+	 * @see IBreakpointManager#runBatch(IWorkspaceRunnable, IProgressMonitor)
+	 */
+	@Override
+	public void runBatch(IWorkspaceRunnable action, IProgressMonitor monitor) throws CoreException {
+		getBreakpoints0();
+		BreakpointBatch batch = fBatch.get();
+		if (batch == null) {
+			batch = new BreakpointBatch();
+			fBatch.set(batch);
+		}
+		batch.fDepth++;
+		try {
+			getWorkspace().run(action, monitor);
+		} finally {
+			if (--batch.fDepth == 0) {
+				fBatch.remove();
+				for (BreakpointBatch.Notification notification : batch.fNotifications) {
+					fireUpdate(notification.fBreakpoints, notification.fDeltas, notification.fUpdate);
+				}
+			}
+		}
+	}
+
 	protected void setBreakpoints(Vector<IBreakpoint> breakpoints) {
+		fBreakpointIndex.clear();
+		fBreakpointIndex.addAll(breakpoints);
 		fBreakpoints = breakpoints;
 	}
 
@@ -0,0 +1,131 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.debug.internal.core;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.debug.core.DebugEvent;
+
+/**
+ * Removes redundant change events from a batch of queued debug event sets.
+ * <p>
+ * A {@link DebugEvent#CHANGE} event without data is redundant if the same
+ * batch contains a later change event with the same source and detail and no
+ * other kind of event for that source is fired in between. Sources are
+ * compared by identity, since distinct debug elements may be equal. Only the
+ * last of those events is kept. Consecutive event sets which only consist of
+ * change events are merged into a single set.
+ * </p>
+ * <p>
+ * Events of other kinds (e.g. suspend, resume or terminate) are never removed,
+ * merged or reordered. Runnables queued with
+ * {@link org.eclipse.debug.core.DebugPlugin#asyncExec(Runnable)} are barriers
+ * and no events are coalesced across them.
+ * </p>
+ */
+public final class DebugEventCoalescer {
+
+	private DebugEventCoalescer() {
+	}
+
+	/**
+	 * Coalesces the given batch of queued items.
+	 *
+	 * @param batch queued event sets (<code>DebugEvent[]</code>) and
+	 *            runnables in the order they were queued
+	 * @return the coalesced batch in dispatch order
+	 */
+	public static List<Object> coalesce(List<Object> batch) {
+		// walk backwards to find change events superseded by later ones
+		Map<Object, Set<Integer>> laterChanges = new IdentityHashMap<>();
+		Object[] items = batch.toArray();
+		for (int i = items.length - 1; i >= 0; i--) {
+			if (!(items[i] instanceof DebugEvent[])) {
+				laterChanges.clear();
+				continue;
+			}
+			DebugEvent[] events = (DebugEvent[]) items[i];
+			List<DebugEvent> kept = null;
+			for (int j = events.length - 1; j >= 0; j--) {
+				DebugEvent event = events[j];
+				if (isCoalescable(event)) {
+					Set<Integer> details = laterChanges.computeIfAbsent(event.getSource(), s -> new HashSet<>());
+					if (!details.add(event.getDetail())) {
+						if (kept == null) {
+							kept = new ArrayList<>(events.length);
+							for (int k = events.length - 1; k > j; k--) {
+								kept.add(events[k]);
+							}
+						}
+						continue;
+					}
+				} else {
+					laterChanges.remove(event.getSource());
+				}
+				if (kept != null) {
+					kept.add(event);
+				}
+			}
+			if (kept != null) {
+				DebugEvent[] remaining = new DebugEvent[kept.size()];
+				for (int k = 0; k < remaining.length; k++) {
+					remaining[k] = kept.get(remaining.length - 1 - k);
+				}
+				items[i] = remaining;
+			}
+		}
+
+		// merge consecutive change-only sets
+		List<Object> result = new ArrayList<>(items.length);
+		List<DebugEvent> changes = new ArrayList<>();
+		for (Object item : items) {
+			if (item instanceof DebugEvent[] && ((DebugEvent[]) item).length == 0) {
+				continue;
+			}
+			if (item instanceof DebugEvent[] && isChangeOnly((DebugEvent[]) item)) {
+				for (DebugEvent event : (DebugEvent[]) item) {
+					changes.add(event);
+				}
+				continue;
+			}
+			if (!changes.isEmpty()) {
+				result.add(changes.toArray(new DebugEvent[changes.size()]));
+				changes.clear();
+			}
+			result.add(item);
+		}
+		if (!changes.isEmpty()) {
+			result.add(changes.toArray(new DebugEvent[changes.size()]));
+		}
+		return result;
+	}
+
+	private static boolean isCoalescable(DebugEvent event) {
+		return event.getKind() == DebugEvent.CHANGE && event.getData() == null && event.getSource() != null;
+	}
+
+	private static boolean isChangeOnly(DebugEvent[] events) {
+		for (DebugEvent event : events) {
+			if (event.getKind() != DebugEvent.CHANGE) {
+				return false;
+			}
+		}
+		return true;
+	}
+}
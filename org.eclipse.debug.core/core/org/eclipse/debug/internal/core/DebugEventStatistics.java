@@ -0,0 +1,330 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.debug.internal.core;
+
+import java.text.MessageFormat;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.debug.core.DebugEvent;
+import org.eclipse.debug.core.DebugPlugin;
+import org.eclipse.debug.core.IDebugEventFilter;
+import org.eclipse.debug.core.IDebugEventSetListener;
+
+/**
+ * Collects latency statistics of the debug event dispatch.
+ * <p>
+ * If enabled, the time event sets wait in the dispatch queue, the time to
+ * dispatch an event set to all filters and listeners and the execution time
+ * of each {@link IDebugEventFilter} and {@link IDebugEventSetListener} are
+ * recorded. Listeners and filters are identified by their class name. Each
+ * listener or filter which exceeds the configured budget for a single
+ * notification is logged once and reported by {@link #getSlowListeners()}.
+ * </p>
+ * <p>
+ * Statistics are enabled with the <code>debug/events/timing</code> tracing
+ * option or programmatically with {@link #setEnabled(boolean)}.
+ * </p>
+ */
+public final class DebugEventStatistics {
+
+	/**
+	 * Default budget for a single listener notification in milliseconds.
+	 */
+	public static final long DEFAULT_BUDGET = 50;
+
+	private static final DebugEventStatistics fgDefault = new DebugEventStatistics();
+
+	private volatile boolean fEnabled;
+
+	private volatile long fBudgetNanos = TimeUnit.MILLISECONDS.toNanos(DEFAULT_BUDGET);
+
+	private final LatencyHistogram fQueueWait = new LatencyHistogram();
+
+	private final LatencyHistogram fDispatch = new LatencyHistogram();
+
+	private final Map<String, LatencyHistogram> fListenerTimes = new ConcurrentHashMap<>();
+
+	private final Set<String> fSlowListeners = ConcurrentHashMap.newKeySet();
+
+	private DebugEventStatistics() {
+	}
+
+	/**
+	 * @return the statistics of the debug event dispatch
+	 */
+	public static DebugEventStatistics getDefault() {
+		return fgDefault;
+	}
+
+	/**
+	 * @return whether statistics are collected
+	 */
+	public boolean isEnabled() {
+		return fEnabled || DebugOptions.DEBUG_EVENTS_TIMING;
+	}
+
+	/**
+	 * Enables or disables collection of statistics. Collection is always
+	 * enabled if the <code>debug/events/timing</code> tracing option is set.
+	 *
+	 * @param enabled whether to collect statistics
+	 */
+	public void setEnabled(boolean enabled) {
+		fEnabled = enabled;
+	}
+
+	/**
+	 * Sets the time a single listener or filter notification may take before
+	 * the listener is reported as slow.
+	 *
+	 * @param millis budget in milliseconds
+	 */
+	public void setBudget(long millis) {
+		fBudgetNanos = TimeUnit.MILLISECONDS.toNanos(millis);
+	}
+
+	/**
+	 * @return budget for a single notification in milliseconds
+	 */
+	public long getBudget() {
+		return TimeUnit.NANOSECONDS.toMillis(fBudgetNanos);
+	}
+
+	/**
+	 * Wraps the given event set with the current time if statistics are
+	 * enabled so the time it waits in the dispatch queue can be recorded.
+	 *
+	 * @param events the event set to queue
+	 * @return the object to queue
+	 */
+	public Object wrap(DebugEvent[] events) {
+		return isEnabled() ? new QueuedEventSet(events, System.nanoTime()) : events;
+	}
+
+	/**
+	 * Returns the event set of an object queued by {@link #wrap(DebugEvent[])}
+	 * and records its queue wait time. Other objects are returned unchanged.
+	 *
+	 * @param queued a queued object
+	 * @return the unwrapped event set or the given object
+	 */
+	public Object unwrap(Object queued) {
+		if (queued instanceof QueuedEventSet) {
+			QueuedEventSet set = (QueuedEventSet) queued;
+			fQueueWait.record(System.nanoTime() - set.fQueued);
+			return set.fEvents;
+		}
+		return queued;
+	}
+
+	/**
+	 * Records the time to dispatch one event set to all filters and
+	 * listeners.
+	 *
+	 * @param nanos dispatch time in nanoseconds
+	 */
+	public void recordDispatch(long nanos) {
+		fDispatch.record(nanos);
+	}
+
+	/**
+	 * Records the execution time of a filter or listener notification.
+	 *
+	 * @param listener the notified filter or listener
+	 * @param nanos execution time in nanoseconds
+	 */
+	public void recordListener(Object listener, long nanos) {
+		String name = listener.getClass().getName();
+		fListenerTimes.computeIfAbsent(name, n -> new LatencyHistogram()).record(nanos);
+		if (nanos > fBudgetNanos && fSlowListeners.add(name)) {
+			String message = MessageFormat.format("Debug event listener {0} exceeded its budget of {1} ms: {2} ms", name, Long.toString(getBudget()), Long.toString(TimeUnit.NANOSECONDS.toMillis(nanos))); //$NON-NLS-1$
+			if (DebugOptions.DEBUG_EVENTS_TIMING) {
+				DebugOptions.trace(DebugOptions.DEBUG_FLAG_EVENTS_TIMING, message, null);
+			}
+			DebugPlugin.log(new Status(IStatus.WARNING, DebugPlugin.getUniqueIdentifier(), message));
+		}
+	}
+
+	/**
+	 * @return time event sets waited in the dispatch queue
+	 */
+	public LatencyHistogram getQueueWaitTime() {
+		return fQueueWait;
+	}
+
+	/**
+	 * @return time to dispatch an event set to all filters and listeners
+	 */
+	public LatencyHistogram getDispatchTime() {
+		return fDispatch;
+	}
+
+	/**
+	 * @return execution times of filters and listeners keyed by their class
+	 *         name
+	 */
+	public Map<String, LatencyHistogram> getListenerTimes() {
+		return Collections.unmodifiableMap(new HashMap<>(fListenerTimes));
+	}
+
+	/**
+	 * @return class names of filters and listeners which exceeded the budget
+	 */
+	public Set<String> getSlowListeners() {
+		return Collections.unmodifiableSet(fSlowListeners);
+	}
+
+	/**
+	 * Discards all collected statistics.
+	 */
+	public void reset() {
+		fQueueWait.reset();
+		fDispatch.reset();
+		fListenerTimes.clear();
+		fSlowListeners.clear();
+	}
+
+	/**
+	 * An event set queued together with the time it was queued.
+	 */
+	private static final class QueuedEventSet {
+		final DebugEvent[] fEvents;
+		final long fQueued;
+
+		QueuedEventSet(DebugEvent[] events, long queued) {
+			fEvents = events;
+			fQueued = queued;
+		}
+	}
+
+	/**
+	 * Histogram of latencies with power of two microsecond buckets. Bucket
+	 * <code>i</code> counts latencies below <code>2^i</code> microseconds, the
+	 * last bucket counts all larger latencies.
+	 */
+	public static final class LatencyHistogram {
+
+		/**
+		 * Number of buckets. The last bucket starts at about 1 second.
+		 */
+		public static final int BUCKETS = 21;
+
+		private final AtomicLongArray fBuckets = new AtomicLongArray(BUCKETS);
+		private final AtomicLong fCount = new AtomicLong();
+		private final AtomicLong fTotal = new AtomicLong();
+		private final AtomicLong fMax = new AtomicLong();
+
+		void record(long nanos) {
+			long micros = TimeUnit.NANOSECONDS.toMicros(Math.max(nanos, 0));
+			int bucket = Math.min(64 - Long.numberOfLeadingZeros(micros), BUCKETS - 1);
+			fBuckets.incrementAndGet(bucket);
+			fCount.incrementAndGet();
+			fTotal.addAndGet(nanos);
+			fMax.accumulateAndGet(nanos, Math::max);
+		}
+
+		void reset() {
+			for (int i = 0; i < BUCKETS; i++) {
+				fBuckets.set(i, 0);
+			}
+			fCount.set(0);
+			fTotal.set(0);
+			fMax.set(0);
+		}
+
+		/**
+		 * @return number of recorded latencies
+		 */
+		public long getCount() {
+			return fCount.get();
+		}
+
+		/**
+		 * @return sum of recorded latencies in nanoseconds
+		 */
+		public long getTotalNanos() {
+			return fTotal.get();
+		}
+
+		/**
+		 * @return largest recorded latency in nanoseconds
+		 */
+		public long getMaxNanos() {
+			return fMax.get();
+		}
+
+		/**
+		 * @return average latency in nanoseconds or <code>0</code> if nothing
+		 *         was recorded
+		 */
+		public long getMeanNanos() {
+			long count = fCount.get();
+			return count == 0 ? 0 : fTotal.get() / count;
+		}
+
+		/**
+		 * @return the number of latencies in each bucket
+		 */
+		public long[] getBuckets() {
+			long[] buckets = new long[BUCKETS];
+			for (int i = 0; i < BUCKETS; i++) {
+				buckets[i] = fBuckets.get(i);
+			}
+			return buckets;
+		}
+
+		/**
+		 * Returns an upper bound for the given percentile of the recorded
+		 * latencies.
+		 *
+		 * @param percentile the percentile between <code>0</code> and
+		 *            <code>100</code>
+		 * @return upper bound of the bucket containing the percentile in
+		 *         microseconds or <code>0</code> if nothing was recorded
+		 */
+		public long getPercentileMicros(double percentile) {
+			long[] buckets = getBuckets();
+			long count = 0;
+			for (long bucket : buckets) {
+				count += bucket;
+			}
+			if (count == 0) {
+				return 0;
+			}
+			long threshold = (long) Math.ceil(count * percentile / 100.0);
+			long seen = 0;
+			for (int i = 0; i < BUCKETS; i++) {
+				seen += buckets[i];
+				if (seen >= threshold) {
+					return 1L << i;
+				}
+			}
+			return 1L << (BUCKETS - 1);
+		}
+
+		@Override
+		public String toString() {
+			return MessageFormat.format("count={0}, mean={1}us, p99<={2}us, max={3}us", Long.toString(getCount()), Long.toString(TimeUnit.NANOSECONDS.toMicros(getMeanNanos())), Long.toString(getPercentileMicros(99)), Long.toString(TimeUnit.NANOSECONDS.toMicros(getMaxNanos()))); //$NON-NLS-1$
+		}
+	}
+}
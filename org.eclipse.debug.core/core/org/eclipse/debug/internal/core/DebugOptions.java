@@ -31,10 +31,13 @@ public class DebugOptions implements DebugOptionsListener {
 	public static boolean DEBUG = false;
 	public static boolean DEBUG_COMMANDS = false;
 	public static boolean DEBUG_EVENTS = false;
+	public static boolean DEBUG_EVENTS_TIMING = false;
 
 	static final String DEBUG_FLAG = "org.eclipse.debug.core/debug"; //$NON-NLS-1$
 	static final String DEBUG_FLAG_COMMANDS = "org.eclipse.debug.core/debug/commands"; //$NON-NLS-1$
 	static final String DEBUG_FLAG_EVENTS = "org.eclipse.debug.core/debug/events"; //$NON-NLS-1$
+	static final String DEBUG_FLAG_EVENTS_TIMING = "org.eclipse.debug.core/debug/events/timing"; //$NON-NLS-1$
+	static final String DEBUG_FLAG_EVENTS_TIMING_BUDGET = "org.eclipse.debug.core/debug/events/timing/budget"; //$NON-NLS-1$
 
 	/**
 	 * The {@link DebugTrace} object to print to OSGi tracing
@@ -58,6 +61,10 @@ public class DebugOptions implements DebugOptionsListener {
 		DEBUG = options.getBooleanOption(DEBUG_FLAG, false);
 		DEBUG_COMMANDS = DEBUG && options.getBooleanOption(DEBUG_FLAG_COMMANDS, false);
 		DEBUG_EVENTS = DEBUG && options.getBooleanOption(DEBUG_FLAG_EVENTS, false);
+		DEBUG_EVENTS_TIMING = DEBUG && options.getBooleanOption(DEBUG_FLAG_EVENTS_TIMING, false);
+		if (DEBUG_EVENTS_TIMING) {
+			DebugEventStatistics.getDefault().setBudget(options.getIntegerOption(DEBUG_FLAG_EVENTS_TIMING_BUDGET, (int) DebugEventStatistics.DEFAULT_BUDGET));
+		}
 	}
 
 	/**
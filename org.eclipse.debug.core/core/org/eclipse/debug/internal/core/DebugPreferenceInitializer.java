@@ -31,6 +31,12 @@ public class DebugPreferenceInitializer extends AbstractPreferenceInitializer {
 		Preferences.setDefaultBoolean(DebugPlugin.getUniqueIdentifier(), DebugPlugin.PREF_DELETE_CONFIGS_ON_PROJECT_DELETE, false);
 		Preferences.setDefaultBoolean(DebugPlugin.getUniqueIdentifier(), IInternalDebugCoreConstants.PREF_ENABLE_STATUS_HANDLERS, true);
 		Preferences.setDefaultBoolean(DebugPlugin.getUniqueIdentifier(), IInternalDebugCoreConstants.PREF_BREAKPOINT_MANAGER_ENABLED_STATE, true);
+		Preferences.setDefaultInt(DebugPlugin.getUniqueIdentifier(), IInternalDebugCoreConstants.PREF_STREAM_BUFFER_MEMORY_LIMIT, StreamContentBuffer.DEFAULT_MEMORY_LIMIT);
+		Preferences.setDefaultLong(DebugPlugin.getUniqueIdentifier(), IInternalDebugCoreConstants.PREF_STREAM_BUFFER_DISK_LIMIT, StreamContentBuffer.DEFAULT_DISK_LIMIT);
+		Preferences.setDefaultBoolean(DebugPlugin.getUniqueIdentifier(), IInternalDebugCoreConstants.PREF_SHARED_PROCESS_IO_THREADS, false);
+		Preferences.setDefaultInt(DebugPlugin.getUniqueIdentifier(), IInternalDebugCoreConstants.PREF_INPUT_QUEUE_CAPACITY, InputStreamMonitor.DEFAULT_QUEUE_CAPACITY);
+		Preferences.setDefaultBoolean(DebugPlugin.getUniqueIdentifier(), IInternalDebugCoreConstants.PREF_COALESCE_DEBUG_EVENTS, false);
+		Preferences.setDefaultBoolean(DebugPlugin.getUniqueIdentifier(), IInternalDebugCoreConstants.PREF_LAUNCH_CONFIGURATION_BINARY_CACHE, false);
 		Preferences.savePreferences(DebugPlugin.getUniqueIdentifier());
 	}
 
@@ -44,4 +44,57 @@ public interface IInternalDebugCoreConstants {
 	 */
 	String PREF_BREAKPOINT_MANAGER_ENABLED_STATE =  DebugPlugin.getUniqueIdentifier() + ".PREF_BREAKPOINT_MANAGER_ENABLED_STATE"; //$NON-NLS-1$
 
+	/**
+	 * Integer preference for the number of bytes a buffered stream monitor
+	 * keeps in memory before older content is spilled to a temporary file.
+	 *
+	 * @since 3.21
+	 */
+	String PREF_STREAM_BUFFER_MEMORY_LIMIT = DebugPlugin.getUniqueIdentifier() + ".PREF_STREAM_BUFFER_MEMORY_LIMIT"; //$NON-NLS-1$
+
+	/**
+	 * Long preference for the number of bytes a buffered stream monitor keeps
+	 * in its temporary file before the oldest content is discarded.
+	 *
+	 * @since 3.21
+	 */
+	String PREF_STREAM_BUFFER_DISK_LIMIT = DebugPlugin.getUniqueIdentifier() + ".PREF_STREAM_BUFFER_DISK_LIMIT"; //$NON-NLS-1$
+
+	/**
+	 * Boolean preference controlling whether the stream and termination
+	 * monitors of system processes run on a shared thread pool instead of
+	 * dedicated threads. Default value is <code>false</code>.
+	 *
+	 * @since 3.21
+	 */
+	String PREF_SHARED_PROCESS_IO_THREADS = DebugPlugin.getUniqueIdentifier() + ".PREF_SHARED_PROCESS_IO_THREADS"; //$NON-NLS-1$
+
+	/**
+	 * Integer preference for the number of bytes which can be queued for the
+	 * standard input of a system process before writers are blocked. A value
+	 * of <code>0</code> or less disables blocking.
+	 *
+	 * @since 3.21
+	 */
+	String PREF_INPUT_QUEUE_CAPACITY = DebugPlugin.getUniqueIdentifier() + ".PREF_INPUT_QUEUE_CAPACITY"; //$NON-NLS-1$
+
+	/**
+	 * Boolean preference controlling whether redundant debug change events
+	 * queued for dispatch are coalesced. Default value is <code>false</code>.
+	 *
+	 * @since 3.21
+	 * @see DebugEventCoalescer
+	 */
+	String PREF_COALESCE_DEBUG_EVENTS = DebugPlugin.getUniqueIdentifier() + ".PREF_COALESCE_DEBUG_EVENTS"; //$NON-NLS-1$
+
+	/**
+	 * Boolean preference controlling whether launch configurations read from
+	 * their files are cached in a binary format in the state location of the
+	 * debug core plug-in. Default value is <code>false</code>.
+	 *
+	 * @since 3.21
+	 * @see LaunchConfigurationBinaryCache
+	 */
+	String PREF_LAUNCH_CONFIGURATION_BINARY_CACHE = DebugPlugin.getUniqueIdentifier() + ".PREF_LAUNCH_CONFIGURATION_BINARY_CACHE"; //$NON-NLS-1$
+
 }
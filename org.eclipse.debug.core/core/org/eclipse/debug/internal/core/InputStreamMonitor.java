@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2020 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -18,8 +18,12 @@ package org.eclipse.debug.internal.core;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.nio.charset.Charset;
-import java.util.Vector;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
 
+import org.eclipse.core.runtime.Platform;
 import org.eclipse.debug.core.DebugPlugin;
 
 /**
@@ -27,9 +31,26 @@ import org.eclipse.debug.core.DebugPlugin;
  * is blocked.
  *
  * The input stream monitor writes to system in via an output stream.
+ * <p>
+ * Writes are queued without locking. The writer thread coalesces all queued
+ * chunks into as few stream writes as possible and flushes once per batch. If
+ * more than the configured capacity is queued while the monitor is running,
+ * callers of the write methods are blocked until the process consumed enough
+ * input.
+ * </p>
  */
 public class InputStreamMonitor {
 
+	/**
+	 * Default number of queued bytes after which writers are blocked.
+	 */
+	public static final int DEFAULT_QUEUE_CAPACITY = 8 * 1024 * 1024;
+
+	/**
+	 * Maximal number of bytes written to the stream at once.
+	 */
+	private static final int MAX_BATCH_SIZE = 64 * 1024;
+
 	/**
 	 * The stream which is being written to (connected to system in).
 	 */
@@ -38,22 +59,49 @@ public class InputStreamMonitor {
 	/**
 	 * The queue of output.
 	 */
-	private Vector<byte[]> fQueue;
+	private final ConcurrentLinkedQueue<byte[]> fQueue;
+
+	/**
+	 * Number of bytes in {@link #fQueue}.
+	 */
+	private final AtomicLong fQueuedBytes = new AtomicLong();
+
+	/**
+	 * Number of bytes written to the stream.
+	 */
+	private final AtomicLong fWrittenBytes = new AtomicLong();
+
+	/**
+	 * Time the monitor started writing or <code>0</code> if not started yet.
+	 */
+	private volatile long fStartTime;
+
+	/**
+	 * Number of queued bytes after which writers are blocked. A value of
+	 * <code>0</code> or less disables blocking.
+	 */
+	private final long fCapacity;
+
+	/**
+	 * The task which writes to the stream.
+	 */
+	private volatile ProcessIOExecutor.IOTask fThread;
 
 	/**
-	 * The thread which writes to the stream.
+	 * The thread currently running the writer task or <code>null</code>. Used
+	 * to wake the writer if new input is queued.
 	 */
-	private Thread fThread;
+	private volatile Thread fWriterThread;
 
 	/**
-	 * A lock for ensuring that writes to the queue are contiguous
+	 * A lock used by writers to wait while the queue is full
 	 */
-	private Object fLock;
+	private final Object fLock;
 
 	/**
 	 * Whether the underlying output stream has been closed
 	 */
-	private boolean fClosed = false;
+	private volatile boolean fClosed = false;
 
 	/**
 	 * The charset of the input stream.
@@ -77,10 +125,25 @@ public class InputStreamMonitor {
 	 * @param charset stream charset or <code>null</code> for system default
 	 */
 	public InputStreamMonitor(OutputStream stream, Charset charset) {
+		this(stream, charset, getQueueCapacity());
+	}
+
+	/**
+	 * Creates an input stream monitor which writes to system in via the given
+	 * output stream.
+	 *
+	 * @param stream output stream
+	 * @param charset stream charset or <code>null</code> for system default
+	 * @param capacity number of queued bytes after which writers are blocked
+	 *            until the queue is drained. A value of <code>0</code> or less
+	 *            disables blocking.
+	 */
+	public InputStreamMonitor(OutputStream stream, Charset charset, long capacity) {
 		fStream = stream;
-		fQueue = new Vector<>();
+		fQueue = new ConcurrentLinkedQueue<>();
 		fLock = new Object();
 		fCharset = charset;
+		fCapacity = capacity;
 	}
 
 	/**
@@ -104,10 +167,7 @@ public class InputStreamMonitor {
 	 * @param text text to append
 	 */
 	public void write(String text) {
-		synchronized (fLock) {
-			fQueue.add(fCharset == null ? text.getBytes() : text.getBytes(fCharset));
-			fLock.notifyAll();
-		}
+		enqueue(fCharset == null ? text.getBytes() : text.getBytes(fCharset));
 	}
 
 	/**
@@ -119,11 +179,46 @@ public class InputStreamMonitor {
 	 * @param length number of bytes in data
 	 */
 	public void write(byte[] data, int offset, int length) {
+		byte[] copy = new byte[length];
+		System.arraycopy(data, offset, copy, 0, length);
+		enqueue(copy);
+	}
+
+	/**
+	 * Queues the given data and wakes the writer. Blocks the caller while the
+	 * queue exceeds its capacity.
+	 *
+	 * @param data the data to queue
+	 */
+	private void enqueue(byte[] data) {
+		if (data.length == 0) {
+			return;
+		}
+		fQueuedBytes.addAndGet(data.length);
+		fQueue.add(data);
+		LockSupport.unpark(fWriterThread);
+		if (fCapacity > 0 && fQueuedBytes.get() > fCapacity) {
+			awaitCapacity();
+		}
+	}
+
+	/**
+	 * Waits until the queue is below its capacity or the monitor stopped
+	 * writing.
+	 */
+	private void awaitCapacity() {
 		synchronized (fLock) {
-			byte[] copy = new byte[length];
-			System.arraycopy(data, offset, copy, 0, length);
-			fQueue.add(copy);
-			fLock.notifyAll();
+			boolean interrupted = false;
+			while (fQueuedBytes.get() > fCapacity && fThread != null && !fClosed) {
+				try {
+					fLock.wait(100);
+				} catch (InterruptedException e) {
+					interrupted = true;
+				}
+			}
+			if (interrupted) {
+				Thread.currentThread().interrupt();
+			}
 		}
 	}
 
@@ -135,12 +230,12 @@ public class InputStreamMonitor {
 	 * Starts a thread which writes the stream.
 	 *
 	 * @param threadName Thread name
+	 * @see ProcessIOExecutor
 	 */
 	public void startMonitoring(String threadName) {
 		synchronized (this) {
 			if (fThread == null) {
-				fThread = new Thread((Runnable) this::write, threadName);
-				fThread.setDaemon(true);
+				fThread = ProcessIOExecutor.newTask(threadName, Thread.NORM_PRIORITY, this::write);
 				fThread.start();
 			}
 		}
@@ -151,7 +246,7 @@ public class InputStreamMonitor {
 	 * monitor and the underlying stream.
 	 */
 	public void close() {
-		Thread thread = null;
+		ProcessIOExecutor.IOTask thread = null;
 		synchronized (this) {
 			thread = fThread;
 			fThread = null;
@@ -159,14 +254,23 @@ public class InputStreamMonitor {
 		if (thread != null) {
 			thread.interrupt();
 		}
+		synchronized (fLock) {
+			fLock.notifyAll();
+		}
 	}
 
 	/**
 	 * Continuously writes to the stream.
 	 */
 	protected void write() {
-		while (fThread != null) {
-			writeNext();
+		fStartTime = System.nanoTime();
+		fWriterThread = Thread.currentThread();
+		try {
+			while (fThread != null) {
+				writeNext();
+			}
+		} finally {
+			fWriterThread = null;
 		}
 		if (!fClosed) {
 			try {
@@ -179,27 +283,48 @@ public class InputStreamMonitor {
 
 	/**
 	 * Write the text in the queue to the stream.
+	 * <p>
+	 * Queued chunks are coalesced into batches of up to
+	 * {@link #MAX_BATCH_SIZE} bytes and the stream is flushed once the queue
+	 * is drained.
+	 * </p>
 	 */
 	protected void writeNext() {
+		byte[] batch = null;
 		while (!fQueue.isEmpty() && !fClosed) {
-			byte[] data = fQueue.firstElement();
-			fQueue.removeElementAt(0);
+			byte[] data = fQueue.poll();
+			int length = data.length;
+			byte[] next = fQueue.peek();
+			if (next != null && next.length <= MAX_BATCH_SIZE - length) {
+				if (batch == null) {
+					batch = new byte[MAX_BATCH_SIZE];
+				}
+				System.arraycopy(data, 0, batch, 0, length);
+				while ((next = fQueue.peek()) != null && next.length <= MAX_BATCH_SIZE - length) {
+					fQueue.poll();
+					System.arraycopy(next, 0, batch, length, next.length);
+					length += next.length;
+				}
+				data = batch;
+			}
 			try {
-				fStream.write(data);
-				fStream.flush();
+				fStream.write(data, 0, length);
+				fWrittenBytes.addAndGet(length);
+				if (fQueue.isEmpty()) {
+					fStream.flush();
+				}
 			} catch (IOException e) {
 				DebugPlugin.log(e);
 			}
-		}
-		try {
-			synchronized(fLock) {
-				// Queue could receive more input between last empty check and
-				// lock acquire. See https://bugs.eclipse.org/550834
-				if (fQueue.isEmpty()) {
-					fLock.wait();
-				}
+			fQueuedBytes.addAndGet(-length);
+			synchronized (fLock) {
+				fLock.notifyAll();
 			}
-		} catch (InterruptedException e) {
+		}
+		// Queue could receive more input between last empty check and park.
+		// Unpark before park makes the park return immediately.
+		if (fQueue.isEmpty() && fThread != null) {
+			LockSupport.parkNanos(this, TimeUnit.SECONDS.toNanos(1));
 		}
 	}
 
@@ -213,11 +338,50 @@ public class InputStreamMonitor {
 	public void closeInputStream() throws IOException {
 		if (!fClosed) {
 			fClosed = true;
+			synchronized (fLock) {
+				fLock.notifyAll();
+			}
 			fStream.close();
 		} else {
 			throw new IOException();
 		}
 
 	}
-}
 
+	/**
+	 * @return number of bytes queued and not yet written to the stream
+	 */
+	public long getQueuedBytes() {
+		return fQueuedBytes.get();
+	}
+
+	/**
+	 * @return number of bytes written to the stream so far
+	 */
+	public long getWrittenBytes() {
+		return fWrittenBytes.get();
+	}
+
+	/**
+	 * @return average number of bytes per second written to the stream since
+	 *         the monitor was started or <code>0</code> if not started
+	 */
+	public double getBytesPerSecond() {
+		long start = fStartTime;
+		if (start == 0) {
+			return 0;
+		}
+		long elapsed = System.nanoTime() - start;
+		return elapsed <= 0 ? 0 : fWrittenBytes.get() * 1_000_000_000.0 / elapsed;
+	}
+
+	/**
+	 * @return number of queued bytes after which writers are blocked
+	 */
+	private static int getQueueCapacity() {
+		if (!Platform.isRunning()) {
+			return DEFAULT_QUEUE_CAPACITY;
+		}
+		return Platform.getPreferencesService().getInt(DebugPlugin.getUniqueIdentifier(), IInternalDebugCoreConstants.PREF_INPUT_QUEUE_CAPACITY, DEFAULT_QUEUE_CAPACITY, null);
+	}
+}
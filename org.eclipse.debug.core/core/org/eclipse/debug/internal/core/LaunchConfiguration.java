@@ -442,7 +442,7 @@ public class LaunchConfiguration extends PlatformObject implements ILaunchConfig
 	@Override
 	public Map<String, Object> getAttributes() throws CoreException {
 		LaunchConfigurationInfo info = getInfo();
-		return info.getAttributes();
+		return info.getAttributesCopy();
 	}
 
 	@Override
@@ -0,0 +1,346 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.debug.internal.core;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.zip.CRC32;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.runtime.Platform;
+import org.eclipse.debug.core.DebugPlugin;
+import org.eclipse.debug.core.ILaunchConfiguration;
+import org.eclipse.debug.core.ILaunchConfigurationType;
+
+/**
+ * Optional cache of launch configurations in a compact binary format.
+ * <p>
+ * For each launch configuration file read, a cache file with its attributes
+ * is written to a directory in the state location of the debug core plug-in.
+ * As long as the stamp, the length and the checksum of the content of the
+ * configuration file are unchanged the configuration is loaded from the cache
+ * file without any XML parsing. The stamp alone is not trusted, as files
+ * changed within the resolution of the file system time stamp would be
+ * served from an outdated cache file. The cache is enabled with the
+ * {@link IInternalDebugCoreConstants#PREF_LAUNCH_CONFIGURATION_BINARY_CACHE}
+ * preference.
+ * </p>
+ */
+public class LaunchConfigurationBinaryCache {
+
+	/**
+	 * Name of the cache directory in the state location of the debug core
+	 * plug-in.
+	 */
+	public static final String DIRECTORY_NAME = ".launches.cache"; //$NON-NLS-1$
+
+	private static final int MAGIC = 0x4C434243;
+
+	private static final int VERSION = 2;
+
+	private static final byte STRING = 1;
+	private static final byte INTEGER = 2;
+	private static final byte BOOLEAN = 3;
+	private static final byte LIST = 4;
+	private static final byte SET = 5;
+	private static final byte MAP = 6;
+
+	private final File fDirectory;
+
+	/**
+	 * Creates a cache storing its files in the given directory.
+	 *
+	 * @param directory the cache directory, created on demand
+	 */
+	public LaunchConfigurationBinaryCache(File directory) {
+		fDirectory = directory;
+	}
+
+	/**
+	 * @return whether launch configurations should be cached in binary format
+	 */
+	public static boolean isEnabled() {
+		if (!Platform.isRunning()) {
+			return false;
+		}
+		return Platform.getPreferencesService().getBoolean(DebugPlugin.getUniqueIdentifier(), IInternalDebugCoreConstants.PREF_LAUNCH_CONFIGURATION_BINARY_CACHE, false, null);
+	}
+
+	/**
+	 * Loads the given configuration from the cache.
+	 *
+	 * @param config the launch configuration
+	 * @param stamp the current stamp of the configuration file
+	 * @param content the current content of the configuration file
+	 * @return the cached information or <code>null</code> if the
+	 *         configuration is not cached, the cache is outdated or the type
+	 *         of the configuration is not available
+	 */
+	public LaunchConfigurationInfo read(LaunchConfiguration config, long stamp, byte[] content) {
+		if (stamp == IFile.NULL_STAMP) {
+			return null;
+		}
+		File file = getFile(config);
+		if (!file.isFile()) {
+			return null;
+		}
+		try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(Files.readAllBytes(file.toPath())))) {
+			if (in.readInt() != MAGIC || in.readInt() != VERSION || !LaunchConfigurationIndexStore.getKey(config).equals(readString(in)) || in.readLong() != stamp || in.readInt() != content.length || in.readLong() != checksum(content)) {
+				return null;
+			}
+			LaunchConfigurationInfo info = new LaunchConfigurationInfo();
+			return readInfo(in, info) ? info : null;
+		} catch (IOException | RuntimeException e) {
+			// corrupt cache file, read the configuration file instead
+			return null;
+		}
+	}
+
+	/**
+	 * Writes the given configuration information to the cache.
+	 *
+	 * @param config the launch configuration
+	 * @param stamp the stamp of the configuration file taken before it was
+	 *            read
+	 * @param content the content the information was read from
+	 * @param info the information read from the configuration file
+	 */
+	public void write(LaunchConfiguration config, long stamp, byte[] content, LaunchConfigurationInfo info) {
+		if (stamp == IFile.NULL_STAMP) {
+			return;
+		}
+		try {
+			ByteArrayOutputStream bytes = new ByteArrayOutputStream(1024);
+			try (DataOutputStream out = new DataOutputStream(bytes)) {
+				out.writeInt(MAGIC);
+				out.writeInt(VERSION);
+				writeString(out, LaunchConfigurationIndexStore.getKey(config));
+				out.writeLong(stamp);
+				out.writeInt(content.length);
+				out.writeLong(checksum(content));
+				writeInfo(out, info);
+			}
+			if (!fDirectory.isDirectory()) {
+				fDirectory.mkdirs();
+			}
+			File file = getFile(config);
+			File temp = new File(fDirectory, file.getName() + ".tmp"); //$NON-NLS-1$
+			Files.write(temp.toPath(), bytes.toByteArray());
+			Files.move(temp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		} catch (IOException e) {
+			DebugPlugin.log(e);
+		}
+	}
+
+	/**
+	 * Removes the cache file of the given configuration.
+	 *
+	 * @param config the launch configuration
+	 */
+	public void remove(ILaunchConfiguration config) {
+		if (config instanceof LaunchConfiguration && !config.isWorkingCopy()) {
+			getFile((LaunchConfiguration) config).delete();
+		}
+	}
+
+	private static long checksum(byte[] content) {
+		CRC32 crc = new CRC32();
+		crc.update(content);
+		return crc.getValue();
+	}
+
+	/**
+	 * Returns the cache file of the given configuration. Different
+	 * configurations may share a file, the key stored in the file tells them
+	 * apart.
+	 */
+	private File getFile(LaunchConfiguration config) {
+		String key = LaunchConfigurationIndexStore.getKey(config);
+		return new File(fDirectory, Integer.toHexString(key.hashCode()) + ".bin"); //$NON-NLS-1$
+	}
+
+	/**
+	 * Writes the type, prototype information and attributes of the given
+	 * info.
+	 *
+	 * @param out the output to write to
+	 * @param info the info to write
+	 * @throws IOException if writing fails
+	 */
+	@SuppressWarnings("unchecked")
+	public static void writeInfo(DataOutputStream out, LaunchConfigurationInfo info) throws IOException {
+		writeString(out, info.getType().getIdentifier());
+		out.writeBoolean(info.isPrototype());
+		ILaunchConfiguration prototype = info.getPrototype();
+		writeString(out, prototype == null ? null : prototype.getName());
+		if (info.isPrototype()) {
+			writeStrings(out, info.getVisibleAttributes());
+		}
+		Map<String, Object> attributes = info.getAttributesCopy();
+		out.writeInt(attributes.size());
+		for (Map.Entry<String, Object> entry : attributes.entrySet()) {
+			Object value = entry.getValue();
+			writeString(out, entry.getKey());
+			if (value instanceof String) {
+				out.writeByte(STRING);
+				writeString(out, (String) value);
+			} else if (value instanceof Integer) {
+				out.writeByte(INTEGER);
+				out.writeInt(((Integer) value).intValue());
+			} else if (value instanceof Boolean) {
+				out.writeByte(BOOLEAN);
+				out.writeBoolean(((Boolean) value).booleanValue());
+			} else if (value instanceof List) {
+				out.writeByte(LIST);
+				writeStrings(out, (List<String>) value);
+			} else if (value instanceof Set) {
+				out.writeByte(SET);
+				writeStrings(out, (Set<String>) value);
+			} else if (value instanceof Map) {
+				out.writeByte(MAP);
+				Map<String, String> map = (Map<String, String>) value;
+				out.writeInt(map.size());
+				for (Map.Entry<String, String> mapEntry : map.entrySet()) {
+					writeString(out, mapEntry.getKey());
+					writeString(out, mapEntry.getValue());
+				}
+			} else {
+				throw new IOException("Unsupported attribute type: " + value); //$NON-NLS-1$
+			}
+		}
+	}
+
+	/**
+	 * Reads an info written by
+	 * {@link #writeInfo(DataOutputStream, LaunchConfigurationInfo)} into the
+	 * given empty info.
+	 *
+	 * @param in the input to read from
+	 * @param info the info to initialize
+	 * @return whether the info was read, <code>false</code> if the
+	 *         configuration type is not available
+	 * @throws IOException if reading fails
+	 */
+	public static boolean readInfo(DataInputStream in, LaunchConfigurationInfo info) throws IOException {
+		LaunchManager manager = (LaunchManager) DebugPlugin.getDefault().getLaunchManager();
+		ILaunchConfigurationType type = manager.getLaunchConfigurationType(readString(in));
+		if (type == null) {
+			return false;
+		}
+		info.setType(type);
+		boolean isPrototype = in.readBoolean();
+		String prototype = readString(in);
+		Set<String> visibleAttributes = null;
+		if (isPrototype) {
+			visibleAttributes = readStrings(in, new HashSet<>());
+		}
+		int count = in.readInt();
+		for (int i = 0; i < count; i++) {
+			String key = readString(in);
+			byte kind = in.readByte();
+			switch (kind) {
+				case STRING:
+					info.setAttribute(key, readString(in));
+					break;
+				case INTEGER:
+					info.setAttribute(key, Integer.valueOf(in.readInt()));
+					break;
+				case BOOLEAN:
+					info.setAttribute(key, Boolean.valueOf(in.readBoolean()));
+					break;
+				case LIST:
+					info.setAttribute(key, readStrings(in, new ArrayList<>()));
+					break;
+				case SET:
+					info.setAttribute(key, readStrings(in, new HashSet<>()));
+					break;
+				case MAP:
+					int size = in.readInt();
+					Map<String, String> map = new HashMap<>(Math.max(16, size * 4 / 3 + 1));
+					for (int j = 0; j < size; j++) {
+						map.put(readString(in), readString(in));
+					}
+					info.setAttribute(key, map);
+					break;
+				default:
+					throw new IOException("Unsupported attribute type: " + kind); //$NON-NLS-1$
+			}
+		}
+		// like the XML reader, prototype information is set after the attributes
+		info.setIsPrototype(isPrototype);
+		if (isPrototype) {
+			info.setVisibleAttributes(visibleAttributes);
+		} else if (prototype != null) {
+			for (ILaunchConfiguration candidate : manager.getLaunchConfigurations(ILaunchConfiguration.PROTOTYPE)) {
+				if (prototype.equals(candidate.getName())) {
+					info.setPrototype(candidate);
+					break;
+				}
+			}
+		}
+		return true;
+	}
+
+	private static void writeStrings(DataOutputStream out, Collection<String> strings) throws IOException {
+		out.writeInt(strings.size());
+		for (String string : strings) {
+			writeString(out, string);
+		}
+	}
+
+	private static <C extends Collection<String>> C readStrings(DataInputStream in, C strings) throws IOException {
+		int size = in.readInt();
+		for (int i = 0; i < size; i++) {
+			strings.add(readString(in));
+		}
+		return strings;
+	}
+
+	/**
+	 * Writes a string of any length, unlike {@link DataOutputStream#writeUTF}.
+	 */
+	private static void writeString(DataOutputStream out, String string) throws IOException {
+		if (string == null) {
+			out.writeInt(-1);
+			return;
+		}
+		byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+		out.writeInt(bytes.length);
+		out.write(bytes);
+	}
+
+	private static String readString(DataInputStream in) throws IOException {
+		int length = in.readInt();
+		if (length < 0) {
+			return null;
+		}
+		byte[] bytes = new byte[length];
+		in.readFully(bytes);
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+}
@@ -0,0 +1,613 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.debug.internal.core;
+
+import java.util.AbstractList;
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IProject;
+import org.eclipse.debug.core.ILaunchConfiguration;
+
+/**
+ * Immutable collection of all launch configurations known to the launch
+ * manager, indexed by configuration type, kind and owning project.
+ * <p>
+ * Every configuration gets a sequence number when it is added. The lists of
+ * configurations are balanced trees ordered by sequence number, and the
+ * configurations and projects are found in balanced trees of hash codes. A
+ * change creates a new index which copies only the tree nodes on the path to
+ * the changed configuration and the small map of types, sharing everything
+ * else with this index. Adding or removing a configuration thus takes
+ * logarithmic time, so the launch manager can publish a new index on every
+ * change while readers keep using the index they obtained. Lookups by type,
+ * kind or project return a view of the shared lists and never load
+ * configuration files. Within each lookup configurations keep the order of the
+ * collection of all configurations.
+ * </p>
+ */
+public final class LaunchConfigurationIndex {
+
+	/**
+	 * The empty index.
+	 */
+	public static final LaunchConfigurationIndex EMPTY = new LaunchConfigurationIndex(null, 0, Sequence.EMPTY, Sequence.EMPTY, Sequence.EMPTY, Collections.emptyMap(), null, Sequence.EMPTY);
+
+	/**
+	 * Immutable node of a balanced binary search tree keyed by a long. Changes
+	 * return a new tree copying only the nodes on the path to the change.
+	 */
+	private static final class Node<V> {
+		final Node<V> fLeft;
+		final long fKey;
+		final V fValue;
+		final Node<V> fRight;
+		final int fHeight;
+		final int fSize;
+
+		Node(Node<V> left, long key, V value, Node<V> right) {
+			fLeft = left;
+			fKey = key;
+			fValue = value;
+			fRight = right;
+			fHeight = Math.max(height(left), height(right)) + 1;
+			fSize = size(left) + size(right) + 1;
+		}
+
+		static int height(Node<?> node) {
+			return node == null ? 0 : node.fHeight;
+		}
+
+		static int size(Node<?> node) {
+			return node == null ? 0 : node.fSize;
+		}
+
+		static <V> V get(Node<V> node, long key) {
+			while (node != null) {
+				if (key < node.fKey) {
+					node = node.fLeft;
+				} else if (key > node.fKey) {
+					node = node.fRight;
+				} else {
+					return node.fValue;
+				}
+			}
+			return null;
+		}
+
+		/**
+		 * Returns the node at the given position in key order.
+		 */
+		static <V> Node<V> at(Node<V> node, int index) {
+			while (true) {
+				int left = size(node.fLeft);
+				if (index < left) {
+					node = node.fLeft;
+				} else if (index > left) {
+					index -= left + 1;
+					node = node.fRight;
+				} else {
+					return node;
+				}
+			}
+		}
+
+		static <V> Node<V> put(Node<V> node, long key, V value) {
+			if (node == null) {
+				return new Node<>(null, key, value, null);
+			}
+			if (key < node.fKey) {
+				return balance(put(node.fLeft, key, value), node.fKey, node.fValue, node.fRight);
+			}
+			if (key > node.fKey) {
+				return balance(node.fLeft, node.fKey, node.fValue, put(node.fRight, key, value));
+			}
+			return new Node<>(node.fLeft, key, value, node.fRight);
+		}
+
+		static <V> Node<V> remove(Node<V> node, long key) {
+			if (node == null) {
+				return null;
+			}
+			if (key < node.fKey) {
+				return balance(remove(node.fLeft, key), node.fKey, node.fValue, node.fRight);
+			}
+			if (key > node.fKey) {
+				return balance(node.fLeft, node.fKey, node.fValue, remove(node.fRight, key));
+			}
+			if (node.fLeft == null) {
+				return node.fRight;
+			}
+			if (node.fRight == null) {
+				return node.fLeft;
+			}
+			Node<V> successor = node.fRight;
+			while (successor.fLeft != null) {
+				successor = successor.fLeft;
+			}
+			return balance(node.fLeft, successor.fKey, successor.fValue, removeFirst(node.fRight));
+		}
+
+		private static <V> Node<V> removeFirst(Node<V> node) {
+			if (node.fLeft == null) {
+				return node.fRight;
+			}
+			return balance(removeFirst(node.fLeft), node.fKey, node.fValue, node.fRight);
+		}
+
+		/**
+		 * Creates a node from subtrees whose heights differ by at most two,
+		 * rotating as needed to keep the tree balanced.
+		 */
+		private static <V> Node<V> balance(Node<V> left, long key, V value, Node<V> right) {
+			if (height(left) > height(right) + 1) {
+				if (height(left.fLeft) >= height(left.fRight)) {
+					return new Node<>(left.fLeft, left.fKey, left.fValue, new Node<>(left.fRight, key, value, right));
+				}
+				Node<V> pivot = left.fRight;
+				return new Node<>(new Node<>(left.fLeft, left.fKey, left.fValue, pivot.fLeft), pivot.fKey, pivot.fValue, new Node<>(pivot.fRight, key, value, right));
+			}
+			if (height(right) > height(left) + 1) {
+				if (height(right.fRight) >= height(right.fLeft)) {
+					return new Node<>(new Node<>(left, key, value, right.fLeft), right.fKey, right.fValue, right.fRight);
+				}
+				Node<V> pivot = right.fLeft;
+				return new Node<>(new Node<>(left, key, value, pivot.fLeft), pivot.fKey, pivot.fValue, new Node<>(pivot.fRight, right.fKey, right.fValue, right.fRight));
+			}
+			return new Node<>(left, key, value, right);
+		}
+	}
+
+	/**
+	 * Immutable chain of the entries of a hash tree sharing a hash code.
+	 */
+	private static final class Bucket<K, V> {
+		final K fKey;
+		final V fValue;
+		final Bucket<K, V> fNext;
+
+		Bucket(K key, V value, Bucket<K, V> next) {
+			fKey = key;
+			fValue = value;
+			fNext = next;
+		}
+
+		static <K, V> Bucket<K, V> without(Bucket<K, V> bucket, K key) {
+			if (bucket == null) {
+				return null;
+			}
+			if (bucket.fKey.equals(key)) {
+				return bucket.fNext;
+			}
+			Bucket<K, V> next = without(bucket.fNext, key);
+			return next == bucket.fNext ? bucket : new Bucket<>(bucket.fKey, bucket.fValue, next);
+		}
+	}
+
+	/**
+	 * Type and sequence number of a configuration.
+	 */
+	private static final class Member {
+		final String fTypeId;
+		final long fSequence;
+
+		Member(String typeId, long sequence) {
+			fTypeId = typeId;
+			fSequence = sequence;
+		}
+	}
+
+	/**
+	 * Unmodifiable list of configurations ordered by sequence number.
+	 */
+	private static final class Sequence extends AbstractList<ILaunchConfiguration> {
+
+		static final Sequence EMPTY = new Sequence(null);
+
+		final Node<ILaunchConfiguration> fRoot;
+
+		Sequence(Node<ILaunchConfiguration> root) {
+			fRoot = root;
+		}
+
+		Sequence with(long sequence, ILaunchConfiguration config) {
+			return new Sequence(Node.put(fRoot, sequence, config));
+		}
+
+		Sequence without(long sequence) {
+			Node<ILaunchConfiguration> root = Node.remove(fRoot, sequence);
+			return root == null ? EMPTY : new Sequence(root);
+		}
+
+		@Override
+		public ILaunchConfiguration get(int index) {
+			Objects.checkIndex(index, size());
+			return Node.at(fRoot, index).fValue;
+		}
+
+		@Override
+		public int size() {
+			return Node.size(fRoot);
+		}
+
+		@Override
+		public Iterator<ILaunchConfiguration> iterator() {
+			return new SequenceIterator(fRoot);
+		}
+	}
+
+	/**
+	 * In order traversal of a sequence.
+	 */
+	private static final class SequenceIterator implements Iterator<ILaunchConfiguration> {
+
+		private final ArrayDeque<Node<ILaunchConfiguration>> fPath = new ArrayDeque<>();
+
+		SequenceIterator(Node<ILaunchConfiguration> root) {
+			descend(root);
+		}
+
+		private void descend(Node<ILaunchConfiguration> node) {
+			while (node != null) {
+				fPath.push(node);
+				node = node.fLeft;
+			}
+		}
+
+		@Override
+		public boolean hasNext() {
+			return !fPath.isEmpty();
+		}
+
+		@Override
+		public ILaunchConfiguration next() {
+			if (fPath.isEmpty()) {
+				throw new NoSuchElementException();
+			}
+			Node<ILaunchConfiguration> node = fPath.pop();
+			descend(node.fRight);
+			return node.fValue;
+		}
+	}
+
+	/**
+	 * Configurations of one type, by kind.
+	 */
+	private static final class TypeEntry {
+
+		static final TypeEntry EMPTY = new TypeEntry(Sequence.EMPTY, Sequence.EMPTY, Sequence.EMPTY);
+
+		final Sequence fAll;
+		final Sequence fConfigurations;
+		final Sequence fPrototypes;
+
+		TypeEntry(Sequence all, Sequence configurations, Sequence prototypes) {
+			fAll = all;
+			fConfigurations = configurations;
+			fPrototypes = prototypes;
+		}
+
+		TypeEntry with(long sequence, ILaunchConfiguration config) {
+			if (config.isPrototype()) {
+				return new TypeEntry(fAll.with(sequence, config), fConfigurations, fPrototypes.with(sequence, config));
+			}
+			return new TypeEntry(fAll.with(sequence, config), fConfigurations.with(sequence, config), fPrototypes);
+		}
+
+		TypeEntry without(long sequence, ILaunchConfiguration config) {
+			if (config.isPrototype()) {
+				return new TypeEntry(fAll.without(sequence), fConfigurations, fPrototypes.without(sequence));
+			}
+			return new TypeEntry(fAll.without(sequence), fConfigurations.without(sequence), fPrototypes);
+		}
+	}
+
+	/**
+	 * Type and sequence number of all configurations by hash code.
+	 */
+	private final Node<Bucket<ILaunchConfiguration, Member>> fMembers;
+
+	/**
+	 * Sequence number of the next added configuration.
+	 */
+	private final long fNextSequence;
+
+	private final Sequence fAll;
+
+	private final Sequence fConfigurations;
+
+	private final Sequence fPrototypes;
+
+	private final Map<String, TypeEntry> fTypes;
+
+	/**
+	 * Configurations of each project by hash code of the project.
+	 */
+	private final Node<Bucket<IProject, Sequence>> fProjects;
+
+	private final Sequence fLocal;
+
+	private LaunchConfigurationIndex(Node<Bucket<ILaunchConfiguration, Member>> members, long nextSequence, Sequence all, Sequence configurations, Sequence prototypes, Map<String, TypeEntry> types, Node<Bucket<IProject, Sequence>> projects, Sequence local) {
+		fMembers = members;
+		fNextSequence = nextSequence;
+		fAll = all;
+		fConfigurations = configurations;
+		fPrototypes = prototypes;
+		fTypes = types;
+		fProjects = projects;
+		fLocal = local;
+	}
+
+	/**
+	 * Creates an index of the given configurations.
+	 *
+	 * @param configs the configurations in the order of the collection of all
+	 *            configurations
+	 * @param typeIds the type identifiers of the configurations
+	 * @return the index
+	 */
+	public static LaunchConfigurationIndex create(List<ILaunchConfiguration> configs, Map<ILaunchConfiguration, String> typeIds) {
+		Node<Bucket<ILaunchConfiguration, Member>> members = null;
+		long sequence = 0;
+		Sequence all = Sequence.EMPTY;
+		Sequence configurations = Sequence.EMPTY;
+		Sequence prototypes = Sequence.EMPTY;
+		Map<String, TypeEntry> types = new HashMap<>();
+		Node<Bucket<IProject, Sequence>> projects = null;
+		Sequence local = Sequence.EMPTY;
+		for (ILaunchConfiguration config : configs) {
+			String typeId = typeIds.get(config);
+			if (typeId == null || lookup(members, config) != null) {
+				continue;
+			}
+			members = store(members, config, new Member(typeId, sequence));
+			all = all.with(sequence, config);
+			if (config.isPrototype()) {
+				prototypes = prototypes.with(sequence, config);
+			} else {
+				configurations = configurations.with(sequence, config);
+			}
+			types.put(typeId, types.getOrDefault(typeId, TypeEntry.EMPTY).with(sequence, config));
+			IProject project = getProject(config);
+			if (project != null) {
+				projects = store(projects, project, getSequence(projects, project).with(sequence, config));
+			} else if (config.isLocal()) {
+				local = local.with(sequence, config);
+			}
+			sequence++;
+		}
+		return new LaunchConfigurationIndex(members, sequence, all, configurations, prototypes, types, projects, local);
+	}
+
+	/**
+	 * Returns an index containing the given configuration in addition to the
+	 * configurations of this index. A configuration already in this index is
+	 * moved to the given type, keeping its position.
+	 *
+	 * @param config the configuration to add
+	 * @param typeId identifier of the type of the configuration
+	 * @return the updated index, or this index if it contains the
+	 *         configuration with the given type already
+	 */
+	public LaunchConfigurationIndex with(ILaunchConfiguration config, String typeId) {
+		Member member = lookup(fMembers, config);
+		if (member != null && typeId.equals(member.fTypeId)) {
+			return this;
+		}
+		Map<String, TypeEntry> types = new HashMap<>(fTypes);
+		if (member != null) {
+			// type of the file changed, all other lists are unaffected
+			putTypeEntry(types, member.fTypeId, fTypes.get(member.fTypeId).without(member.fSequence, config));
+			putTypeEntry(types, typeId, getTypeEntry(typeId).with(member.fSequence, config));
+			return new LaunchConfigurationIndex(store(fMembers, config, new Member(typeId, member.fSequence)), fNextSequence, fAll, fConfigurations, fPrototypes, types, fProjects, fLocal);
+		}
+		long sequence = fNextSequence;
+		putTypeEntry(types, typeId, getTypeEntry(typeId).with(sequence, config));
+		Sequence configurations = fConfigurations;
+		Sequence prototypes = fPrototypes;
+		if (config.isPrototype()) {
+			prototypes = prototypes.with(sequence, config);
+		} else {
+			configurations = configurations.with(sequence, config);
+		}
+		Node<Bucket<IProject, Sequence>> projects = fProjects;
+		Sequence local = fLocal;
+		IProject project = getProject(config);
+		if (project != null) {
+			projects = store(projects, project, getSequence(projects, project).with(sequence, config));
+		} else if (config.isLocal()) {
+			local = local.with(sequence, config);
+		}
+		return new LaunchConfigurationIndex(store(fMembers, config, new Member(typeId, sequence)), sequence + 1, fAll.with(sequence, config), configurations, prototypes, types, projects, local);
+	}
+
+	/**
+	 * Returns an index containing the configurations of this index except the
+	 * given configuration.
+	 *
+	 * @param config the configuration to remove
+	 * @return the updated index, or this index if it does not contain the
+	 *         configuration
+	 */
+	public LaunchConfigurationIndex without(ILaunchConfiguration config) {
+		Member member = lookup(fMembers, config);
+		if (member == null) {
+			return this;
+		}
+		long sequence = member.fSequence;
+		Map<String, TypeEntry> types = new HashMap<>(fTypes);
+		putTypeEntry(types, member.fTypeId, fTypes.get(member.fTypeId).without(sequence, config));
+		Sequence configurations = fConfigurations;
+		Sequence prototypes = fPrototypes;
+		if (config.isPrototype()) {
+			prototypes = prototypes.without(sequence);
+		} else {
+			configurations = configurations.without(sequence);
+		}
+		Node<Bucket<IProject, Sequence>> projects = fProjects;
+		Sequence local = fLocal;
+		IProject project = getProject(config);
+		if (project != null) {
+			Sequence remaining = getSequence(projects, project).without(sequence);
+			projects = store(projects, project, remaining.isEmpty() ? null : remaining);
+		} else if (config.isLocal()) {
+			local = local.without(sequence);
+		}
+		return new LaunchConfigurationIndex(store(fMembers, config, null), fNextSequence, fAll.without(sequence), configurations, prototypes, types, projects, local);
+	}
+
+	/**
+	 * @param config a launch configuration
+	 * @return whether the configuration is in this index
+	 */
+	public boolean contains(ILaunchConfiguration config) {
+		return lookup(fMembers, config) != null;
+	}
+
+	/**
+	 * @param config a launch configuration
+	 * @return the identifier of the type of the configuration, or
+	 *         <code>null</code> if the configuration is not in this index
+	 */
+	public String getTypeId(ILaunchConfiguration config) {
+		Member member = lookup(fMembers, config);
+		return member == null ? null : member.fTypeId;
+	}
+
+	/**
+	 * @return all configurations, unmodifiable
+	 */
+	public List<ILaunchConfiguration> getAll() {
+		return fAll;
+	}
+
+	/**
+	 * Returns the configurations of the given kinds.
+	 *
+	 * @param kinds bit mask of {@link ILaunchConfiguration#CONFIGURATION} and
+	 *            {@link ILaunchConfiguration#PROTOTYPE}
+	 * @return the configurations of the given kinds, unmodifiable
+	 */
+	public List<ILaunchConfiguration> getLaunchConfigurations(int kinds) {
+		return select(fAll, fConfigurations, fPrototypes, kinds);
+	}
+
+	/**
+	 * Returns the configurations of the given type and kinds.
+	 *
+	 * @param typeId identifier of a launch configuration type
+	 * @param kinds bit mask of {@link ILaunchConfiguration#CONFIGURATION} and
+	 *            {@link ILaunchConfiguration#PROTOTYPE}
+	 * @return the configurations of the given type and kinds, unmodifiable
+	 */
+	public List<ILaunchConfiguration> getLaunchConfigurations(String typeId, int kinds) {
+		TypeEntry entry = fTypes.get(typeId);
+		if (entry == null) {
+			return Collections.emptyList();
+		}
+		return select(entry.fAll, entry.fConfigurations, entry.fPrototypes, kinds);
+	}
+
+	/**
+	 * Returns the configurations stored in the given project.
+	 *
+	 * @param project a project
+	 * @return the configurations stored in the project, unmodifiable
+	 */
+	public List<ILaunchConfiguration> getLaunchConfigurations(IProject project) {
+		return getSequence(fProjects, project);
+	}
+
+	/**
+	 * @return the configurations stored locally, unmodifiable
+	 */
+	public List<ILaunchConfiguration> getLocalLaunchConfigurations() {
+		return fLocal;
+	}
+
+	private static List<ILaunchConfiguration> select(List<ILaunchConfiguration> all, List<ILaunchConfiguration> configurations, List<ILaunchConfiguration> prototypes, int kinds) {
+		boolean includeConfigurations = (kinds & ILaunchConfiguration.CONFIGURATION) > 0;
+		boolean includePrototypes = (kinds & ILaunchConfiguration.PROTOTYPE) > 0;
+		if (includeConfigurations && includePrototypes) {
+			return all;
+		}
+		if (includeConfigurations) {
+			return configurations;
+		}
+		if (includePrototypes) {
+			return prototypes;
+		}
+		return Collections.emptyList();
+	}
+
+	private TypeEntry getTypeEntry(String typeId) {
+		TypeEntry entry = fTypes.get(typeId);
+		return entry == null ? TypeEntry.EMPTY : entry;
+	}
+
+	private static void putTypeEntry(Map<String, TypeEntry> types, String typeId, TypeEntry entry) {
+		if (entry.fAll.isEmpty()) {
+			types.remove(typeId);
+		} else {
+			types.put(typeId, entry);
+		}
+	}
+
+	private static Sequence getSequence(Node<Bucket<IProject, Sequence>> projects, IProject project) {
+		Sequence configs = lookup(projects, project);
+		return configs == null ? Sequence.EMPTY : configs;
+	}
+
+	/**
+	 * Returns the value of the given key in a tree of hash codes, or
+	 * <code>null</code> if none.
+	 */
+	private static <K, V> V lookup(Node<Bucket<K, V>> root, K key) {
+		for (Bucket<K, V> bucket = Node.get(root, key.hashCode()); bucket != null; bucket = bucket.fNext) {
+			if (bucket.fKey.equals(key)) {
+				return bucket.fValue;
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Returns a tree of hash codes mapping the given key to the given value,
+	 * or removing the key if the value is <code>null</code>.
+	 */
+	private static <K, V> Node<Bucket<K, V>> store(Node<Bucket<K, V>> root, K key, V value) {
+		int hash = key.hashCode();
+		Bucket<K, V> bucket = Bucket.without(Node.get(root, hash), key);
+		if (value != null) {
+			bucket = new Bucket<>(key, value, bucket);
+		}
+		return bucket == null ? Node.remove(root, hash) : Node.put(root, hash, bucket);
+	}
+
+	/**
+	 * Returns the project storing the given configuration, or
+	 * <code>null</code> if the configuration is not stored in the workspace.
+	 */
+	private static IProject getProject(ILaunchConfiguration config) {
+		IFile file = config.getFile();
+		return file == null ? null : file.getProject();
+	}
+}
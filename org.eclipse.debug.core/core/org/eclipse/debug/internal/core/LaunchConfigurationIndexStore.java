@@ -0,0 +1,349 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.debug.internal.core;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IPath;
+import org.eclipse.debug.core.DebugPlugin;
+import org.eclipse.debug.core.ILaunchConfiguration;
+
+/**
+ * Persistent index of the launch configurations known to the launch manager.
+ * <p>
+ * For each configuration the index stores a stamp of its file together with
+ * the type identifier, name, prototype flag and mapped resources read from
+ * the file. As long as the stamp of a file is unchanged the launch manager can
+ * answer these queries from the index without parsing the file. The index is
+ * loaded with a single read when the launch manager builds its collection of
+ * launch configurations and saved with the workspace.
+ * </p>
+ * <p>
+ * Entries are keyed by the workspace path of shared configurations or the
+ * file name of local configurations.
+ * </p>
+ */
+public class LaunchConfigurationIndexStore {
+
+	/**
+	 * Name of the index file in the state location of the debug core plug-in.
+	 */
+	public static final String FILE_NAME = "launchConfigurations.index"; //$NON-NLS-1$
+
+	private static final int MAGIC = 0x4C434958;
+
+	private static final int VERSION = 1;
+
+	/**
+	 * Key prefix for local configurations. Workspace paths always start with a
+	 * slash.
+	 */
+	private static final String LOCAL_PREFIX = "local:"; //$NON-NLS-1$
+
+	/**
+	 * Index information of a single launch configuration file.
+	 */
+	public static final class Entry {
+		private final long fStamp;
+		private final String fTypeId;
+		private final String fName;
+		private final boolean fPrototype;
+		private final List<String> fMappedPaths;
+		private final List<String> fMappedTypes;
+
+		Entry(long stamp, String typeId, String name, boolean prototype, List<String> mappedPaths, List<String> mappedTypes) {
+			fStamp = stamp;
+			fTypeId = typeId;
+			fName = name;
+			fPrototype = prototype;
+			fMappedPaths = mappedPaths;
+			fMappedTypes = mappedTypes;
+		}
+
+		/**
+		 * @return stamp of the file when this entry was created
+		 */
+		public long getStamp() {
+			return fStamp;
+		}
+
+		/**
+		 * @return identifier of the configuration type
+		 */
+		public String getTypeId() {
+			return fTypeId;
+		}
+
+		/**
+		 * @return name of the configuration
+		 */
+		public String getName() {
+			return fName;
+		}
+
+		/**
+		 * @return whether the configuration is a prototype
+		 */
+		public boolean isPrototype() {
+			return fPrototype;
+		}
+
+		/**
+		 * @return portable paths of the mapped resources, possibly empty
+		 */
+		public List<String> getMappedResourcePaths() {
+			return fMappedPaths;
+		}
+
+		/**
+		 * @return resource types of the mapped resources, possibly empty
+		 */
+		public List<String> getMappedResourceTypes() {
+			return fMappedTypes;
+		}
+	}
+
+	private final File fFile;
+
+	private final Map<String, Entry> fEntries = new HashMap<>();
+
+	private boolean fLoaded;
+
+	private boolean fDirty;
+
+	/**
+	 * Creates an index stored in the given file. The file is read on first
+	 * access.
+	 *
+	 * @param file the index file
+	 */
+	public LaunchConfigurationIndexStore(File file) {
+		fFile = file;
+	}
+
+	/**
+	 * Returns the entry for the given configuration if its file did not change
+	 * since the entry was created.
+	 *
+	 * @param config a launch configuration
+	 * @return the up-to-date entry or <code>null</code>
+	 */
+	public synchronized Entry get(LaunchConfiguration config) {
+		load();
+		Entry entry = fEntries.get(getKey(config));
+		if (entry != null && entry.fStamp == getStamp(config)) {
+			return entry;
+		}
+		return null;
+	}
+
+	/**
+	 * Records the information of a configuration which was read from its file.
+	 *
+	 * @param config the launch configuration
+	 * @param stamp the stamp of the file taken before it was read
+	 * @param info the information read from the file
+	 */
+	public synchronized void update(LaunchConfiguration config, long stamp, LaunchConfigurationInfo info) {
+		if (stamp == IFile.NULL_STAMP || info.getType() == null) {
+			return;
+		}
+		load();
+		List<String> paths;
+		List<String> types;
+		try {
+			paths = info.getListAttribute(LaunchConfiguration.ATTR_MAPPED_RESOURCE_PATHS, null);
+			types = info.getListAttribute(LaunchConfiguration.ATTR_MAPPED_RESOURCE_TYPES, null);
+		} catch (CoreException e) {
+			paths = null;
+			types = null;
+		}
+		if (paths == null || types == null || paths.size() != types.size() || paths.contains(null) || types.contains(null)) {
+			paths = Collections.emptyList();
+			types = Collections.emptyList();
+		}
+		fEntries.put(getKey(config), new Entry(stamp, info.getType().getIdentifier(), config.getName(), config.isPrototype(), List.copyOf(paths), List.copyOf(types)));
+		fDirty = true;
+	}
+
+	/**
+	 * Removes the entry of the given configuration.
+	 *
+	 * @param config a launch configuration
+	 */
+	public synchronized void remove(ILaunchConfiguration config) {
+		if (config instanceof LaunchConfiguration && !config.isWorkingCopy()) {
+			load();
+			if (fEntries.remove(getKey((LaunchConfiguration) config)) != null) {
+				fDirty = true;
+			}
+		}
+	}
+
+	/**
+	 * Removes all entries except the ones of the given configurations.
+	 *
+	 * @param configs the configurations to retain
+	 */
+	public synchronized void retain(Collection<ILaunchConfiguration> configs) {
+		load();
+		Set<String> keys = new HashSet<>();
+		for (ILaunchConfiguration config : configs) {
+			if (config instanceof LaunchConfiguration) {
+				keys.add(getKey((LaunchConfiguration) config));
+			}
+		}
+		if (fEntries.keySet().retainAll(keys)) {
+			fDirty = true;
+		}
+	}
+
+	/**
+	 * @return number of entries in the index
+	 */
+	public synchronized int size() {
+		load();
+		return fEntries.size();
+	}
+
+	/**
+	 * Writes the index to its file if it changed since it was loaded or last
+	 * saved.
+	 */
+	public synchronized void save() {
+		if (!fDirty) {
+			return;
+		}
+		File temp = new File(fFile.getParentFile(), fFile.getName() + ".tmp"); //$NON-NLS-1$
+		try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp.toPath())))) {
+			out.writeInt(MAGIC);
+			out.writeInt(VERSION);
+			out.writeInt(fEntries.size());
+			for (Map.Entry<String, Entry> mapEntry : fEntries.entrySet()) {
+				Entry entry = mapEntry.getValue();
+				out.writeUTF(mapEntry.getKey());
+				out.writeLong(entry.fStamp);
+				out.writeUTF(entry.fTypeId);
+				out.writeUTF(entry.fName);
+				out.writeBoolean(entry.fPrototype);
+				out.writeInt(entry.fMappedPaths.size());
+				for (int i = 0; i < entry.fMappedPaths.size(); i++) {
+					out.writeUTF(entry.fMappedPaths.get(i));
+					out.writeUTF(entry.fMappedTypes.get(i));
+				}
+			}
+		} catch (IOException e) {
+			DebugPlugin.log(e);
+			temp.delete();
+			return;
+		}
+		try {
+			Files.move(temp.toPath(), fFile.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+			fDirty = false;
+		} catch (IOException e) {
+			DebugPlugin.log(e);
+			temp.delete();
+		}
+	}
+
+	/**
+	 * Reads the index file with a single read if not done yet. A missing,
+	 * outdated or corrupt file results in an empty index.
+	 */
+	private void load() {
+		if (fLoaded) {
+			return;
+		}
+		fLoaded = true;
+		if (!fFile.isFile()) {
+			return;
+		}
+		try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(Files.readAllBytes(fFile.toPath())))) {
+			if (in.readInt() != MAGIC || in.readInt() != VERSION) {
+				return;
+			}
+			int count = in.readInt();
+			Map<String, Entry> entries = new HashMap<>(Math.max(16, count * 4 / 3 + 1));
+			for (int i = 0; i < count; i++) {
+				String key = in.readUTF();
+				long stamp = in.readLong();
+				String typeId = in.readUTF();
+				String name = in.readUTF();
+				boolean prototype = in.readBoolean();
+				int mapped = in.readInt();
+				String[] paths = new String[mapped];
+				String[] types = new String[mapped];
+				for (int j = 0; j < mapped; j++) {
+					paths[j] = in.readUTF();
+					types[j] = in.readUTF();
+				}
+				entries.put(key, new Entry(stamp, typeId, name, prototype, List.of(paths), List.of(types)));
+			}
+			fEntries.putAll(entries);
+		} catch (IOException | RuntimeException e) {
+			// corrupt index, start over
+			fEntries.clear();
+			fDirty = true;
+		}
+	}
+
+	/**
+	 * Returns the key of the given configuration in the index.
+	 *
+	 * @param config a launch configuration
+	 * @return the index key
+	 */
+	static String getKey(LaunchConfiguration config) {
+		if (config.isLocal()) {
+			return LOCAL_PREFIX + config.getFileName();
+		}
+		return config.getFile().getFullPath().toPortableString();
+	}
+
+	/**
+	 * Returns a stamp which changes whenever the file of the given
+	 * configuration changes.
+	 *
+	 * @param config a launch configuration
+	 * @return the file stamp or {@link IFile#NULL_STAMP} if the file does not
+	 *         exist
+	 */
+	static long getStamp(LaunchConfiguration config) {
+		if (config.isLocal()) {
+			File file = LaunchManager.LOCAL_LAUNCH_CONFIGURATION_CONTAINER_PATH.append(config.getFileName()).toFile();
+			long modified = file.lastModified();
+			return modified == 0 ? IFile.NULL_STAMP : modified * 31 + file.length();
+		}
+		IFile file = config.getFile();
+		long stamp = file.getLocalTimeStamp();
+		IPath location = file.getLocation();
+		return stamp == IFile.NULL_STAMP || location == null ? stamp : stamp * 31 + location.toFile().length();
+	}
+}
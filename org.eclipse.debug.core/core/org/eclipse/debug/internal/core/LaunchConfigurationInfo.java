@@ -16,9 +16,11 @@ package org.eclipse.debug.internal.core;
 
 
 import java.io.IOException;
+import java.lang.reflect.Method;
 import java.text.MessageFormat;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
@@ -31,7 +33,13 @@ import java.util.TreeMap;
 import java.util.stream.Collectors;
 
 import javax.xml.parsers.ParserConfigurationException;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
 import javax.xml.transform.TransformerException;
+import javax.xml.transform.TransformerFactory;
+import javax.xml.transform.dom.DOMResult;
+import javax.xml.transform.stax.StAXSource;
 
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IStatus;
@@ -68,15 +76,44 @@ public class LaunchConfigurationInfo {
 	private static final String TYPE = "type"; //$NON-NLS-1$
 	private static final String PROTOTYPE = "prototype"; //$NON-NLS-1$
 	private static final String VISIBLE_ATTRIBUTES = "visibleAttributes"; //$NON-NLS-1$
+	private static final String XML_DECLARATION = "<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"no\"?>"; //$NON-NLS-1$
+	private static final String INDENT = "    "; //$NON-NLS-1$
+
+	/**
+	 * Names of the protected methods subclasses may override to customize how
+	 * attributes are read from and written to XML and compared. The streaming
+	 * reader and writer and the attribute comparison only bypass them if they
+	 * are not overridden.
+	 */
+	private static final Set<String> HOOKS = Set.of("initializeFromXML", "setStringAttribute", "setIntegerAttribute", "setBooleanAttribute", //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$
+			"setListAttribute", "setSetAttribute", "setMapAttribute", "getKeyAttribute", "getValueAttribute", "createKeyValueElement", //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$ //$NON-NLS-5$ //$NON-NLS-6$
+			"createListElement", "createSetElement", "createMapElement", "compareAttributes"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$
+
+	/** The {@link #HOOKS} overridden by a subclass of this class. */
+	private static final ClassValue<Set<String>> OVERRIDDEN_HOOKS = new ClassValue<>() {
+		@Override
+		protected Set<String> computeValue(Class<?> type) {
+			Set<String> overridden = new HashSet<>();
+			for (Class<?> c = type; c != LaunchConfigurationInfo.class && c != null; c = c.getSuperclass()) {
+				for (Method method : c.getDeclaredMethods()) {
+					if (HOOKS.contains(method.getName())) {
+						overridden.add(method.getName());
+					}
+				}
+			}
+			return overridden;
+		}
+	};
 
 	/**
 	 * This configurations attribute table. Keys are <code>String</code>s and
 	 * values are one of <code>String</code>, <code>Integer</code>,
 	 * <code>Boolean</code>, <code>Set&lt;String&gt;</code>,
 	 * <code>List&lt;String&gt;</code>, or
-	 * <code>Map&lt;String, String&gt;</code>
+	 * <code>Map&lt;String, String&gt;</code>. Copies of this info share the
+	 * unchanged part of the table.
 	 */
-	private TreeMap<String, Object> fAttributes;
+	private AttributeMap fAttributes;
 
 	/**
 	 * This launch configuration's type
@@ -122,7 +159,7 @@ public class LaunchConfigurationInfo {
 	 * Constructs a new empty info
 	 */
 	protected LaunchConfigurationInfo() {
-		setAttributeTable(new TreeMap<>());
+		setAttributeTable(new AttributeMap());
 	}
 
 	/**
@@ -130,7 +167,7 @@ public class LaunchConfigurationInfo {
 	 *
 	 * @return attribute table
 	 */
-	private TreeMap<String, Object> getAttributeTable() {
+	private AttributeMap getAttributeTable() {
 		return fAttributes;
 	}
 
@@ -140,7 +177,7 @@ public class LaunchConfigurationInfo {
 	 * @param table
 	 *            attribute table
 	 */
-	private void setAttributeTable(TreeMap<String, Object> table) {
+	private void setAttributeTable(AttributeMap table) {
 		fAttributes = table;
 	}
 
@@ -151,10 +188,10 @@ public class LaunchConfigurationInfo {
 	 */
 	protected void setAttributes(Map<String, ?> map) {
 		if (map == null) {
-			setAttributeTable(new TreeMap<>());
+			setAttributeTable(new AttributeMap());
 			return;
 		}
-		setAttributeTable(new TreeMap<>(map));
+		setAttributeTable(new AttributeMap(map));
 	}
 
 	/**
@@ -387,7 +424,7 @@ public class LaunchConfigurationInfo {
 	protected LaunchConfigurationInfo getCopy() {
 		LaunchConfigurationInfo copy = new LaunchConfigurationInfo();
 		copy.setType(getType());
-		copy.setAttributeTable(getAttributes());
+		copy.setAttributeTable(getAttributeTable().copy());
 		copy.setIsPrototype(isPrototype());
 		copy.setPrototype(getPrototype());
 		copy.setVisibleAttributes(getVisibleAttributes());
@@ -403,6 +440,36 @@ public class LaunchConfigurationInfo {
 		return new TreeMap<>(getAttributeTable());
 	}
 
+	/**
+	 * Returns a sorted copy of this info's attribute map. Unlike
+	 * {@link #getAttributes()} the copy is created in constant time and shares
+	 * its entries with this info until either is changed.
+	 *
+	 * @return a copy of this info's attribute map
+	 */
+	Map<String, Object> getAttributesCopy() {
+		return getAttributeTable().copy();
+	}
+
+	/**
+	 * Returns whether a subclass overrides one of the given protected methods.
+	 *
+	 * @param hooks names of the {@link #HOOKS} to check
+	 * @return whether one of the methods is overridden
+	 */
+	private boolean isOverridden(String... hooks) {
+		if (getClass() == LaunchConfigurationInfo.class) {
+			return false;
+		}
+		Set<String> overridden = OVERRIDDEN_HOOKS.get(getClass());
+		for (String hook : hooks) {
+			if (overridden.contains(hook)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
 	/**
 	 * Sets the given attribute to the given value. Only working copy's should
 	 * use this API.
@@ -441,6 +508,88 @@ public class LaunchConfigurationInfo {
 	 */
 	@SuppressWarnings("unchecked")
 	protected String getAsXML(String lineDelimeter) throws CoreException, IOException, ParserConfigurationException, TransformerException {
+		if (isOverridden("createKeyValueElement", "createListElement", "createSetElement", "createMapElement")) { //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$
+			return getAsDocument(lineDelimeter);
+		}
+		// emit the same format the DOM serializer produced: attributes in
+		// alphabetical order, four spaces indentation
+		StringBuilder xml = new StringBuilder(256 + getAttributeTable().size() * 96);
+		xml.append(XML_DECLARATION).append(lineDelimeter);
+		xml.append('<').append(LAUNCH_CONFIGURATION);
+		ILaunchConfiguration prototype = getPrototype();
+		if (prototype != null) {
+			appendXMLAttribute(xml, PROTOTYPE, prototype.getName());
+		}
+		appendXMLAttribute(xml, TYPE, getType().getIdentifier());
+		if (prototype == null && isPrototype()) {
+			appendXMLAttribute(xml, VISIBLE_ATTRIBUTES, getVisibleAttributes().stream().collect(Collectors.joining(", "))); //$NON-NLS-1$
+		}
+
+		boolean empty = true;
+		for (Map.Entry<String, Object> entry : getAttributeTable().entrySet()) {
+			String key = entry.getKey();
+			if (key == null) {
+				throw new DebugException(
+					new Status(
+						IStatus.ERROR, DebugPlugin.getUniqueIdentifier(),
+						DebugException.REQUEST_FAILED, DebugCoreMessages.LaunchConfigurationInfo_36, null
+					)
+				);
+			}
+			Object value = entry.getValue();
+			if (value == null) {
+				continue;
+			}
+			if (empty) {
+				xml.append('>').append(lineDelimeter);
+				empty = false;
+			}
+			if (value instanceof String) {
+				appendKeyValueElement(xml, INDENT, STRING_ATTRIBUTE, key, (String) value, lineDelimeter);
+			} else if (value instanceof Integer) {
+				appendKeyValueElement(xml, INDENT, INT_ATTRIBUTE, key, value.toString(), lineDelimeter);
+			} else if (value instanceof Boolean) {
+				appendKeyValueElement(xml, INDENT, BOOLEAN_ATTRIBUTE, key, value.toString(), lineDelimeter);
+			} else if (value instanceof List) {
+				appendEntriesElement(xml, LIST_ATTRIBUTE, LIST_ENTRY, key, (List<String>) value, lineDelimeter);
+			} else if (value instanceof Map) {
+				// persist in sorted order based on keys
+				Map<String, String> map = (Map<String, String>) value;
+				List<String> keys = new ArrayList<>(map.keySet());
+				Collections.sort(keys);
+				xml.append(INDENT).append('<').append(MAP_ATTRIBUTE);
+				appendXMLAttribute(xml, KEY, key);
+				if (keys.isEmpty()) {
+					xml.append("/>").append(lineDelimeter); //$NON-NLS-1$
+				} else {
+					xml.append('>').append(lineDelimeter);
+					for (String mapKey : keys) {
+						appendKeyValueElement(xml, INDENT + INDENT, MAP_ENTRY, mapKey, map.get(mapKey), lineDelimeter);
+					}
+					xml.append(INDENT).append("</").append(MAP_ATTRIBUTE).append('>').append(lineDelimeter); //$NON-NLS-1$
+				}
+			} else if (value instanceof Set) {
+				// persist in sorted order
+				List<String> list = new ArrayList<>((Set<String>) value);
+				Collections.sort(list);
+				appendEntriesElement(xml, SET_ATTRIBUTE, SET_ENTRY, key, list, lineDelimeter);
+			}
+		}
+		if (empty) {
+			xml.append("/>"); //$NON-NLS-1$
+		} else {
+			xml.append("</").append(LAUNCH_CONFIGURATION).append('>'); //$NON-NLS-1$
+		}
+		xml.append(lineDelimeter);
+		return xml.toString();
+	}
+
+	/**
+	 * Returns the content of this info as XML built with the DOM, calling the
+	 * methods creating the elements of the attributes.
+	 */
+	@SuppressWarnings("unchecked")
+	private String getAsDocument(String lineDelimeter) throws CoreException, IOException, ParserConfigurationException, TransformerException {
 		Document doc = LaunchManager.getDocument();
 		Element configRootElement = doc.createElement(LAUNCH_CONFIGURATION);
 		doc.appendChild(configRootElement);
@@ -491,6 +640,76 @@ public class LaunchConfigurationInfo {
 		return LaunchManager.serializeDocument(doc, lineDelimeter);
 	}
 
+	/**
+	 * Appends an element with a key and a value attribute.
+	 */
+	private static void appendKeyValueElement(StringBuilder xml, String indent, String elementType, String key, String value, String lineDelimeter) throws IOException {
+		xml.append(indent).append('<').append(elementType);
+		appendXMLAttribute(xml, KEY, key);
+		appendXMLAttribute(xml, VALUE, value);
+		xml.append("/>").append(lineDelimeter); //$NON-NLS-1$
+	}
+
+	/**
+	 * Appends an element with the given key containing one entry element for
+	 * each value.
+	 */
+	private static void appendEntriesElement(StringBuilder xml, String elementType, String entryType, String key, Collection<String> values, String lineDelimeter) throws IOException {
+		xml.append(INDENT).append('<').append(elementType);
+		appendXMLAttribute(xml, KEY, key);
+		if (values.isEmpty()) {
+			xml.append("/>").append(lineDelimeter); //$NON-NLS-1$
+			return;
+		}
+		xml.append('>').append(lineDelimeter);
+		for (String value : values) {
+			xml.append(INDENT).append(INDENT).append('<').append(entryType);
+			appendXMLAttribute(xml, VALUE, value);
+			xml.append("/>").append(lineDelimeter); //$NON-NLS-1$
+		}
+		xml.append(INDENT).append("</").append(elementType).append('>').append(lineDelimeter); //$NON-NLS-1$
+	}
+
+	/**
+	 * Appends an XML attribute escaped like the DOM serializer does. A
+	 * <code>null</code> value is written as empty string.
+	 *
+	 * @throws IOException if the value contains an unpaired surrogate
+	 */
+	private static void appendXMLAttribute(StringBuilder xml, String name, String value) throws IOException {
+		xml.append(' ').append(name).append("=\""); //$NON-NLS-1$
+		int length = value == null ? 0 : value.length();
+		for (int i = 0; i < length; i++) {
+			char c = value.charAt(i);
+			switch (c) {
+				case '&':
+					xml.append("&amp;"); //$NON-NLS-1$
+					break;
+				case '<':
+					xml.append("&lt;"); //$NON-NLS-1$
+					break;
+				case '>':
+					xml.append("&gt;"); //$NON-NLS-1$
+					break;
+				case '"':
+					xml.append("&quot;"); //$NON-NLS-1$
+					break;
+				default:
+					if (c < 0x20) {
+						xml.append("&#").append((int) c).append(';'); //$NON-NLS-1$
+					} else if (Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(value.charAt(i + 1))) {
+						xml.append("&#").append(Character.toCodePoint(c, value.charAt(++i))).append(';'); //$NON-NLS-1$
+					} else if (Character.isSurrogate(c)) {
+						throw new IOException("Invalid UTF-16 surrogate detected: " + Integer.toHexString(c)); //$NON-NLS-1$
+					} else {
+						xml.append(c);
+					}
+					break;
+			}
+		}
+		xml.append('"');
+	}
+
 	/**
 	 * Helper method that creates a 'key value' element of the specified type
 	 * with the specified attribute values.
@@ -670,6 +889,174 @@ public class LaunchConfigurationInfo {
 		}
 	}
 
+	/**
+	 * Initializes the mapping of attributes from a launch configuration XML
+	 * document read with a streaming parser. Accepts the same documents as
+	 * {@link #initializeFromXML(Element, boolean)} without building a DOM,
+	 * unless a subclass overrides one of the methods reading the DOM elements.
+	 *
+	 * @param reader reader positioned at the start of the document
+	 * @param isPrototype if the XML file corresponds to a prototype
+	 * @throws CoreException if the document is not a valid launch
+	 *             configuration
+	 * @throws XMLStreamException if the document is not well-formed
+	 */
+	protected void initializeFromXML(XMLStreamReader reader, boolean isPrototype) throws CoreException, XMLStreamException {
+		if (isOverridden("initializeFromXML", "setStringAttribute", "setIntegerAttribute", "setBooleanAttribute", "setListAttribute", //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$ //$NON-NLS-5$
+				"setSetAttribute", "setMapAttribute", "getKeyAttribute", "getValueAttribute")) { //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$
+			DOMResult result = new DOMResult();
+			try {
+				TransformerFactory.newInstance().newTransformer().transform(new StAXSource(reader), result);
+			} catch (TransformerException e) {
+				throw new XMLStreamException(e.getMessage(), e);
+			}
+			initializeFromXML(((Document) result.getNode()).getDocumentElement(), isPrototype);
+			return;
+		}
+		if (!nextElement(reader) || !reader.getLocalName().equalsIgnoreCase(LAUNCH_CONFIGURATION)) {
+			throw getInvalidFormatDebugException();
+		}
+
+		// read type
+		String id = getXMLAttribute(reader, TYPE);
+		ILaunchConfigurationType type = DebugPlugin.getDefault().getLaunchManager().getLaunchConfigurationType(id);
+		if (type == null) {
+			String message = MessageFormat.format(DebugCoreMessages.LaunchConfigurationInfo_missing_type, id);
+			throw new DebugException(
+					new Status(
+					 IStatus.ERROR, DebugPlugin.getUniqueIdentifier(),
+					 DebugException.MISSING_LAUNCH_CONFIGURATION_TYPE, message, null)
+				);
+		}
+		setType(type);
+		String visibleAttributes = getXMLAttribute(reader, VISIBLE_ATTRIBUTES);
+		String prototype = getXMLAttribute(reader, PROTOTYPE);
+
+		while (nextElement(reader)) {
+			String nodeName = reader.getLocalName();
+			if (nodeName.equalsIgnoreCase(STRING_ATTRIBUTE)) {
+				setAttribute(getXMLAttribute(reader, KEY), getXMLAttribute(reader, VALUE));
+				skipElement(reader);
+			} else if (nodeName.equalsIgnoreCase(INT_ATTRIBUTE)) {
+				setAttribute(getXMLAttribute(reader, KEY), Integer.valueOf(getXMLAttribute(reader, VALUE)));
+				skipElement(reader);
+			} else if (nodeName.equalsIgnoreCase(BOOLEAN_ATTRIBUTE)) {
+				setAttribute(getXMLAttribute(reader, KEY), Boolean.valueOf(getXMLAttribute(reader, VALUE)));
+				skipElement(reader);
+			} else if (nodeName.equalsIgnoreCase(LIST_ATTRIBUTE)) {
+				String listKey = getXMLAttribute(reader, KEY);
+				List<String> list = new ArrayList<>();
+				while (nextEntry(reader, LIST_ENTRY)) {
+					list.add(getXMLAttribute(reader, VALUE));
+					skipElement(reader);
+				}
+				setAttribute(listKey, list);
+			} else if (nodeName.equalsIgnoreCase(MAP_ATTRIBUTE)) {
+				String mapKey = getXMLAttribute(reader, KEY);
+				Map<String, String> map = new HashMap<>();
+				while (nextEntry(reader, MAP_ENTRY)) {
+					map.put(getXMLAttribute(reader, KEY), getXMLAttribute(reader, VALUE));
+					skipElement(reader);
+				}
+				setAttribute(mapKey, map);
+			} else if (nodeName.equalsIgnoreCase(SET_ATTRIBUTE)) {
+				String setKey = getXMLAttribute(reader, KEY);
+				Set<String> set = new HashSet<>();
+				while (nextEntry(reader, SET_ENTRY)) {
+					set.add(getXMLAttribute(reader, VALUE));
+					skipElement(reader);
+				}
+				setAttribute(setKey, set);
+			} else {
+				skipElement(reader);
+			}
+		}
+		// consume the rest of the document to detect malformed content
+		while (reader.hasNext()) {
+			reader.next();
+		}
+
+		if (isPrototype) {
+			setIsPrototype(true);
+			if (visibleAttributes.length() > 0) {
+				String[] split = visibleAttributes.split(", "); //$NON-NLS-1$
+				setVisibleAttributes(new HashSet<>(Arrays.asList(split)));
+			}
+		} else {
+			setIsPrototype(false);
+			if (prototype.length() > 0) {
+				ILaunchConfiguration[] launchConfigurations = DebugPlugin.getDefault().getLaunchManager().getLaunchConfigurations(ILaunchConfiguration.PROTOTYPE);
+				for (ILaunchConfiguration iLaunchConfiguration : launchConfigurations) {
+					if (prototype.equals(iLaunchConfiguration.getName())) {
+						setPrototype(iLaunchConfiguration);
+						break;
+					}
+				}
+			}
+		}
+	}
+
+	/**
+	 * Advances the reader to the next child element of the current element.
+	 *
+	 * @return <code>true</code> if the reader is positioned at the start of a
+	 *         child element, <code>false</code> if the end of the current
+	 *         element or document was reached
+	 */
+	private static boolean nextElement(XMLStreamReader reader) throws XMLStreamException {
+		while (reader.hasNext()) {
+			switch (reader.next()) {
+				case XMLStreamConstants.START_ELEMENT:
+					return true;
+				case XMLStreamConstants.END_ELEMENT:
+					return false;
+				default:
+					break;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Advances the reader to the next entry of a list, set or map element.
+	 *
+	 * @throws CoreException if the next child is not an entry element
+	 */
+	private boolean nextEntry(XMLStreamReader reader, String entryName) throws CoreException, XMLStreamException {
+		if (!nextElement(reader)) {
+			return false;
+		}
+		if (!reader.getLocalName().equalsIgnoreCase(entryName)) {
+			throw getInvalidFormatDebugException();
+		}
+		return true;
+	}
+
+	/**
+	 * Advances the reader to the end of the current element, ignoring any
+	 * content.
+	 */
+	private static void skipElement(XMLStreamReader reader) throws XMLStreamException {
+		int depth = 1;
+		while (depth > 0 && reader.hasNext()) {
+			int event = reader.next();
+			if (event == XMLStreamConstants.START_ELEMENT) {
+				depth++;
+			} else if (event == XMLStreamConstants.END_ELEMENT) {
+				depth--;
+			}
+		}
+	}
+
+	/**
+	 * Returns the value of an attribute of the current element or an empty
+	 * string if not present, like {@link Element#getAttribute(String)}.
+	 */
+	private static String getXMLAttribute(XMLStreamReader reader, String name) {
+		String value = reader.getAttributeValue(null, name);
+		return value == null ? "" : value; //$NON-NLS-1$
+	}
+
 	/**
 	 * Loads a <code>String</code> from the specified element into the local attribute mapping
 	 * @param element the element to load from
@@ -851,7 +1238,14 @@ public class LaunchConfigurationInfo {
 		}
 
 		// Make sure the attributes are the same
-		return compareAttributes(fAttributes, other.getAttributeTable());
+		if (fAttributes.sharesEntriesWith(other.getAttributeTable())) {
+			// unchanged copy
+			return true;
+		}
+		if (isOverridden("compareAttributes")) { //$NON-NLS-1$
+			return compareAttributes(getAttributes(), other.getAttributes());
+		}
+		return compareAttributeMaps(fAttributes, other.getAttributeTable());
 	}
 
 	/**
@@ -863,6 +1257,14 @@ public class LaunchConfigurationInfo {
 	 * @return whether the two attribute maps are equal
 	 */
 	protected boolean compareAttributes(TreeMap<String, Object> map1, TreeMap<String, Object> map2) {
+		return compareAttributeMaps(map1, map2);
+	}
+
+	/**
+	 * Returns whether the two attribute maps are equal, consulting registered
+	 * comparator extensions.
+	 */
+	private static boolean compareAttributeMaps(Map<String, Object> map1, Map<String, Object> map2) {
 		if (map1.size() == map2.size()) {
 			Iterator<String> attributes = map1.keySet().iterator();
 			while (attributes.hasNext()) {
@@ -206,7 +206,7 @@ public class LaunchConfigurationWorkingCopy extends LaunchConfiguration implemen
 				wc.rename(getName());
 				wc.setContainer(getContainer());
 			}
-			wc.setAttributes(getInfo().getAttributes());
+			wc.setAttributes(getInfo().getAttributesCopy());
 			updateMonitor(lmonitor, 1);
 			return wc;
 		}
@@ -22,6 +22,7 @@ package org.eclipse.debug.internal.core;
 
 import java.io.BufferedInputStream;
 import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.FileInputStream;
@@ -40,17 +41,27 @@ import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
-import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Properties;
 import java.util.Set;
 import java.util.StringTokenizer;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
 
 import javax.xml.parsers.DocumentBuilder;
 import javax.xml.parsers.DocumentBuilderFactory;
 import javax.xml.parsers.ParserConfigurationException;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
 import javax.xml.transform.OutputKeys;
 import javax.xml.transform.Transformer;
 import javax.xml.transform.TransformerException;
@@ -113,9 +124,7 @@ import org.w3c.dom.Document;
 import org.w3c.dom.Element;
 import org.w3c.dom.Node;
 import org.w3c.dom.NodeList;
-import org.xml.sax.InputSource;
 import org.xml.sax.SAXException;
-import org.xml.sax.helpers.DefaultHandler;
 
 /**
  * Manages launch configurations, launch configuration types, and registered launches.
@@ -177,7 +186,7 @@ public class LaunchManager extends PlatformObject implements ILaunchManager, IRe
 	/**
 	 * Step filter manager
 	 */
-	private StepFilterManager fStepFilterManager = null;
+	private volatile StepFilterManager fStepFilterManager = null;
 
 	/**
 	 * Notifies a launch config listener in a safe runnable to handle
@@ -503,8 +512,8 @@ public class LaunchManager extends PlatformObject implements ILaunchManager, IRe
 	 * The collection of native environment variables on the user's system. Cached
 	 * after being computed once as the environment cannot change.
 	 */
-	private static HashMap<String, String> fgNativeEnv = null;
-	private static HashMap<String, String> fgNativeEnvCasePreserved = null;
+	private static volatile Map<String, String> fgNativeEnv = null;
+	private static volatile Map<String, String> fgNativeEnvCasePreserved = null;
 
 	/**
 	 * Path to the local directory where local launch configurations
@@ -564,15 +573,22 @@ public class LaunchManager extends PlatformObject implements ILaunchManager, IRe
 
 	/**
 	 * Collection of defined launch configuration type
-	 * extensions.
+	 * extensions. Unmodifiable, published once initialized.
 	 */
-	private List<ILaunchConfigurationType> fLaunchConfigurationTypes = null;
+	private volatile List<ILaunchConfigurationType> fLaunchConfigurationTypes = null;
+
+	/**
+	 * Defined launch configuration types keyed by identifier, published
+	 * together with {@link #fLaunchConfigurationTypes}.
+	 */
+	private volatile Map<String, ILaunchConfigurationType> fLaunchConfigurationTypesById = null;
 
 	/**
 	 * Launch configuration cache. Keys are <code>LaunchConfiguration</code>,
-	 * values are <code>LaunchConfigurationInfo</code>.
+	 * values are <code>LaunchConfigurationInfo</code>. Infos are loaded
+	 * concurrently while discovering launch configurations.
 	 */
-	private Map<ILaunchConfiguration, LaunchConfigurationInfo> fLaunchConfigurations = new HashMap<>(10);
+	private Map<ILaunchConfiguration, LaunchConfigurationInfo> fLaunchConfigurations = new ConcurrentHashMap<>(10);
 
 	/**
 	 * A cache of launch configuration names currently in the workspace.
@@ -580,34 +596,91 @@ public class LaunchManager extends PlatformObject implements ILaunchManager, IRe
 	private volatile String[] fSortedConfigNames = null;
 
 	/**
-	 * Collection of all launch configurations in the workspace.
-	 * <code>List</code> of <code>ILaunchConfiguration</code>.
+	 * Collection of all launch configurations in the workspace, indexed by
+	 * type, kind and project. The immutable index is replaced on every
+	 * change, so readers never block. <code>null</code> if not built yet.
+	 */
+	private volatile LaunchConfigurationIndex fLaunchConfigurationIndex = null;
+
+	/**
+	 * Lock serializing building and updating the collection of all launch
+	 * configurations. It is never acquired while holding the monitor of the
+	 * launch manager since building the collection loads configurations on
+	 * other threads which may need that monitor.
+	 */
+	private final Object fLaunchConfigurationIndexLock = new Object();
+
+	/**
+	 * Prototypes verified so far while the collection of all launch
+	 * configurations is being built. Returned to queries from the building
+	 * threads, e.g. when a configuration being loaded looks up its prototype.
+	 */
+	private volatile LaunchConfigurationIndex fPartialLaunchConfigurationIndex = LaunchConfigurationIndex.EMPTY;
+
+	/**
+	 * Pool discovering and verifying launch configurations, created lazily.
+	 */
+	private static ForkJoinPool fgDiscoveryPool = null;
+
+	/**
+	 * Number of configurations verified by a single task.
+	 */
+	private static final int VERIFY_BATCH_SIZE = 8;
+
+	/**
+	 * Persistent index of launch configuration files, created lazily.
 	 */
-	private List<ILaunchConfiguration> fLaunchConfigurationIndex = null;
+	private volatile LaunchConfigurationIndexStore fIndexStore = null;
+
+	/**
+	 * Optional binary cache of launch configuration files, created lazily.
+	 */
+	private volatile LaunchConfigurationBinaryCache fBinaryCache = null;
+
+	/**
+	 * Factory of the streaming parser for launch configuration files, created
+	 * lazily.
+	 */
+	private static XMLInputFactory fgXMLInputFactory = null;
+
+	/**
+	 * Reverse index from resource paths to the configurations mapping them,
+	 * created lazily.
+	 */
+	private final AtomicReference<MappedResourceIndex> fMappedResourceIndex = new AtomicReference<>();
+
+	/**
+	 * Incremented before the mapped resource index is updated or discarded. An
+	 * index is only published if no update was missed while it was built.
+	 */
+	private final AtomicLong fMappedResourceIndexModCount = new AtomicLong();
 
 	/**
 	 * Launch configuration comparator extensions,
-	 * keyed by attribute name.
+	 * keyed by attribute name. Unmodifiable, published once initialized.
 	 */
-	private Map<String, LaunchConfigurationComparator> fComparators = null;
+	private volatile Map<String, LaunchConfigurationComparator> fComparators = null;
 
 	/**
 	 * Registered launch modes, or <code>null</code> if not initialized.
 	 * Keys are mode identifiers, values are <code>ILaunchMode</code>s.
+	 * Unmodifiable, published once initialized.
 	 */
-	private Map<String, ILaunchMode> fLaunchModes = null;
+	private volatile Map<String, ILaunchMode> fLaunchModes = null;
 
 	/**
-	 * A map of LaunchDelegate objects stored by id of delegate, or launch config type
+	 * A map of LaunchDelegate objects stored by id of delegate, or launch config type.
+	 * Unmodifiable, published once initialized.
 	 */
-	private HashMap<String, LaunchDelegate> fLaunchDelegates = null;
+	private volatile Map<String, LaunchDelegate> fLaunchDelegates = null;
 
 	/**
-	 * Initial startup cache of preferred delegate so that the debug preferences are only parsed once
+	 * Initial startup cache of preferred delegate so that the debug preferences are only parsed once.
+	 * Unmodifiable, published once initialized.
 	 *
 	 * @since 3.3
 	 */
-	private Set<PreferredDelegate> fPreferredDelegates = null;
+	private volatile Set<PreferredDelegate> fPreferredDelegates = null;
 
 	/**
 	 * Collection of launches
@@ -649,7 +722,7 @@ public class LaunchManager extends PlatformObject implements ILaunchManager, IRe
 	/**
 	 * Whether this manager is listening for resource change events
 	 */
-	private boolean fListening = false;
+	private volatile boolean fListening = false;
 
 	/**
 	 * Launch configuration listeners
@@ -659,9 +732,9 @@ public class LaunchManager extends PlatformObject implements ILaunchManager, IRe
 	/**
 	 * Table of source locator extensions. Keys
 	 * are identifiers, and values are associated
-	 * configuration elements.
+	 * configuration elements. Unmodifiable, published once initialized.
 	 */
-	private Map<String, IConfigurationElement> fSourceLocators = null;
+	private volatile Map<String, IConfigurationElement> fSourceLocators = null;
 
 	/**
 	 * The handles of launch configurations being moved, or <code>null</code>
@@ -672,20 +745,22 @@ public class LaunchManager extends PlatformObject implements ILaunchManager, IRe
 
 	/**
 	 * Map of source container type extensions. Keys are extension ids
-	 * and values are associated configuration elements.
+	 * and values are associated configuration elements. Unmodifiable,
+	 * published after {@link #sourcePathComputers}.
 	 */
-	private Map<String, ISourceContainerType> sourceContainerTypes;
+	private volatile Map<String, ISourceContainerType> sourceContainerTypes;
 
 	/**
 	 * Map of source path computer extensions. Keys are extension ids
-	 * and values are associated configuration elements.
+	 * and values are associated configuration elements. Unmodifiable.
 	 */
-	private Map<String, ISourcePathComputer> sourcePathComputers;
+	private volatile Map<String, ISourcePathComputer> sourcePathComputers;
 
 	/**
 	 * TODO, we can probably remove this too
+	 * Unmodifiable, published once computed.
 	 */
-	private Set<String> fActiveModes;
+	private volatile Set<String> fActiveModes;
 
 	@Override
 	public void addLaunch(ILaunch launch) {
@@ -854,12 +929,19 @@ public class LaunchManager extends PlatformObject implements ILaunchManager, IRe
 	 * Clears all launch configurations (if any have been accessed)
 	 */
 	private void clearAllLaunchConfigurations() {
-		if (fLaunchConfigurationTypes != null) {
-			fLaunchConfigurationTypes.clear();
+		synchronized (this) {
+			if (fLaunchConfigurationTypes != null) {
+				fLaunchConfigurationTypesById = Collections.emptyMap();
+				fLaunchConfigurationTypes = Collections.emptyList();
+			}
 		}
-		if (fLaunchConfigurationIndex != null) {
-			fLaunchConfigurationIndex.clear();
+		synchronized (fLaunchConfigurationIndexLock) {
+			if (fLaunchConfigurationIndex != null) {
+				fLaunchConfigurationIndex = LaunchConfigurationIndex.EMPTY;
+			}
 		}
+		fMappedResourceIndexModCount.incrementAndGet();
+		fMappedResourceIndex.set(null);
 	}
 
 	@Override
@@ -947,13 +1029,40 @@ public class LaunchManager extends PlatformObject implements ILaunchManager, IRe
 	 * @since 3.12
 	 */
 	protected LaunchConfigurationInfo createInfoFromXML(InputStream stream, boolean isPrototype) throws CoreException, ParserConfigurationException, IOException, SAXException {
-		Element root = null;
-		DocumentBuilder parser = DocumentBuilderFactory.newInstance().newDocumentBuilder();
-		parser.setErrorHandler(new DefaultHandler());
-		root = parser.parse(new InputSource(stream)).getDocumentElement();
-		LaunchConfigurationInfo info = new LaunchConfigurationInfo();
-		info.initializeFromXML(root, isPrototype);
-		return info;
+		XMLStreamReader reader = null;
+		try {
+			reader = getXMLInputFactory().createXMLStreamReader(stream);
+			LaunchConfigurationInfo info = new LaunchConfigurationInfo();
+			info.initializeFromXML(reader, isPrototype);
+			return info;
+		} catch (XMLStreamException e) {
+			throw new SAXException(e.getMessage(), e);
+		} finally {
+			if (reader != null) {
+				try {
+					reader.close();
+				} catch (XMLStreamException e) {
+					// the caller closes the stream
+				}
+			}
+		}
+	}
+
+	/**
+	 * Returns the factory of the streaming parser for launch configuration
+	 * files. Namespaces and external entities are not supported.
+	 *
+	 * @return the parser factory
+	 */
+	private static synchronized XMLInputFactory getXMLInputFactory() {
+		if (fgXMLInputFactory == null) {
+			XMLInputFactory factory = XMLInputFactory.newDefaultFactory();
+			factory.setProperty(XMLInputFactory.IS_NAMESPACE_AWARE, Boolean.FALSE);
+			factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, Boolean.FALSE);
+			factory.setProperty(XMLInputFactory.SUPPORT_DTD, Boolean.FALSE);
+			fgXMLInputFactory = factory;
+		}
+		return fgXMLInputFactory;
 	}
 
 	/**
@@ -1137,19 +1246,200 @@ public class LaunchManager extends PlatformObject implements ILaunchManager, IRe
 	 *
 	 * @return all launch configuration handles
 	 */
-	public synchronized List<ILaunchConfiguration> getAllLaunchConfigurations() {
-		if (fLaunchConfigurationIndex == null) {
-			try {
-				fLaunchConfigurationIndex = new ArrayList<>(20);
-				List<ILaunchConfiguration> configs = findLocalLaunchConfigurations();
-				verifyConfigurations(configs, fLaunchConfigurationIndex);
-				configs = findLaunchConfigurations(ResourcesPlugin.getWorkspace().getRoot());
-				verifyConfigurations(configs, fLaunchConfigurationIndex);
-			} finally {
+	public List<ILaunchConfiguration> getAllLaunchConfigurations() {
+		return getLaunchConfigurationIndex().getAll();
+	}
+
+	/**
+	 * Returns the index of all launch configuration handles in the workspace
+	 * by type, kind and project. The index is built lazily.
+	 *
+	 * @return the current index of all launch configurations
+	 */
+	private LaunchConfigurationIndex getLaunchConfigurationIndex() {
+		LaunchConfigurationIndex index = fLaunchConfigurationIndex;
+		if (index != null) {
+			return index;
+		}
+		if (isDiscoveryThread()) {
+			return fPartialLaunchConfigurationIndex;
+		}
+		boolean built = false;
+		try {
+			synchronized (fLaunchConfigurationIndexLock) {
+				index = fLaunchConfigurationIndex;
+				if (index == null) {
+					built = true;
+					try {
+						index = discoverLaunchConfigurations();
+						fLaunchConfigurationIndex = index;
+					} finally {
+						fPartialLaunchConfigurationIndex = LaunchConfigurationIndex.EMPTY;
+					}
+					// forget configurations deleted while the workspace was closed
+					getIndexStore().retain(index.getAll());
+				}
+			}
+		} finally {
+			if (built) {
 				hookResourceChangeListener();
 			}
 		}
-		return fLaunchConfigurationIndex;
+		return index;
+	}
+
+	/**
+	 * Finds and verifies all local and shared launch configurations. Local
+	 * configurations and the configurations of each project are discovered
+	 * concurrently, then prototypes and configurations are verified
+	 * concurrently.
+	 *
+	 * @return index of all valid launch configurations, local configurations
+	 *         first
+	 */
+	private LaunchConfigurationIndex discoverLaunchConfigurations() {
+		// load extensions once instead of on every worker
+		getLaunchConfigurationTypes();
+		getIndexStore();
+		ForkJoinPool pool = getDiscoveryPool();
+		List<ForkJoinTask<List<ILaunchConfiguration>>> tasks = new ArrayList<>();
+		tasks.add(pool.submit(ForkJoinTask.adapt(this::findLocalLaunchConfigurations)));
+		for (IProject project : ResourcesPlugin.getWorkspace().getRoot().getProjects()) {
+			tasks.add(pool.submit(ForkJoinTask.adapt(() -> findLaunchConfigurations(project))));
+		}
+		Set<ILaunchConfiguration> found = new LinkedHashSet<>();
+		for (ForkJoinTask<List<ILaunchConfiguration>> task : tasks) {
+			found.addAll(task.join());
+		}
+
+		// verify prototypes first so configurations can find them
+		List<ILaunchConfiguration> prototypes = new ArrayList<>();
+		List<ILaunchConfiguration> configurations = new ArrayList<>(found.size());
+		for (ILaunchConfiguration config : found) {
+			if (config.isPrototype()) {
+				prototypes.add(config);
+			} else {
+				configurations.add(config);
+			}
+		}
+		Map<ILaunchConfiguration, String> valid = verifyConcurrently(prototypes);
+		fPartialLaunchConfigurationIndex = LaunchConfigurationIndex.create(new ArrayList<>(valid.keySet()), valid);
+		valid.putAll(verifyConcurrently(configurations));
+		// keeps the discovery order, skipping invalid configurations
+		return LaunchConfigurationIndex.create(new ArrayList<>(found), valid);
+	}
+
+	/**
+	 * Returns whether the current thread is building the collection of all
+	 * launch configurations.
+	 */
+	private boolean isDiscoveryThread() {
+		return Thread.holdsLock(fLaunchConfigurationIndexLock) || (ForkJoinTask.inForkJoinPool() && ForkJoinTask.getPool() == fgDiscoveryPool);
+	}
+
+	/**
+	 * Returns the pool discovering and verifying launch configurations.
+	 *
+	 * @return the discovery pool
+	 */
+	private static synchronized ForkJoinPool getDiscoveryPool() {
+		if (fgDiscoveryPool == null) {
+			fgDiscoveryPool = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+		}
+		return fgDiscoveryPool;
+	}
+
+	/**
+	 * Verifies the given configurations concurrently, loading their info
+	 * objects on the discovery pool.
+	 *
+	 * @param configs the configurations to verify
+	 * @return the valid configurations in the given order with the
+	 *         identifiers of their types
+	 */
+	private Map<ILaunchConfiguration, String> verifyConcurrently(List<ILaunchConfiguration> configs) {
+		String[] typeIds = new String[configs.size()];
+		if (configs.size() <= VERIFY_BATCH_SIZE) {
+			new VerifyTask(configs, typeIds, 0, configs.size()).compute();
+		} else {
+			getDiscoveryPool().invoke(new VerifyTask(configs, typeIds, 0, configs.size()));
+		}
+		Map<ILaunchConfiguration, String> result = new LinkedHashMap<>(Math.max(16, configs.size() * 4 / 3 + 1));
+		for (int i = 0; i < typeIds.length; i++) {
+			if (typeIds[i] != null) {
+				result.put(configs.get(i), typeIds[i]);
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Verifies a range of configurations, splitting it into batches verified
+	 * in parallel.
+	 */
+	private final class VerifyTask extends RecursiveAction {
+		private static final long serialVersionUID = 1L;
+		private final List<ILaunchConfiguration> fConfigs;
+		private final String[] fTypeIds;
+		private final int fFrom;
+		private final int fTo;
+
+		VerifyTask(List<ILaunchConfiguration> configs, String[] typeIds, int from, int to) {
+			fConfigs = configs;
+			fTypeIds = typeIds;
+			fFrom = from;
+			fTo = to;
+		}
+
+		@Override
+		protected void compute() {
+			if (fTo - fFrom <= VERIFY_BATCH_SIZE) {
+				for (int i = fFrom; i < fTo; i++) {
+					fTypeIds[i] = getValidTypeId(fConfigs.get(i));
+				}
+			} else {
+				int middle = (fFrom + fTo) >>> 1;
+				invokeAll(new VerifyTask(fConfigs, fTypeIds, fFrom, middle), new VerifyTask(fConfigs, fTypeIds, middle, fTo));
+			}
+		}
+	}
+
+	/**
+	 * Adds the given valid configuration to the collection of all launch
+	 * configurations.
+	 *
+	 * @param config the configuration to add
+	 * @param typeId identifier of the type of the configuration, which
+	 *            replaces the indexed type of a known configuration
+	 * @return whether the configuration was added, <code>false</code> if it
+	 *         was known already
+	 */
+	private boolean addToLaunchConfigurationIndex(ILaunchConfiguration config, String typeId) {
+		getLaunchConfigurationIndex();
+		synchronized (fLaunchConfigurationIndexLock) {
+			LaunchConfigurationIndex index = fLaunchConfigurationIndex;
+			if (index == null) {
+				return false;
+			}
+			fLaunchConfigurationIndex = index.with(config, typeId);
+			return !index.contains(config);
+		}
+	}
+
+	/**
+	 * Removes the given configuration from the collection of all launch
+	 * configurations.
+	 *
+	 * @param config the configuration to remove
+	 */
+	private void removeFromLaunchConfigurationIndex(ILaunchConfiguration config) {
+		getLaunchConfigurationIndex();
+		synchronized (fLaunchConfigurationIndexLock) {
+			LaunchConfigurationIndex index = fLaunchConfigurationIndex;
+			if (index != null) {
+				fLaunchConfigurationIndex = index.without(config);
+			}
+		}
 	}
 
 	/**
@@ -1158,17 +1448,31 @@ public class LaunchManager extends PlatformObject implements ILaunchManager, IRe
 	 * deleted or changed.
 	 * @return the sorted array of {@link ILaunchConfiguration} names
 	 */
-	protected synchronized String[] getAllSortedConfigNames() {
-		if (fSortedConfigNames == null) {
-			List<ILaunchConfiguration> collection = getAllLaunchConfigurations();
-			ILaunchConfiguration[] configs = collection.toArray(new ILaunchConfiguration[collection.size()]);
-			fSortedConfigNames = new String[configs.length];
-			for (int i = 0; i < configs.length; i++) {
-				fSortedConfigNames[i] = configs[i].getName();
+	protected String[] getAllSortedConfigNames() {
+		String[] names = fSortedConfigNames;
+		if (names != null) {
+			return names;
+		}
+		// never build the collection of configurations holding the monitor
+		List<ILaunchConfiguration> collection = getAllLaunchConfigurations();
+		synchronized (this) {
+			names = fSortedConfigNames;
+			if (names == null) {
+				// the cache is cleared under the monitor after the collection
+				// changed, so compute from the current snapshot
+				LaunchConfigurationIndex current = fLaunchConfigurationIndex;
+				if (current != null) {
+					collection = current.getAll();
+				}
+				names = new String[collection.size()];
+				for (int i = 0; i < names.length; i++) {
+					names[i] = collection.get(i).getName();
+				}
+				Arrays.sort(names);
+				fSortedConfigNames = names;
 			}
-			Arrays.sort(fSortedConfigNames);
+			return names;
 		}
-		return fSortedConfigNames;
 	}
 
 	/**
@@ -1341,6 +1645,54 @@ public class LaunchManager extends PlatformObject implements ILaunchManager, IRe
 		return strings.toArray(new String[strings.size()]);
 	}
 
+	/**
+	 * Returns the persistent index of launch configuration files.
+	 *
+	 * @return the persistent index
+	 */
+	public LaunchConfigurationIndexStore getIndexStore() {
+		LaunchConfigurationIndexStore store = fIndexStore;
+		if (store == null) {
+			synchronized (this) {
+				store = fIndexStore;
+				if (store == null) {
+					store = new LaunchConfigurationIndexStore(DebugPlugin.getDefault().getStateLocation().append(LaunchConfigurationIndexStore.FILE_NAME).toFile());
+					fIndexStore = store;
+				}
+			}
+		}
+		return store;
+	}
+
+	/**
+	 * Returns the binary cache of launch configuration files.
+	 *
+	 * @return the binary cache
+	 */
+	public LaunchConfigurationBinaryCache getBinaryCache() {
+		LaunchConfigurationBinaryCache cache = fBinaryCache;
+		if (cache == null) {
+			synchronized (this) {
+				cache = fBinaryCache;
+				if (cache == null) {
+					cache = new LaunchConfigurationBinaryCache(DebugPlugin.getDefault().getStateLocation().append(LaunchConfigurationBinaryCache.DIRECTORY_NAME).toFile());
+					fBinaryCache = cache;
+				}
+			}
+		}
+		return cache;
+	}
+
+	/**
+	 * Saves the persistent index of launch configuration files if it changed.
+	 */
+	public void persistLaunchConfigurationIndex() {
+		LaunchConfigurationIndexStore store = fIndexStore;
+		if (store != null) {
+			store.save();
+		}
+	}
+
 	/**
 	 * Returns the info object for the specified launch configuration.
 	 * If the configuration exists, but is not yet in the cache,
@@ -1360,11 +1712,25 @@ public class LaunchManager extends PlatformObject implements ILaunchManager, IRe
 			if (config.exists()) {
 				BufferedInputStream stream = null;
 				try {
-					stream = new BufferedInputStream(store.openInputStream(EFS.NONE, null));
-					info = createInfoFromXML(stream, isPrototype(store));
-					synchronized (this) {
-						fLaunchConfigurations.put(config, info);
+					long stamp = LaunchConfigurationIndexStore.getStamp(config);
+					LaunchConfigurationBinaryCache cache = LaunchConfigurationBinaryCache.isEnabled() ? getBinaryCache() : null;
+					if (cache != null) {
+						// the cache is validated against the content, read the file only once
+						byte[] content;
+						try (InputStream in = store.openInputStream(EFS.NONE, null)) {
+							content = in.readAllBytes();
+						}
+						info = cache.read(config, stamp, content);
+						if (info == null) {
+							info = createInfoFromXML(new ByteArrayInputStream(content), isPrototype(store));
+							cache.write(config, stamp, content, info);
+						}
+					} else {
+						stream = new BufferedInputStream(store.openInputStream(EFS.NONE, null));
+						info = createInfoFromXML(stream, isPrototype(store));
 					}
+					fLaunchConfigurations.put(config, info);
+					getIndexStore().update(config, stamp, info);
 				} catch (FileNotFoundException e) {
 					throwException(config, e);
 				} catch (SAXException e) {
@@ -1438,46 +1804,27 @@ public class LaunchManager extends PlatformObject implements ILaunchManager, IRe
 	}
 
 	@Override
-	public synchronized ILaunchConfiguration[] getLaunchConfigurations() {
+	public ILaunchConfiguration[] getLaunchConfigurations() {
 		return getLaunchConfigurations(ILaunchConfiguration.CONFIGURATION);
 	}
 
 	@Override
 	public ILaunchConfiguration[] getLaunchConfigurations(int kinds) {
-		List<ILaunchConfiguration> allConfigs = getAllLaunchConfigurations();
-		if (((kinds & ILaunchConfiguration.CONFIGURATION) > 0) && ((kinds & ILaunchConfiguration.PROTOTYPE) > 0)) {
-			// all kinds
-			return allConfigs.toArray(new ILaunchConfiguration[allConfigs.size()]);
-		} else {
-			List<ILaunchConfiguration> select = new ArrayList<>(allConfigs.size());
-			Iterator<ILaunchConfiguration> iterator = allConfigs.iterator();
-			while (iterator.hasNext()) {
-				ILaunchConfiguration config = iterator.next();
-				try {
-					if ((config.getKind() & kinds) > 0) {
-						select.add(config);
-					}
-				} catch (CoreException e) {
-					DebugPlugin.log(e);
-				}
-			}
-			return select.toArray(new ILaunchConfiguration[select.size()]);
-		}
+		List<ILaunchConfiguration> configs = getLaunchConfigurationIndex().getLaunchConfigurations(kinds);
+		return configs.toArray(new ILaunchConfiguration[configs.size()]);
 	}
 
 	@Override
-	public synchronized ILaunchConfiguration[] getLaunchConfigurations(ILaunchConfigurationType type) throws CoreException {
+	public ILaunchConfiguration[] getLaunchConfigurations(ILaunchConfigurationType type) throws CoreException {
 		return getLaunchConfigurations(type, ILaunchConfiguration.CONFIGURATION);
 	}
 
 	@Override
-	public synchronized ILaunchConfiguration[] getLaunchConfigurations(ILaunchConfigurationType type, int kinds) throws CoreException {
-		List<ILaunchConfiguration> configs = new ArrayList<>();
-		for (ILaunchConfiguration config : getAllLaunchConfigurations()) {
-			if (config.getType().equals(type) && ((config.getKind() & kinds) > 0)) {
-				configs.add(config);
-			}
+	public ILaunchConfiguration[] getLaunchConfigurations(ILaunchConfigurationType type, int kinds) throws CoreException {
+		if (type == null) {
+			return new ILaunchConfiguration[0];
 		}
+		List<ILaunchConfiguration> configs = getLaunchConfigurationIndex().getLaunchConfigurations(type.getIdentifier(), kinds);
 		return configs.toArray(new ILaunchConfiguration[configs.size()]);
 	}
 
@@ -1489,31 +1836,21 @@ public class LaunchManager extends PlatformObject implements ILaunchManager, IRe
 	 * @return collection of launch configurations that are stored as resources
 	 *  in the given project
 	 */
-	protected synchronized List<ILaunchConfiguration> getLaunchConfigurations(IProject project) {
-		List<ILaunchConfiguration> configs = new ArrayList<>();
-		for (ILaunchConfiguration config : getAllLaunchConfigurations()) {
-			IFile file = config.getFile();
-			if (file != null && file.getProject().equals(project)) {
-				configs.add(config);
-			}
-		}
-		return configs;
+	protected List<ILaunchConfiguration> getLaunchConfigurations(IProject project) {
+		return new ArrayList<>(getLaunchConfigurationIndex().getLaunchConfigurations(project));
 	}
 
 	@Override
 	public ILaunchConfigurationType getLaunchConfigurationType(String id) {
-		for (ILaunchConfigurationType type : getLaunchConfigurationTypes()) {
-			if (type.getIdentifier().equals(id)) {
-				return type;
-			}
-		}
-		return null;
+		initializeLaunchConfigurationTypes();
+		return fLaunchConfigurationTypesById.get(id);
 	}
 
 	@Override
 	public ILaunchConfigurationType[] getLaunchConfigurationTypes() {
 		initializeLaunchConfigurationTypes();
-		return fLaunchConfigurationTypes.toArray(new ILaunchConfigurationType[fLaunchConfigurationTypes.size()]);
+		List<ILaunchConfigurationType> types = fLaunchConfigurationTypes;
+		return types.toArray(new ILaunchConfigurationType[types.size()]);
 	}
 
 	@Override
@@ -1595,15 +1932,21 @@ public class LaunchManager extends PlatformObject implements ILaunchManager, IRe
 	 *
 	 * @since 3.3
 	 */
-	private synchronized void initializeLaunchDelegates() {
-		if(fLaunchDelegates == null) {
-			fLaunchDelegates = new HashMap<>();
+	private void initializeLaunchDelegates() {
+		if (fLaunchDelegates != null) {
+			return;
+		}
+		synchronized (this) {
+			if (fLaunchDelegates != null) {
+				return;
+			}
+			Map<String, LaunchDelegate> delegates = new HashMap<>();
 			//get all launch delegate contributions
 			IExtensionPoint extensionPoint = Platform.getExtensionRegistry().getExtensionPoint(DebugPlugin.getUniqueIdentifier(), DebugPlugin.EXTENSION_POINT_LAUNCH_DELEGATES);
 			LaunchDelegate delegate = null;
 			for (IConfigurationElement info : extensionPoint.getConfigurationElements()) {
 				delegate = new LaunchDelegate(info);
-				fLaunchDelegates.put(delegate.getId(), delegate);
+				delegates.put(delegate.getId(), delegate);
 			}
 			//get all delegates from launch configuration type contributions
 			extensionPoint = Platform.getExtensionRegistry().getExtensionPoint(DebugPlugin.getUniqueIdentifier(), DebugPlugin.EXTENSION_POINT_LAUNCH_CONFIGURATION_TYPES);
@@ -1611,9 +1954,10 @@ public class LaunchManager extends PlatformObject implements ILaunchManager, IRe
 				//must check to see if delegate is provided in contribution
 				if(info.getAttribute(IConfigurationElementConstants.DELEGATE) != null) {
 					delegate = new LaunchDelegate(info);
-					fLaunchDelegates.put(delegate.getId(), delegate);
+					delegates.put(delegate.getId(), delegate);
 				}
 			}
+			fLaunchDelegates = Collections.unmodifiableMap(delegates);
 		}
 	}
 
@@ -1625,11 +1969,19 @@ public class LaunchManager extends PlatformObject implements ILaunchManager, IRe
 	 * <p>
 	 * This cache is not synchronized with the runtime preferred delegates stored in launch configuration types.
 	 * </p>
+	 * @return the unmodifiable set of preferred delegates
 	 * @since 3.3
 	 */
-	private synchronized void initializePreferredDelegates() {
-		if(fPreferredDelegates == null) {
-			fPreferredDelegates = new HashSet<>();
+	private Set<PreferredDelegate> initializePreferredDelegates() {
+		Set<PreferredDelegate> current = fPreferredDelegates;
+		if (current != null) {
+			return current;
+		}
+		synchronized (this) {
+			if (fPreferredDelegates != null) {
+				return fPreferredDelegates;
+			}
+			Set<PreferredDelegate> preferredDelegates = new HashSet<>();
 			String preferred = Platform.getPreferencesService().getString(DebugPlugin.getUniqueIdentifier(), LaunchManager.PREF_PREFERRED_DELEGATES, IInternalDebugCoreConstants.EMPTY_STRING, null);
 			if(!IInternalDebugCoreConstants.EMPTY_STRING.equals(preferred)) {
 				try {
@@ -1648,13 +2000,16 @@ public class LaunchManager extends PlatformObject implements ILaunchManager, IRe
 						if (delegate != null) {
 							//take type id, modeset, delegate and create entry
 							if(!IInternalDebugCoreConstants.EMPTY_STRING.equals(typeid) && modeset != null) {
-								fPreferredDelegates.add(new PreferredDelegate(delegate, typeid, modeset));
+								preferredDelegates.add(new PreferredDelegate(delegate, typeid, modeset));
 							}
 						}
 					}
 				}
 				catch (CoreException e) {DebugPlugin.log(e);}
 			}
+			current = Collections.unmodifiableSet(preferredDelegates);
+			fPreferredDelegates = current;
+			return current;
 		}
 	}
 
@@ -1679,8 +2034,7 @@ public class LaunchManager extends PlatformObject implements ILaunchManager, IRe
 	protected ILaunchDelegate getPreferredDelegate(String typeid, Set<String> modes) {
 		// Retrieve preferred delegates using legacy mechanism for backward
 		// compatibility.
-		initializePreferredDelegates();
-		for (PreferredDelegate pd : fPreferredDelegates) {
+		for (PreferredDelegate pd : initializePreferredDelegates()) {
 			if (pd.getModes().equals(modes) && pd.getTypeId().equals(typeid)) {
 				return pd.getDelegate();
 			}
@@ -1738,14 +2092,8 @@ public class LaunchManager extends PlatformObject implements ILaunchManager, IRe
 	 *
 	 * @return collection of launch configurations stored locally
 	 */
-	protected synchronized List<ILaunchConfiguration> getLocalLaunchConfigurations() {
-		List<ILaunchConfiguration> configs = new ArrayList<>();
-		for (ILaunchConfiguration config : getAllLaunchConfigurations()) {
-			if (config.isLocal()) {
-				configs.add(config);
-			}
-		}
-		return configs;
+	protected List<ILaunchConfiguration> getLocalLaunchConfigurations() {
+		return new ArrayList<>(getLaunchConfigurationIndex().getLocalLaunchConfigurations());
 	}
 
 	/**
@@ -1755,28 +2103,100 @@ public class LaunchManager extends PlatformObject implements ILaunchManager, IRe
 	 * @since 3.2
 	 */
 	public ILaunchConfiguration[] getMappedConfigurations(IResource resource) {
-		List<ILaunchConfiguration> configurations = new ArrayList<>();
+		// files anywhere in a project map to the project as well
+		int descendantTypes = resource.getType() == IResource.PROJECT ? IResource.FILE : 0;
+		Set<ILaunchConfiguration> configurations = getMappedResourceIndex().getConfigurations(resource.getFullPath(), resource.getType(), descendantTypes);
+		return configurations.toArray(new ILaunchConfiguration[configurations.size()]);
+	}
+
+	/**
+	 * Returns the reverse index from resource paths to the configurations
+	 * mapping them, building it if required.
+	 *
+	 * @return the mapped resource index
+	 */
+	protected MappedResourceIndex getMappedResourceIndex() {
+		MappedResourceIndex index = fMappedResourceIndex.get();
+		if (index != null) {
+			return index;
+		}
+		// collecting the mapped resources may read configuration files, never
+		// hold a lock while building the index
+		long modCount = fMappedResourceIndexModCount.get();
+		index = new MappedResourceIndex();
 		for (ILaunchConfiguration config : getAllLaunchConfigurations()) {
-			try {
+			indexMappedResources(index, config);
+		}
+		if (modCount == fMappedResourceIndexModCount.get() && fMappedResourceIndex.compareAndSet(null, index)) {
+			if (modCount != fMappedResourceIndexModCount.get()) {
+				// an update raced with publishing and may not have seen the index
+				fMappedResourceIndex.compareAndSet(index, null);
+			}
+			return index;
+		}
+		// another thread published an index or the configurations changed, in
+		// which case this index serves the current request only
+		MappedResourceIndex current = fMappedResourceIndex.get();
+		return current != null ? current : index;
+	}
+
+	/**
+	 * Updates the mapped resources of the given configuration in the mapped
+	 * resource index if the index was built already.
+	 *
+	 * @param config the added, changed or removed configuration
+	 * @param removed whether the configuration was removed
+	 */
+	private void updateMappedResourceIndex(ILaunchConfiguration config, boolean removed) {
+		fMappedResourceIndexModCount.incrementAndGet();
+		MappedResourceIndex index = fMappedResourceIndex.get();
+		if (index != null) {
+			if (removed) {
+				index.remove(config);
+			} else {
+				indexMappedResources(index, config);
+			}
+		}
+	}
+
+	/**
+	 * Adds the mapped resources of the given configuration to the given index.
+	 * The mapping is taken from the persistent index if the configuration file
+	 * did not change since it was indexed.
+	 *
+	 * @param index the index to update
+	 * @param config the configuration to index
+	 */
+	private void indexMappedResources(MappedResourceIndex index, ILaunchConfiguration config) {
+		List<IPath> paths = new ArrayList<>();
+		List<Integer> types = new ArrayList<>();
+		LaunchConfigurationIndexStore.Entry entry = null;
+		if (config instanceof LaunchConfiguration && !config.isWorkingCopy()) {
+			entry = getIndexStore().get((LaunchConfiguration) config);
+		}
+		try {
+			if (entry != null) {
+				List<String> mappedPaths = entry.getMappedResourcePaths();
+				List<String> mappedTypes = entry.getMappedResourceTypes();
+				for (int i = 0; i < mappedPaths.size(); i++) {
+					paths.add(Path.fromPortableString(mappedPaths.get(i)));
+					types.add(Integer.decode(mappedTypes.get(i)));
+				}
+			} else {
 				IResource[] resources = config.getMappedResources();
-				if(resources != null) {
-					for (IResource res : resources) {
-						if(res.equals(resource)) {
-							configurations.add(config);
-							break;
-						} else if (resource.getType() == IResource.PROJECT && res.getType() == IResource.FILE){
-							if (res.getProject().equals(resource)) {
-								configurations.add(config);
-								break;
-							}
-						}
+				if (resources != null) {
+					for (IResource resource : resources) {
+						paths.add(resource.getFullPath());
+						types.add(Integer.valueOf(resource.getType()));
 					}
 				}
-			} catch (CoreException ce) {
-				DebugPlugin.log(ce);
 			}
+		} catch (CoreException | NumberFormatException e) {
+			DebugPlugin.log(e);
+			paths.clear();
+			types.clear();
 		}
-		return configurations.toArray(new ILaunchConfiguration[configurations.size()]);
+		index.put(config, paths, types);
 	}
 
 	@Override
@@ -1807,28 +2227,42 @@ public class LaunchManager extends PlatformObject implements ILaunchManager, IRe
 	}
 
 	@Override
-	public synchronized Map<String, String> getNativeEnvironment() {
-		if (fgNativeEnv == null) {
-			Map<String, String> casePreserved = getNativeEnvironmentCasePreserved();
-			if (Platform.getOS().equals(Constants.OS_WIN32)) {
-				fgNativeEnv = new HashMap<>();
-				for (Entry<String, String> entry : casePreserved.entrySet()) {
-					fgNativeEnv.put(entry.getKey().toUpperCase(), entry.getValue());
+	public Map<String, String> getNativeEnvironment() {
+		Map<String, String> env = fgNativeEnv;
+		if (env == null) {
+			synchronized (this) {
+				env = fgNativeEnv;
+				if (env == null) {
+					Map<String, String> casePreserved = getNativeEnvironmentCasePreserved();
+					if (Platform.getOS().equals(Constants.OS_WIN32)) {
+						env = new HashMap<>();
+						for (Entry<String, String> entry : casePreserved.entrySet()) {
+							env.put(entry.getKey().toUpperCase(), entry.getValue());
+						}
+					} else {
+						env = casePreserved;
+					}
+					fgNativeEnv = env;
 				}
-			} else {
-				fgNativeEnv = new HashMap<>(casePreserved);
 			}
 		}
-		return new HashMap<>(fgNativeEnv);
+		return new HashMap<>(env);
 	}
 
 	@Override
-	public synchronized Map<String, String> getNativeEnvironmentCasePreserved() {
-		if (fgNativeEnvCasePreserved == null) {
-			fgNativeEnvCasePreserved = new HashMap<>();
-			cacheNativeEnvironment(fgNativeEnvCasePreserved);
+	public Map<String, String> getNativeEnvironmentCasePreserved() {
+		Map<String, String> env = fgNativeEnvCasePreserved;
+		if (env == null) {
+			synchronized (this) {
+				env = fgNativeEnvCasePreserved;
+				if (env == null) {
+					env = new HashMap<>();
+					cacheNativeEnvironment(env);
+					fgNativeEnvCasePreserved = env;
+				}
+			}
 		}
-		return new HashMap<>(fgNativeEnvCasePreserved);
+		return new HashMap<>(env);
 	}
 
 	@Override
@@ -1878,28 +2312,39 @@ public class LaunchManager extends PlatformObject implements ILaunchManager, IRe
 	/**
 	 * Starts listening for resource change events
 	 */
-	private synchronized void hookResourceChangeListener() {
-		if (!fListening) {
-			ResourcesPlugin.getWorkspace().addResourceChangeListener(this, IResourceChangeEvent.POST_CHANGE | IResourceChangeEvent.PRE_DELETE);
-			fListening = true;
+	private void hookResourceChangeListener() {
+		if (fListening) {
+			return;
+		}
+		synchronized (this) {
+			if (!fListening) {
+				ResourcesPlugin.getWorkspace().addResourceChangeListener(this, IResourceChangeEvent.POST_CHANGE | IResourceChangeEvent.PRE_DELETE);
+				fListening = true;
+			}
 		}
 	}
 
 	/**
 	 * Load comparator extensions.
 	 */
-	private synchronized void initializeComparators() {
-		if (fComparators == null) {
+	private void initializeComparators() {
+		if (fComparators != null) {
+			return;
+		}
+		synchronized (this) {
+			if (fComparators != null) {
+				return;
+			}
 			IExtensionPoint extensionPoint= Platform.getExtensionRegistry().getExtensionPoint(DebugPlugin.getUniqueIdentifier(), DebugPlugin.EXTENSION_POINT_LAUNCH_CONFIGURATION_COMPARATORS);
 			IConfigurationElement[] infos= extensionPoint.getConfigurationElements();
-			fComparators = new HashMap<>(infos.length);
+			Map<String, LaunchConfigurationComparator> comparators = new HashMap<>(infos.length);
 			IConfigurationElement configurationElement = null;
 			String attr = null;
 			for (IConfigurationElement info : infos) {
 				configurationElement = info;
 				attr = configurationElement.getAttribute("attribute"); //$NON-NLS-1$
 				if (attr != null) {
-					fComparators.put(attr, new LaunchConfigurationComparator(configurationElement));
+					comparators.put(attr, new LaunchConfigurationComparator(configurationElement));
 				} else {
 					// invalid status handler
 					IStatus s = new Status(IStatus.ERROR, DebugPlugin.getUniqueIdentifier(), DebugException.INTERNAL_ERROR,
@@ -1907,82 +2352,117 @@ public class LaunchManager extends PlatformObject implements ILaunchManager, IRe
 					DebugPlugin.log(s);
 				}
 			}
+			fComparators = Collections.unmodifiableMap(comparators);
 		}
 	}
 
 	/**
 	 * Initializes the listing of <code>LaunchConfigurationType</code>s.
 	 */
-	private synchronized void initializeLaunchConfigurationTypes() {
-		if (fLaunchConfigurationTypes == null) {
+	private void initializeLaunchConfigurationTypes() {
+		if (fLaunchConfigurationTypes != null) {
+			return;
+		}
+		synchronized (this) {
+			if (fLaunchConfigurationTypes != null) {
+				return;
+			}
 			hookResourceChangeListener();
 			IExtensionPoint extensionPoint= Platform.getExtensionRegistry().getExtensionPoint(DebugPlugin.getUniqueIdentifier(), DebugPlugin.EXTENSION_POINT_LAUNCH_CONFIGURATION_TYPES);
 			IConfigurationElement[] infos = extensionPoint.getConfigurationElements();
-			fLaunchConfigurationTypes = new ArrayList<>(infos.length);
+			List<ILaunchConfigurationType> types = new ArrayList<>(infos.length);
+			Map<String, ILaunchConfigurationType> typesById = new HashMap<>(Math.max(16, infos.length * 4 / 3 + 1));
 			for (IConfigurationElement info : infos) {
-				fLaunchConfigurationTypes.add(new LaunchConfigurationType(info));
+				ILaunchConfigurationType type = new LaunchConfigurationType(info);
+				types.add(type);
+				// the first type contributed with an identifier wins
+				typesById.putIfAbsent(type.getIdentifier(), type);
 			}
+			fLaunchConfigurationTypesById = Collections.unmodifiableMap(typesById);
+			fLaunchConfigurationTypes = Collections.unmodifiableList(types);
 		}
 	}
 
 	/**
 	 * Load comparator extensions.
 	 */
-	private synchronized void initializeLaunchModes() {
-		if (fLaunchModes == null) {
+	private void initializeLaunchModes() {
+		if (fLaunchModes != null) {
+			return;
+		}
+		synchronized (this) {
+			if (fLaunchModes != null) {
+				return;
+			}
+			Map<String, ILaunchMode> modes = new HashMap<>();
 			try {
 				IExtensionPoint extensionPoint= Platform.getExtensionRegistry().getExtensionPoint(DebugPlugin.getUniqueIdentifier(), DebugPlugin.EXTENSION_POINT_LAUNCH_MODES);
 				IConfigurationElement[] infos= extensionPoint.getConfigurationElements();
-				fLaunchModes = new HashMap<>();
 				ILaunchMode mode = null;
 				for (IConfigurationElement info : infos) {
 					mode = new LaunchMode(info);
-					fLaunchModes.put(mode.getIdentifier(), mode);
+					modes.put(mode.getIdentifier(), mode);
 				}
 			}
 			catch (CoreException e) {DebugPlugin.log(e);}
+			fLaunchModes = Collections.unmodifiableMap(modes);
 		}
 	}
 
 	/**
 	 * Initializes source container type and source path computer extensions.
 	 */
-	private synchronized void initializeSourceContainerTypes() {
-		if (sourceContainerTypes == null) {
+	private void initializeSourceContainerTypes() {
+		if (sourceContainerTypes != null) {
+			return;
+		}
+		synchronized (this) {
+			if (sourceContainerTypes != null) {
+				return;
+			}
 			IExtensionPoint extensionPoint= Platform.getExtensionRegistry().getExtensionPoint(DebugPlugin.getUniqueIdentifier(), DebugPlugin.EXTENSION_POINT_SOURCE_CONTAINER_TYPES);
 			IConfigurationElement[] extensions = extensionPoint.getConfigurationElements();
-			sourceContainerTypes = new HashMap<>();
+			Map<String, ISourceContainerType> containerTypes = new HashMap<>();
 			for (IConfigurationElement extension : extensions) {
-				sourceContainerTypes.put(
+				containerTypes.put(
 						extension.getAttribute(IConfigurationElementConstants.ID),
 						new SourceContainerType(extension));
 			}
 			extensionPoint= Platform.getExtensionRegistry().getExtensionPoint(DebugPlugin.getUniqueIdentifier(), DebugPlugin.EXTENSION_POINT_SOURCE_PATH_COMPUTERS);
 			extensions = extensionPoint.getConfigurationElements();
-			sourcePathComputers = new HashMap<>();
+			Map<String, ISourcePathComputer> computers = new HashMap<>();
 			for (IConfigurationElement extension : extensions) {
-				sourcePathComputers.put(
+				computers.put(
 						extension.getAttribute(IConfigurationElementConstants.ID),
 						new SourcePathComputer(extension));
 			}
+			// container types are checked first, publish them last
+			sourcePathComputers = Collections.unmodifiableMap(computers);
+			sourceContainerTypes = Collections.unmodifiableMap(containerTypes);
 		}
 	}
 
 	/**
 	 * Register source locators.
 	 */
-	private synchronized void initializeSourceLocators() {
-		if (fSourceLocators == null) {
+	private void initializeSourceLocators() {
+		if (fSourceLocators != null) {
+			return;
+		}
+		synchronized (this) {
+			if (fSourceLocators != null) {
+				return;
+			}
 			IExtensionPoint extensionPoint= Platform.getExtensionRegistry().getExtensionPoint(DebugPlugin.getUniqueIdentifier(), DebugPlugin.EXTENSION_POINT_SOURCE_LOCATORS);
 			IConfigurationElement[] infos= extensionPoint.getConfigurationElements();
-			fSourceLocators = new HashMap<>(infos.length);
+			Map<String, IConfigurationElement> locators = new HashMap<>(infos.length);
 			IConfigurationElement configurationElement = null;
 			String id = null;
 			for (IConfigurationElement info : infos) {
 				configurationElement = info;
 				id = configurationElement.getAttribute(IConfigurationElementConstants.ID);
 				if (id != null) {
-					fSourceLocators.put(id,configurationElement);
+					locators.put(id,configurationElement);
 				} else {
 					// invalid status handler
 					IStatus s = new Status(IStatus.ERROR, DebugPlugin.getUniqueIdentifier(), DebugException.INTERNAL_ERROR,
@@ -1990,6 +2470,7 @@ public class LaunchManager extends PlatformObject implements ILaunchManager, IRe
 					DebugPlugin.log(s);
 				}
 			}
+			fSourceLocators = Collections.unmodifiableMap(locators);
 		}
 	}
 
@@ -2107,16 +2588,10 @@ public class LaunchManager extends PlatformObject implements ILaunchManager, IRe
 		if (config.isWorkingCopy()) {
 			return;
 		}
-		if (isValid(config)) {
-			boolean added = false;
-			synchronized (this) {
-				List<ILaunchConfiguration> allConfigs = getAllLaunchConfigurations();
-				if (!allConfigs.contains(config)) {
-					allConfigs.add(config);
-					added = true;
-				}
-			}
-			if (added) {
+		String typeId = getValidTypeId(config);
+		if (typeId != null) {
+			if (addToLaunchConfigurationIndex(config, typeId)) {
+				updateMappedResourceIndex(config, false);
 				getConfigurationNotifier().notify(config, ADDED);
 				clearConfigNameCache();
 			}
@@ -2135,15 +2610,15 @@ public class LaunchManager extends PlatformObject implements ILaunchManager, IRe
 	 * @param config the launch configuration that was changed
 	 */
 	protected void launchConfigurationChanged(ILaunchConfiguration config) {
-		synchronized(this) {
-			fLaunchConfigurations.remove(config);
-		}
+		fLaunchConfigurations.remove(config);
+		getIndexStore().remove(config);
 		clearConfigNameCache();
 		if (isValid(config)) {
 			// in case the config has been refreshed and it was removed from the
 			// index due to 'out of synch with local file system' (see bug 36147),
 			// add it back (will only add if required)
 			launchConfigurationAdded(config);
+			updateMappedResourceIndex(config, false);
 			getConfigurationNotifier().notify(config, CHANGED);
 		} else {
 			launchConfigurationDeleted(config);
@@ -2159,12 +2634,13 @@ public class LaunchManager extends PlatformObject implements ILaunchManager, IRe
 	 * @param config the launch configuration that was deleted
 	 */
 	protected void launchConfigurationDeleted(ILaunchConfiguration config) {
-		boolean removed = false;
-		synchronized (this) {
-			Object key = fLaunchConfigurations.remove(config);
-			removed = key != null;
-			getAllLaunchConfigurations().remove(config);
+		boolean removed = fLaunchConfigurations.remove(config) != null;
+		removeFromLaunchConfigurationIndex(config);
+		getIndexStore().remove(config);
+		if (LaunchConfigurationBinaryCache.isEnabled()) {
+			getBinaryCache().remove(config);
 		}
+		updateMappedResourceIndex(config, true);
 		if (removed) {
 			getConfigurationNotifier().notify(config, REMOVED);
 			clearConfigNameCache();
@@ -2208,7 +2684,10 @@ public class LaunchManager extends PlatformObject implements ILaunchManager, IRe
 	 * @param project the project that has been opened
 	 */
 	protected void projectOpened(IProject project) {
-		for (ILaunchConfiguration config : findLaunchConfigurations(project)) {
+		List<ILaunchConfiguration> configs = findLaunchConfigurations(project);
+		// load the configurations concurrently before adding them one by one
+		verifyConcurrently(configs);
+		for (ILaunchConfiguration config : configs) {
 			launchConfigurationAdded(config);
 		}
 	}
@@ -2289,25 +2768,10 @@ public class LaunchManager extends PlatformObject implements ILaunchManager, IRe
 	 */
 	private ArrayList<ILaunchConfiguration> collectAssociatedLaunches(IResource resource) {
 		ArrayList<ILaunchConfiguration> list = new ArrayList<>();
-		try {
-			ILaunchConfiguration[] configs = DebugPlugin.getDefault().getLaunchManager().getLaunchConfigurations();
-			IResource[] resources = null;
-			for (ILaunchConfiguration config : configs) {
-				if(config.isLocal()) {
-					resources = config.getMappedResources();
-					if(resources != null) {
-						for (IResource res : resources) {
-							if(resource.equals(res) ||
-									resource.getFullPath().isPrefixOf(res.getFullPath())) {
-								list.add(config);
-								break;
-							}
-						}
-					}
-				}
+		for (ILaunchConfiguration config : getMappedResourceIndex().getConfigurations(resource.getFullPath(), MappedResourceIndex.ALL_TYPES, MappedResourceIndex.ALL_TYPES)) {
+			if (config.isLocal() && !config.isPrototype()) {
+				list.add(config);
 			}
-		} catch (CoreException e) {
-			DebugPlugin.log(e);
 		}
 		return list;
 	}
@@ -2352,6 +2816,7 @@ public class LaunchManager extends PlatformObject implements ILaunchManager, IRe
 		}
 
 		persistPreferredLaunchDelegates();
+		persistLaunchConfigurationIndex();
 		clearAllLaunchConfigurations();
 		fStepFilterManager = null;
 		ResourcesPlugin.getWorkspace().removeResourceChangeListener(this);
@@ -2451,11 +2916,42 @@ public class LaunchManager extends PlatformObject implements ILaunchManager, IRe
 	 * @param valid the list to place valid configurations in
 	 */
 	protected void verifyConfigurations(List<ILaunchConfiguration> verify, List<ILaunchConfiguration> valid) {
+		Set<ILaunchConfiguration> known = new HashSet<>(valid);
+		List<ILaunchConfiguration> unknown = new ArrayList<>(verify.size());
 		for (ILaunchConfiguration config : verify) {
-			if (!valid.contains(config) && isValid(config)) {
-				valid.add(config);
+			if (known.add(config)) {
+				unknown.add(config);
 			}
 		}
+		valid.addAll(verifyConcurrently(unknown).keySet());
+	}
+
+	/**
+	 * Returns the type identifier of the given launch configuration if it is
+	 * valid. Uses the persistent index to avoid reading configuration files
+	 * which did not change since they were indexed.
+	 *
+	 * @param config the configuration to verify
+	 * @return the identifier of the configuration type, or <code>null</code>
+	 *         if the config does not meet basic integrity constraints
+	 * @see #isValid(ILaunchConfiguration)
+	 */
+	private String getValidTypeId(ILaunchConfiguration config) {
+		if (config instanceof LaunchConfiguration && !config.isWorkingCopy()) {
+			LaunchConfigurationIndexStore.Entry entry = getIndexStore().get((LaunchConfiguration) config);
+			if (entry != null && getLaunchConfigurationType(entry.getTypeId()) != null) {
+				return entry.getTypeId();
+			}
+		}
+		if (!isValid(config)) {
+			return null;
+		}
+		try {
+			return config.getType().getIdentifier();
+		} catch (CoreException e) {
+			// deleted concurrently
+			return null;
+		}
 	}
 
 	/**
@@ -2506,11 +3002,18 @@ public class LaunchManager extends PlatformObject implements ILaunchManager, IRe
 	 *
 	 * @return the step filter manager
 	 */
-	public synchronized StepFilterManager getStepFilterManager() {
-		if (fStepFilterManager == null) {
-			fStepFilterManager = new StepFilterManager();
+	public StepFilterManager getStepFilterManager() {
+		StepFilterManager manager = fStepFilterManager;
+		if (manager == null) {
+			synchronized (this) {
+				manager = fStepFilterManager;
+				if (manager == null) {
+					manager = new StepFilterManager();
+					fStepFilterManager = manager;
+				}
+			}
 		}
-		return fStepFilterManager;
+		return manager;
 	}
 
 	/**
@@ -2616,18 +3119,22 @@ public class LaunchManager extends PlatformObject implements ILaunchManager, IRe
 	 * @param mode launch mode
 	 * @return whether any launch config supports the given mode
 	 */
-	public synchronized boolean launchModeAvailable(String mode) {
-		if (fActiveModes == null) {
-			fActiveModes = new HashSet<>(3);
+	public boolean launchModeAvailable(String mode) {
+		Set<String> activeModes = fActiveModes;
+		if (activeModes == null) {
+			// computing the modes concurrently yields the same result, no lock required
+			activeModes = new HashSet<>(3);
 			for (ILaunchConfigurationType type : getLaunchConfigurationTypes()) {
 				for (ILaunchMode launchMode : getLaunchModes()) {
 					if (type.supportsMode(launchMode.getIdentifier())) {
-						fActiveModes.add(launchMode.getIdentifier());
+						activeModes.add(launchMode.getIdentifier());
 					}
 				}
 			}
+			activeModes = Collections.unmodifiableSet(activeModes);
+			fActiveModes = activeModes;
 		}
-		return fActiveModes.contains(mode);
+		return activeModes.contains(mode);
 	}
 
 	@Override
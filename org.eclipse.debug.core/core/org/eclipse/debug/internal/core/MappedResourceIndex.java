@@ -0,0 +1,221 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.debug.internal.core;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.runtime.IPath;
+import org.eclipse.debug.core.ILaunchConfiguration;
+
+/**
+ * Reverse index from workspace paths to the launch configurations mapping
+ * resources at these paths.
+ * <p>
+ * Mapped resource paths are stored in a prefix tree of path segments. Finding
+ * the configurations mapped to a resource takes time proportional to the
+ * depth of the resource path. Finding the configurations mapped to a resource
+ * or any of its descendants additionally visits only the indexed paths below
+ * that resource. Configurations are returned in the order they were first
+ * added to the index.
+ * </p>
+ * <p>
+ * This class is thread safe.
+ * </p>
+ */
+public class MappedResourceIndex {
+
+	/**
+	 * Resource type mask matching all resource types.
+	 */
+	public static final int ALL_TYPES = IResource.FILE | IResource.FOLDER | IResource.PROJECT | IResource.ROOT;
+
+	/**
+	 * A node of the prefix tree representing one workspace path.
+	 */
+	private static final class Node {
+		final Node fParent;
+		final String fSegment;
+
+		/**
+		 * Child nodes by path segment or <code>null</code> if none.
+		 */
+		Map<String, Node> fChildren;
+
+		/**
+		 * Configurations mapping a resource at this path with the mask of
+		 * mapped resource types, or <code>null</code> if none.
+		 */
+		Map<ILaunchConfiguration, Integer> fConfigs;
+
+		Node(Node parent, String segment) {
+			fParent = parent;
+			fSegment = segment;
+		}
+
+		boolean isEmpty() {
+			return (fChildren == null || fChildren.isEmpty()) && (fConfigs == null || fConfigs.isEmpty());
+		}
+	}
+
+	private final Node fRoot = new Node(null, null);
+
+	/**
+	 * Nodes referenced by each indexed configuration, used for removal.
+	 */
+	private final Map<ILaunchConfiguration, List<Node>> fNodes = new HashMap<>();
+
+	/**
+	 * Position of each indexed configuration in the order the configurations
+	 * were added, kept while the mapping of a configuration is replaced.
+	 */
+	private final Map<ILaunchConfiguration, Long> fOrder = new HashMap<>();
+
+	private long fNextOrder = 0;
+
+	/**
+	 * Sets the mapped resources of the given configuration, replacing any
+	 * previously indexed mapping.
+	 *
+	 * @param config the launch configuration
+	 * @param paths full paths of the mapped resources
+	 * @param types resource types of the mapped resources, in the same order
+	 *            as the paths
+	 */
+	public synchronized void put(ILaunchConfiguration config, List<IPath> paths, List<Integer> types) {
+		removeNodes(config);
+		if (!fOrder.containsKey(config)) {
+			fOrder.put(config, Long.valueOf(fNextOrder++));
+		}
+		if (paths.isEmpty()) {
+			return;
+		}
+		List<Node> nodes = new ArrayList<>(paths.size());
+		for (int i = 0; i < paths.size(); i++) {
+			Node node = fRoot;
+			for (String segment : paths.get(i).segments()) {
+				if (node.fChildren == null) {
+					node.fChildren = new HashMap<>(4);
+				}
+				Node parent = node;
+				node = node.fChildren.computeIfAbsent(segment, s -> new Node(parent, s));
+			}
+			if (node.fConfigs == null) {
+				node.fConfigs = new LinkedHashMap<>(4);
+			}
+			node.fConfigs.merge(config, types.get(i), (a, b) -> a | b);
+			nodes.add(node);
+		}
+		fNodes.put(config, nodes);
+	}
+
+	/**
+	 * Removes the given configuration from the index.
+	 *
+	 * @param config the launch configuration
+	 */
+	public synchronized void remove(ILaunchConfiguration config) {
+		removeNodes(config);
+		fOrder.remove(config);
+	}
+
+	/**
+	 * Removes the given configuration from the paths it maps.
+	 *
+	 * @param config the launch configuration
+	 */
+	private void removeNodes(ILaunchConfiguration config) {
+		List<Node> nodes = fNodes.remove(config);
+		if (nodes == null) {
+			return;
+		}
+		for (Node node : nodes) {
+			if (node.fConfigs != null) {
+				node.fConfigs.remove(config);
+			}
+			// prune empty branches
+			while (node.fParent != null && node.isEmpty()) {
+				node.fParent.fChildren.remove(node.fSegment);
+				node = node.fParent;
+			}
+		}
+	}
+
+	/**
+	 * Returns whether the given configuration is in the index.
+	 *
+	 * @param config the launch configuration
+	 * @return whether the configuration maps any resources
+	 */
+	public synchronized boolean contains(ILaunchConfiguration config) {
+		return fNodes.containsKey(config);
+	}
+
+	/**
+	 * Returns the configurations mapping a resource at the given path or below
+	 * it.
+	 *
+	 * @param path full path of a resource
+	 * @param types mask of resource types to match at the given path
+	 * @param descendantTypes mask of resource types to match below the given
+	 *            path or <code>0</code> to only match the path itself
+	 * @return the matching configurations in the order they were added to the
+	 *         index, never <code>null</code>
+	 */
+	public synchronized Set<ILaunchConfiguration> getConfigurations(IPath path, int types, int descendantTypes) {
+		Set<ILaunchConfiguration> result = new LinkedHashSet<>();
+		Node node = fRoot;
+		for (String segment : path.segments()) {
+			node = node.fChildren == null ? null : node.fChildren.get(segment);
+			if (node == null) {
+				return result;
+			}
+		}
+		collect(node, types, result);
+		if (descendantTypes != 0 && node.fChildren != null) {
+			ArrayDeque<Node> pending = new ArrayDeque<>(node.fChildren.values());
+			while (!pending.isEmpty()) {
+				Node next = pending.poll();
+				collect(next, descendantTypes, result);
+				if (next.fChildren != null) {
+					pending.addAll(next.fChildren.values());
+				}
+			}
+		}
+		if (result.size() > 1) {
+			List<ILaunchConfiguration> sorted = new ArrayList<>(result);
+			sorted.sort(Comparator.comparing(fOrder::get));
+			return new LinkedHashSet<>(sorted);
+		}
+		return result;
+	}
+
+	private static void collect(Node node, int types, Set<ILaunchConfiguration> result) {
+		if (node.fConfigs != null) {
+			for (Map.Entry<ILaunchConfiguration, Integer> entry : node.fConfigs.entrySet()) {
+				if ((entry.getValue().intValue() & types) != 0) {
+					result.add(entry.getKey());
+				}
+			}
+		}
+	}
+}
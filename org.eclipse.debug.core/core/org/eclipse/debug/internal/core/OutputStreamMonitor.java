@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2020 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -16,14 +16,15 @@
 package org.eclipse.debug.internal.core;
 
 import java.io.BufferedInputStream;
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.nio.charset.Charset;
+import java.util.ArrayDeque;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.eclipse.core.runtime.ISafeRunnable;
 import org.eclipse.core.runtime.ListenerList;
+import org.eclipse.core.runtime.Platform;
 import org.eclipse.core.runtime.SafeRunner;
 import org.eclipse.debug.core.DebugPlugin;
 import org.eclipse.debug.core.IBinaryStreamListener;
@@ -38,9 +39,21 @@ import org.eclipse.debug.core.model.IBinaryStreamMonitor;
  */
 public class OutputStreamMonitor implements IBinaryStreamMonitor {
 	/**
-	 * The size of the read buffer.
+	 * The initial and minimal size of the read buffer.
 	 */
-	private static final int BUFFER_SIZE = 8192;
+	private static final int MIN_BUFFER_SIZE = 8192;
+
+	/**
+	 * The maximal size the read buffer can grow to if the process produces
+	 * output faster than it is consumed.
+	 */
+	private static final int MAX_BUFFER_SIZE = 1024 * 1024;
+
+	/**
+	 * Number of consecutive reads which used less than a quarter of the read
+	 * buffer before the buffer is shrunk again.
+	 */
+	private static final int SHRINK_THRESHOLD = 16;
 
 	/**
 	 * The stream being monitored (connected system out or err).
@@ -60,22 +73,53 @@ public class OutputStreamMonitor implements IBinaryStreamMonitor {
 	/**
 	 * The buffered stream content since last flush. Value of <code>null</code>
 	 * indicates disabled buffering.
+	 * <p>
+	 * Only the most recent content is kept in memory. Older content is spilled
+	 * to a temporary file and the oldest content is discarded once the file
+	 * reaches its limit.
+	 * </p>
 	 *
 	 * @see #isBuffered()
 	 */
-	private ByteArrayOutputStream fContents;
+	private StreamContentBuffer fContents;
 
 	/**
 	 * Decoder used for the buffered content. This is required to keep the state
 	 * of an incomplete character.
 	 */
 	private StreamDecoder fBufferedDecoder;
+
+	/**
+	 * The decoded buffered content. Extended with newly buffered content when
+	 * {@link #getContents()} is called.
+	 */
+	private StringBuilder fDecodedContents;
+
+	/**
+	 * Number of characters decoded from each segment of the buffered content,
+	 * starting with the segment at {@link #fDecodedStart}. Used to remove the
+	 * decoded content of segments discarded by the buffer.
+	 */
+	private final ArrayDeque<Integer> fDecodedLengths = new ArrayDeque<>();
+
+	/**
+	 * Offset of the buffered content where {@link #fDecodedContents} starts.
+	 * Including discarded content.
+	 */
+	private long fDecodedStart;
+
+	/**
+	 * Offset of the buffered content up to which it was decoded. Including
+	 * discarded content.
+	 */
+	private long fDecodedPosition;
+
 	private String fCachedDecodedContents;
 
 	/**
-	 * The thread which reads from the stream
+	 * The task which reads from the stream
 	 */
-	private Thread fThread;
+	private ProcessIOExecutor.IOTask fThread;
 
 	/**
 	 * Whether or not this monitor has been killed. When the monitor is killed,
@@ -135,7 +179,7 @@ public class OutputStreamMonitor implements IBinaryStreamMonitor {
 	 * underlying stream by waiting for the thread to terminate.
 	 */
 	protected void close() {
-		Thread thread = null;
+		ProcessIOExecutor.IOTask thread = null;
 
 		synchronized (this) {
 			thread = fThread;
@@ -151,11 +195,18 @@ public class OutputStreamMonitor implements IBinaryStreamMonitor {
 			fListeners.clear();
 			fBinaryListeners.clear();
 		}
+		synchronized (this) {
+			if (isBuffered()) {
+				fContents.close();
+			}
+		}
 	}
 
 	/**
 	 * Notifies the listeners that content has been appended to the stream. Will
 	 * notify both, binary and text listeners.
+	 * <p>
+	 * The given data array may be reused after this method returned.
 	 *
 	 * @param data that has been appended; not <code>null</code>
 	 * @param offset start of valid data
@@ -179,13 +230,10 @@ public class OutputStreamMonitor implements IBinaryStreamMonitor {
 			}
 		}
 		if (!fBinaryListeners.isEmpty()) {
-			final byte[] validData;
-			if (offset > 0 || length < data.length) {
-				validData = new byte[length];
-				System.arraycopy(data, offset, validData, 0, length);
-			} else {
-				validData = data;
-			}
+			// the read buffer is reused for the next read, therefore listeners
+			// get a copy which is shared between all of them
+			final byte[] validData = new byte[length];
+			System.arraycopy(data, offset, validData, 0, length);
 			for (final IBinaryStreamListener listener : fBinaryListeners) {
 				SafeRunner.run(new ISafeRunnable() {
 					@Override
@@ -202,6 +250,14 @@ public class OutputStreamMonitor implements IBinaryStreamMonitor {
 		}
 	}
 
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * Returns the content retained by the buffer, like {@link #getData()}.
+	 * Content buffered since the last call is decoded piecewise without
+	 * copying the whole buffered content.
+	 * </p>
+	 */
 	@Override
 	public synchronized String getContents() {
 		if (!isBuffered()) {
@@ -210,14 +266,94 @@ public class OutputStreamMonitor implements IBinaryStreamMonitor {
 		if (fCachedDecodedContents != null) {
 			return fCachedDecodedContents;
 		}
-		byte[] data = getData();
-		fCachedDecodedContents = fBufferedDecoder.decode(data, 0, data.length);
+		// the buffer discards whole segments, so decoded segments are removed
+		// with their content
+		long start = fContents.getDiscardedSize();
+		if (fDecodedPosition < start) {
+			resetDecodedContents(start);
+			fBufferedDecoder = new StreamDecoder(fCharset == null ? Charset.defaultCharset() : fCharset);
+		} else {
+			int trim = 0;
+			while (fDecodedStart < start) {
+				trim += fDecodedLengths.poll();
+				fDecodedStart += StreamContentBuffer.SEGMENT_SIZE;
+			}
+			fDecodedContents.delete(0, trim);
+		}
+		try {
+			byte[] buffer = new byte[StreamContentBuffer.SEGMENT_SIZE];
+			while (true) {
+				// decode up to the end of a segment
+				int segmentOffset = (int) (fDecodedPosition % buffer.length);
+				int read = fContents.read(fDecodedPosition - start, buffer, 0, buffer.length - segmentOffset);
+				if (read <= 0) {
+					break;
+				}
+				String text = fBufferedDecoder.decode(buffer, 0, read);
+				fDecodedContents.append(text);
+				fDecodedLengths.add(segmentOffset == 0 ? text.length() : fDecodedLengths.pollLast() + text.length());
+				fDecodedPosition += read;
+			}
+		} catch (IOException e) {
+			DebugPlugin.log(e);
+		}
+		fCachedDecodedContents = fDecodedContents.toString();
 		return fCachedDecodedContents;
 	}
 
+	/**
+	 * Discards the decoded buffered content and continues decoding at the
+	 * given offset.
+	 *
+	 * @param position offset of the buffered content, including discarded
+	 *            content, to continue decoding at
+	 */
+	private void resetDecodedContents(long position) {
+		fDecodedContents.setLength(0);
+		fDecodedLengths.clear();
+		fDecodedStart = position;
+		fDecodedPosition = position;
+	}
+
 	@Override
 	public synchronized byte[] getData() {
-		return isBuffered() ? fContents.toByteArray() : new byte[0];
+		if (!isBuffered()) {
+			return new byte[0];
+		}
+		try {
+			return fContents.toByteArray();
+		} catch (IOException e) {
+			DebugPlugin.log(e);
+			return new byte[0];
+		}
+	}
+
+	/**
+	 * Returns the number of bytes buffered since the last flush which were not
+	 * discarded to stay within the buffer limits.
+	 *
+	 * @return size of buffered content or <code>0</code> if buffering is
+	 *         disabled
+	 * @see #getData()
+	 */
+	public synchronized long getDataSize() {
+		return isBuffered() ? fContents.size() : 0;
+	}
+
+	/**
+	 * Reads a range of the buffered content without copying the whole content
+	 * like {@link #getData()} does.
+	 *
+	 * @param position offset in the retained buffered content to start reading
+	 * @param buffer destination for the read bytes
+	 * @param offset start offset in destination
+	 * @param length maximal number of bytes to read
+	 * @return number of bytes read or <code>-1</code> if position is at or after
+	 *         the end of buffered content or buffering is disabled
+	 * @throws IOException if reading the buffered content failed
+	 */
+	public synchronized int getData(long position, byte[] buffer, int offset, int length) throws IOException {
+		return isBuffered() ? fContents.read(position, buffer, offset, length) : -1;
 	}
 
 	private void read() {
@@ -234,11 +370,18 @@ public class OutputStreamMonitor implements IBinaryStreamMonitor {
 	 * This method, along with the {@link #startMonitoring(String)} method is
 	 * used to allow {@link OutputStreamMonitor} to implement {@link Runnable}
 	 * without publicly exposing a {@link Runnable#run()} method.
+	 * <p>
+	 * The read buffer is reused for all reads and adapts its size to the
+	 * output rate of the process. If a read fills the whole buffer the buffer
+	 * is doubled (up to {@link #MAX_BUFFER_SIZE}) and if the process only
+	 * writes small chunks for a while it shrinks back. After a blocking read
+	 * returned, all data which is immediately available is read into the same
+	 * buffer so that listeners are notified with as few and as large chunks as
+	 * possible.
 	 */
 	private void internalRead() {
-		long lastSleep = System.currentTimeMillis();
-		long currentTime = lastSleep;
-		byte[] buffer = new byte[BUFFER_SIZE];
+		byte[] buffer = new byte[MIN_BUFFER_SIZE];
+		int smallReads = 0;
 		int read = 0;
 		try {
 			while (read >= 0) {
@@ -248,12 +391,34 @@ public class OutputStreamMonitor implements IBinaryStreamMonitor {
 					}
 					read = fStream.read(buffer);
 					if (read > 0) {
+						int length = read;
+						while (length < buffer.length && fStream.available() > 0) {
+							read = fStream.read(buffer, length, buffer.length - length);
+							if (read < 0) {
+								break;
+							}
+							length += read;
+						}
 						synchronized (this) {
 							if (isBuffered()) {
 								fCachedDecodedContents = null;
-								fContents.write(buffer, 0, read);
+								fContents.write(buffer, 0, length);
 							}
-							fireStreamAppended(buffer, 0, read);
+							fireStreamAppended(buffer, 0, length);
+						}
+
+						if (length == buffer.length) {
+							smallReads = 0;
+							if (buffer.length < MAX_BUFFER_SIZE) {
+								buffer = new byte[buffer.length * 2];
+							}
+						} else if (length < buffer.length / 4 && buffer.length > MIN_BUFFER_SIZE) {
+							if (++smallReads >= SHRINK_THRESHOLD) {
+								smallReads = 0;
+								buffer = new byte[buffer.length / 2];
+							}
+						} else {
+							smallReads = 0;
 						}
 					}
 				} catch (IOException ioe) {
@@ -269,13 +434,6 @@ public class OutputStreamMonitor implements IBinaryStreamMonitor {
 					}
 					return;
 				}
-
-				currentTime = System.currentTimeMillis();
-				if (currentTime - lastSleep > 1000) {
-					lastSleep = currentTime;
-					Thread.yield();// just give up CPU to maintain UI
-									// responsiveness.
-				}
 			}
 		} finally {
 			try {
@@ -304,14 +462,13 @@ public class OutputStreamMonitor implements IBinaryStreamMonitor {
 	 * Starts a thread which reads from the stream
 	 *
 	 * @param name Thread name
+	 * @see ProcessIOExecutor
 	 */
 	protected void startMonitoring(String name) {
 		synchronized (this) {
 			if (fThread == null) {
 				fDone.set(false);
-				fThread = new Thread((Runnable) this::read, name);
-				fThread.setDaemon(true);
-				fThread.setPriority(Thread.MIN_PRIORITY);
+				fThread = ProcessIOExecutor.newTask(name, Thread.MIN_PRIORITY, this::read);
 				fThread.start();
 			}
 		}
@@ -322,11 +479,16 @@ public class OutputStreamMonitor implements IBinaryStreamMonitor {
 		if (isBuffered() != buffer) {
 			fCachedDecodedContents = null;
 			if (buffer) {
-				fContents = new ByteArrayOutputStream();
+				fContents = new StreamContentBuffer(getContentMemoryLimit(), getContentDiskLimit());
 				fBufferedDecoder = new StreamDecoder(fCharset == null ? Charset.defaultCharset() : fCharset);
+				fDecodedContents = new StringBuilder();
+				resetDecodedContents(0);
 			} else {
+				fContents.reset();
 				fContents = null;
 				fBufferedDecoder = null;
+				fDecodedContents = null;
+				fDecodedLengths.clear();
 			}
 		}
 	}
@@ -336,7 +498,30 @@ public class OutputStreamMonitor implements IBinaryStreamMonitor {
 		if (isBuffered()) {
 			fCachedDecodedContents = null;
 			fContents.reset();
+			resetDecodedContents(0);
+		}
+	}
+
+	/**
+	 * @return number of buffered bytes to keep in memory before older content
+	 *         is spilled to disk
+	 */
+	private static int getContentMemoryLimit() {
+		if (!Platform.isRunning()) {
+			return StreamContentBuffer.DEFAULT_MEMORY_LIMIT;
+		}
+		return Platform.getPreferencesService().getInt(DebugPlugin.getUniqueIdentifier(), IInternalDebugCoreConstants.PREF_STREAM_BUFFER_MEMORY_LIMIT, StreamContentBuffer.DEFAULT_MEMORY_LIMIT, null);
+	}
+
+	/**
+	 * @return number of buffered bytes to keep in the temporary file before
+	 *         the oldest content is discarded
+	 */
+	private static long getContentDiskLimit() {
+		if (!Platform.isRunning()) {
+			return StreamContentBuffer.DEFAULT_DISK_LIMIT;
 		}
+		return Platform.getPreferencesService().getLong(DebugPlugin.getUniqueIdentifier(), IInternalDebugCoreConstants.PREF_STREAM_BUFFER_DISK_LIMIT, StreamContentBuffer.DEFAULT_DISK_LIMIT, null);
 	}
 
 	@Override
@@ -0,0 +1,258 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.debug.internal.core;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.core.runtime.Platform;
+import org.eclipse.debug.core.DebugPlugin;
+
+/**
+ * Runs the long running I/O tasks of system processes, i.e. the stream
+ * monitors and the process termination monitor.
+ * <p>
+ * By default every task gets its own dedicated thread. If the
+ * {@link IInternalDebugCoreConstants#PREF_SHARED_PROCESS_IO_THREADS}
+ * preference is enabled tasks run on a shared pool whose idle threads are
+ * reused by following processes and released after a while. In this mode the
+ * termination of a process is detected with {@link Process#onExit()} instead
+ * of a thread blocked in {@link Process#waitFor()}.
+ * </p>
+ * <p>
+ * The pool has at most {@link #MAX_POOL_SIZE} threads. The tasks block on
+ * process I/O for the lifetime of their process, so queuing them could stall
+ * the output of a running process. Tasks started while all pool threads are
+ * busy get a dedicated thread instead.
+ * </p>
+ */
+public final class ProcessIOExecutor {
+
+	/**
+	 * Time in seconds an idle pool thread is kept alive.
+	 */
+	private static final long KEEP_ALIVE_TIME = 30;
+
+	/**
+	 * Maximum number of threads in the shared pool.
+	 */
+	private static final int MAX_POOL_SIZE = 64;
+
+	private static final AtomicInteger fgActiveTasks = new AtomicInteger();
+	private static final AtomicInteger fgDedicatedThreads = new AtomicInteger();
+	private static final AtomicInteger fgThreadNumber = new AtomicInteger();
+
+	private static ThreadPoolExecutor fgPool;
+
+	private ProcessIOExecutor() {
+	}
+
+	/**
+	 * @return whether process I/O should run on the shared thread pool
+	 */
+	public static boolean isSharedMode() {
+		if (!Platform.isRunning()) {
+			return false;
+		}
+		return Platform.getPreferencesService().getBoolean(DebugPlugin.getUniqueIdentifier(), IInternalDebugCoreConstants.PREF_SHARED_PROCESS_IO_THREADS, false, null);
+	}
+
+	/**
+	 * Creates a new task which runs in the current execution mode once
+	 * started.
+	 *
+	 * @param name name of the task. Used as thread name while the task runs.
+	 * @param priority thread priority while the task runs
+	 * @param task the task to run
+	 * @return handle to start, interrupt and wait for the task
+	 */
+	public static IOTask newTask(String name, int priority, Runnable task) {
+		return new IOTask(name, priority, task, isSharedMode());
+	}
+
+	/**
+	 * Creates a new task.
+	 *
+	 * @param name name of the task. Used as thread name while the task runs.
+	 * @param priority thread priority while the task runs
+	 * @param task the task to run
+	 * @param shared <code>true</code> to run the task on the shared pool,
+	 *            <code>false</code> to start a dedicated thread
+	 * @return handle to start, interrupt and wait for the task
+	 */
+	public static IOTask newTask(String name, int priority, Runnable task, boolean shared) {
+		return new IOTask(name, priority, task, shared);
+	}
+
+	private static synchronized ThreadPoolExecutor getPool() {
+		if (fgPool == null) {
+			fgPool = new ThreadPoolExecutor(0, MAX_POOL_SIZE, KEEP_ALIVE_TIME, TimeUnit.SECONDS, new SynchronousQueue<>(), r -> {
+				Thread thread = new Thread(r, "Process I/O Worker-" + fgThreadNumber.incrementAndGet()); //$NON-NLS-1$
+				thread.setDaemon(true);
+				return thread;
+			});
+		}
+		return fgPool;
+	}
+
+	/**
+	 * @return number of process I/O tasks currently running in any mode
+	 */
+	public static int getActiveTaskCount() {
+		return fgActiveTasks.get();
+	}
+
+	/**
+	 * @return number of dedicated threads currently running process I/O tasks
+	 */
+	public static int getDedicatedThreadCount() {
+		return fgDedicatedThreads.get();
+	}
+
+	/**
+	 * @return number of threads in the shared pool including idle threads
+	 */
+	public static synchronized int getPoolThreadCount() {
+		return fgPool == null ? 0 : fgPool.getPoolSize();
+	}
+
+	/**
+	 * @return number of threads in the shared pool currently running a task
+	 */
+	public static synchronized int getActivePoolThreadCount() {
+		return fgPool == null ? 0 : fgPool.getActiveCount();
+	}
+
+	/**
+	 * @return largest number of threads which have ever simultaneously been in
+	 *         the shared pool
+	 */
+	public static synchronized int getLargestPoolThreadCount() {
+		return fgPool == null ? 0 : fgPool.getLargestPoolSize();
+	}
+
+	/**
+	 * Handle for a running process I/O task. Similar to a {@link Thread} it can
+	 * be started, interrupted and joined independent of the execution mode.
+	 */
+	public static final class IOTask {
+
+		private final String fName;
+		private final int fPriority;
+		private final Runnable fTask;
+		private final boolean fShared;
+		private final CountDownLatch fDone = new CountDownLatch(1);
+
+		/**
+		 * The thread currently running this task or <code>null</code>.
+		 */
+		private Thread fWorker;
+
+		/**
+		 * Whether this task was interrupted. Interrupts which arrive before the
+		 * task is running are delivered when it starts.
+		 */
+		private boolean fInterrupted;
+
+		private IOTask(String name, int priority, Runnable task, boolean shared) {
+			fName = name;
+			fPriority = priority;
+			fTask = task;
+			fShared = shared;
+		}
+
+		/**
+		 * Starts this task. Must be called only once.
+		 *
+		 * @see Thread#start()
+		 */
+		public void start() {
+			if (fShared) {
+				try {
+					getPool().execute(this::run);
+					return;
+				} catch (RejectedExecutionException e) {
+					// all pool threads are busy, use a dedicated thread
+				}
+			}
+			Thread thread = new Thread(() -> {
+				fgDedicatedThreads.incrementAndGet();
+				try {
+					run();
+				} finally {
+					fgDedicatedThreads.decrementAndGet();
+				}
+			}, fName);
+			thread.setDaemon(true);
+			thread.setPriority(fPriority);
+			thread.start();
+		}
+
+		private void run() {
+			Thread current = Thread.currentThread();
+			String threadName = current.getName();
+			int threadPriority = current.getPriority();
+			fgActiveTasks.incrementAndGet();
+			try {
+				current.setName(fName);
+				current.setPriority(fPriority);
+				synchronized (this) {
+					fWorker = current;
+					if (fInterrupted) {
+						current.interrupt();
+					}
+				}
+				fTask.run();
+			} finally {
+				synchronized (this) {
+					fWorker = null;
+					// do not leak the interrupt to the next task of a pooled
+					// thread
+					Thread.interrupted();
+				}
+				current.setName(threadName);
+				current.setPriority(threadPriority);
+				fgActiveTasks.decrementAndGet();
+				fDone.countDown();
+			}
+		}
+
+		/**
+		 * Interrupts the thread running this task.
+		 *
+		 * @see Thread#interrupt()
+		 */
+		public synchronized void interrupt() {
+			fInterrupted = true;
+			if (fWorker != null) {
+				fWorker.interrupt();
+			}
+		}
+
+		/**
+		 * Waits for this task to finish.
+		 *
+		 * @throws InterruptedException if the current thread was interrupted
+		 *             while waiting
+		 * @see Thread#join()
+		 */
+		public void join() throws InterruptedException {
+			fDone.await();
+		}
+	}
+}
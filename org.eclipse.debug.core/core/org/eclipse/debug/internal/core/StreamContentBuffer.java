@@ -0,0 +1,512 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.debug.internal.core;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.Iterator;
+
+import org.eclipse.debug.core.DebugPlugin;
+
+/**
+ * Append-only byte buffer used to store the content of buffered stream
+ * monitors.
+ * <p>
+ * Content is stored in fixed size segments. Only the most recent segments up
+ * to a configurable memory limit are kept on the heap. Older segments are
+ * spilled to a temporary file and read back with positional reads when
+ * requested. Content can be read as range or as stream so that clients do
+ * not need to materialize the whole content at once.
+ * </p>
+ * <p>
+ * Once the buffer is {@link #close() closed} the spill file is only opened
+ * while spilled content is read, so a closed buffer holds no file handle.
+ * The spill file is deleted when the buffer is reset.
+ * </p>
+ * <p>
+ * The spill file is used as ring buffer of a configurable size. Once it is
+ * full the oldest content is discarded. If spilling fails the oldest content
+ * is discarded once the memory limit is exceeded. Positions used to read
+ * content are relative to the oldest retained byte.
+ * </p>
+ * <p>
+ * This class is not thread safe. Clients must synchronize access.
+ * </p>
+ */
+public class StreamContentBuffer {
+
+	/**
+	 * Size of one in-memory segment.
+	 */
+	static final int SEGMENT_SIZE = 64 * 1024;
+
+	/**
+	 * Default number of bytes kept in memory before older content is spilled
+	 * to disk.
+	 */
+	public static final int DEFAULT_MEMORY_LIMIT = 4 * 1024 * 1024;
+
+	/**
+	 * Default number of bytes kept in the spill file before the oldest content
+	 * is discarded.
+	 */
+	public static final long DEFAULT_DISK_LIMIT = 256 * 1024 * 1024;
+
+	/**
+	 * Maximal number of bytes kept in memory.
+	 */
+	private final int fMemoryLimit;
+
+	/**
+	 * Maximal number of bytes kept in the spill file. A multiple of
+	 * {@link #SEGMENT_SIZE}.
+	 */
+	private final long fDiskLimit;
+
+	/**
+	 * Completely filled in-memory segments. Oldest segment first.
+	 */
+	private final ArrayDeque<byte[]> fSegments = new ArrayDeque<>();
+
+	/**
+	 * The segment currently written to. Allocated lazily.
+	 */
+	private byte[] fCurrent;
+
+	/**
+	 * Number of valid bytes in {@link #fCurrent}.
+	 */
+	private int fCurrentLength;
+
+	/**
+	 * Total number of bytes written to this buffer, including discarded
+	 * content.
+	 */
+	private long fSize;
+
+	/**
+	 * Number of bytes which were moved out of memory, including discarded
+	 * content. The content in memory starts at this offset.
+	 */
+	private long fSpilledSize;
+
+	/**
+	 * Number of discarded bytes. The retained content starts at this offset.
+	 * Spilled content from this offset up to {@link #fSpilledSize} is stored
+	 * in the spill file at the offset modulo {@link #fDiskLimit}.
+	 */
+	private long fDiscardedSize;
+
+	/**
+	 * The spill file or <code>null</code> if nothing was spilled yet.
+	 */
+	private Path fSpillFile;
+
+	/**
+	 * Channel for the spill file or <code>null</code> if nothing was spilled
+	 * yet or the buffer is closed.
+	 */
+	private FileChannel fSpillChannel;
+
+	/**
+	 * Whether the buffer was closed. The spill channel is closed after each
+	 * access then.
+	 */
+	private boolean fClosed;
+
+	/**
+	 * Whether writing to the spill file failed. Content is kept in memory
+	 * afterwards.
+	 */
+	private boolean fSpillFailed;
+
+	/**
+	 * Creates a new buffer with the {@link #DEFAULT_MEMORY_LIMIT}.
+	 */
+	public StreamContentBuffer() {
+		this(DEFAULT_MEMORY_LIMIT);
+	}
+
+	/**
+	 * Creates a new buffer with the {@link #DEFAULT_DISK_LIMIT}.
+	 *
+	 * @param memoryLimit number of bytes to keep in memory before older
+	 *            content is spilled to a temporary file. Will be at least one
+	 *            segment.
+	 */
+	public StreamContentBuffer(int memoryLimit) {
+		this(memoryLimit, DEFAULT_DISK_LIMIT);
+	}
+
+	/**
+	 * Creates a new buffer.
+	 *
+	 * @param memoryLimit number of bytes to keep in memory before older
+	 *            content is spilled to a temporary file. Will be at least one
+	 *            segment.
+	 * @param diskLimit number of bytes to keep in the temporary file before
+	 *            the oldest content is discarded. Will be rounded down to a
+	 *            multiple of the segment size and be at least one segment.
+	 */
+	public StreamContentBuffer(int memoryLimit, long diskLimit) {
+		fMemoryLimit = Math.max(memoryLimit, SEGMENT_SIZE);
+		fDiskLimit = Math.max(diskLimit / SEGMENT_SIZE, 1) * SEGMENT_SIZE;
+	}
+
+	/**
+	 * Appends the given data to the buffer.
+	 *
+	 * @param data the data to append
+	 * @param offset start offset in data
+	 * @param length number of bytes to append
+	 */
+	public void write(byte[] data, int offset, int length) {
+		while (length > 0) {
+			if (fCurrent == null) {
+				fCurrent = new byte[SEGMENT_SIZE];
+				fCurrentLength = 0;
+			}
+			int count = Math.min(length, SEGMENT_SIZE - fCurrentLength);
+			System.arraycopy(data, offset, fCurrent, fCurrentLength, count);
+			fCurrentLength += count;
+			fSize += count;
+			offset += count;
+			length -= count;
+			if (fCurrentLength == SEGMENT_SIZE) {
+				fSegments.add(fCurrent);
+				fCurrent = null;
+				fCurrentLength = 0;
+			}
+		}
+		if (getMemorySize() > fMemoryLimit) {
+			spill();
+		}
+	}
+
+	/**
+	 * @return number of bytes retained in this buffer
+	 */
+	public long size() {
+		return fSize - fDiscardedSize;
+	}
+
+	/**
+	 * @return number of retained bytes of this buffer which are stored on disk
+	 */
+	public long getSpilledSize() {
+		return fSpilledSize - fDiscardedSize;
+	}
+
+	/**
+	 * @return number of bytes written to this buffer which were discarded to
+	 *         stay within the limits
+	 */
+	public long getDiscardedSize() {
+		return fDiscardedSize;
+	}
+
+	/**
+	 * @return number of content bytes currently held in memory
+	 */
+	private long getMemorySize() {
+		return fSize - fSpilledSize;
+	}
+
+	/**
+	 * Reads a range of the retained buffer content.
+	 *
+	 * @param position offset in the retained content to start reading
+	 * @param buffer destination for the read bytes
+	 * @param offset start offset in destination
+	 * @param length maximal number of bytes to read
+	 * @return number of bytes read or <code>-1</code> if position is at or
+	 *         after the end of content
+	 * @throws IOException if reading spilled content failed
+	 */
+	public int read(long position, byte[] buffer, int offset, int length) throws IOException {
+		if (position < 0 || offset < 0 || length < 0 || length > buffer.length - offset) {
+			throw new IndexOutOfBoundsException();
+		}
+		position += fDiscardedSize;
+		if (position >= fSize) {
+			return -1;
+		}
+		length = (int) Math.min(length, fSize - position);
+		int read = 0;
+		if (position < fSpilledSize) {
+			int count = (int) Math.min(length, fSpilledSize - position);
+			try {
+				readSpilled(position, buffer, offset, count);
+			} finally {
+				if (fClosed) {
+					closeSpillChannel();
+				}
+			}
+			read += count;
+			position += count;
+		}
+		if (read < length) {
+			long segmentStart = fSpilledSize;
+			Iterator<byte[]> segments = fSegments.iterator();
+			while (read < length) {
+				byte[] segment;
+				int segmentLength;
+				if (segments.hasNext()) {
+					segment = segments.next();
+					segmentLength = SEGMENT_SIZE;
+				} else {
+					segment = fCurrent;
+					segmentLength = fCurrentLength;
+				}
+				if (position < segmentStart + segmentLength) {
+					int segmentOffset = (int) (position - segmentStart);
+					int count = Math.min(length - read, segmentLength - segmentOffset);
+					System.arraycopy(segment, segmentOffset, buffer, offset + read, count);
+					read += count;
+					position += count;
+				}
+				segmentStart += segmentLength;
+			}
+		}
+		return read;
+	}
+
+	/**
+	 * Returns a stream to read the current content of this buffer. Content
+	 * appended after the stream was created is not visible to the stream and
+	 * content discarded while the stream is read is skipped. The stream must
+	 * not be used after the buffer was reset or disposed.
+	 *
+	 * @return stream to read the buffer content
+	 */
+	public InputStream getInputStream() {
+		final long end = fSize;
+		return new InputStream() {
+			private long fPosition = fDiscardedSize;
+
+			@Override
+			public int read() throws IOException {
+				byte[] b = new byte[1];
+				return read(b, 0, 1) < 0 ? -1 : b[0] & 0xFF;
+			}
+
+			@Override
+			public int read(byte[] b, int off, int len) throws IOException {
+				fPosition = Math.max(fPosition, fDiscardedSize);
+				if (fPosition >= end) {
+					return -1;
+				}
+				int read = StreamContentBuffer.this.read(fPosition - fDiscardedSize, b, off, (int) Math.min(len, end - fPosition));
+				if (read > 0) {
+					fPosition += read;
+				}
+				return read;
+			}
+
+			@Override
+			public int available() {
+				return (int) Math.min(Integer.MAX_VALUE, end - fPosition);
+			}
+		};
+	}
+
+	/**
+	 * Returns the complete retained content as byte array.
+	 *
+	 * @return the buffer content
+	 * @throws IOException if reading spilled content failed
+	 * @throws OutOfMemoryError if content is too large for an array
+	 */
+	public byte[] toByteArray() throws IOException {
+		if (size() > Integer.MAX_VALUE - 8) {
+			throw new OutOfMemoryError();
+		}
+		byte[] data = new byte[(int) size()];
+		if (data.length > 0) {
+			read(0, data, 0, data.length);
+		}
+		return data;
+	}
+
+	/**
+	 * Releases the handle of the spill file. The content stays readable, but
+	 * the spill file is only opened while spilled content is read or written
+	 * from now on. Call {@link #reset()} to discard the content and delete the
+	 * spill file.
+	 */
+	public void close() {
+		fClosed = true;
+		closeSpillChannel();
+	}
+
+	/**
+	 * Discards all content and deletes the spill file if any.
+	 */
+	public void reset() {
+		fSegments.clear();
+		fCurrent = null;
+		fCurrentLength = 0;
+		fSize = 0;
+		fSpilledSize = 0;
+		fDiscardedSize = 0;
+		fSpillFailed = false;
+		closeSpillFile();
+	}
+
+	/**
+	 * Writes the oldest in-memory segments to the spill file until only half of
+	 * the memory limit is used and discards the oldest spilled content which
+	 * exceeds the disk limit. Segments are only removed from memory once they
+	 * were written completely. If spilling fails content is kept in memory,
+	 * spilling is not attempted again and from then on the oldest segments are
+	 * discarded instead.
+	 */
+	private void spill() {
+		int count = 0;
+		Iterator<byte[]> segments = fSegments.iterator();
+		while (segments.hasNext() && getMemorySize() - (long) count * SEGMENT_SIZE > fMemoryLimit / 2) {
+			segments.next();
+			count++;
+		}
+		if (count == 0) {
+			return;
+		}
+		if (!fSpillFailed) {
+			ByteBuffer[] buffers = new ByteBuffer[count];
+			segments = fSegments.iterator();
+			for (int i = 0; i < count; i++) {
+				buffers[i] = ByteBuffer.wrap(segments.next());
+			}
+			try {
+				if (fSpillFile == null) {
+					fSpillFile = Files.createTempFile("debug-stream", ".buf"); //$NON-NLS-1$ //$NON-NLS-2$
+					fSpillFile.toFile().deleteOnExit();
+				}
+				getSpillChannel();
+				writeSpilled(buffers);
+				if (fClosed) {
+					closeSpillChannel();
+				}
+			} catch (IOException e) {
+				DebugPlugin.log(e);
+				// the spill file is no longer usable, keep the in-memory content
+				fSpillFailed = true;
+				fDiscardedSize = fSpilledSize;
+				closeSpillFile();
+				return;
+			}
+		}
+		for (int i = 0; i < count; i++) {
+			fSegments.poll();
+		}
+		fSpilledSize += (long) count * SEGMENT_SIZE;
+		fDiscardedSize = fSpillFailed ? fSpilledSize : Math.max(fDiscardedSize, fSpilledSize - fDiskLimit);
+	}
+
+	/**
+	 * Writes the given segments after the spilled content. The segments are
+	 * stored at their offset modulo the disk limit and segments which would be
+	 * overwritten by later segments of the same write are skipped.
+	 */
+	private void writeSpilled(ByteBuffer[] buffers) throws IOException {
+		int first = (int) Math.max(0, buffers.length - fDiskLimit / SEGMENT_SIZE);
+		while (first < buffers.length) {
+			long position = (fSpilledSize + (long) first * SEGMENT_SIZE) % fDiskLimit;
+			int count = (int) Math.min(buffers.length - first, (fDiskLimit - position) / SEGMENT_SIZE);
+			fSpillChannel.position(position);
+			long remaining = (long) count * SEGMENT_SIZE;
+			while (remaining > 0) {
+				remaining -= fSpillChannel.write(buffers, first, count);
+			}
+			first += count;
+		}
+	}
+
+	/**
+	 * Opens the channel content is spilled to and read back from.
+	 *
+	 * @param file the temporary file to open
+	 * @return channel for the file
+	 * @throws IOException if the file cannot be opened
+	 */
+	protected FileChannel openSpillChannel(Path file) throws IOException {
+		return FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE);
+	}
+
+	/**
+	 * Returns the channel of the spill file, opening it if necessary.
+	 */
+	private FileChannel getSpillChannel() throws IOException {
+		if (fSpillChannel == null) {
+			fSpillChannel = openSpillChannel(fSpillFile);
+		}
+		return fSpillChannel;
+	}
+
+	/**
+	 * Reads spilled content with positional reads from the spill file.
+	 */
+	private void readSpilled(long position, byte[] buffer, int offset, int length) throws IOException {
+		FileChannel channel = getSpillChannel();
+		ByteBuffer target = ByteBuffer.wrap(buffer, offset, length);
+		while (target.hasRemaining()) {
+			long filePosition = position % fDiskLimit;
+			int count = (int) Math.min(target.remaining(), fDiskLimit - filePosition);
+			int end = target.position() + count;
+			target.limit(end);
+			while (target.position() < end) {
+				int read = channel.read(target, filePosition);
+				if (read < 0) {
+					throw new EOFException();
+				}
+				filePosition += read;
+				position += read;
+			}
+			target.limit(offset + length);
+		}
+	}
+
+	/**
+	 * Closes the channel of the spill file, keeping the file.
+	 */
+	private void closeSpillChannel() {
+		if (fSpillChannel != null) {
+			try {
+				fSpillChannel.close();
+			} catch (IOException e) {
+				DebugPlugin.log(e);
+			}
+			fSpillChannel = null;
+		}
+	}
+
+	private void closeSpillFile() {
+		closeSpillChannel();
+		if (fSpillFile != null) {
+			try {
+				Files.deleteIfExists(fSpillFile);
+			} catch (IOException e) {
+				DebugPlugin.log(e);
+			}
+			fSpillFile = null;
+		}
+	}
+}
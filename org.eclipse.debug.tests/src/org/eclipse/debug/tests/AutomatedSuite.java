@@ -18,27 +18,36 @@ package org.eclipse.debug.tests;
 import org.eclipse.debug.tests.breakpoint.BreakpointOrderingTests;
 import org.eclipse.debug.tests.breakpoint.BreakpointTests;
 import org.eclipse.debug.tests.breakpoint.SerialExecutorTest;
+import org.eclipse.debug.tests.console.AnsiStyleRunTableTests;
 import org.eclipse.debug.tests.console.ConsoleDocumentAdapterTests;
 import org.eclipse.debug.tests.console.ConsoleManagerTests;
+import org.eclipse.debug.tests.console.ConsolePatternMatcherTests;
 import org.eclipse.debug.tests.console.ConsoleTests;
+import org.eclipse.debug.tests.console.ConsoleTextStoreTests;
 import org.eclipse.debug.tests.console.FileLinkTests;
 import org.eclipse.debug.tests.console.IOConsoleFixedWidthTests;
 import org.eclipse.debug.tests.console.IOConsoleTests;
 import org.eclipse.debug.tests.console.InputStreamMonitorTests;
 import org.eclipse.debug.tests.console.OutputStreamMonitorTests;
+import org.eclipse.debug.tests.console.ProcessConsoleFileSinkTests;
 import org.eclipse.debug.tests.console.ProcessConsoleManagerTests;
 import org.eclipse.debug.tests.console.ProcessConsoleTests;
 import org.eclipse.debug.tests.console.RuntimeProcessTests;
+import org.eclipse.debug.tests.console.StreamContentBufferTests;
 import org.eclipse.debug.tests.console.StreamsProxyTests;
 import org.eclipse.debug.tests.console.TextConsoleViewerTest;
+import org.eclipse.debug.tests.events.DebugEventCoalescerTests;
+import org.eclipse.debug.tests.events.DebugEventStatisticsTests;
 import org.eclipse.debug.tests.launching.AcceleratorSubstitutionTests;
 import org.eclipse.debug.tests.launching.ArgumentParsingTests;
+import org.eclipse.debug.tests.launching.AttributeMapTests;
 import org.eclipse.debug.tests.launching.LaunchConfigurationTests;
 import org.eclipse.debug.tests.launching.LaunchFavoriteTests;
 import org.eclipse.debug.tests.launching.LaunchGroupTests;
 import org.eclipse.debug.tests.launching.LaunchHistoryTests;
 import org.eclipse.debug.tests.launching.LaunchManagerTests;
 import org.eclipse.debug.tests.launching.LaunchTests;
+import org.eclipse.debug.tests.launching.MappedResourceIndexTests;
 import org.eclipse.debug.tests.launching.RefreshTabTests;
 import org.eclipse.debug.tests.logicalstructure.LogicalStructureCacheTest;
 import org.eclipse.debug.tests.sourcelookup.SourceLookupFacilityTests;
@@ -73,6 +82,9 @@ import org.junit.runners.Suite;
 		BreakpointOrderingTests.class,
 		BreakpointTests.class,
 		SerialExecutorTest.class,
+		// Debug event tests
+		DebugEventCoalescerTests.class,
+		DebugEventStatisticsTests.class,
 		// Note: jface viewer tests were moved out of nightly tests
 		// due to frequent problems on nightly build machines.
 		// (Bug 343308).
@@ -105,6 +117,8 @@ import org.junit.runners.Suite;
 		RefreshTabTests.class,
 		ArgumentParsingTests.class,
 		LaunchTests.class,
+		MappedResourceIndexTests.class,
+		AttributeMapTests.class,
 
 		// Status handlers
 		StatusHandlerTests.class,
@@ -124,8 +138,13 @@ import org.junit.runners.Suite;
 		TextConsoleViewerTest.class,
 		RuntimeProcessTests.class,
 		OutputStreamMonitorTests.class,
+		StreamContentBufferTests.class,
 		InputStreamMonitorTests.class,
 		FileLinkTests.class,
+		ConsoleTextStoreTests.class,
+		ConsolePatternMatcherTests.class,
+		AnsiStyleRunTableTests.class,
+		ProcessConsoleFileSinkTests.class,
 
 		// Launch Groups
 		LaunchGroupTests.class,
@@ -13,6 +13,13 @@
  *******************************************************************************/
 package org.eclipse.debug.tests;
 
+import org.eclipse.debug.tests.breakpoint.BreakpointManagerPerformanceTests;
+import org.eclipse.debug.tests.console.ConsoleDocumentPerformanceTests;
+import org.eclipse.debug.tests.console.ConsolePerformanceTests;
+import org.eclipse.debug.tests.console.OutputStreamMonitorPerformanceTests;
+import org.eclipse.debug.tests.launching.LaunchConfigurationCopyPerformanceTests;
+import org.eclipse.debug.tests.launching.LaunchConfigurationSerializationPerformanceTests;
+import org.eclipse.debug.tests.launching.LaunchManagerConcurrencyPerformanceTests;
 import org.eclipse.debug.tests.viewer.model.JFaceViewerPerformanceTests;
 import org.eclipse.debug.tests.viewer.model.VirtualViewerPerformanceTests;
 import org.junit.runner.RunWith;
@@ -26,6 +33,13 @@ import org.junit.runners.Suite;
 @RunWith(Suite.class)
 @Suite.SuiteClasses({
 		JFaceViewerPerformanceTests.class,
-		VirtualViewerPerformanceTests.class })
+		VirtualViewerPerformanceTests.class,
+		OutputStreamMonitorPerformanceTests.class,
+		LaunchConfigurationSerializationPerformanceTests.class,
+		LaunchManagerConcurrencyPerformanceTests.class,
+		LaunchConfigurationCopyPerformanceTests.class,
+		BreakpointManagerPerformanceTests.class,
+		ConsoleDocumentPerformanceTests.class,
+		ConsolePerformanceTests.class })
 public class PerformanceSuite {
 }
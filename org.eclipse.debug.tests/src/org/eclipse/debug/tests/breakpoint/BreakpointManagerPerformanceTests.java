@@ -0,0 +1,202 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.debug.tests.breakpoint;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.core.resources.IMarker;
+import org.eclipse.core.resources.IMarkerDelta;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.debug.core.DebugPlugin;
+import org.eclipse.debug.core.IBreakpointManager;
+import org.eclipse.debug.core.IBreakpointsListener;
+import org.eclipse.debug.core.model.IBreakpoint;
+import org.eclipse.debug.tests.AbstractDebugTest;
+import org.eclipse.debug.tests.TestUtil;
+import org.eclipse.debug.ui.actions.ExportBreakpointsOperation;
+import org.eclipse.debug.ui.actions.ImportBreakpointsOperation;
+import org.eclipse.test.performance.Performance;
+import org.eclipse.test.performance.PerformanceMeter;
+import org.junit.Test;
+
+/**
+ * Measures adding and removing large numbers of breakpoints in a batch, as
+ * done when importing breakpoints or creating them from a script, and
+ * importing breakpoints from an export.
+ */
+public class BreakpointManagerPerformanceTests extends AbstractDebugTest {
+
+	/** Number of breakpoints added or removed per measurement. */
+	private static final int BREAKPOINTS = 50000;
+
+	/** Number of breakpoints exported and imported per measurement. */
+	private static final int IMPORTED_BREAKPOINTS = 10000;
+
+	private final IBreakpointManager bpm = DebugPlugin.getDefault().getBreakpointManager();
+
+	private final AtomicInteger fAddedNotifications = new AtomicInteger();
+
+	private final AtomicInteger fRemovedNotifications = new AtomicInteger();
+
+	private final IBreakpointsListener fListener = new IBreakpointsListener() {
+		@Override
+		public void breakpointsAdded(IBreakpoint[] breakpoints) {
+			fAddedNotifications.incrementAndGet();
+		}
+
+		@Override
+		public void breakpointsRemoved(IBreakpoint[] breakpoints, IMarkerDelta[] deltas) {
+			fRemovedNotifications.incrementAndGet();
+		}
+
+		@Override
+		public void breakpointsChanged(IBreakpoint[] breakpoints, IMarkerDelta[] deltas) {
+		}
+	};
+
+	public String getDefaultScenarioId() {
+		return this.getClass().getName() + '#' + name.getMethodName() + "()"; //$NON-NLS-1$
+	}
+
+	@Override
+	public void tearDown() throws Exception {
+		removeBreakpoints();
+		super.tearDown();
+	}
+
+	@Test
+	public void testAddBreakpointsBatch() throws Exception {
+		// warm up
+		addBreakpoints();
+		removeBreakpoints();
+		bpm.addBreakpointListener(fListener);
+		Performance perf = Performance.getDefault();
+		PerformanceMeter meter = perf.createPerformanceMeter(getDefaultScenarioId());
+		try {
+			for (int run = 0; run < 10; run++) {
+				fAddedNotifications.set(0);
+				meter.start();
+				long start = System.nanoTime();
+				addBreakpoints();
+				long duration = System.nanoTime() - start;
+				meter.stop();
+				TestUtil.log(IStatus.INFO, name.getMethodName(), String.format("Run %d: %d breakpoints added in %d ms, %d notifications", run, BREAKPOINTS, duration / 1000000, fAddedNotifications.get())); //$NON-NLS-1$
+				assertEquals("Batch should be reported once", 1, fAddedNotifications.get()); //$NON-NLS-1$
+				removeBreakpoints();
+			}
+			meter.commit();
+			perf.assertPerformance(meter);
+		} finally {
+			bpm.removeBreakpointListener(fListener);
+			meter.dispose();
+		}
+	}
+
+	@Test
+	public void testRemoveBreakpointsBatch() throws Exception {
+		// warm up
+		addBreakpoints();
+		removeBreakpoints();
+		bpm.addBreakpointListener(fListener);
+		Performance perf = Performance.getDefault();
+		PerformanceMeter meter = perf.createPerformanceMeter(getDefaultScenarioId());
+		try {
+			for (int run = 0; run < 10; run++) {
+				addBreakpoints();
+				fRemovedNotifications.set(0);
+				meter.start();
+				long start = System.nanoTime();
+				removeBreakpoints();
+				long duration = System.nanoTime() - start;
+				meter.stop();
+				TestUtil.log(IStatus.INFO, name.getMethodName(), String.format("Run %d: %d breakpoints removed in %d ms, %d notifications", run, BREAKPOINTS, duration / 1000000, fRemovedNotifications.get())); //$NON-NLS-1$
+				assertEquals("Batch should be reported once", 1, fRemovedNotifications.get()); //$NON-NLS-1$
+			}
+			meter.commit();
+			perf.assertPerformance(meter);
+		} finally {
+			bpm.removeBreakpointListener(fListener);
+			meter.dispose();
+		}
+	}
+
+	@Test
+	public void testImportBreakpoints() throws Exception {
+		addBreakpoints(IMPORTED_BREAKPOINTS);
+		ExportBreakpointsOperation export = new ExportBreakpointsOperation(bpm.getBreakpoints(TestBreakpoint.MODEL));
+		export.run(null);
+		StringBuffer exported = export.getBuffer();
+		removeBreakpoints();
+		Performance perf = Performance.getDefault();
+		PerformanceMeter meter = perf.createPerformanceMeter(getDefaultScenarioId());
+		try {
+			for (int run = 0; run < 10; run++) {
+				// the first import creates the breakpoints, the second one
+				// has to find an existing breakpoint for each imported one
+				ImportBreakpointsOperation create = new ImportBreakpointsOperation(exported, false, false);
+				ImportBreakpointsOperation update = new ImportBreakpointsOperation(exported, false, false);
+				meter.start();
+				long start = System.nanoTime();
+				create.run(null);
+				update.run(null);
+				long duration = System.nanoTime() - start;
+				meter.stop();
+				TestUtil.log(IStatus.INFO, name.getMethodName(), String.format("Run %d: %d breakpoints imported twice in %d ms", run, IMPORTED_BREAKPOINTS, duration / 1000000)); //$NON-NLS-1$
+				assertEquals(IMPORTED_BREAKPOINTS, create.getImportedBreakpoints().length);
+				assertEquals("Existing breakpoints should be found", 0, update.getImportedBreakpoints().length); //$NON-NLS-1$
+				assertEquals(IMPORTED_BREAKPOINTS, bpm.getBreakpoints(TestBreakpoint.MODEL).length);
+				removeBreakpoints();
+			}
+			meter.commit();
+			perf.assertPerformance(meter);
+		} finally {
+			meter.dispose();
+		}
+	}
+
+	/**
+	 * Creates and registers the test breakpoints in one batch.
+	 */
+	private void addBreakpoints() throws Exception {
+		addBreakpoints(BREAKPOINTS);
+	}
+
+	/**
+	 * Creates and registers the given number of test breakpoints on distinct
+	 * lines in one batch.
+	 *
+	 * @param count the number of breakpoints to create
+	 */
+	private void addBreakpoints(int count) throws Exception {
+		bpm.runBatch(monitor -> {
+			IBreakpoint[] breakpoints = new IBreakpoint[count];
+			for (int i = 0; i < count; i++) {
+				breakpoints[i] = new TestBreakpoint("breakpoint " + i); //$NON-NLS-1$
+				breakpoints[i].getMarker().setAttribute(IMarker.LINE_NUMBER, i + 1);
+			}
+			bpm.addBreakpoints(breakpoints);
+		}, null);
+		assertEquals(count, bpm.getBreakpoints(TestBreakpoint.MODEL).length);
+	}
+
+	/**
+	 * Removes and deletes all test breakpoints in one batch.
+	 */
+	private void removeBreakpoints() throws Exception {
+		bpm.runBatch(monitor -> bpm.removeBreakpoints(bpm.getBreakpoints(TestBreakpoint.MODEL), true), null);
+		assertEquals(0, bpm.getBreakpoints(TestBreakpoint.MODEL).length);
+	}
+}
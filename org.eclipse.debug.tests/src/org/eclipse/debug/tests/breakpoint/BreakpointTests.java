@@ -18,12 +18,18 @@ import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 import org.eclipse.core.commands.operations.IOperationHistory;
 import org.eclipse.core.commands.operations.IUndoContext;
+import org.eclipse.core.resources.IMarker;
+import org.eclipse.core.resources.IMarkerDelta;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.resources.ResourcesPlugin;
 import org.eclipse.debug.core.DebugPlugin;
 import org.eclipse.debug.core.IBreakpointManager;
+import org.eclipse.debug.core.IBreakpointsListener;
 import org.eclipse.debug.core.model.IBreakpoint;
 import org.eclipse.debug.internal.core.BreakpointManager;
 import org.eclipse.debug.internal.ui.DebugUIPlugin;
@@ -130,4 +136,133 @@ public class BreakpointTests extends AbstractDebugTest {
 			}
 		}
 	}
+
+	/**
+	 * Tests that breakpoints can be queried by model identifier, resource and
+	 * line number and the index follows line number changes and removal.
+	 */
+	@Test
+	public void testBreakpointIndex() throws Exception {
+		IResource root = ResourcesPlugin.getWorkspace().getRoot();
+		TestBreakpoint first = new TestBreakpoint("first"); //$NON-NLS-1$
+		TestBreakpoint second = new TestBreakpoint("second"); //$NON-NLS-1$
+		TestBreakpoint noLine = new TestBreakpoint("no line"); //$NON-NLS-1$
+		first.getMarker().setAttribute(IMarker.LINE_NUMBER, 10);
+		second.getMarker().setAttribute(IMarker.LINE_NUMBER, 20);
+		bpm.addBreakpoints(new IBreakpoint[] { first, second, noLine });
+
+		assertEquals(Arrays.asList(first, second, noLine), Arrays.asList(bpm.getBreakpoints(TestBreakpoint.MODEL)));
+		assertTrue(Arrays.asList(bpm.getBreakpoints(root)).containsAll(Arrays.asList(first, second, noLine)));
+		assertEquals(Arrays.asList(first), Arrays.asList(bpm.getBreakpoints(root, 10)));
+		assertEquals(Arrays.asList(second), Arrays.asList(bpm.getBreakpoints(root, 20)));
+		assertTrue(Arrays.asList(bpm.getBreakpoints(root, -1)).contains(noLine));
+		assertEquals(0, bpm.getBreakpoints("org.eclipse.debug.tests.unknown").length); //$NON-NLS-1$
+		assertTrue(bpm.isRegistered(first));
+
+		// marker changes are applied when the resource delta is processed
+		first.getMarker().setAttribute(IMarker.LINE_NUMBER, 20);
+		TestUtil.waitWhile(c -> bpm.getBreakpoints(root, 10).length > 0, this, testTimeout, c -> "Breakpoint line change not indexed"); //$NON-NLS-1$
+		assertEquals(Arrays.asList(second, first), Arrays.asList(bpm.getBreakpoints(root, 20)));
+
+		bpm.removeBreakpoint(second, true);
+		assertFalse(bpm.isRegistered(second));
+		assertEquals(Arrays.asList(first), Arrays.asList(bpm.getBreakpoints(root, 20)));
+		assertEquals(Arrays.asList(first, noLine), Arrays.asList(bpm.getBreakpoints(TestBreakpoint.MODEL)));
+	}
+
+	/**
+	 * Tests that breakpoints added and removed in a batch are reported with
+	 * one notification per batch.
+	 */
+	@Test
+	public void testRunBatch() throws Exception {
+		List<IBreakpoint[]> added = new ArrayList<>();
+		List<IBreakpoint[]> removed = new ArrayList<>();
+		IBreakpointsListener listener = new IBreakpointsListener() {
+			@Override
+			public void breakpointsAdded(IBreakpoint[] breakpoints) {
+				added.add(breakpoints);
+			}
+
+			@Override
+			public void breakpointsRemoved(IBreakpoint[] breakpoints, IMarkerDelta[] deltas) {
+				removed.add(breakpoints);
+			}
+
+			@Override
+			public void breakpointsChanged(IBreakpoint[] breakpoints, IMarkerDelta[] deltas) {
+			}
+		};
+		bpm.addBreakpointListener(listener);
+		try {
+			List<IBreakpoint> breakpoints = new ArrayList<>();
+			bpm.runBatch(monitor -> {
+				for (int i = 0; i < 10; i++) {
+					TestBreakpoint breakpoint = new TestBreakpoint("batch " + i); //$NON-NLS-1$
+					breakpoints.add(breakpoint);
+					bpm.addBreakpoint(breakpoint);
+				}
+				assertTrue("Listeners notified before the batch completed", added.isEmpty()); //$NON-NLS-1$
+			}, null);
+			assertEquals(1, added.size());
+			assertEquals(breakpoints, Arrays.asList(added.get(0)));
+			assertEquals(10, getTestBreakpoints().size());
+
+			bpm.runBatch(monitor -> {
+				for (IBreakpoint breakpoint : breakpoints) {
+					bpm.removeBreakpoint(breakpoint, true);
+				}
+			}, null);
+			assertEquals(1, removed.size());
+			assertEquals(breakpoints, Arrays.asList(removed.get(0)));
+			assertTrue(getTestBreakpoints().isEmpty());
+		} finally {
+			bpm.removeBreakpointListener(listener);
+		}
+	}
+
+	/**
+	 * Tests that breakpoints without attribute caching see direct marker
+	 * changes at once, and that breakpoints with caching answer their own
+	 * attribute changes immediately and direct marker changes once the marker
+	 * delta is reported.
+	 */
+	@Test
+	public void testAttributeSnapshot() throws Exception {
+		TestBreakpoint uncached = new TestBreakpoint("uncached"); //$NON-NLS-1$
+		bpm.addBreakpoint(uncached);
+		assertFalse(uncached.isEnabled());
+		ResourcesPlugin.getWorkspace().run(monitor -> {
+			uncached.getMarker().setAttribute(IBreakpoint.ENABLED, true);
+			assertTrue(uncached.isEnabled());
+		}, null);
+
+		TestBreakpoint breakpoint = new TestBreakpoint("snapshot") { //$NON-NLS-1$
+			@Override
+			protected boolean isAttributeCacheEnabled() {
+				return true;
+			}
+		};
+		bpm.addBreakpoint(breakpoint);
+		assertFalse(breakpoint.isEnabled());
+		assertTrue(breakpoint.isRegistered());
+
+		breakpoint.setEnabled(true);
+		assertTrue(breakpoint.isEnabled());
+		breakpoint.setPersisted(false);
+		assertFalse(breakpoint.isPersisted());
+
+		breakpoint.getMarker().setAttribute(IBreakpoint.ENABLED, false);
+		TestUtil.waitWhile(c -> {
+			try {
+				return breakpoint.isEnabled();
+			} catch (Exception e) {
+				return false;
+			}
+		}, this, testTimeout, c -> "Marker change not reflected"); //$NON-NLS-1$
+
+		breakpoint.delete();
+		assertFalse(breakpoint.isRegistered());
+		assertFalse(breakpoint.isEnabled());
+	}
 }
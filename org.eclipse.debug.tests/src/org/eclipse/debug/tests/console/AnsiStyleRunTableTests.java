@@ -0,0 +1,157 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.debug.tests.console;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.eclipse.debug.tests.AbstractDebugTest;
+import org.eclipse.ui.internal.console.ansi.participants.AnsiStyleRunTable;
+import org.junit.Test;
+
+/**
+ * Tests {@link AnsiStyleRunTable}.
+ */
+@SuppressWarnings("restriction")
+public class AnsiStyleRunTableTests extends AbstractDebugTest {
+
+	/** The escape sequences recognized by the console. */
+	private static final Pattern ESCAPE_SEQUENCE = Pattern.compile("\u001b\\[[\\d;]*[A-HJKSTfimnsu]"); //$NON-NLS-1$
+
+	/**
+	 * Attributes selected by SGR sequences, including a sequence split across
+	 * two appends.
+	 */
+	@Test
+	public void testAttributes() {
+		AnsiStyleRunTable table = new AnsiStyleRunTable();
+		table.append("x\u001b[3"); //$NON-NLS-1$
+		table.append("2;1mgreen\u001b[38;5;200;48;2;1;2;3mcolors\u001b[4mline\u001b[K\u001b[0m\n"); //$NON-NLS-1$
+		assertEquals(5, table.getCount());
+		assertEquals(1, table.getOffset(0));
+		assertEquals(7, table.getSequenceLength(0));
+		assertEquals(2, table.getForeground(0));
+		assertEquals(AnsiStyleRunTable.DEFAULT_COLOR, table.getBackground(0));
+		assertEquals(AnsiStyleRunTable.BOLD, table.getFlags(0));
+		assertEquals(200, table.getForeground(1));
+		assertEquals(0x10010203, table.getBackground(1));
+		assertEquals(AnsiStyleRunTable.BOLD | AnsiStyleRunTable.UNDERLINE_SINGLE, table.getFlags(2));
+		assertEquals("Other sequences keep the attributes", table.getFlags(2), table.getFlags(3)); //$NON-NLS-1$
+		assertEquals(AnsiStyleRunTable.DEFAULT_COLOR, table.getForeground(4));
+		assertEquals(0, table.getFlags(4));
+		assertEquals(AnsiStyleRunTable.DEFAULT_COLOR, table.getForeground(-1));
+	}
+
+	/**
+	 * Random text appended in random parts and trimmed at line starts gives
+	 * the same sequences as the regular expression applied to the whole text.
+	 */
+	@Test
+	public void testRandomText() {
+		Random random = new Random(42);
+		String chars = "\u001b\u001b[[3;1m0Kxa\n"; //$NON-NLS-1$
+		for (int run = 0; run < 1000; run++) {
+			AnsiStyleRunTable table = new AnsiStyleRunTable();
+			StringBuilder all = new StringBuilder();
+			StringBuilder document = new StringBuilder();
+			int trimmed = 0;
+			for (int i = 0; i < 30; i++) {
+				int lineEnd = document.indexOf("\n"); //$NON-NLS-1$
+				if (random.nextInt(5) == 0 && lineEnd >= 0) {
+					table.trim(lineEnd + 1);
+					document.delete(0, lineEnd + 1);
+					trimmed += lineEnd + 1;
+				} else {
+					StringBuilder text = new StringBuilder();
+					for (int j = random.nextInt(12); j > 0; j--) {
+						text.append(chars.charAt(random.nextInt(chars.length())));
+					}
+					table.append(text);
+					document.append(text);
+					all.append(text);
+				}
+			}
+			assertEquals(document.length(), table.getLength());
+			List<Integer> expected = new ArrayList<>();
+			Matcher matcher = ESCAPE_SEQUENCE.matcher(all);
+			while (matcher.find()) {
+				if (matcher.start() >= trimmed) {
+					expected.add(Integer.valueOf(matcher.start() - trimmed));
+					expected.add(Integer.valueOf(matcher.end() - matcher.start()));
+				}
+			}
+			List<Integer> actual = new ArrayList<>();
+			for (int i = 0; i < table.getCount(); i++) {
+				actual.add(Integer.valueOf(table.getOffset(i)));
+				actual.add(Integer.valueOf(table.getSequenceLength(i)));
+				assertEquals(i, table.indexOf(table.getOffset(i)));
+			}
+			assertEquals(expected, actual);
+		}
+	}
+
+	/**
+	 * Trimming drops the sequences before the cut and keeps their attributes
+	 * for the remaining text.
+	 */
+	@Test
+	public void testTrim() {
+		AnsiStyleRunTable table = new AnsiStyleRunTable();
+		assertFalse(table.hasStyles());
+		for (int i = 0; i < 1000; i++) {
+			table.append("\u001b[3" + (i % 8) + "mline " + i + "\n"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+		}
+		assertEquals(1000, table.getCount());
+		int lineLength = "\u001b[34mline 996\n".length(); //$NON-NLS-1$
+		table.trim(table.getLength() - 4 * lineLength);
+		assertEquals(4, table.getCount());
+		assertEquals(0, table.getOffset(0));
+		assertEquals(996 % 8, table.getForeground(0));
+		assertEquals("Attributes of the last trimmed sequence", 995 % 8, table.getForeground(-1)); //$NON-NLS-1$
+		assertEquals(1, table.indexOf(lineLength));
+		assertEquals(4, table.indexOf(table.getLength()));
+		table.trim(table.getLength());
+		assertEquals(0, table.getCount());
+		assertTrue(table.hasStyles());
+		table.append("\u001b[0m"); //$NON-NLS-1$
+		assertEquals(0, table.getOffset(0));
+		table.clear();
+		assertFalse(table.hasStyles());
+	}
+
+	/**
+	 * Other changes remove the affected sequences and move the following
+	 * sequences.
+	 */
+	@Test
+	public void testReplace() {
+		AnsiStyleRunTable table = new AnsiStyleRunTable();
+		table.append("a\u001b[31mb\u001b[32mc\u001b[33md"); //$NON-NLS-1$
+		table.replace(6, 1, 3);
+		assertEquals(3, table.getCount());
+		assertEquals(9, table.getOffset(1));
+		table.replace(3, 0, 1);
+		assertEquals(2, table.getCount());
+		assertEquals(10, table.getOffset(0));
+		assertEquals(16, table.getOffset(1));
+		assertEquals(22, table.getLength());
+	}
+}
@@ -0,0 +1,122 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.debug.tests.console;
+
+import static org.junit.Assert.assertEquals;
+
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.debug.tests.AbstractDebugTest;
+import org.eclipse.debug.tests.TestUtil;
+import org.eclipse.jface.text.Document;
+import org.eclipse.jface.text.IDocument;
+import org.eclipse.test.performance.Performance;
+import org.eclipse.test.performance.PerformanceMeter;
+import org.eclipse.ui.internal.console.ConsoleDocument;
+import org.junit.Test;
+
+/**
+ * Measures feeding 1 GB of output into a console document which is trimmed
+ * like the console trims its content when the high water mark is exceeded.
+ */
+@SuppressWarnings("restriction")
+public class ConsoleDocumentPerformanceTests extends AbstractDebugTest {
+
+	/** Amount of output appended in each run, in chars. */
+	private static final long OUTPUT_SIZE = 1024L * 1024 * 1024;
+
+	/** Document length which triggers trimming. */
+	private static final int HIGH_WATER_MARK = 32 * 1024 * 1024;
+
+	/** Document length after trimming. */
+	private static final int LOW_WATER_MARK = 24 * 1024 * 1024;
+
+	/** Output appended at once, like a single pending partition. */
+	private static final String CHUNK;
+
+	static {
+		StringBuilder chunk = new StringBuilder(8192);
+		while (chunk.length() < 8192 - 80) {
+			for (int i = 0; i < 79; i++) {
+				chunk.append((char) ('a' + i % 26));
+			}
+			chunk.append('\n');
+		}
+		CHUNK = chunk.toString();
+	}
+
+	public String getDefaultScenarioId() {
+		return this.getClass().getName() + '#' + name.getMethodName() + "()"; //$NON-NLS-1$
+	}
+
+	/**
+	 * Feeds output into a {@link ConsoleDocument}.
+	 */
+	@Test
+	public void testConsoleDocumentAppendAndTrim() throws Exception {
+		runFeedTest(true);
+	}
+
+	/**
+	 * Feeds output into a default {@link Document} for comparison.
+	 */
+	@Test
+	public void testDefaultDocumentAppendAndTrim() throws Exception {
+		runFeedTest(false);
+	}
+
+	private void runFeedTest(boolean consoleDocument) throws Exception {
+		// warm up
+		feed(consoleDocument ? new ConsoleDocument() : new Document(), OUTPUT_SIZE / 16);
+		Performance perf = Performance.getDefault();
+		PerformanceMeter meter = perf.createPerformanceMeter(getDefaultScenarioId());
+		try {
+			for (int run = 0; run < 5; run++) {
+				IDocument document = consoleDocument ? new ConsoleDocument() : new Document();
+				meter.start();
+				long start = System.nanoTime();
+				int trims = feed(document, OUTPUT_SIZE);
+				long duration = System.nanoTime() - start;
+				meter.stop();
+				double mbPerSecond = (OUTPUT_SIZE / (1024.0 * 1024.0)) / (duration / 1_000_000_000.0);
+				TestUtil.log(IStatus.INFO, name.getMethodName(), String.format("Run %d: %.1f MB/s, %d trims, %d lines kept", run, mbPerSecond, trims, document.getNumberOfLines())); //$NON-NLS-1$
+				assertEquals('\n', document.getChar(document.getLength() - 1));
+				System.gc();
+			}
+			meter.commit();
+			perf.assertPerformance(meter);
+		} finally {
+			meter.dispose();
+		}
+	}
+
+	/**
+	 * Appends the given amount of output and trims the document at line
+	 * starts whenever it exceeds the high water mark.
+	 *
+	 * @return the number of trims
+	 */
+	private static int feed(IDocument document, long size) throws Exception {
+		int trims = 0;
+		for (long appended = 0; appended < size; appended += CHUNK.length()) {
+			document.replace(document.getLength(), 0, CHUNK);
+			int length = document.getLength();
+			if (length > HIGH_WATER_MARK) {
+				int cutOffset = document.getLineOffset(document.getLineOfOffset(length - LOW_WATER_MARK));
+				document.replace(0, cutOffset, ""); //$NON-NLS-1$
+				trims++;
+			}
+		}
+		return trims;
+	}
+}
@@ -0,0 +1,226 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.debug.tests.console;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.eclipse.core.runtime.jobs.Job;
+import org.eclipse.debug.tests.AbstractDebugTest;
+import org.eclipse.jface.text.IDocument;
+import org.eclipse.ui.console.IPatternMatchListener;
+import org.eclipse.ui.console.MessageConsole;
+import org.eclipse.ui.console.PatternMatchEvent;
+import org.eclipse.ui.console.TextConsole;
+import org.eclipse.ui.internal.console.ConsolePatternMatcher;
+import org.eclipse.ui.internal.console.ConsolePatternMatcher.PatternStatistics;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests {@link ConsolePatternMatcher}.
+ */
+@SuppressWarnings("restriction")
+public class ConsolePatternMatcherTests extends AbstractDebugTest {
+
+	private MessageConsole fConsole;
+
+	private ConsolePatternMatcher fMatcher;
+
+	@Override
+	@Before
+	public void setUp() throws Exception {
+		super.setUp();
+		fConsole = new MessageConsole("Pattern matcher test", null); //$NON-NLS-1$
+		fMatcher = new ConsolePatternMatcher(fConsole);
+		fConsole.getDocument().addDocumentListener(fMatcher);
+	}
+
+	@Override
+	@After
+	public void tearDown() throws Exception {
+		fConsole.getDocument().removeDocumentListener(fMatcher);
+		fMatcher.disconnect();
+		super.tearDown();
+	}
+
+	/**
+	 * Listeners with literal, overlapping literal, regular expression and no
+	 * qualifiers find the same matches as their patterns applied to the whole
+	 * content, while the content is appended in several parts.
+	 */
+	@Test
+	public void testMatches() throws Exception {
+		List<TestListener> listeners = new ArrayList<>();
+		listeners.add(new TestListener("\\w+\\.java:\\d+", "\\.java:")); //$NON-NLS-1$ //$NON-NLS-2$
+		listeners.add(new TestListener("https?://\\S+", "\\Q://\\E")); //$NON-NLS-1$ //$NON-NLS-2$
+		listeners.add(new TestListener("ERROR.*", "ERROR")); //$NON-NLS-1$ //$NON-NLS-2$
+		listeners.add(new TestListener("ERROR \\d+", "ERROR ")); //$NON-NLS-1$ //$NON-NLS-2$
+		listeners.add(new TestListener("\\d{3}-\\d{3}", "\\d{3}")); //$NON-NLS-1$ //$NON-NLS-2$
+		listeners.add(new TestListener("TODO", null)); //$NON-NLS-1$
+		for (TestListener listener : listeners) {
+			fMatcher.addPatternMatchListener(listener);
+		}
+
+		StringBuilder content = new StringBuilder();
+		IDocument document = fConsole.getDocument();
+		for (int part = 0; part < 5; part++) {
+			StringBuilder text = new StringBuilder();
+			for (int i = 0; i < 50; i++) {
+				int n = part * 50 + i;
+				switch (n % 6) {
+					case 0:
+						text.append("\tat Foo.bar(Foo.java:").append(n).append(")\n"); //$NON-NLS-1$ //$NON-NLS-2$
+						break;
+					case 1:
+						text.append("see https://example.org/").append(n).append(" TODO\n"); //$NON-NLS-1$ //$NON-NLS-2$
+						break;
+					case 2:
+						text.append("ERROR ").append(n).append(" failed\n"); //$NON-NLS-1$ //$NON-NLS-2$
+						break;
+					case 3:
+						text.append("call 555-").append(100 + n).append('\n'); //$NON-NLS-1$
+						break;
+					default:
+						text.append("plain line ").append(n).append('\n'); //$NON-NLS-1$
+						break;
+				}
+			}
+			document.replace(document.getLength(), 0, text.toString());
+			content.append(text);
+			Job.getJobManager().join(fConsole, null);
+		}
+
+		for (TestListener listener : listeners) {
+			assertTrue(listener.fConnected);
+			assertEquals("Wrong matches of " + listener.getPattern(), expectedMatches(listener.getPattern(), content.toString()), listener.fMatches); //$NON-NLS-1$
+		}
+
+		PatternStatistics[] statistics = fMatcher.getStatistics();
+		assertEquals(listeners.size(), statistics.length);
+		for (int i = 0; i < statistics.length; i++) {
+			assertEquals(listeners.get(i).getPattern(), statistics[i].getPattern());
+			assertEquals(listeners.get(i).fMatches.size(), statistics[i].getMatches());
+		}
+		assertTrue("Literal qualifiers should be prefiltered", statistics[0].isPrefiltered()); //$NON-NLS-1$
+		assertTrue(statistics[1].isPrefiltered());
+		assertTrue(statistics[2].isPrefiltered());
+		assertTrue(statistics[3].isPrefiltered());
+		assertFalse("Regular expression qualifiers are not prefiltered", statistics[4].isPrefiltered()); //$NON-NLS-1$
+		assertFalse(statistics[5].isPrefiltered());
+		assertEquals("Only lines with the qualifier should be searched", listeners.get(0).fMatches.size(), statistics[0].getCandidateLines()); //$NON-NLS-1$
+	}
+
+	/**
+	 * Removing a listener stops notifications and updates the prefilter.
+	 */
+	@Test
+	public void testRemoveListener() throws Exception {
+		TestListener first = new TestListener("A\\d", "A"); //$NON-NLS-1$ //$NON-NLS-2$
+		TestListener second = new TestListener("B\\d", "B"); //$NON-NLS-1$ //$NON-NLS-2$
+		fMatcher.addPatternMatchListener(first);
+		fMatcher.addPatternMatchListener(second);
+		IDocument document = fConsole.getDocument();
+		document.replace(0, 0, "A1 B1\n"); //$NON-NLS-1$
+		Job.getJobManager().join(fConsole, null);
+		fMatcher.removePatternMatchListener(first);
+		assertFalse(first.fConnected);
+		document.replace(document.getLength(), 0, "A2 B2\n"); //$NON-NLS-1$
+		Job.getJobManager().join(fConsole, null);
+		assertEquals(List.of(Integer.valueOf(0)), first.fMatches);
+		assertEquals(List.of(Integer.valueOf(3), Integer.valueOf(9)), second.fMatches);
+	}
+
+	/**
+	 * Output inserted at the start of the document, like restored scrollback,
+	 * is searched once without searching the existing content again.
+	 */
+	@Test
+	public void testRestoredOutput() throws Exception {
+		TestListener first = new TestListener("A\\d", "A"); //$NON-NLS-1$ //$NON-NLS-2$
+		TestListener second = new TestListener("B\\d", null); //$NON-NLS-1$
+		fMatcher.addPatternMatchListener(first);
+		fMatcher.addPatternMatchListener(second);
+		IDocument document = fConsole.getDocument();
+		document.replace(0, 0, "A1 B1\n"); //$NON-NLS-1$
+		Job.getJobManager().join(fConsole, null);
+		document.replace(0, 0, "A0 B0\nx\n"); //$NON-NLS-1$
+		Job.getJobManager().join(fConsole, null);
+		document.replace(document.getLength(), 0, "A2\n"); //$NON-NLS-1$
+		Job.getJobManager().join(fConsole, null);
+		assertEquals(List.of(Integer.valueOf(0), Integer.valueOf(0), Integer.valueOf(14)), first.fMatches);
+		assertEquals(List.of(Integer.valueOf(3), Integer.valueOf(3)), second.fMatches);
+	}
+
+	private static List<Integer> expectedMatches(String pattern, String content) {
+		List<Integer> offsets = new ArrayList<>();
+		Matcher matcher = Pattern.compile(pattern).matcher(content);
+		while (matcher.find()) {
+			offsets.add(Integer.valueOf(matcher.start()));
+		}
+		return offsets;
+	}
+
+	/**
+	 * Listener recording the offsets of its matches.
+	 */
+	private static class TestListener implements IPatternMatchListener {
+		private final String fPattern;
+		private final String fQualifier;
+		final List<Integer> fMatches = new ArrayList<>();
+		boolean fConnected;
+
+		TestListener(String pattern, String qualifier) {
+			fPattern = pattern;
+			fQualifier = qualifier;
+		}
+
+		@Override
+		public void connect(TextConsole console) {
+			fConnected = true;
+		}
+
+		@Override
+		public void disconnect() {
+			fConnected = false;
+		}
+
+		@Override
+		public void matchFound(PatternMatchEvent event) {
+			fMatches.add(Integer.valueOf(event.getOffset()));
+		}
+
+		@Override
+		public String getPattern() {
+			return fPattern;
+		}
+
+		@Override
+		public int getCompilerFlags() {
+			return 0;
+		}
+
+		@Override
+		public String getLineQualifier() {
+			return fQualifier;
+		}
+	}
+}
@@ -0,0 +1,360 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.debug.tests.console;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.debug.core.model.IProcess;
+import org.eclipse.debug.internal.core.OutputStreamMonitor;
+import org.eclipse.debug.tests.AbstractDebugTest;
+import org.eclipse.debug.tests.TestUtil;
+import org.eclipse.debug.ui.console.ConsoleColorProvider;
+import org.eclipse.jface.text.DocumentEvent;
+import org.eclipse.jface.text.IDocument;
+import org.eclipse.jface.text.IDocumentListener;
+import org.eclipse.test.performance.Performance;
+import org.eclipse.test.performance.PerformanceMeter;
+import org.eclipse.ui.console.IOConsole;
+import org.eclipse.ui.console.IOConsoleOutputStream;
+import org.eclipse.ui.internal.console.ansi.participants.AnsiConsoleStyleListener;
+import org.junit.Test;
+
+/**
+ * Measures the console output pipeline for typical workloads, from
+ * {@link IOConsoleOutputStream#write(byte[], int, int)} through the console
+ * partitioner to the document, and from the output stream of a process
+ * through the {@link OutputStreamMonitor} and the process console to the
+ * document.
+ * <p>
+ * Each run logs the throughput, the latency from writing a line until it
+ * appears in the document, the number of document partitions and the garbage
+ * collector activity, so regressions in any of them can be tracked.
+ * </p>
+ */
+@SuppressWarnings("restriction")
+public class ConsolePerformanceTests extends AbstractDebugTest {
+
+	/** Amount of output written in each run, in bytes. */
+	private static final long OUTPUT_SIZE = 32L * 1024 * 1024;
+
+	/** Console length which triggers trimming. */
+	private static final int HIGH_WATER_MARK = 1_000_000;
+
+	/** Console length after trimming. */
+	private static final int LOW_WATER_MARK = 800_000;
+
+	/** Lines between two latency samples. */
+	private static final int LATENCY_SAMPLE_INTERVAL = 256;
+
+	/** Maximum size of a single write. */
+	private static final int WRITE_SIZE = 8192;
+
+	private static final long TIMEOUT = 300_000;
+
+	public String getDefaultScenarioId() {
+		return this.getClass().getName() + '#' + name.getMethodName() + "()"; //$NON-NLS-1$
+	}
+
+	/**
+	 * Plain 80 char lines written to a single stream.
+	 */
+	@Test
+	public void testPlainOutput() throws Exception {
+		runConsoleTest(line(80, false), 1, false);
+	}
+
+	/**
+	 * Lines with ANSI color escape sequences written to a single stream and
+	 * parsed by the ANSI console support.
+	 */
+	@Test
+	public void testAnsiOutput() throws Exception {
+		runConsoleTest(line(80, true), 1, true);
+	}
+
+	/**
+	 * Lines of 256K chars written in parts to a single stream.
+	 */
+	@Test
+	public void testLongLineOutput() throws Exception {
+		runConsoleTest(line(256 * 1024, false), 1, false);
+	}
+
+	/**
+	 * Plain 80 char lines written concurrently to 16 streams.
+	 */
+	@Test
+	public void testManyStreamsOutput() throws Exception {
+		runConsoleTest(line(80, false), 16, false);
+	}
+
+	/**
+	 * Plain 80 char lines from a process shown in a process console.
+	 */
+	@Test
+	public void testProcessConsoleOutput() throws Exception {
+		feedProcessConsole(null, 0, OUTPUT_SIZE / 16);
+		Performance perf = Performance.getDefault();
+		PerformanceMeter meter = perf.createPerformanceMeter(getDefaultScenarioId());
+		try {
+			for (int run = 0; run < 5; run++) {
+				feedProcessConsole(meter, run, OUTPUT_SIZE);
+				System.gc();
+			}
+			meter.commit();
+			perf.assertPerformance(meter);
+		} finally {
+			meter.dispose();
+		}
+	}
+
+	private void runConsoleTest(byte[] line, int streams, boolean ansi) throws Exception {
+		// warm up
+		feedConsole(null, 0, line, streams, ansi, OUTPUT_SIZE / 16);
+		Performance perf = Performance.getDefault();
+		PerformanceMeter meter = perf.createPerformanceMeter(getDefaultScenarioId());
+		try {
+			for (int run = 0; run < 5; run++) {
+				feedConsole(meter, run, line, streams, ansi, OUTPUT_SIZE);
+				System.gc();
+			}
+			meter.commit();
+			perf.assertPerformance(meter);
+		} finally {
+			meter.dispose();
+		}
+	}
+
+	/**
+	 * Writes output to an {@link IOConsole} from one thread per stream and
+	 * waits until the document received all output.
+	 *
+	 * @param meter meter to measure the run or <code>null</code> to warm up
+	 */
+	private void feedConsole(PerformanceMeter meter, int run, byte[] line, int streams, boolean ansi, long size) throws Exception {
+		IOConsole console = new IOConsole("Console performance", null); //$NON-NLS-1$
+		try {
+			console.setWaterMarks(LOW_WATER_MARK, HIGH_WATER_MARK);
+			IDocument document = console.getDocument();
+			if (ansi) {
+				new AnsiConsoleStyleListener(document);
+			}
+			OutputRecorder recorder = new OutputRecorder();
+			document.addDocumentListener(recorder);
+			long linesPerStream = (size / streams + line.length - 1) / line.length;
+			long expected = linesPerStream * line.length * streams;
+			IOConsoleOutputStream[] outputs = new IOConsoleOutputStream[streams];
+			for (int i = 0; i < streams; i++) {
+				outputs[i] = console.newOutputStream();
+			}
+			AtomicReference<Throwable> error = new AtomicReference<>();
+			Thread[] writers = new Thread[streams];
+			for (int i = 0; i < streams; i++) {
+				IOConsoleOutputStream output = outputs[i];
+				writers[i] = new Thread(() -> {
+					try {
+						for (long l = 0; l < linesPerStream; l++) {
+							boolean sample = l % LATENCY_SAMPLE_INTERVAL == 0;
+							long start = System.nanoTime();
+							for (int offset = 0; offset < line.length; offset += WRITE_SIZE) {
+								output.write(line, offset, Math.min(WRITE_SIZE, line.length - offset));
+							}
+							recorder.written(line.length, sample ? start : -1);
+						}
+					} catch (Throwable e) {
+						error.compareAndSet(null, e);
+					}
+				}, "Console writer " + i); //$NON-NLS-1$
+			}
+
+			long gcCount = getGcCount();
+			long gcTime = getGcTime();
+			if (meter != null) {
+				meter.start();
+			}
+			long start = System.nanoTime();
+			for (Thread writer : writers) {
+				writer.start();
+			}
+			TestUtil.waitWhile(() -> recorder.received < expected && error.get() == null, TIMEOUT);
+			long duration = System.nanoTime() - start;
+			if (meter != null) {
+				meter.stop();
+			}
+			for (Thread writer : writers) {
+				writer.join(TIMEOUT);
+			}
+			assertNull("Writing output failed", error.get()); //$NON-NLS-1$
+			assertEquals("Document did not receive all output", expected, recorder.received); //$NON-NLS-1$
+			int partitions = document.getDocumentPartitioner().computePartitioning(0, document.getLength()).length;
+			if (meter != null) {
+				TestUtil.log(IStatus.INFO, name.getMethodName(), String.format("Run %d: %.1f MB/s, line latency %.2f ms average, %.2f ms max, %d partitions, %d GCs in %d ms", //$NON-NLS-1$
+						run, toMbPerSecond(expected, duration), recorder.getAverageLatency() / 1_000_000.0, recorder.maxLatency / 1_000_000.0, partitions, getGcCount() - gcCount, getGcTime() - gcTime));
+			}
+			for (IOConsoleOutputStream output : outputs) {
+				output.close();
+			}
+		} finally {
+			console.destroy();
+		}
+	}
+
+	/**
+	 * Starts a process writing output and waits until the document of its
+	 * console received all output.
+	 *
+	 * @param meter meter to measure the run or <code>null</code> to warm up
+	 */
+	private void feedProcessConsole(PerformanceMeter meter, int run, long size) throws Exception {
+		long gcCount = getGcCount();
+		long gcTime = getGcTime();
+		if (meter != null) {
+			meter.start();
+		}
+		long start = System.nanoTime();
+		MockProcess mockProcess = new MockProcess(new OutputStreamMonitorPerformanceTests.ProcessOutputSimulator(size), null, MockProcess.RUN_FOREVER);
+		try {
+			IProcess process = mockProcess.toRuntimeProcess("Console performance", null); //$NON-NLS-1$
+			org.eclipse.debug.internal.ui.views.console.ProcessConsole console = new org.eclipse.debug.internal.ui.views.console.ProcessConsole(process, new ConsoleColorProvider(), StandardCharsets.UTF_8.name());
+			OutputRecorder recorder = new OutputRecorder();
+			console.getDocument().addDocumentListener(recorder);
+			try {
+				console.initialize();
+				assertFalse("Document did not receive all output", TestUtil.waitWhile(() -> recorder.received < size, TIMEOUT)); //$NON-NLS-1$
+				long duration = System.nanoTime() - start;
+				if (meter != null) {
+					meter.stop();
+					IDocument document = console.getDocument();
+					int partitions = document.getDocumentPartitioner().computePartitioning(0, document.getLength()).length;
+					TestUtil.log(IStatus.INFO, name.getMethodName(), String.format("Run %d: %.1f MB/s, %d partitions, %d GCs in %d ms", //$NON-NLS-1$
+							run, toMbPerSecond(size, duration), partitions, getGcCount() - gcCount, getGcTime() - gcTime));
+				}
+			} finally {
+				console.destroy();
+			}
+		} finally {
+			mockProcess.destroy();
+		}
+	}
+
+	/**
+	 * Returns a line of the given length including the line delimiter,
+	 * optionally with color escape sequences.
+	 */
+	private static byte[] line(int length, boolean ansi) {
+		StringBuilder line = new StringBuilder(length);
+		while (line.length() < length - 1) {
+			if (ansi && line.length() % 20 == 0) {
+				line.append("\u001b[3").append(line.length() / 20 % 8).append('m'); //$NON-NLS-1$
+			} else {
+				line.append((char) ('a' + line.length() % 26));
+			}
+		}
+		if (ansi) {
+			line.setLength(length - 5);
+			line.append("\u001b[0m"); //$NON-NLS-1$
+		}
+		line.append('\n');
+		return line.toString().getBytes(StandardCharsets.US_ASCII);
+	}
+
+	private static double toMbPerSecond(long bytes, long nanos) {
+		return (bytes / (1024.0 * 1024.0)) / (nanos / 1_000_000_000.0);
+	}
+
+	private static long getGcCount() {
+		long count = 0;
+		for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+			count += Math.max(0, gc.getCollectionCount());
+		}
+		return count;
+	}
+
+	private static long getGcTime() {
+		long time = 0;
+		for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+			time += Math.max(0, gc.getCollectionTime());
+		}
+		return time;
+	}
+
+	/**
+	 * Counts the output inserted into a document and measures the time from
+	 * writing sampled lines until the document contains them.
+	 */
+	private static class OutputRecorder implements IDocumentListener {
+		/** Output written so far. */
+		private final AtomicLong written = new AtomicLong();
+		/** End of sampled lines in the output and the time they were written. */
+		private final ArrayDeque<long[]> samples = new ArrayDeque<>();
+
+		/** Output inserted into the document so far. */
+		volatile long received;
+		long latencySum;
+		long maxLatency;
+		int latencyCount;
+
+		/**
+		 * Records written output.
+		 *
+		 * @param length length of the output
+		 * @param start time the write started, or <code>-1</code> if the
+		 *            output is not sampled
+		 */
+		void written(int length, long start) {
+			if (start < 0) {
+				written.addAndGet(length);
+			} else {
+				synchronized (samples) {
+					samples.add(new long[] { written.addAndGet(length), start });
+				}
+			}
+		}
+
+		double getAverageLatency() {
+			return latencyCount == 0 ? 0 : (double) latencySum / latencyCount;
+		}
+
+		@Override
+		public void documentAboutToBeChanged(DocumentEvent event) {
+		}
+
+		@Override
+		public void documentChanged(DocumentEvent event) {
+			if (event.getText() == null || event.getText().isEmpty()) {
+				return;
+			}
+			received += event.getText().length();
+			long now = System.nanoTime();
+			synchronized (samples) {
+				while (!samples.isEmpty() && samples.peek()[0] <= received) {
+					long latency = now - samples.poll()[1];
+					latencySum += latency;
+					maxLatency = Math.max(maxLatency, latency);
+					latencyCount++;
+				}
+			}
+		}
+	}
+}
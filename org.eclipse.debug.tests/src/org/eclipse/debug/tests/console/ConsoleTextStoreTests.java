@@ -0,0 +1,137 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.debug.tests.console;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.Random;
+
+import org.eclipse.debug.tests.AbstractDebugTest;
+import org.eclipse.jface.text.IDocument;
+import org.eclipse.ui.internal.console.ConsoleDocument;
+import org.eclipse.ui.internal.console.ConsoleTextStore;
+import org.junit.Test;
+
+/**
+ * Tests {@link ConsoleTextStore} and the {@link ConsoleDocument} using it.
+ */
+@SuppressWarnings("restriction")
+public class ConsoleTextStoreTests extends AbstractDebugTest {
+
+	/**
+	 * Random appends, trims, replacements and resets give the same content as
+	 * a {@link StringBuilder}.
+	 */
+	@Test
+	public void testRandomChanges() {
+		Random random = new Random(42);
+		ConsoleTextStore store = new ConsoleTextStore();
+		StringBuilder expected = new StringBuilder();
+		for (int i = 0; i < 5000; i++) {
+			int length = expected.length();
+			String text = randomText(random, random.nextInt(20) == 0 ? random.nextInt(100000) : random.nextInt(50));
+			switch (random.nextInt(10)) {
+				case 0:
+				case 1:
+				case 2:
+				case 3:
+				case 4:
+					store.replace(length, 0, text);
+					expected.append(text);
+					break;
+				case 5:
+				case 6:
+					int cut = random.nextInt(length + 1);
+					store.replace(0, cut, ""); //$NON-NLS-1$
+					expected.delete(0, cut);
+					break;
+				case 7:
+				case 8:
+					int offset = random.nextInt(length + 1);
+					int replaced = random.nextInt(length - offset + 1);
+					store.replace(offset, replaced, text);
+					expected.replace(offset, offset + replaced, text);
+					break;
+				default:
+					if (random.nextInt(20) == 0) {
+						store.set(text);
+						expected.setLength(0);
+						expected.append(text);
+					}
+					break;
+			}
+			assertEquals(expected.length(), store.getLength());
+			if (expected.length() > 0) {
+				int offset = random.nextInt(expected.length());
+				assertEquals(expected.charAt(offset), store.get(offset));
+				int length2 = random.nextInt(expected.length() - offset + 1);
+				assertEquals(expected.substring(offset, offset + length2), store.get(offset, length2));
+			}
+		}
+		assertEquals(expected.toString(), store.get(0, store.getLength()));
+	}
+
+	/**
+	 * Trimming the beginning drops the pieces before the cut and appending
+	 * extends the last piece.
+	 */
+	@Test
+	public void testAppendAndTrim() {
+		ConsoleTextStore store = new ConsoleTextStore();
+		String line = "0123456789abcdef\n"; //$NON-NLS-1$
+		for (int i = 0; i < 100000; i++) {
+			store.replace(store.getLength(), 0, line);
+		}
+		int length = line.length() * 100000;
+		int bufferSize = 64 * 1024;
+		assertEquals("Appended lines should fill whole buffers", (length + bufferSize - 1) / bufferSize, store.getPieceCount()); //$NON-NLS-1$
+		int cut = line.length() * 90000;
+		store.replace(0, cut, ""); //$NON-NLS-1$
+		assertEquals(length - cut, store.getLength());
+		assertEquals(line, store.get(0, line.length()));
+		assertEquals(line, store.get(store.getLength() - line.length(), line.length()));
+		assertEquals("Trimmed buffers should be dropped", (length - 1) / bufferSize - cut / bufferSize + 1, store.getPieceCount()); //$NON-NLS-1$
+		store.replace(0, store.getLength(), ""); //$NON-NLS-1$
+		assertEquals(0, store.getLength());
+		assertEquals(0, store.getPieceCount());
+		store.replace(0, 0, line);
+		assertEquals(line, store.get(0, line.length()));
+	}
+
+	/**
+	 * Lines of a console document stay correct while its beginning is trimmed.
+	 */
+	@Test
+	public void testConsoleDocumentTrim() throws Exception {
+		IDocument document = new ConsoleDocument();
+		for (int i = 0; i < 1000; i++) {
+			document.replace(document.getLength(), 0, "line " + i + "\n"); //$NON-NLS-1$ //$NON-NLS-2$
+			if (document.getNumberOfLines() > 100) {
+				document.replace(0, document.getLineOffset(50), ""); //$NON-NLS-1$
+			}
+		}
+		assertEquals("line 999\n", document.get(document.getLineOffset(document.getNumberOfLines() - 2), 9)); //$NON-NLS-1$
+		assertEquals("line ", document.get(0, 5)); //$NON-NLS-1$
+		int firstLine = Integer.parseInt(document.get(5, document.getLineLength(0) - 6));
+		assertEquals(1000 - firstLine, document.getNumberOfLines() - 1);
+	}
+
+	private static String randomText(Random random, int length) {
+		char[] text = new char[length];
+		for (int i = 0; i < length; i++) {
+			text[i] = random.nextInt(40) == 0 ? '\n' : (char) ('a' + random.nextInt(26));
+		}
+		return new String(text);
+	}
+}
@@ -265,6 +265,40 @@ public class IOConsoleTests extends AbstractDebugTest {
 		closeConsole(c);
 	}
 
+	/**
+	 * Test many single byte writes from a background thread to alternating
+	 * streams. Output must keep its order while coalesced.
+	 */
+	@Test
+	public void testSingleByteWrites() throws Exception {
+		final IOConsoleTestUtil c = getTestUtil("Test single byte writes");
+		final StringBuilder expected = new StringBuilder();
+		final IOConsoleOutputStream defaultOut = c.getDefaultOutputStream();
+		try (IOConsoleOutputStream otherOut = c.getConsole().newOutputStream()) {
+			final Queue<Exception> errors = new ConcurrentLinkedQueue<>();
+			final Thread writer = new Thread(() -> {
+				try {
+					for (int i = 0; i < 20_000; i++) {
+						IOConsoleOutputStream out = (i / 500) % 2 == 0 ? defaultOut : otherOut;
+						out.write('a' + (i % 26));
+					}
+				} catch (IOException e) {
+					errors.add(e);
+				}
+			}, "Single byte writer");
+			for (int i = 0; i < 20_000; i++) {
+				expected.append((char) ('a' + (i % 26)));
+			}
+			writer.start();
+			while (writer.isAlive()) {
+				TestUtil.processUIEvents(10);
+			}
+			assertTrue("Write failed: " + errors, errors.isEmpty());
+			c.flush().verifyContent(expected.toString()).verifyPartitions();
+		}
+		closeConsole(c);
+	}
+
 	/**
 	 * Test {@link IOConsole} input stream, i.e. simulate user typing or pasting
 	 * input in console.
@@ -709,6 +743,140 @@ public class IOConsoleTests extends AbstractDebugTest {
 		}
 	}
 
+	/**
+	 * Test restoring trimmed output from the scrollback archive.
+	 */
+	@Test
+	@SuppressWarnings("restriction")
+	public void testScrollbackArchive() throws Exception {
+		final IOConsoleTestUtil c = getTestUtil("Test scrollback archive");
+		c.getConsole().setScrollbackArchiveEnabled(true);
+		assertTrue(c.getConsole().isScrollbackArchiveEnabled());
+		try (IOConsoleOutputStream defaultOut = c.getDefaultOutputStream()) {
+			try (IOConsoleOutputStream otherOut = c.getConsole().newOutputStream()) {
+				c.writeFast("first\n");
+				for (int i = 0; i < 20; i++) {
+					c.writeFast("0123456789\n", (i & 1) == 0 ? defaultOut : otherOut);
+				}
+				c.write("last\n");
+				final String content = c.getDocument().get();
+
+				c.getConsole().setWaterMarks(50, 100);
+				c.waitForScheduledJobs();
+				assertTrue("Document not trimmed.", c.getContentLength() < content.length());
+				final org.eclipse.ui.internal.console.IOConsolePartitioner partitioner = (org.eclipse.ui.internal.console.IOConsolePartitioner) c.getPartitioner();
+				assertEquals("Trimmed output not archived.", content.length() - c.getContentLength(), partitioner.getArchivedLength());
+
+				final int restored = partitioner.restoreArchivedOutput(23);
+				assertEquals("Restore should start at a line start.", 22, restored);
+				c.verifyContentByOffset("0123456789\n0123456789\n", 0).verifyPartitions();
+				partitioner.restoreArchivedOutput(Integer.MAX_VALUE);
+				// restored output keeps the partitions of the alternating streams
+				c.verifyContent(content).verifyPartitions(21);
+				assertEquals(0, partitioner.getArchivedLength());
+			}
+			closeConsole(c);
+		}
+	}
+
+	/**
+	 * Test restored output is not trimmed again by following output until the
+	 * restored output is released.
+	 */
+	@Test
+	@SuppressWarnings("restriction")
+	public void testScrollbackRestoreKeptWhileWriting() throws Exception {
+		final IOConsoleTestUtil c = getTestUtil("Test scrollback restore");
+		c.getConsole().setScrollbackArchiveEnabled(true);
+		c.writeFast("first\n");
+		for (int i = 0; i < 20; i++) {
+			c.writeFast("0123456789\n");
+		}
+		c.write("last\n");
+		c.getConsole().setWaterMarks(50, 100);
+		c.waitForScheduledJobs();
+		final org.eclipse.ui.internal.console.IOConsolePartitioner partitioner = (org.eclipse.ui.internal.console.IOConsolePartitioner) c.getPartitioner();
+		partitioner.restoreArchivedOutput(Integer.MAX_VALUE);
+		c.verifyContentByLine("first", 0);
+
+		for (int i = 0; i < 5; i++) {
+			c.write("more output\n");
+		}
+		c.waitForScheduledJobs();
+		c.verifyContentByLine("first", 0).verifyContentByLine("more output", -2).verifyPartitions();
+
+		partitioner.releaseRestoredOutput();
+		assertTrue("Document not trimmed after release.", c.getContentLength() <= 100);
+		c.verifyContentByLine("more output", -2).verifyPartitions();
+		closeConsole(c);
+	}
+
+	/**
+	 * Test counters of coalesced, merged and dropped output.
+	 */
+	@Test
+	@SuppressWarnings("restriction")
+	public void testUpdateStatistics() throws Exception {
+		final IOConsoleTestUtil c = getTestUtil("Test update statistics");
+		final org.eclipse.ui.internal.console.IOConsolePartitioner partitioner = (org.eclipse.ui.internal.console.IOConsolePartitioner) c.getPartitioner();
+		final StringBuilder expected = new StringBuilder();
+		for (int i = 0; i < 1000; i++) {
+			// the update job cannot run while the UI thread writes
+			c.writeFast("line " + i + "\n");
+			expected.append("line " + i + "\n");
+		}
+		c.flush().verifyContent(expected.toString()).verifyPartitions(1);
+		org.eclipse.ui.internal.console.IOConsolePartitioner.UpdateStatistics statistics = partitioner.getUpdateStatistics();
+		assertEquals(0, statistics.getPendingPartitions());
+		assertEquals(0, statistics.getPendingLength());
+		assertTrue("Writes not coalesced: " + statistics, statistics.getCoalescedWrites() > 900);
+		assertEquals("Pending partitions not merged: " + statistics, 999, statistics.getCoalescedWrites() + statistics.getMergedPartitions());
+		assertEquals(1, statistics.getUpdates());
+		assertEquals(0, statistics.getDroppedPartitions());
+
+		c.writeFast("dropped");
+		c.getConsole().clearConsole();
+		c.flush();
+		statistics = partitioner.getUpdateStatistics();
+		assertEquals(1, statistics.getDroppedPartitions());
+		assertEquals(7, statistics.getDroppedLength());
+		assertEquals(0, c.getContentLength());
+		closeConsole(c);
+	}
+
+	/**
+	 * Test output of a hidden console in background mode is appended once the
+	 * console is shown.
+	 */
+	@Test
+	@SuppressWarnings("restriction")
+	public void testBackgroundMode() throws Exception {
+		final IOConsoleTestUtil c = getTestUtil("Test background mode");
+		final org.eclipse.ui.internal.console.IOConsolePartitioner partitioner = (org.eclipse.ui.internal.console.IOConsolePartitioner) c.getPartitioner();
+		final IConsoleManager consoleManager = ConsolePlugin.getDefault().getConsoleManager();
+		final IOConsole other = new IOConsole("Other console", null);
+		consoleManager.addConsoles(new IConsole[] { other });
+		try {
+			c.getConsole().setBackgroundModeEnabled(true);
+			assertTrue(c.getConsole().isBackgroundModeEnabled());
+			c.write("shown\n");
+			c.verifyContent("shown\n");
+
+			consoleManager.showConsoleView(other);
+			c.flush();
+			c.writeFast("hidden\n").writeFast("more\n").flush();
+			c.verifyContent("shown\n");
+			assertEquals(12, partitioner.getUpdateStatistics().getBackgroundLength());
+
+			consoleManager.showConsoleView(c.getConsole());
+			c.flush().verifyContent("shown\nhidden\nmore\n").verifyPartitions();
+			assertEquals(0, partitioner.getUpdateStatistics().getBackgroundLength());
+		} finally {
+			consoleManager.removeConsoles(new IConsole[] { other });
+		}
+		closeConsole(c);
+	}
+
 	/**
 	 * Some extra tests for IOConsolePartitioner.
 	 */
@@ -15,7 +15,9 @@ package org.eclipse.debug.tests.console;
 
 import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.io.PipedInputStream;
@@ -89,6 +91,53 @@ public class InputStreamMonitorTests extends AbstractDebugTest {
 		}
 	}
 
+	/**
+	 * Test that writers are blocked if more than the queue capacity is queued
+	 * and all content is still transfered.
+	 */
+	@Test
+	@SuppressWarnings("resource")
+	public void testBackPressure() throws Exception {
+		PipedInputStream sysin = new PipedInputStream();
+		int capacity = 1000;
+		InputStreamMonitor monitor = new InputStreamMonitor(new PipedOutputStream(sysin), null, capacity);
+		ByteArrayOutputStream readBack = new ByteArrayOutputStream();
+		byte[] content = new byte[100_000];
+		for (int i = 0; i < content.length; i++) {
+			content[i] = (byte) (i % 255);
+		}
+		Thread reader = new Thread(() -> {
+			try {
+				byte[] buffer = new byte[512];
+				while (readBack.size() < content.length) {
+					int read = sysin.read(buffer);
+					if (read < 0) {
+						break;
+					}
+					readBack.write(buffer, 0, read);
+				}
+			} catch (IOException e) {
+			}
+		});
+		try {
+			monitor.startMonitoring();
+			reader.start();
+			long maxQueued = 0;
+			for (int i = 0; i < content.length; i += 10) {
+				monitor.write(content, i, 10);
+				maxQueued = Math.max(maxQueued, monitor.getQueuedBytes());
+			}
+			reader.join(testTimeout);
+			TestUtil.waitWhile(() -> monitor.getQueuedBytes() > 0, 1000);
+			assertTrue("Queue exceeded its capacity.", maxQueued <= capacity + 10);
+			assertEquals("Monitor wrote to few bytes.", content.length, monitor.getWrittenBytes());
+			assertEquals("Queue not empty.", 0, monitor.getQueuedBytes());
+			assertArrayEquals("Monitor wrote wrong content.", content, readBack.toByteArray());
+		} finally {
+			monitor.close();
+		}
+	}
+
 	/**
 	 * Test different combinations of stream closing.
 	 */
@@ -0,0 +1,171 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.debug.tests.console;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.InputStream;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.debug.internal.core.OutputStreamMonitor;
+import org.eclipse.debug.tests.AbstractDebugTest;
+import org.eclipse.debug.tests.TestUtil;
+import org.eclipse.test.performance.Performance;
+import org.eclipse.test.performance.PerformanceMeter;
+import org.junit.Test;
+
+/**
+ * Measures the throughput of the {@link OutputStreamMonitor} from the process
+ * output stream to the stream listeners.
+ */
+public class OutputStreamMonitorPerformanceTests extends AbstractDebugTest {
+
+	/** Amount of output produced by the simulated process in each run. */
+	private static final long OUTPUT_SIZE = 64L * 1024 * 1024;
+
+	public String getDefaultScenarioId() {
+		return this.getClass().getName() + '#' + name.getMethodName() + "()"; //$NON-NLS-1$
+	}
+
+	/**
+	 * Throughput to a single binary listener.
+	 */
+	@Test
+	public void testBinaryListenerThroughput() throws Exception {
+		runThroughputTest(true, false);
+	}
+
+	/**
+	 * Throughput to a single text listener.
+	 */
+	@Test
+	public void testTextListenerThroughput() throws Exception {
+		runThroughputTest(false, true);
+	}
+
+	/**
+	 * Throughput to a binary and a text listener with content buffering
+	 * enabled.
+	 */
+	@Test
+	public void testBufferedThroughput() throws Exception {
+		runThroughputTest(true, true);
+	}
+
+	private void runThroughputTest(boolean binary, boolean text) throws Exception {
+		Performance perf = Performance.getDefault();
+		PerformanceMeter meter = perf.createPerformanceMeter(getDefaultScenarioId());
+		try {
+			for (int i = 0; i < 5; i++) {
+				final AtomicLong received = new AtomicLong();
+				TestOutputStreamMonitor monitor = new TestOutputStreamMonitor(new ProcessOutputSimulator(OUTPUT_SIZE), StandardCharsets.UTF_8);
+				monitor.setBuffered(binary && text);
+				if (binary) {
+					monitor.addBinaryListener((data, mon) -> received.addAndGet(data.length));
+				}
+				if (text) {
+					monitor.addListener((data, mon) -> {
+						if (!binary) {
+							received.addAndGet(data.length());
+						}
+					});
+				}
+
+				meter.start();
+				long start = System.nanoTime();
+				monitor.startMonitoring();
+				monitor.close();
+				long duration = System.nanoTime() - start;
+				meter.stop();
+
+				assertEquals("Listener did not receive all output.", OUTPUT_SIZE, received.get());
+				double mbPerSecond = (OUTPUT_SIZE / (1024.0 * 1024.0)) / (duration / 1_000_000_000.0);
+				TestUtil.log(IStatus.INFO, name.getMethodName(), String.format("Run %d: %.1f MB/s", i, mbPerSecond)); //$NON-NLS-1$
+				monitor.flushContents();
+				System.gc();
+			}
+			meter.commit();
+			perf.assertPerformance(meter);
+		} finally {
+			meter.dispose();
+		}
+	}
+
+	/**
+	 * Input stream which simulates a process writing a given amount of ASCII
+	 * output as fast as possible.
+	 */
+	static class ProcessOutputSimulator extends InputStream {
+
+		private static final int CHUNK_SIZE = 64 * 1024;
+
+		private final byte[] fChunk = new byte[CHUNK_SIZE];
+		private long fRemaining;
+
+		ProcessOutputSimulator(long size) {
+			fRemaining = size;
+			for (int i = 0; i < fChunk.length; i++) {
+				fChunk[i] = (byte) (i % 80 == 79 ? '\n' : 'a' + (i % 26));
+			}
+		}
+
+		@Override
+		public int read() {
+			if (fRemaining <= 0) {
+				return -1;
+			}
+			fRemaining--;
+			return 'a';
+		}
+
+		@Override
+		public int read(byte[] b, int off, int len) {
+			if (fRemaining <= 0) {
+				return -1;
+			}
+			int n = (int) Math.min(Math.min(len, CHUNK_SIZE), fRemaining);
+			System.arraycopy(fChunk, 0, b, off, n);
+			fRemaining -= n;
+			return n;
+		}
+
+		@Override
+		public int available() {
+			return (int) Math.min(CHUNK_SIZE, fRemaining);
+		}
+	}
+
+	/**
+	 * {@link OutputStreamMonitor} with public {@link #startMonitoring()} for
+	 * testing.
+	 */
+	private static class TestOutputStreamMonitor extends OutputStreamMonitor {
+
+		public TestOutputStreamMonitor(InputStream stream, Charset charset) {
+			super(stream, charset);
+		}
+
+		public void startMonitoring() {
+			super.startMonitoring(""); //$NON-NLS-1$
+		}
+
+		@Override
+		public void close() {
+			super.close();
+		}
+	}
+}
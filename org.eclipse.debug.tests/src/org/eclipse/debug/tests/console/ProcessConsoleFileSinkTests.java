@@ -0,0 +1,182 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.debug.tests.console;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+
+import org.eclipse.debug.internal.ui.views.console.ProcessConsoleFileSink;
+import org.eclipse.debug.tests.AbstractDebugTest;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests {@link ProcessConsoleFileSink}.
+ */
+@SuppressWarnings("restriction")
+public class ProcessConsoleFileSinkTests extends AbstractDebugTest {
+
+	private Path fDirectory;
+
+	private Path fFile;
+
+	@Override
+	@Before
+	public void setUp() throws Exception {
+		super.setUp();
+		fDirectory = Files.createTempDirectory("consoleFileSink"); //$NON-NLS-1$
+		fFile = fDirectory.resolve("output.log"); //$NON-NLS-1$
+	}
+
+	@Override
+	@After
+	public void tearDown() throws Exception {
+		try (Stream<Path> files = Files.walk(fDirectory)) {
+			files.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+		}
+		super.tearDown();
+	}
+
+	/**
+	 * Many small writes from several threads arrive complete and each write
+	 * in one piece.
+	 */
+	@Test
+	public void testWrites() throws Exception {
+		final int threads = 4;
+		final int lines = 10_000;
+		try (ProcessConsoleFileSink sink = new ProcessConsoleFileSink(fFile, false)) {
+			Thread[] writers = new Thread[threads];
+			for (int t = 0; t < threads; t++) {
+				final String prefix = "thread " + t + " line "; //$NON-NLS-1$ //$NON-NLS-2$
+				writers[t] = new Thread(() -> {
+					try {
+						for (int i = 0; i < lines; i++) {
+							sink.write((prefix + i + "\n").getBytes(StandardCharsets.UTF_8)); //$NON-NLS-1$
+						}
+					} catch (IOException e) {
+						throw new AssertionError(e);
+					}
+				});
+				writers[t].start();
+			}
+			for (Thread writer : writers) {
+				writer.join();
+			}
+		}
+		int[] next = new int[threads];
+		for (String line : Files.readAllLines(fFile)) {
+			String[] parts = line.split(" "); //$NON-NLS-1$
+			int t = Integer.parseInt(parts[1]);
+			assertEquals("Output of thread " + t + " out of order", next[t]++, Integer.parseInt(parts[3])); //$NON-NLS-1$ //$NON-NLS-2$
+		}
+		for (int count : next) {
+			assertEquals(lines, count);
+		}
+	}
+
+	/**
+	 * The file is rotated once it would exceed the size and only the
+	 * configured number of rotated files is kept.
+	 */
+	@Test
+	public void testRotateBySize() throws Exception {
+		try (ProcessConsoleFileSink sink = new ProcessConsoleFileSink(fFile, false, 100, 0, 2, false)) {
+			for (int i = 0; i < 5; i++) {
+				sink.write(chunk(i));
+				sink.flush();
+			}
+			assertArrayEquals(chunk(3), Files.readAllBytes(sink.getRotatedFile(1)));
+			assertArrayEquals(chunk(2), Files.readAllBytes(sink.getRotatedFile(2)));
+			assertFalse(Files.exists(sink.getRotatedFile(3)));
+		}
+		assertArrayEquals(chunk(4), Files.readAllBytes(fFile));
+	}
+
+	/**
+	 * Rotated files are compressed and the file is rotated once the interval
+	 * elapsed.
+	 */
+	@Test
+	public void testRotateByTimeCompressed() throws Exception {
+		try (ProcessConsoleFileSink sink = new ProcessConsoleFileSink(fFile, false, 0, 1, 5, true)) {
+			sink.write(chunk(0));
+			sink.flush();
+			Thread.sleep(10);
+			sink.write(chunk(1));
+			sink.flush();
+			assertTrue(sink.getRotatedFile(1).toString().endsWith(".1.gz")); //$NON-NLS-1$
+			try (InputStream in = new GZIPInputStream(Files.newInputStream(sink.getRotatedFile(1)))) {
+				assertArrayEquals(chunk(0), in.readAllBytes());
+			}
+		}
+		assertArrayEquals(chunk(1), Files.readAllBytes(fFile));
+	}
+
+	/**
+	 * Output is appended to the current file while rotating fails and the
+	 * file is rotated once it succeeds again.
+	 */
+	@Test
+	public void testRotateFailure() throws Exception {
+		try (ProcessConsoleFileSink sink = new ProcessConsoleFileSink(fFile, false, 100, 0, 1, false)) {
+			// a non-empty directory in place of the rotated file cannot be deleted
+			final Path blocker = Files.createDirectory(sink.getRotatedFile(1)).resolve("blocker"); //$NON-NLS-1$
+			Files.createFile(blocker);
+			for (int i = 0; i < 3; i++) {
+				sink.write(chunk(i));
+				sink.flush();
+			}
+			assertEquals(3 * chunk(0).length, Files.size(fFile));
+			Files.delete(blocker);
+			Files.delete(sink.getRotatedFile(1));
+			sink.write(chunk(3));
+			sink.flush();
+			assertEquals(new String(chunk(0), StandardCharsets.UTF_8) + new String(chunk(1), StandardCharsets.UTF_8) + new String(chunk(2), StandardCharsets.UTF_8), Files.readString(sink.getRotatedFile(1)));
+		}
+		assertArrayEquals(chunk(3), Files.readAllBytes(fFile));
+	}
+
+	/**
+	 * Appending keeps the existing content.
+	 */
+	@Test
+	public void testAppend() throws Exception {
+		Files.write(fFile, chunk(0));
+		try (ProcessConsoleFileSink sink = new ProcessConsoleFileSink(fFile, true)) {
+			sink.write(chunk(1));
+		}
+		assertEquals(new String(chunk(0), StandardCharsets.UTF_8) + new String(chunk(1), StandardCharsets.UTF_8), Files.readString(fFile));
+	}
+
+	private static byte[] chunk(int index) {
+		StringBuilder text = new StringBuilder();
+		while (text.length() < 59) {
+			text.append(index);
+		}
+		return text.append('\n').toString().getBytes(StandardCharsets.UTF_8);
+	}
+}
@@ -26,12 +26,16 @@ import java.util.Map;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.preferences.IEclipsePreferences;
+import org.eclipse.core.runtime.preferences.InstanceScope;
 import org.eclipse.debug.core.DebugEvent;
 import org.eclipse.debug.core.DebugException;
 import org.eclipse.debug.core.DebugPlugin;
 import org.eclipse.debug.core.model.IProcess;
 import org.eclipse.debug.core.model.RuntimeProcess;
 import org.eclipse.debug.internal.core.DebugCoreMessages;
+import org.eclipse.debug.internal.core.IInternalDebugCoreConstants;
+import org.eclipse.debug.internal.core.ProcessIOExecutor;
 import org.eclipse.debug.tests.AbstractDebugTest;
 import org.eclipse.debug.tests.TestUtil;
 import org.eclipse.debug.tests.sourcelookup.TestLaunch;
@@ -98,6 +102,42 @@ public class RuntimeProcessTests extends AbstractDebugTest {
 		assertEquals("RuntimeProcess reported wrong exit code.", 1, runtimeProcess.getExitValue());
 	}
 
+	/**
+	 * Test behavior of {@link RuntimeProcess} if the wrapped process
+	 * terminates while process I/O runs on the shared thread pool.
+	 */
+	@Test
+	public void testProcessTerminatedWithSharedIOThreads() throws Exception {
+		IEclipsePreferences prefs = InstanceScope.INSTANCE.getNode(DebugPlugin.getUniqueIdentifier());
+		prefs.putBoolean(IInternalDebugCoreConstants.PREF_SHARED_PROCESS_IO_THREADS, true);
+		try {
+			AtomicInteger processTerminateEvents = new AtomicInteger();
+			DebugPlugin.getDefault().addDebugEventListener(events -> {
+				for (DebugEvent event : events) {
+					if (event.getKind() == DebugEvent.TERMINATE) {
+						processTerminateEvents.incrementAndGet();
+					}
+				}
+			});
+
+			MockProcess mockProcess = new MockProcess(MockProcess.RUN_FOREVER);
+			RuntimeProcess runtimeProcess = mockProcess.toRuntimeProcess();
+
+			assertFalse("RuntimeProcess already terminated.", runtimeProcess.isTerminated());
+			assertTrue("Process I/O does not run on the shared pool.", ProcessIOExecutor.getActivePoolThreadCount() > 0);
+
+			mockProcess.setExitValue(1);
+			mockProcess.destroy();
+
+			TestUtil.waitWhile(p -> !p.isTerminated(), runtimeProcess, 1000, p -> "RuntimePocess not terminated.");
+			TestUtil.waitForJobs(name.getMethodName(), 25, 500);
+			assertEquals("Wrong number of terminate events.", 1, processTerminateEvents.get());
+			assertEquals("RuntimeProcess reported wrong exit code.", 1, runtimeProcess.getExitValue());
+		} finally {
+			prefs.remove(IInternalDebugCoreConstants.PREF_SHARED_PROCESS_IO_THREADS);
+		}
+	}
+
 	/**
 	 * Test {@link RuntimeProcess} terminating the wrapped process and its
 	 * descendants.
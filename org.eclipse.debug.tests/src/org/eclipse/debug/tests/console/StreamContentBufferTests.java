@@ -0,0 +1,195 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.debug.tests.console;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import org.eclipse.debug.internal.core.StreamContentBuffer;
+import org.eclipse.debug.tests.AbstractDebugTest;
+import org.junit.Test;
+
+/**
+ * Tests the {@link StreamContentBuffer}.
+ */
+public class StreamContentBufferTests extends AbstractDebugTest {
+
+	/**
+	 * Test content which stays in memory.
+	 */
+	@Test
+	public void testInMemoryContent() throws Exception {
+		StreamContentBuffer buffer = new StreamContentBuffer();
+		try {
+			byte[] data = createData(1000);
+			buffer.write(data, 0, 500);
+			buffer.write(data, 500, 500);
+			assertEquals(1000, buffer.size());
+			assertEquals(0, buffer.getSpilledSize());
+			assertArrayEquals(data, buffer.toByteArray());
+
+			byte[] range = new byte[100];
+			assertEquals(100, buffer.read(450, range, 0, 100));
+			assertArrayEquals(Arrays.copyOfRange(data, 450, 550), range);
+			assertEquals(-1, buffer.read(1000, range, 0, 100));
+		} finally {
+			buffer.reset();
+		}
+	}
+
+	/**
+	 * Test content exceeding the memory limit is spilled and can still be
+	 * read completely and by range.
+	 */
+	@Test
+	public void testSpilledContent() throws Exception {
+		StreamContentBuffer buffer = new StreamContentBuffer(0);
+		try {
+			byte[] data = createData(1_000_000);
+			for (int i = 0; i < data.length; i += 7777) {
+				buffer.write(data, i, Math.min(7777, data.length - i));
+			}
+			assertEquals(data.length, buffer.size());
+			assertTrue("Content was not spilled.", buffer.getSpilledSize() > 0);
+			assertArrayEquals(data, buffer.toByteArray());
+
+			// range across spilled and in-memory content
+			int start = (int) buffer.getSpilledSize() - 1000;
+			byte[] range = new byte[5000];
+			assertEquals(range.length, buffer.read(start, range, 0, range.length));
+			assertArrayEquals(Arrays.copyOfRange(data, start, start + range.length), range);
+
+			ByteArrayOutputStream streamed = new ByteArrayOutputStream();
+			try (InputStream in = buffer.getInputStream()) {
+				in.transferTo(streamed);
+			}
+			assertArrayEquals(data, streamed.toByteArray());
+
+			buffer.reset();
+			assertEquals(0, buffer.size());
+			assertEquals(0, buffer.getSpilledSize());
+			assertEquals(0, buffer.toByteArray().length);
+		} finally {
+			buffer.reset();
+		}
+	}
+
+	/**
+	 * Test the oldest content is discarded once the spill file is full.
+	 */
+	@Test
+	public void testDiskLimit() throws Exception {
+		StreamContentBuffer buffer = new StreamContentBuffer(0, 256 * 1024);
+		try {
+			byte[] data = createData(1_000_000);
+			for (int i = 0; i < data.length; i += 7777) {
+				buffer.write(data, i, Math.min(7777, data.length - i));
+			}
+			assertEquals(256 * 1024, buffer.getSpilledSize());
+			assertTrue("Content was not discarded.", buffer.getDiscardedSize() > 0);
+			assertEquals(data.length, buffer.getDiscardedSize() + buffer.size());
+			int start = (int) buffer.getDiscardedSize();
+			assertArrayEquals(Arrays.copyOfRange(data, start, data.length), buffer.toByteArray());
+
+			ByteArrayOutputStream streamed = new ByteArrayOutputStream();
+			try (InputStream in = buffer.getInputStream()) {
+				in.transferTo(streamed);
+			}
+			assertArrayEquals(Arrays.copyOfRange(data, start, data.length), streamed.toByteArray());
+		} finally {
+			buffer.reset();
+		}
+	}
+
+	/**
+	 * Test content is kept in memory if spilling fails and the oldest content
+	 * is discarded once the memory limit is exceeded.
+	 */
+	@Test
+	public void testSpillFailure() throws Exception {
+		StreamContentBuffer buffer = new StreamContentBuffer(0) {
+			@Override
+			protected FileChannel openSpillChannel(Path file) throws IOException {
+				FileChannel channel = super.openSpillChannel(file);
+				channel.close();
+				return channel;
+			}
+		};
+		try {
+			byte[] data = createData(1_000_000);
+			for (int i = 0; i < data.length; i += 7777) {
+				buffer.write(data, i, Math.min(7777, data.length - i));
+			}
+			assertEquals(0, buffer.getSpilledSize());
+			assertTrue("Content was not discarded.", buffer.getDiscardedSize() > 0);
+			assertEquals(data.length, buffer.getDiscardedSize() + buffer.size());
+			int start = (int) buffer.getDiscardedSize();
+			assertArrayEquals(Arrays.copyOfRange(data, start, data.length), buffer.toByteArray());
+		} finally {
+			buffer.reset();
+		}
+	}
+
+	/**
+	 * Test a closed buffer holds no open spill file but its content stays
+	 * readable until it is reset.
+	 */
+	@Test
+	public void testClose() throws Exception {
+		final FileChannel[] channel = new FileChannel[1];
+		final Path[] file = new Path[1];
+		StreamContentBuffer buffer = new StreamContentBuffer(0) {
+			@Override
+			protected FileChannel openSpillChannel(Path spillFile) throws IOException {
+				file[0] = spillFile;
+				channel[0] = super.openSpillChannel(spillFile);
+				return channel[0];
+			}
+		};
+		try {
+			byte[] data = createData(1_000_000);
+			buffer.write(data, 0, 500_000);
+			assertTrue("Content was not spilled.", buffer.getSpilledSize() > 0);
+			buffer.close();
+			assertFalse("Spill file still open.", channel[0].isOpen());
+			buffer.write(data, 500_000, 500_000);
+			assertFalse("Spill file still open.", channel[0].isOpen());
+			assertArrayEquals(data, buffer.toByteArray());
+			assertFalse("Spill file still open.", channel[0].isOpen());
+
+			buffer.reset();
+			assertFalse("Spill file not deleted.", Files.exists(file[0]));
+		} finally {
+			buffer.reset();
+		}
+	}
+
+	private static byte[] createData(int length) {
+		byte[] data = new byte[length];
+		for (int i = 0; i < length; i++) {
+			data[i] = (byte) (i * 31 + i / 256);
+		}
+		return data;
+	}
+}
@@ -0,0 +1,138 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.debug.tests.events;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+import java.util.List;
+
+import org.eclipse.debug.core.DebugEvent;
+import org.eclipse.debug.internal.core.DebugEventCoalescer;
+import org.eclipse.debug.tests.AbstractDebugTest;
+import org.junit.Test;
+
+/**
+ * Tests the {@link DebugEventCoalescer}.
+ */
+public class DebugEventCoalescerTests extends AbstractDebugTest {
+
+	private final Object fSource1 = new Object();
+	private final Object fSource2 = new Object();
+
+	/**
+	 * Repeated change events of the same source are reduced to the last one
+	 * and consecutive change sets are merged.
+	 */
+	@Test
+	public void testCoalesceChanges() {
+		DebugEvent change1 = new DebugEvent(fSource1, DebugEvent.CHANGE, DebugEvent.CONTENT);
+		DebugEvent change2 = new DebugEvent(fSource2, DebugEvent.CHANGE, DebugEvent.CONTENT);
+		DebugEvent change3 = new DebugEvent(fSource1, DebugEvent.CHANGE, DebugEvent.CONTENT);
+		DebugEvent state = new DebugEvent(fSource1, DebugEvent.CHANGE, DebugEvent.STATE);
+
+		List<Object> result = DebugEventCoalescer.coalesce(List.of(new DebugEvent[] { change1 }, new DebugEvent[] {
+				change2 }, new DebugEvent[] { change3, state }));
+
+		assertEquals(1, result.size());
+		assertArrayEquals(new DebugEvent[] { change2, change3, state }, (DebugEvent[]) result.get(0));
+	}
+
+	/**
+	 * Change events are not coalesced across other events of the same source
+	 * and other events keep their order.
+	 */
+	@Test
+	public void testKeepOrderOfOtherEvents() {
+		DebugEvent change1 = new DebugEvent(fSource1, DebugEvent.CHANGE, DebugEvent.CONTENT);
+		DebugEvent suspend = new DebugEvent(fSource1, DebugEvent.SUSPEND, DebugEvent.STEP_END);
+		DebugEvent change2 = new DebugEvent(fSource1, DebugEvent.CHANGE, DebugEvent.CONTENT);
+		DebugEvent resume = new DebugEvent(fSource1, DebugEvent.RESUME, DebugEvent.STEP_OVER);
+		DebugEvent change3 = new DebugEvent(fSource1, DebugEvent.CHANGE, DebugEvent.CONTENT);
+		DebugEvent change4 = new DebugEvent(fSource1, DebugEvent.CHANGE, DebugEvent.CONTENT);
+		DebugEvent terminate = new DebugEvent(fSource1, DebugEvent.TERMINATE);
+
+		DebugEvent[] suspendSet = new DebugEvent[] { suspend };
+		DebugEvent[] resumeSet = new DebugEvent[] { resume };
+		DebugEvent[] terminateSet = new DebugEvent[] { terminate };
+		List<Object> result = DebugEventCoalescer.coalesce(List.of(new DebugEvent[] { change1 }, suspendSet, new DebugEvent[] {
+				change2 }, resumeSet, new DebugEvent[] { change3 }, new DebugEvent[] { change4 }, terminateSet));
+
+		assertEquals(6, result.size());
+		assertArrayEquals(new DebugEvent[] { change1 }, (DebugEvent[]) result.get(0));
+		assertSame(suspendSet, result.get(1));
+		assertArrayEquals(new DebugEvent[] { change2 }, (DebugEvent[]) result.get(2));
+		assertSame(resumeSet, result.get(3));
+		assertArrayEquals(new DebugEvent[] { change4 }, (DebugEvent[]) result.get(4));
+		assertSame(terminateSet, result.get(5));
+	}
+
+	/**
+	 * Change events of distinct sources are not coalesced even if the sources
+	 * are equal.
+	 */
+	@Test
+	public void testEqualSources() {
+		Object source1 = new EqualSource();
+		Object source2 = new EqualSource();
+		DebugEvent change1 = new DebugEvent(source1, DebugEvent.CHANGE, DebugEvent.CONTENT);
+		DebugEvent change2 = new DebugEvent(source2, DebugEvent.CHANGE, DebugEvent.CONTENT);
+
+		List<Object> result = DebugEventCoalescer.coalesce(List.of(new DebugEvent[] { change1 }, new DebugEvent[] {
+				change2 }));
+
+		assertEquals(1, result.size());
+		assertArrayEquals(new DebugEvent[] { change1, change2 }, (DebugEvent[]) result.get(0));
+	}
+
+	/**
+	 * Change events with data and events across runnables are not coalesced.
+	 */
+	@Test
+	public void testNoCoalescing() {
+		DebugEvent change1 = new DebugEvent(fSource1, DebugEvent.CHANGE, DebugEvent.CONTENT);
+		DebugEvent change2 = new DebugEvent(fSource1, DebugEvent.CHANGE, DebugEvent.CONTENT);
+		DebugEvent change3 = new DebugEvent(fSource1, DebugEvent.CHANGE, DebugEvent.CONTENT);
+		change3.setData("data"); //$NON-NLS-1$
+		DebugEvent change4 = new DebugEvent(fSource1, DebugEvent.CHANGE, DebugEvent.CONTENT);
+		change4.setData("data"); //$NON-NLS-1$
+		Runnable runnable = () -> {
+		};
+
+		List<Object> result = DebugEventCoalescer.coalesce(List.of(new DebugEvent[] { change1 }, runnable, new DebugEvent[] {
+				change2 }, new DebugEvent[] { change3 }, new DebugEvent[] { change4 }));
+
+		assertEquals(3, result.size());
+		assertArrayEquals(new DebugEvent[] { change1 }, (DebugEvent[]) result.get(0));
+		assertSame(runnable, result.get(1));
+		assertArrayEquals(new DebugEvent[] { change2, change3, change4 }, (DebugEvent[]) result.get(2));
+	}
+
+	/**
+	 * A source which is equal to every other source of its type.
+	 */
+	private static final class EqualSource {
+
+		@Override
+		public boolean equals(Object obj) {
+			return obj instanceof EqualSource;
+		}
+
+		@Override
+		public int hashCode() {
+			return 0;
+		}
+	}
+}
@@ -0,0 +1,131 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.debug.tests.events;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.debug.core.DebugEvent;
+import org.eclipse.debug.core.DebugPlugin;
+import org.eclipse.debug.core.IDebugEventSetListener;
+import org.eclipse.debug.internal.core.DebugEventStatistics;
+import org.eclipse.debug.internal.core.DebugEventStatistics.LatencyHistogram;
+import org.eclipse.debug.tests.AbstractDebugTest;
+import org.eclipse.debug.tests.TestUtil;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests the {@link DebugEventStatistics}.
+ */
+public class DebugEventStatisticsTests extends AbstractDebugTest {
+
+	private final DebugEventStatistics fStatistics = DebugEventStatistics.getDefault();
+	private long fBudget;
+
+	private static class SlowListener implements IDebugEventSetListener {
+		final AtomicInteger fCount = new AtomicInteger();
+
+		@Override
+		public void handleDebugEvents(DebugEvent[] events) {
+			try {
+				Thread.sleep(30);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			fCount.incrementAndGet();
+		}
+	}
+
+	private static class FastListener implements IDebugEventSetListener {
+		final AtomicInteger fCount = new AtomicInteger();
+
+		@Override
+		public void handleDebugEvents(DebugEvent[] events) {
+			fCount.incrementAndGet();
+		}
+	}
+
+	@Override
+	@Before
+	public void setUp() throws Exception {
+		super.setUp();
+		fBudget = fStatistics.getBudget();
+		fStatistics.reset();
+		fStatistics.setEnabled(true);
+	}
+
+	@Override
+	@After
+	public void tearDown() throws Exception {
+		fStatistics.setEnabled(false);
+		fStatistics.setBudget(fBudget);
+		fStatistics.reset();
+		super.tearDown();
+	}
+
+	/**
+	 * Queue wait, dispatch and listener times are recorded and a listener
+	 * exceeding the budget is reported.
+	 */
+	@Test
+	public void testRecordListenerTimes() throws Exception {
+		fStatistics.setBudget(10);
+		SlowListener slow = new SlowListener();
+		FastListener fast = new FastListener();
+		DebugPlugin plugin = DebugPlugin.getDefault();
+		plugin.addDebugEventListener(slow);
+		plugin.addDebugEventListener(fast);
+		try {
+			plugin.fireDebugEventSet(new DebugEvent[] { new DebugEvent(this, DebugEvent.CHANGE) });
+			TestUtil.waitWhile(() -> fast.fCount.get() == 0 || slow.fCount.get() == 0, 5000);
+			// the dispatch time is recorded after the last listener returned
+			TestUtil.waitWhile(() -> fStatistics.getDispatchTime().getCount() == 0, 1000);
+		} finally {
+			plugin.removeDebugEventListener(slow);
+			plugin.removeDebugEventListener(fast);
+		}
+
+		LatencyHistogram slowTimes = fStatistics.getListenerTimes().get(SlowListener.class.getName());
+		assertNotNull(slowTimes);
+		assertTrue(slowTimes.getMaxNanos() >= 30_000_000L);
+		assertNotNull(fStatistics.getListenerTimes().get(FastListener.class.getName()));
+		assertTrue(fStatistics.getQueueWaitTime().getCount() > 0);
+		assertTrue(fStatistics.getDispatchTime().getMaxNanos() >= slowTimes.getMaxNanos());
+		assertTrue(fStatistics.getSlowListeners().contains(SlowListener.class.getName()));
+		assertFalse(fStatistics.getSlowListeners().contains(FastListener.class.getName()));
+	}
+
+	/**
+	 * Percentiles are reported as upper bound of the containing bucket.
+	 */
+	@Test
+	public void testHistogramPercentiles() {
+		LatencyHistogram histogram = fStatistics.getDispatchTime();
+		for (int i = 0; i < 99; i++) {
+			fStatistics.recordDispatch(1_000); // 1us
+		}
+		fStatistics.recordDispatch(1_000_000); // 1ms
+		assertEquals(100, histogram.getCount());
+		assertEquals(1_000_000, histogram.getMaxNanos());
+		assertEquals(2, histogram.getPercentileMicros(50));
+		assertEquals(2, histogram.getPercentileMicros(99));
+		assertEquals(1024, histogram.getPercentileMicros(100));
+	}
+}
@@ -0,0 +1,179 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.debug.tests.launching;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+
+import org.eclipse.debug.core.ILaunchConfiguration;
+import org.eclipse.debug.core.ILaunchConfigurationWorkingCopy;
+import org.eclipse.debug.internal.core.AttributeMap;
+import org.junit.Test;
+
+/**
+ * Tests the {@link AttributeMap} storing launch configuration attributes.
+ */
+public class AttributeMapTests extends AbstractLaunchTest {
+
+	/**
+	 * Random changes give the same results as a {@link TreeMap}, for the map
+	 * and all copies taken along the way.
+	 */
+	@Test
+	public void testRandomChanges() {
+		Random random = new Random(42);
+		TreeMap<String, Object> expected = new TreeMap<>();
+		AttributeMap map = new AttributeMap();
+		List<TreeMap<String, Object>> expectedCopies = new ArrayList<>();
+		List<AttributeMap> copies = new ArrayList<>();
+		for (int i = 0; i < 5000; i++) {
+			String key = "key" + random.nextInt(500); //$NON-NLS-1$
+			switch (random.nextInt(4)) {
+				case 0:
+				case 1:
+					Integer value = Integer.valueOf(random.nextInt(10));
+					assertEquals(expected.put(key, value), map.put(key, value));
+					break;
+				case 2:
+					assertEquals(expected.remove(key), map.remove(key));
+					break;
+				default:
+					if (random.nextInt(10) == 0) {
+						expectedCopies.add(new TreeMap<>(expected));
+						copies.add(map.copy());
+					}
+					break;
+			}
+			assertEquals(expected.size(), map.size());
+			assertEquals(expected.containsKey(key), map.containsKey(key));
+		}
+		assertEquals(expected, map);
+		assertEquals(new ArrayList<>(expected.keySet()), new ArrayList<>(map.keySet()));
+		assertEquals(expected.hashCode(), map.hashCode());
+		for (int i = 0; i < copies.size(); i++) {
+			assertEquals("Copies should not see later changes", expectedCopies.get(i), copies.get(i)); //$NON-NLS-1$
+		}
+	}
+
+	/**
+	 * A copy shares the entries until either map is changed.
+	 */
+	@Test
+	public void testCopy() {
+		Map<String, Object> source = new HashMap<>();
+		for (int i = 0; i < 100; i++) {
+			source.put("attribute" + i, "value" + i); //$NON-NLS-1$ //$NON-NLS-2$
+		}
+		AttributeMap map = new AttributeMap(source);
+		assertEquals(source, map);
+		AttributeMap copy = map.copy();
+		assertTrue(copy.sharesEntriesWith(map));
+		copy.put("attribute0", "changed"); //$NON-NLS-1$ //$NON-NLS-2$
+		copy.remove("attribute1"); //$NON-NLS-1$
+		assertFalse(copy.sharesEntriesWith(map));
+		assertEquals("value0", map.get("attribute0")); //$NON-NLS-1$ //$NON-NLS-2$
+		assertEquals("value1", map.get("attribute1")); //$NON-NLS-1$ //$NON-NLS-2$
+		assertEquals("changed", copy.get("attribute0")); //$NON-NLS-1$ //$NON-NLS-2$
+		assertNull(copy.get("attribute1")); //$NON-NLS-1$
+		assertEquals(100, map.size());
+		assertEquals(99, copy.size());
+		assertThrows(NullPointerException.class, () -> map.put(null, "value")); //$NON-NLS-1$
+	}
+
+	/**
+	 * Iterators traverse the entries present when they were created and can
+	 * remove entries.
+	 */
+	@Test
+	public void testIterator() {
+		AttributeMap map = new AttributeMap();
+		for (int i = 0; i < 10; i++) {
+			map.put("attribute" + i, Integer.valueOf(i)); //$NON-NLS-1$
+		}
+		Iterator<Map.Entry<String, Object>> iterator = map.entrySet().iterator();
+		int count = 0;
+		while (iterator.hasNext()) {
+			Map.Entry<String, Object> entry = iterator.next();
+			if (((Integer) entry.getValue()).intValue() % 2 == 0) {
+				iterator.remove();
+			}
+			map.put("added" + count, Boolean.TRUE); //$NON-NLS-1$
+			count++;
+		}
+		assertEquals(10, count);
+		assertEquals(15, map.size());
+		assertFalse(map.containsKey("attribute0")); //$NON-NLS-1$
+		assertTrue(map.containsKey("attribute1")); //$NON-NLS-1$
+	}
+
+	/**
+	 * Setting the value of an entry changes the map but not its copies.
+	 */
+	@Test
+	public void testEntrySetValue() {
+		AttributeMap map = new AttributeMap();
+		for (int i = 0; i < 10; i++) {
+			map.put("attribute" + i, Integer.valueOf(i)); //$NON-NLS-1$
+		}
+		AttributeMap copy = map.copy();
+		for (Map.Entry<String, Object> entry : map.entrySet()) {
+			Object old = entry.getValue();
+			assertEquals(old, entry.setValue("changed")); //$NON-NLS-1$
+			assertEquals("changed", entry.getValue()); //$NON-NLS-1$
+		}
+		assertEquals(10, map.size());
+		for (int i = 0; i < 10; i++) {
+			assertEquals("changed", map.get("attribute" + i)); //$NON-NLS-1$ //$NON-NLS-2$
+			assertEquals(Integer.valueOf(i), copy.get("attribute" + i)); //$NON-NLS-1$
+		}
+	}
+
+	/**
+	 * Working copies of a configuration do not change the configuration or
+	 * the attributes returned from it.
+	 */
+	@Test
+	public void testWorkingCopyIsolation() throws Exception {
+		ILaunchConfiguration config = getLaunchConfiguration("attribute-map"); //$NON-NLS-1$
+		try {
+			ILaunchConfigurationWorkingCopy wc = config.getWorkingCopy();
+			wc.setAttribute("org.eclipse.debug.tests.shared", "original"); //$NON-NLS-1$ //$NON-NLS-2$
+			config = wc.doSave();
+			Map<String, Object> attributes = config.getAttributes();
+			ILaunchConfigurationWorkingCopy first = config.getWorkingCopy();
+			ILaunchConfigurationWorkingCopy second = config.getWorkingCopy();
+			first.setAttribute("org.eclipse.debug.tests.shared", "first"); //$NON-NLS-1$ //$NON-NLS-2$
+			second.removeAttribute("org.eclipse.debug.tests.shared"); //$NON-NLS-1$
+			attributes.put("org.eclipse.debug.tests.shared", "map"); //$NON-NLS-1$ //$NON-NLS-2$
+			assertEquals("original", config.getAttribute("org.eclipse.debug.tests.shared", (String) null)); //$NON-NLS-1$ //$NON-NLS-2$
+			assertEquals("first", first.getAttribute("org.eclipse.debug.tests.shared", (String) null)); //$NON-NLS-1$ //$NON-NLS-2$
+			assertNull(second.getAttribute("org.eclipse.debug.tests.shared", (String) null)); //$NON-NLS-1$
+			assertTrue(config.getWorkingCopy().contentsEqual(config));
+			assertFalse(first.contentsEqual(config));
+		} finally {
+			config.delete();
+		}
+	}
+}
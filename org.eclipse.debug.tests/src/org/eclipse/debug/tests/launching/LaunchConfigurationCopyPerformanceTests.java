@@ -0,0 +1,147 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.debug.tests.launching;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.debug.core.ILaunchConfiguration;
+import org.eclipse.debug.core.ILaunchConfigurationType;
+import org.eclipse.debug.core.ILaunchConfigurationWorkingCopy;
+import org.eclipse.debug.core.ILaunchManager;
+import org.eclipse.debug.tests.TestUtil;
+import org.eclipse.test.performance.Performance;
+import org.eclipse.test.performance.PerformanceMeter;
+import org.junit.Test;
+
+/**
+ * Measures latency and allocation of copying launch configuration attributes,
+ * as done for every working copy and every call to
+ * {@link ILaunchConfiguration#getAttributes()}, compared to copying the
+ * attributes into a {@link TreeMap} as done before attributes were stored in
+ * a structurally shared map.
+ */
+public class LaunchConfigurationCopyPerformanceTests extends AbstractLaunchTest {
+
+	/** Number of attributes of the configuration. */
+	private static final int ATTRIBUTES = 500;
+
+	/** Number of operations per measurement. */
+	private static final int OPERATIONS = 20000;
+
+	private interface Operation {
+		void run(ILaunchConfiguration config, int i) throws Exception;
+	}
+
+	public String getDefaultScenarioId() {
+		return this.getClass().getName() + '#' + name.getMethodName() + "()"; //$NON-NLS-1$
+	}
+
+	@Test
+	public void testGetAttributes() throws Exception {
+		runTest((config, i) -> config.getAttributes());
+	}
+
+	@Test
+	public void testTreeMapCopy() throws Exception {
+		runTest((config, i) -> new TreeMap<>(config.getAttributes()));
+	}
+
+	@Test
+	public void testWorkingCopy() throws Exception {
+		runTest((config, i) -> config.getWorkingCopy());
+	}
+
+	@Test
+	public void testWorkingCopyChange() throws Exception {
+		runTest((config, i) -> {
+			ILaunchConfigurationWorkingCopy wc = config.getWorkingCopy();
+			wc.setAttribute("org.eclipse.debug.tests.attribute" + (i % ATTRIBUTES), "changed"); //$NON-NLS-1$ //$NON-NLS-2$
+			wc.isDirty();
+		});
+	}
+
+	@Test
+	public void testContentsEqual() throws Exception {
+		runTest((config, i) -> config.getWorkingCopy().contentsEqual(config));
+	}
+
+	private void runTest(Operation operation) throws Exception {
+		ILaunchConfiguration config = newConfiguration();
+		try {
+			// warm up
+			for (int i = 0; i < OPERATIONS; i++) {
+				operation.run(config, i);
+			}
+			Performance perf = Performance.getDefault();
+			PerformanceMeter meter = perf.createPerformanceMeter(getDefaultScenarioId());
+			try {
+				for (int run = 0; run < 10; run++) {
+					long allocated = getAllocatedBytes();
+					meter.start();
+					long start = System.nanoTime();
+					for (int i = 0; i < OPERATIONS; i++) {
+						operation.run(config, i);
+					}
+					long duration = System.nanoTime() - start;
+					meter.stop();
+					allocated = getAllocatedBytes() - allocated;
+					TestUtil.log(IStatus.INFO, name.getMethodName(), String.format("Run %d: %.2f us/op, %d bytes/op", run, duration / 1000.0 / OPERATIONS, allocated / OPERATIONS)); //$NON-NLS-1$
+				}
+				meter.commit();
+				perf.assertPerformance(meter);
+			} finally {
+				meter.dispose();
+			}
+		} finally {
+			config.delete();
+		}
+	}
+
+	/**
+	 * Returns a saved configuration with many attributes and a large
+	 * environment.
+	 */
+	private ILaunchConfiguration newConfiguration() throws Exception {
+		ILaunchConfigurationType type = getLaunchManager().getLaunchConfigurationType(LaunchConfigurationTests.ID_TEST_LAUNCH_TYPE);
+		ILaunchConfigurationWorkingCopy wc = type.newInstance(null, "copy-performance"); //$NON-NLS-1$
+		for (int i = 0; i < ATTRIBUTES; i++) {
+			wc.setAttribute("org.eclipse.debug.tests.attribute" + i, "value " + i); //$NON-NLS-1$ //$NON-NLS-2$
+		}
+		Map<String, String> environment = new TreeMap<>();
+		for (int i = 0; i < 1000; i++) {
+			environment.put("ENVIRONMENT_VARIABLE_" + i, "/usr/local/lib/example/" + i); //$NON-NLS-1$ //$NON-NLS-2$
+		}
+		wc.setAttribute(ILaunchManager.ATTR_ENVIRONMENT_VARIABLES, environment);
+		return wc.doSave();
+	}
+
+	/**
+	 * Returns the number of bytes allocated by the current thread, or
+	 * <code>0</code> if the VM does not provide allocation counters.
+	 */
+	private static long getAllocatedBytes() {
+		ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+		try {
+			Method method = Class.forName("com.sun.management.ThreadMXBean").getMethod("getThreadAllocatedBytes", long.class); //$NON-NLS-1$ //$NON-NLS-2$
+			return ((Long) method.invoke(bean, Long.valueOf(Thread.currentThread().getId()))).longValue();
+		} catch (ReflectiveOperationException | RuntimeException e) {
+			return 0;
+		}
+	}
+}
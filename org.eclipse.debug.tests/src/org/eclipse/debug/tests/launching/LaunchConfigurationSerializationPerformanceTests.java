@@ -0,0 +1,161 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.debug.tests.launching;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.debug.core.DebugPlugin;
+import org.eclipse.debug.core.ILaunchManager;
+import org.eclipse.debug.internal.core.LaunchConfigurationBinaryCache;
+import org.eclipse.debug.tests.AbstractDebugTest;
+import org.eclipse.debug.tests.TestUtil;
+import org.eclipse.test.performance.Performance;
+import org.eclipse.test.performance.PerformanceMeter;
+import org.junit.Test;
+
+/**
+ * Compares reading and writing launch configurations with the streaming XML
+ * reader and writer, the DOM based implementation they replaced and the
+ * binary launch configuration cache.
+ */
+public class LaunchConfigurationSerializationPerformanceTests extends AbstractDebugTest {
+
+	/** Number of environment variables of the large configuration. */
+	private static final int LARGE_ENVIRONMENT = 5000;
+
+	/** Number of reads or writes per measurement. */
+	private static final int OPERATIONS = 200;
+
+	private interface Operation {
+		void run(TestLaunchConfigurationInfo info, byte[] xml, byte[] binary) throws Exception;
+	}
+
+	public String getDefaultScenarioId() {
+		return this.getClass().getName() + '#' + name.getMethodName() + "()"; //$NON-NLS-1$
+	}
+
+	@Test
+	public void testStreamingReadSmall() throws Exception {
+		runTest(newInfo(0), OPERATIONS * 50, (info, xml, binary) -> new TestLaunchConfigurationInfo().readXML(xml));
+	}
+
+	@Test
+	public void testDOMReadSmall() throws Exception {
+		runTest(newInfo(0), OPERATIONS * 50, (info, xml, binary) -> new TestLaunchConfigurationInfo().readDOM(xml));
+	}
+
+	@Test
+	public void testStreamingReadLarge() throws Exception {
+		runTest(newInfo(LARGE_ENVIRONMENT), OPERATIONS, (info, xml, binary) -> new TestLaunchConfigurationInfo().readXML(xml));
+	}
+
+	@Test
+	public void testDOMReadLarge() throws Exception {
+		runTest(newInfo(LARGE_ENVIRONMENT), OPERATIONS, (info, xml, binary) -> new TestLaunchConfigurationInfo().readDOM(xml));
+	}
+
+	@Test
+	public void testBinaryCacheReadLarge() throws Exception {
+		runTest(newInfo(LARGE_ENVIRONMENT), OPERATIONS, (info, xml, binary) -> {
+			try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(binary))) {
+				LaunchConfigurationBinaryCache.readInfo(in, new TestLaunchConfigurationInfo());
+			}
+		});
+	}
+
+	@Test
+	public void testStreamingWriteLarge() throws Exception {
+		runTest(newInfo(LARGE_ENVIRONMENT), OPERATIONS, (info, xml, binary) -> info.toXML("\n")); //$NON-NLS-1$
+	}
+
+	@Test
+	public void testDOMWriteLarge() throws Exception {
+		runTest(newInfo(LARGE_ENVIRONMENT), OPERATIONS, (info, xml, binary) -> info.toDOM("\n")); //$NON-NLS-1$
+	}
+
+	private void runTest(TestLaunchConfigurationInfo info, int operations, Operation operation) throws Exception {
+		byte[] xml = info.toXML("\n").getBytes(StandardCharsets.UTF_8); //$NON-NLS-1$
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		try (DataOutputStream out = new DataOutputStream(bytes)) {
+			LaunchConfigurationBinaryCache.writeInfo(out, info);
+		}
+		byte[] binary = bytes.toByteArray();
+		TestLaunchConfigurationInfo read = new TestLaunchConfigurationInfo();
+		read.readXML(xml);
+		assertEquals("Should read the written attributes", info.get(), read.get()); //$NON-NLS-1$
+
+		// warm up
+		for (int i = 0; i < operations; i++) {
+			operation.run(info, xml, binary);
+		}
+		Performance perf = Performance.getDefault();
+		PerformanceMeter meter = perf.createPerformanceMeter(getDefaultScenarioId());
+		try {
+			for (int run = 0; run < 10; run++) {
+				meter.start();
+				long start = System.nanoTime();
+				for (int i = 0; i < operations; i++) {
+					operation.run(info, xml, binary);
+				}
+				long duration = System.nanoTime() - start;
+				meter.stop();
+				TestUtil.log(IStatus.INFO, name.getMethodName(), String.format("Run %d: %.1f us/op, %d bytes XML, %d bytes binary", run, duration / 1000.0 / operations, xml.length, binary.length)); //$NON-NLS-1$
+			}
+			meter.commit();
+			perf.assertPerformance(meter);
+		} finally {
+			meter.dispose();
+		}
+	}
+
+	/**
+	 * Returns a configuration with typical attributes and the given number of
+	 * environment variables.
+	 */
+	private TestLaunchConfigurationInfo newInfo(int environmentSize) {
+		ILaunchManager manager = DebugPlugin.getDefault().getLaunchManager();
+		TestLaunchConfigurationInfo info = new TestLaunchConfigurationInfo(manager.getLaunchConfigurationType(LaunchConfigurationTests.ID_TEST_LAUNCH_TYPE));
+		assertTrue(info.get().isEmpty());
+		for (int i = 0; i < 10; i++) {
+			info.set("org.eclipse.debug.tests.string" + i, "value with <markup> & \"quotes\" " + i); //$NON-NLS-1$ //$NON-NLS-2$
+			info.set("org.eclipse.debug.tests.boolean" + i, Boolean.valueOf(i % 2 == 0)); //$NON-NLS-1$
+		}
+		List<String> mappedPaths = new ArrayList<>();
+		List<String> mappedTypes = new ArrayList<>();
+		for (int i = 0; i < 5; i++) {
+			mappedPaths.add("/project/src/org/eclipse/Example" + i + ".java"); //$NON-NLS-1$ //$NON-NLS-2$
+			mappedTypes.add("1"); //$NON-NLS-1$
+		}
+		info.set("org.eclipse.debug.core.MAPPED_RESOURCE_PATHS", mappedPaths); //$NON-NLS-1$
+		info.set("org.eclipse.debug.core.MAPPED_RESOURCE_TYPES", mappedTypes); //$NON-NLS-1$
+		Map<String, String> environment = new HashMap<>();
+		for (int i = 0; i < environmentSize; i++) {
+			environment.put("ENVIRONMENT_VARIABLE_" + i, "/usr/local/lib/example/" + i + ":/usr/lib"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+		}
+		info.set(ILaunchManager.ATTR_ENVIRONMENT_VARIABLES, environment);
+		return info;
+	}
+}
@@ -21,6 +21,10 @@ import static org.junit.Assert.assertNotSame;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
 import java.io.File;
 import java.io.FileFilter;
 import java.io.IOException;
@@ -32,7 +36,9 @@ import java.nio.charset.Charset;
 import java.nio.charset.CharsetDecoder;
 import java.nio.charset.CodingErrorAction;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -41,6 +47,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.eclipse.core.filesystem.EFS;
 import org.eclipse.core.filesystem.IFileSystem;
@@ -69,6 +76,7 @@ import org.eclipse.debug.core.ILaunchesListener2;
 import org.eclipse.debug.core.Launch;
 import org.eclipse.debug.core.model.IProcess;
 import org.eclipse.debug.internal.core.LaunchConfiguration;
+import org.eclipse.debug.internal.core.LaunchConfigurationBinaryCache;
 import org.eclipse.debug.internal.core.LaunchManager;
 import org.eclipse.debug.tests.TestsPlugin;
 import org.eclipse.debug.tests.console.MockProcess;
@@ -79,6 +87,8 @@ import org.eclipse.ui.PlatformUI;
 import org.junit.Test;
 import org.osgi.framework.Bundle;
 import org.osgi.service.prefs.Preferences;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
 
 /**
  * Tests for launch configurations
@@ -2003,4 +2013,124 @@ public class LaunchConfigurationTests extends AbstractLaunchTest implements ILau
 
 	}
 
+	/**
+	 * Tests that the streaming writer produces the same document as the DOM
+	 * serializer did and that the streaming reader reads the same attributes
+	 * as the DOM reader.
+	 */
+	@Test
+	public void testStreamingXMLMatchesDOM() throws Exception {
+		TestLaunchConfigurationInfo info = newSerializationInfo();
+		for (String delimiter : new String[] { "\n", "\r\n" }) { //$NON-NLS-1$ //$NON-NLS-2$
+			String xml = info.toXML(delimiter);
+			assertEquals("Should match DOM serialization", info.toDOM(delimiter), xml); //$NON-NLS-1$
+
+			TestLaunchConfigurationInfo streamed = new TestLaunchConfigurationInfo();
+			streamed.readXML(xml.getBytes(StandardCharsets.UTF_8));
+			TestLaunchConfigurationInfo parsed = new TestLaunchConfigurationInfo();
+			parsed.readDOM(xml.getBytes(StandardCharsets.UTF_8));
+			assertEquals("Should read the same attributes as the DOM reader", parsed.get(), streamed.get()); //$NON-NLS-1$
+			assertEquals("Should read the written attributes", info.get(), streamed.get()); //$NON-NLS-1$
+		}
+	}
+
+	/**
+	 * Tests that the streaming reader and writer still call the methods
+	 * reading and creating DOM elements if a subclass overrides them.
+	 */
+	@Test
+	public void testStreamingXMLUsesOverriddenHooks() throws Exception {
+		final AtomicInteger created = new AtomicInteger();
+		final AtomicInteger read = new AtomicInteger();
+		TestLaunchConfigurationInfo info = new TestLaunchConfigurationInfo(getLaunchManager().getLaunchConfigurationType(ID_TEST_LAUNCH_TYPE)) {
+			@Override
+			protected Element createKeyValueElement(Document doc, String elementType, String key, String value) {
+				created.incrementAndGet();
+				return super.createKeyValueElement(doc, elementType, key, value);
+			}
+
+			@Override
+			protected void setStringAttribute(Element element) throws CoreException {
+				read.incrementAndGet();
+				super.setStringAttribute(element);
+			}
+		};
+		info.set("string", "value"); //$NON-NLS-1$ //$NON-NLS-2$
+		info.set("int", Integer.valueOf(1)); //$NON-NLS-1$
+		String xml = info.toXML("\n"); //$NON-NLS-1$
+		assertEquals("Should create elements through the overridden method", 2, created.get()); //$NON-NLS-1$
+		assertEquals("Should match DOM serialization", info.toDOM("\n"), xml); //$NON-NLS-1$ //$NON-NLS-2$
+
+		info.readXML(xml.getBytes(StandardCharsets.UTF_8));
+		assertEquals("Should read elements through the overridden method", 1, read.get()); //$NON-NLS-1$
+		assertEquals("value", info.get().get("string")); //$NON-NLS-1$ //$NON-NLS-2$
+		assertEquals(Integer.valueOf(1), info.get().get("int")); //$NON-NLS-1$
+	}
+
+	/**
+	 * Tests that attributes survive a round trip through the binary launch
+	 * configuration cache format.
+	 */
+	@Test
+	public void testBinaryCacheRoundTrip() throws Exception {
+		TestLaunchConfigurationInfo info = newSerializationInfo();
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		try (DataOutputStream out = new DataOutputStream(bytes)) {
+			LaunchConfigurationBinaryCache.writeInfo(out, info);
+		}
+		TestLaunchConfigurationInfo read = new TestLaunchConfigurationInfo();
+		try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+			assertTrue("Type should be available", LaunchConfigurationBinaryCache.readInfo(in, read)); //$NON-NLS-1$
+		}
+		assertEquals("Should read the written attributes", info.get(), read.get()); //$NON-NLS-1$
+	}
+
+	/**
+	 * Tests that the binary launch configuration cache is not used if the
+	 * content of the configuration file changed without changing its stamp.
+	 */
+	@Test
+	public void testBinaryCacheValidatesContent() throws Exception {
+		LaunchConfiguration config = (LaunchConfiguration) newConfiguration(null, "binaryCache").doSave(); //$NON-NLS-1$
+		File directory = Files.createTempDirectory("launchCache").toFile(); //$NON-NLS-1$
+		try {
+			LaunchConfigurationBinaryCache cache = new LaunchConfigurationBinaryCache(directory);
+			byte[] content = "<launchConfiguration a=\"1\"/>".getBytes(StandardCharsets.UTF_8); //$NON-NLS-1$
+			byte[] changed = "<launchConfiguration a=\"2\"/>".getBytes(StandardCharsets.UTF_8); //$NON-NLS-1$
+			cache.write(config, 42, content, newSerializationInfo());
+			assertNotNull("Should read the cached configuration", cache.read(config, 42, content)); //$NON-NLS-1$
+			assertNull("Should not read the cache for a different stamp", cache.read(config, 43, content)); //$NON-NLS-1$
+			assertNull("Should not read the cache for changed content", cache.read(config, 42, changed)); //$NON-NLS-1$
+			assertNull("Should not read the cache for a different length", cache.read(config, 42, Arrays.copyOf(content, content.length + 1))); //$NON-NLS-1$
+		} finally {
+			for (File file : directory.listFiles()) {
+				file.delete();
+			}
+			directory.delete();
+			config.delete();
+		}
+	}
+
+	/**
+	 * Returns an info with attributes of all types and values which need
+	 * escaping in XML.
+	 */
+	private TestLaunchConfigurationInfo newSerializationInfo() {
+		TestLaunchConfigurationInfo info = new TestLaunchConfigurationInfo(getLaunchManager().getLaunchConfigurationType(ID_TEST_LAUNCH_TYPE));
+		info.set("string", "<a href=\"x\">&amp; 'quoted'</a>\ttab\nline\u00e9\u20ac\ud83d\ude00"); //$NON-NLS-1$ //$NON-NLS-2$
+		info.set("empty", ""); //$NON-NLS-1$ //$NON-NLS-2$
+		info.set("int", Integer.valueOf(-42)); //$NON-NLS-1$
+		info.set("boolean", Boolean.TRUE); //$NON-NLS-1$
+		info.set("list", new ArrayList<>(List.of("b", "a", "a > b"))); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$
+		info.set("emptyList", new ArrayList<>()); //$NON-NLS-1$
+		info.set("set", new HashSet<>(Set.of("z", "y", "\r"))); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$
+		Map<String, String> map = new HashMap<>();
+		for (int i = 0; i < 50; i++) {
+			map.put("VAR_" + i, "value=" + i); //$NON-NLS-1$ //$NON-NLS-2$
+		}
+		info.set("map", map); //$NON-NLS-1$
+		info.set("emptyMap", new HashMap<>()); //$NON-NLS-1$
+		return info;
+	}
+
 }
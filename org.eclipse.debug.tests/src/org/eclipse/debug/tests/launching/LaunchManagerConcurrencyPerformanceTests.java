@@ -0,0 +1,166 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.debug.tests.launching;
+
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.debug.core.ILaunchConfiguration;
+import org.eclipse.debug.core.ILaunchConfigurationType;
+import org.eclipse.debug.core.ILaunchManager;
+import org.eclipse.debug.internal.core.LaunchManager;
+import org.eclipse.debug.tests.TestUtil;
+import org.eclipse.test.performance.Performance;
+import org.eclipse.test.performance.PerformanceMeter;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Stress test of concurrent launch manager queries, as issued by context
+ * launching jobs and decorators. Readers should scale with the number of
+ * threads instead of serializing on the launch manager.
+ */
+public class LaunchManagerConcurrencyPerformanceTests extends AbstractLaunchTest {
+
+	/** Number of configurations in the workspace. */
+	private static final int CONFIGURATIONS = 200;
+
+	/** Number of queries per thread and measurement. */
+	private static final int OPERATIONS = 20000;
+
+	private final List<ILaunchConfiguration> fCreated = new ArrayList<>();
+
+	public String getDefaultScenarioId() {
+		return this.getClass().getName() + '#' + name.getMethodName() + "()"; //$NON-NLS-1$
+	}
+
+	@Override
+	@Before
+	public void setUp() throws Exception {
+		super.setUp();
+		ILaunchConfigurationType type = getLaunchManager().getLaunchConfigurationType(LaunchConfigurationTests.ID_TEST_LAUNCH_TYPE);
+		for (int i = 0; i < CONFIGURATIONS; i++) {
+			fCreated.add(type.newInstance(null, "concurrency-config-" + i).doSave()); //$NON-NLS-1$
+		}
+	}
+
+	@Override
+	@After
+	public void tearDown() throws Exception {
+		for (ILaunchConfiguration config : fCreated) {
+			config.delete();
+		}
+		fCreated.clear();
+		super.tearDown();
+	}
+
+	@Test
+	public void testQueries1Thread() throws Exception {
+		runTest(1);
+	}
+
+	@Test
+	public void testQueries2Threads() throws Exception {
+		runTest(2);
+	}
+
+	@Test
+	public void testQueries4Threads() throws Exception {
+		runTest(4);
+	}
+
+	@Test
+	public void testQueries8Threads() throws Exception {
+		runTest(8);
+	}
+
+	private void runTest(int threads) throws Exception {
+		ExecutorService executor = Executors.newFixedThreadPool(threads);
+		try {
+			// warm up
+			runQueries(executor, threads);
+			Performance perf = Performance.getDefault();
+			PerformanceMeter meter = perf.createPerformanceMeter(getDefaultScenarioId());
+			try {
+				for (int run = 0; run < 10; run++) {
+					meter.start();
+					long duration = runQueries(executor, threads);
+					meter.stop();
+					long operations = (long) OPERATIONS * threads;
+					TestUtil.log(IStatus.INFO, name.getMethodName(), String.format("Run %d: %d threads, %.0f queries/s", run, threads, operations * 1e9 / duration)); //$NON-NLS-1$
+				}
+				meter.commit();
+				perf.assertPerformance(meter);
+			} finally {
+				meter.dispose();
+			}
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	/**
+	 * Runs the queries on the given number of threads, starting all threads
+	 * at once.
+	 *
+	 * @return elapsed time in nanoseconds
+	 */
+	private long runQueries(ExecutorService executor, int threads) throws Exception {
+		LaunchManager manager = (LaunchManager) getLaunchManager();
+		CountDownLatch start = new CountDownLatch(1);
+		List<Future<Integer>> results = new ArrayList<>(threads);
+		for (int t = 0; t < threads; t++) {
+			results.add(executor.submit(() -> {
+				start.await();
+				int found = 0;
+				for (int i = 0; i < OPERATIONS; i++) {
+					switch (i % 4) {
+						case 0:
+							ILaunchConfigurationType type = manager.getLaunchConfigurationType(LaunchConfigurationTests.ID_TEST_LAUNCH_TYPE);
+							found += manager.getLaunchConfigurations(type).length;
+							break;
+						case 1:
+							found += manager.getLaunchConfigurations(ILaunchConfiguration.CONFIGURATION).length;
+							break;
+						case 2:
+							if (manager.launchModeAvailable(ILaunchManager.DEBUG_MODE)) {
+								found++;
+							}
+							break;
+						default:
+							found += manager.getLaunchModes().length;
+							break;
+					}
+				}
+				return Integer.valueOf(found);
+			}));
+		}
+		long begin = System.nanoTime();
+		start.countDown();
+		for (Future<Integer> result : results) {
+			int found = result.get(5, TimeUnit.MINUTES).intValue();
+			assertTrue("Should find the created configurations", found >= OPERATIONS / 4 * CONFIGURATIONS); //$NON-NLS-1$
+		}
+		return System.nanoTime() - begin;
+	}
+}
@@ -16,19 +16,40 @@ package org.eclipse.debug.tests.launching;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertThrows;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.ResourcesPlugin;
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.NullProgressMonitor;
 import org.eclipse.core.runtime.Platform;
+import org.eclipse.debug.core.DebugPlugin;
 import org.eclipse.debug.core.ILaunch;
 import org.eclipse.debug.core.ILaunchConfiguration;
 import org.eclipse.debug.core.ILaunchConfigurationType;
 import org.eclipse.debug.core.ILaunchConfigurationWorkingCopy;
 import org.eclipse.debug.core.ILaunchManager;
+import org.eclipse.debug.internal.core.LaunchConfiguration;
+import org.eclipse.debug.internal.core.LaunchConfigurationIndex;
+import org.eclipse.debug.internal.core.LaunchConfigurationIndexStore;
 import org.eclipse.debug.internal.core.LaunchManager;
+import org.eclipse.debug.tests.TestsPlugin;
 import org.eclipse.debug.tests.launching.CancellingLaunchDelegate.CancellingLaunch;
 import org.eclipse.debug.tests.launching.ThrowingLaunchDelegate.ThrowingEnum;
 import org.eclipse.debug.tests.launching.ThrowingLaunchDelegate.ThrowingLaunch;
@@ -506,4 +527,175 @@ public class LaunchManagerTests extends AbstractLaunchTest {
 	public void testThrowingLaunch() throws Exception {
 		testThrowingLaunchDelegateMethod(ThrowingEnum.launch);
 	}
+
+	/**
+	 * Tests that the persistent launch configuration index survives a
+	 * save/load cycle and ignores entries of changed files.
+	 *
+	 * @throws Exception
+	 */
+	@Test
+	public void testPersistentIndex() throws Exception {
+		LaunchManager manager = (LaunchManager) getLaunchManager();
+		ILaunchConfigurationType type = manager.getLaunchConfigurationType(LaunchConfigurationTests.ID_TEST_LAUNCH_TYPE);
+		ILaunchConfigurationWorkingCopy wc = type.newInstance(null, "indexed-config"); //$NON-NLS-1$
+		LaunchConfiguration config = (LaunchConfiguration) wc.doSave();
+		try {
+			config.getType();
+			LaunchConfigurationIndexStore.Entry entry = manager.getIndexStore().get(config);
+			assertNotNull("Configuration should be indexed", entry); //$NON-NLS-1$
+			assertEquals(LaunchConfigurationTests.ID_TEST_LAUNCH_TYPE, entry.getTypeId());
+			assertEquals("indexed-config", entry.getName()); //$NON-NLS-1$
+			assertFalse(entry.isPrototype());
+
+			manager.persistLaunchConfigurationIndex();
+			LaunchConfigurationIndexStore loaded = new LaunchConfigurationIndexStore(DebugPlugin.getDefault().getStateLocation().append(LaunchConfigurationIndexStore.FILE_NAME).toFile());
+			entry = loaded.get(config);
+			assertNotNull("Configuration should be in saved index", entry); //$NON-NLS-1$
+			assertEquals(LaunchConfigurationTests.ID_TEST_LAUNCH_TYPE, entry.getTypeId());
+
+			wc = config.getWorkingCopy();
+			wc.setAttribute("indexed-attribute", "changed"); //$NON-NLS-1$ //$NON-NLS-2$
+			wc.doSave();
+			assertNull("Entry of changed configuration should be ignored", loaded.get(config)); //$NON-NLS-1$
+		} finally {
+			config.delete();
+		}
+	}
+
+	/**
+	 * Tests that a launch manager discovering configurations concurrently finds
+	 * the same configurations and prototypes as the running one and that
+	 * concurrent callers all receive the same published collection.
+	 */
+	@Test
+	public void testConcurrentDiscovery() throws Exception {
+		LaunchManager manager = (LaunchManager) getLaunchManager();
+		ILaunchConfigurationType type = manager.getLaunchConfigurationType(LaunchConfigurationTests.ID_TEST_LAUNCH_TYPE);
+		List<ILaunchConfiguration> created = new ArrayList<>();
+		ILaunchConfiguration prototype = type.newPrototypeInstance(null, "discovered-prototype").doSave(); //$NON-NLS-1$
+		created.add(prototype);
+		for (int i = 0; i < 40; i++) {
+			ILaunchConfigurationWorkingCopy wc = type.newInstance(null, "discovered-config-" + i); //$NON-NLS-1$
+			wc.setPrototype(prototype, false);
+			created.add(wc.doSave());
+		}
+		LaunchManager discovering = new LaunchManager();
+		try {
+			ExecutorService executor = Executors.newFixedThreadPool(4);
+			try {
+				List<Future<List<ILaunchConfiguration>>> results = new ArrayList<>();
+				for (int i = 0; i < 4; i++) {
+					results.add(executor.submit(discovering::getAllLaunchConfigurations));
+				}
+				List<ILaunchConfiguration> discovered = results.get(0).get(30, TimeUnit.SECONDS);
+				for (Future<List<ILaunchConfiguration>> result : results) {
+					assertSame("All callers should see the same collection", discovered, result.get(30, TimeUnit.SECONDS)); //$NON-NLS-1$
+				}
+				assertEquals(new HashSet<>(manager.getAllLaunchConfigurations()), new HashSet<>(discovered));
+				assertTrue("Should find all created configurations", discovered.containsAll(created)); //$NON-NLS-1$
+				assertThrows(UnsupportedOperationException.class, () -> discovered.add(prototype));
+			} finally {
+				executor.shutdownNow();
+			}
+		} finally {
+			ResourcesPlugin.getWorkspace().removeResourceChangeListener(discovering);
+			for (ILaunchConfiguration config : created) {
+				config.delete();
+			}
+		}
+	}
+
+	/**
+	 * Tests that lookups by type, kind and project follow added, changed and
+	 * removed configurations.
+	 */
+	@Test
+	public void testLaunchConfigurationIndex() throws Exception {
+		LaunchManager manager = (LaunchManager) getLaunchManager();
+		ILaunchConfigurationType type = manager.getLaunchConfigurationType(LaunchConfigurationTests.ID_TEST_LAUNCH_TYPE);
+		IProject project = TestsPlugin.createProject("LaunchManagerTests"); //$NON-NLS-1$
+		ILaunchConfiguration prototype = type.newPrototypeInstance(null, "indexed-prototype").doSave(); //$NON-NLS-1$
+		ILaunchConfiguration local = type.newInstance(null, "indexed-local").doSave(); //$NON-NLS-1$
+		ILaunchConfiguration shared = type.newInstance(project, "indexed-shared").doSave(); //$NON-NLS-1$
+		try {
+			List<ILaunchConfiguration> configurations = Arrays.asList(manager.getLaunchConfigurations(type, ILaunchConfiguration.CONFIGURATION));
+			List<ILaunchConfiguration> prototypes = Arrays.asList(manager.getLaunchConfigurations(type, ILaunchConfiguration.PROTOTYPE));
+			List<ILaunchConfiguration> all = Arrays.asList(manager.getLaunchConfigurations(type, ILaunchConfiguration.CONFIGURATION | ILaunchConfiguration.PROTOTYPE));
+			assertTrue(configurations.contains(local) && configurations.contains(shared) && !configurations.contains(prototype));
+			assertTrue(prototypes.contains(prototype) && !prototypes.contains(local));
+			assertTrue(all.containsAll(Arrays.asList(prototype, local, shared)));
+			assertTrue(Arrays.asList(manager.getLaunchConfigurations(ILaunchConfiguration.PROTOTYPE)).contains(prototype));
+
+			// lookups keep the order of the collection of all configurations
+			List<ILaunchConfiguration> expected = new ArrayList<>();
+			for (ILaunchConfiguration config : manager.getAllLaunchConfigurations()) {
+				if (config.getType().equals(type) && !config.isPrototype()) {
+					expected.add(config);
+				}
+			}
+			assertEquals(expected, configurations);
+
+			ILaunchConfigurationWorkingCopy wc = shared.getWorkingCopy();
+			wc.setAttribute("changed", true); //$NON-NLS-1$
+			wc.doSave();
+			assertEquals("Changed configuration should be indexed once", 1, Collections.frequency(Arrays.asList(manager.getLaunchConfigurations(type)), shared)); //$NON-NLS-1$
+
+			shared.delete();
+			assertFalse(Arrays.asList(manager.getLaunchConfigurations(type)).contains(shared));
+			assertFalse(manager.getAllLaunchConfigurations().contains(shared));
+		} finally {
+			prototype.delete();
+			local.delete();
+			if (shared.exists()) {
+				shared.delete();
+			}
+		}
+	}
+
+	/**
+	 * Tests the lookups of an index maintained incrementally.
+	 */
+	@Test
+	public void testLaunchConfigurationIndexUpdates() throws Exception {
+		ILaunchConfigurationType type = getLaunchManager().getLaunchConfigurationType(LaunchConfigurationTests.ID_TEST_LAUNCH_TYPE);
+		IProject project = TestsPlugin.createProject("LaunchManagerTests"); //$NON-NLS-1$
+		ILaunchConfiguration local = type.newInstance(null, "index-local").doSave(); //$NON-NLS-1$
+		ILaunchConfiguration shared = type.newInstance(project, "index-shared").doSave(); //$NON-NLS-1$
+		ILaunchConfiguration prototype = type.newPrototypeInstance(null, "index-prototype").doSave(); //$NON-NLS-1$
+		try {
+			String typeId = type.getIdentifier();
+			Map<ILaunchConfiguration, String> typeIds = new HashMap<>();
+			typeIds.put(local, typeId);
+			typeIds.put(prototype, typeId);
+			LaunchConfigurationIndex index = LaunchConfigurationIndex.create(Arrays.asList(local, prototype), typeIds);
+			assertEquals(Arrays.asList(local), index.getLaunchConfigurations(typeId, ILaunchConfiguration.CONFIGURATION));
+			assertEquals(Arrays.asList(prototype), index.getLaunchConfigurations(typeId, ILaunchConfiguration.PROTOTYPE));
+			assertEquals(Arrays.asList(local, prototype), index.getLocalLaunchConfigurations());
+			assertTrue(index.getLaunchConfigurations(project).isEmpty());
+
+			LaunchConfigurationIndex added = index.with(shared, typeId);
+			assertSame("Adding a known configuration should not change the index", added, added.with(shared, typeId)); //$NON-NLS-1$
+			assertEquals(Arrays.asList(local, prototype, shared), added.getAll());
+			assertEquals(Arrays.asList(local, shared), added.getLaunchConfigurations(typeId, ILaunchConfiguration.CONFIGURATION));
+			assertEquals(Arrays.asList(shared), added.getLaunchConfigurations(project));
+			assertEquals(Arrays.asList(local), index.getLaunchConfigurations(typeId, ILaunchConfiguration.CONFIGURATION));
+
+			LaunchConfigurationIndex retyped = added.with(local, "other.type"); //$NON-NLS-1$
+			assertEquals(Arrays.asList(shared), retyped.getLaunchConfigurations(typeId, ILaunchConfiguration.CONFIGURATION));
+			assertEquals(Arrays.asList(local), retyped.getLaunchConfigurations("other.type", ILaunchConfiguration.CONFIGURATION)); //$NON-NLS-1$
+			assertEquals(added.getAll(), retyped.getAll());
+
+			LaunchConfigurationIndex removed = added.without(shared);
+			assertEquals(index.getAll(), removed.getAll());
+			assertTrue(removed.getLaunchConfigurations(project).isEmpty());
+			assertFalse(removed.contains(shared));
+			assertSame(removed, removed.without(shared));
+			assertThrows(UnsupportedOperationException.class, () -> removed.getAll().add(shared));
+		} finally {
+			local.delete();
+			shared.delete();
+			prototype.delete();
+		}
+	}
 }
@@ -0,0 +1,114 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.debug.tests.launching;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.runtime.IPath;
+import org.eclipse.core.runtime.Path;
+import org.eclipse.debug.core.ILaunchConfiguration;
+import org.eclipse.debug.internal.core.MappedResourceIndex;
+import org.junit.Test;
+
+/**
+ * Tests the {@link MappedResourceIndex}.
+ */
+public class MappedResourceIndexTests extends AbstractLaunchTest {
+
+	private static final Integer FILE = Integer.valueOf(IResource.FILE);
+	private static final Integer FOLDER = Integer.valueOf(IResource.FOLDER);
+
+	/**
+	 * Configurations are found for the mapped path and all its ancestors.
+	 */
+	@Test
+	public void testPrefixLookup() throws Exception {
+		ILaunchConfiguration fileConfig = getLaunchConfiguration("mapped-file"); //$NON-NLS-1$
+		ILaunchConfiguration folderConfig = getLaunchConfiguration("mapped-folder"); //$NON-NLS-1$
+		try {
+			MappedResourceIndex index = new MappedResourceIndex();
+			index.put(fileConfig, List.of(path("/P/src/a/Main.java")), List.of(FILE)); //$NON-NLS-1$
+			index.put(folderConfig, List.of(path("/P/src/b")), List.of(FOLDER)); //$NON-NLS-1$
+
+			assertEquals(Set.of(fileConfig), index.getConfigurations(path("/P/src/a/Main.java"), IResource.FILE, 0)); //$NON-NLS-1$
+			assertEquals(Set.of(fileConfig), index.getConfigurations(path("/P/src/a"), MappedResourceIndex.ALL_TYPES, MappedResourceIndex.ALL_TYPES)); //$NON-NLS-1$
+			assertEquals(Set.of(fileConfig, folderConfig), index.getConfigurations(path("/P"), MappedResourceIndex.ALL_TYPES, MappedResourceIndex.ALL_TYPES)); //$NON-NLS-1$
+			assertEquals(Set.of(fileConfig), index.getConfigurations(path("/P"), IResource.PROJECT, IResource.FILE)); //$NON-NLS-1$
+			assertTrue(index.getConfigurations(path("/P/src/a/Main.java"), IResource.FOLDER, 0).isEmpty()); //$NON-NLS-1$
+			assertTrue(index.getConfigurations(path("/Q"), MappedResourceIndex.ALL_TYPES, MappedResourceIndex.ALL_TYPES).isEmpty()); //$NON-NLS-1$
+		} finally {
+			fileConfig.delete();
+			folderConfig.delete();
+		}
+	}
+
+	/**
+	 * Replacing or removing a mapping removes the configuration from the old
+	 * paths.
+	 */
+	@Test
+	public void testUpdateAndRemove() throws Exception {
+		ILaunchConfiguration config = getLaunchConfiguration("mapped-moved"); //$NON-NLS-1$
+		try {
+			MappedResourceIndex index = new MappedResourceIndex();
+			index.put(config, List.of(path("/P/old/Main.java")), List.of(FILE)); //$NON-NLS-1$
+			index.put(config, List.of(path("/P/new/Main.java")), List.of(FILE)); //$NON-NLS-1$
+			assertTrue(index.getConfigurations(path("/P/old"), MappedResourceIndex.ALL_TYPES, MappedResourceIndex.ALL_TYPES).isEmpty()); //$NON-NLS-1$
+			assertEquals(Set.of(config), index.getConfigurations(path("/P/new"), MappedResourceIndex.ALL_TYPES, MappedResourceIndex.ALL_TYPES)); //$NON-NLS-1$
+
+			index.remove(config);
+			assertFalse(index.contains(config));
+			assertTrue(index.getConfigurations(path("/P"), MappedResourceIndex.ALL_TYPES, MappedResourceIndex.ALL_TYPES).isEmpty()); //$NON-NLS-1$
+		} finally {
+			config.delete();
+		}
+	}
+
+	/**
+	 * Configurations are returned in the order they were added, a changed
+	 * mapping keeps the position of its configuration.
+	 */
+	@Test
+	public void testOrder() throws Exception {
+		ILaunchConfiguration first = getLaunchConfiguration("mapped-first"); //$NON-NLS-1$
+		ILaunchConfiguration second = getLaunchConfiguration("mapped-second"); //$NON-NLS-1$
+		try {
+			MappedResourceIndex index = new MappedResourceIndex();
+			index.put(first, List.of(path("/P/src/z/Main.java")), List.of(FILE)); //$NON-NLS-1$
+			index.put(second, List.of(path("/P/src/a/Main.java")), List.of(FILE)); //$NON-NLS-1$
+			assertEquals(List.of(first, second), new ArrayList<>(index.getConfigurations(path("/P"), MappedResourceIndex.ALL_TYPES, MappedResourceIndex.ALL_TYPES))); //$NON-NLS-1$
+
+			index.put(first, List.of(path("/P/src/b/Main.java")), List.of(FILE)); //$NON-NLS-1$
+			assertEquals(List.of(first, second), new ArrayList<>(index.getConfigurations(path("/P"), MappedResourceIndex.ALL_TYPES, MappedResourceIndex.ALL_TYPES))); //$NON-NLS-1$
+
+			index.remove(first);
+			index.put(first, List.of(path("/P/src/b/Main.java")), List.of(FILE)); //$NON-NLS-1$
+			assertEquals(List.of(second, first), new ArrayList<>(index.getConfigurations(path("/P"), MappedResourceIndex.ALL_TYPES, MappedResourceIndex.ALL_TYPES))); //$NON-NLS-1$
+		} finally {
+			first.delete();
+			second.delete();
+		}
+	}
+
+	private static IPath path(String path) {
+		return new Path(path);
+	}
+}
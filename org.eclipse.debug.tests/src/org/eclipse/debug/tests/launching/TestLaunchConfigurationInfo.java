@@ -0,0 +1,102 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.debug.tests.launching;
+
+import java.io.ByteArrayInputStream;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamReader;
+
+import org.eclipse.debug.core.ILaunchConfigurationType;
+import org.eclipse.debug.internal.core.LaunchConfigurationInfo;
+import org.eclipse.debug.internal.core.LaunchManager;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+
+/**
+ * Exposes the XML reading and writing of {@link LaunchConfigurationInfo} for
+ * testing, together with the DOM based implementation it replaced.
+ */
+public class TestLaunchConfigurationInfo extends LaunchConfigurationInfo {
+
+	public TestLaunchConfigurationInfo() {
+	}
+
+	public TestLaunchConfigurationInfo(ILaunchConfigurationType type) {
+		setType(type);
+	}
+
+	public void set(String key, Object value) {
+		setAttribute(key, value);
+	}
+
+	public Map<String, Object> get() {
+		return getAttributes();
+	}
+
+	public String toXML(String lineDelimiter) throws Exception {
+		return getAsXML(lineDelimiter);
+	}
+
+	public void readXML(byte[] xml) throws Exception {
+		XMLInputFactory factory = XMLInputFactory.newDefaultFactory();
+		factory.setProperty(XMLInputFactory.IS_NAMESPACE_AWARE, Boolean.FALSE);
+		XMLStreamReader reader = factory.createXMLStreamReader(new ByteArrayInputStream(xml));
+		try {
+			initializeFromXML(reader, false);
+		} finally {
+			reader.close();
+		}
+	}
+
+	public void readDOM(byte[] xml) throws Exception {
+		Element root = DocumentBuilderFactory.newInstance().newDocumentBuilder().parse(new ByteArrayInputStream(xml)).getDocumentElement();
+		initializeFromXML(root, false);
+	}
+
+	/**
+	 * Writes this info the way launch configurations were written before the
+	 * streaming writer.
+	 */
+	@SuppressWarnings("unchecked")
+	public String toDOM(String lineDelimiter) throws Exception {
+		Document doc = LaunchManager.getDocument();
+		Element root = doc.createElement("launchConfiguration"); //$NON-NLS-1$
+		doc.appendChild(root);
+		root.setAttribute("type", getType().getIdentifier()); //$NON-NLS-1$
+		for (Map.Entry<String, Object> entry : getAttributes().entrySet()) {
+			Object value = entry.getValue();
+			Element element = null;
+			if (value instanceof String) {
+				element = createKeyValueElement(doc, "stringAttribute", entry.getKey(), (String) value); //$NON-NLS-1$
+			} else if (value instanceof Integer) {
+				element = createKeyValueElement(doc, "intAttribute", entry.getKey(), value.toString()); //$NON-NLS-1$
+			} else if (value instanceof Boolean) {
+				element = createKeyValueElement(doc, "booleanAttribute", entry.getKey(), value.toString()); //$NON-NLS-1$
+			} else if (value instanceof List) {
+				element = createListElement(doc, "listAttribute", entry.getKey(), (List<String>) value); //$NON-NLS-1$
+			} else if (value instanceof Map) {
+				element = createMapElement(doc, "mapAttribute", entry.getKey(), (Map<String, String>) value); //$NON-NLS-1$
+			} else if (value instanceof Set) {
+				element = createSetElement(doc, "setAttribute", entry.getKey(), (Set<String>) value); //$NON-NLS-1$
+			}
+			root.appendChild(element);
+		}
+		return LaunchManager.serializeDocument(doc, lineDelimiter);
+	}
+}
@@ -83,6 +83,7 @@ public class DebugUIPreferenceInitializer extends AbstractPreferenceInitializer
 		prefs.setDefault(IDebugPreferenceConstants.CONSOLE_TAB_WIDTH, 8);
 		prefs.setDefault(IDebugPreferenceConstants.CONSOLE_INTERPRET_CONTROL_CHARACTERS, false);
 		prefs.setDefault(IDebugPreferenceConstants.CONSOLE_INTERPRET_CR_AS_CONTROL_CHARACTER, true);
+		prefs.setDefault(IDebugPreferenceConstants.CONSOLE_BACKGROUND_MODE, false);
 
 		// console colors
 		setThemeBasedPreferences(prefs, false);
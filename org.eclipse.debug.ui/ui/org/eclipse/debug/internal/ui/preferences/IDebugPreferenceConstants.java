@@ -117,6 +117,15 @@ public interface IDebugPreferenceConstants {
 	 */
 	String CONSOLE_INTERPRET_CR_AS_CONTROL_CHARACTER = "Console.interpret_cr_as_control_characters"; //$NON-NLS-1$
 
+	/**
+	 * (boolean) If <code>true</code> the output of a process console which is not
+	 * shown is kept in a compact buffer and appended to the console document when
+	 * the console is shown or the process terminates.
+	 *
+	 * @see org.eclipse.ui.console.IOConsole#setBackgroundModeEnabled(boolean)
+	 */
+	String CONSOLE_BACKGROUND_MODE = "Console.backgroundMode"; //$NON-NLS-1$
+
 	/**
 	 * The orientation of the detail view in the VariablesView
 	 */
@@ -21,7 +21,6 @@ import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileNotFoundException;
-import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
@@ -127,7 +126,8 @@ public class ProcessConsole extends IOConsole implements IConsole, IDebugEventSe
 	 */
 	private volatile InputStream fInput;
 
-	private FileOutputStream fFileOutputStream;
+	/** Writes captured output to the file specified by the launch configuration. */
+	private ProcessConsoleFileSink fFileSink;
 
 	private boolean fAllocateConsole = true;
 	private String fStdInFile = null;
@@ -159,6 +159,10 @@ public class ProcessConsole extends IOConsole implements IConsole, IDebugEventSe
 		ILaunchConfiguration configuration = process.getLaunch().getLaunchConfiguration();
 		String file = null;
 		boolean append = false;
+		int rotateSize = 0;
+		int rotateInterval = 0;
+		int rotatedFiles = 0;
+		boolean compress = false;
 		if (configuration != null) {
 			try {
 				file = configuration.getAttribute(IDebugUIConstants.ATTR_CAPTURE_IN_FILE, (String) null);
@@ -168,6 +172,10 @@ public class ProcessConsole extends IOConsole implements IConsole, IDebugEventSe
 					if (file != null) {
 						file = stringVariableManager.performStringSubstitution(file);
 						append = configuration.getAttribute(IDebugUIConstants.ATTR_APPEND_TO_FILE, false);
+						rotateSize = configuration.getAttribute(IDebugUIConstants.ATTR_CAPTURE_IN_FILE_ROTATE_SIZE, 0);
+						rotateInterval = configuration.getAttribute(IDebugUIConstants.ATTR_CAPTURE_IN_FILE_ROTATE_INTERVAL, 0);
+						rotatedFiles = configuration.getAttribute(IDebugUIConstants.ATTR_CAPTURE_IN_FILE_ROTATED_FILES, 5);
+						compress = configuration.getAttribute(IDebugUIConstants.ATTR_CAPTURE_IN_FILE_COMPRESS, false);
 					}
 
 					if (fStdInFile != null) {
@@ -199,12 +207,12 @@ public class ProcessConsole extends IOConsole implements IConsole, IDebugEventSe
 				}
 
 				File outputFile = new File(file);
-				fFileOutputStream = new FileOutputStream(outputFile, append);
+				fFileSink = new ProcessConsoleFileSink(outputFile.toPath(), append, rotateSize * 1024L, rotateInterval * 60_000L, rotatedFiles, compress);
 				fileLoc = outputFile.getAbsolutePath();
 
 				message = MessageFormat.format(ConsoleMessages.ProcessConsole_1, new Object[] { fileLoc });
 				addPatternMatchListener(new ConsoleLogFilePatternMatcher(fileLoc));
-			} catch (FileNotFoundException e) {
+			} catch (IOException e) {
 				message = MessageFormat.format(ConsoleMessages.ProcessConsole_2, new Object[] { file });
 			} catch (CoreException e) {
 				DebugUIPlugin.log(e);
@@ -466,6 +474,8 @@ public class ProcessConsole extends IOConsole implements IConsole, IDebugEventSe
 			setHandleControlCharacters(store.getBoolean(IDebugPreferenceConstants.CONSOLE_INTERPRET_CONTROL_CHARACTERS));
 		} else if (property.equals(IDebugPreferenceConstants.CONSOLE_INTERPRET_CR_AS_CONTROL_CHARACTER)) {
 			setCarriageReturnAsControlCharacter(store.getBoolean(IDebugPreferenceConstants.CONSOLE_INTERPRET_CR_AS_CONTROL_CHARACTER));
+		} else if (property.equals(IDebugPreferenceConstants.CONSOLE_BACKGROUND_MODE)) {
+			setBackgroundModeEnabled(store.getBoolean(IDebugPreferenceConstants.CONSOLE_BACKGROUND_MODE));
 		}
 	}
 
@@ -514,14 +524,8 @@ public class ProcessConsole extends IOConsole implements IConsole, IDebugEventSe
 		for (StreamListener listener : fStreamListeners) {
 			listener.closeStream();
 		}
-		if (fFileOutputStream != null) {
-			synchronized (fFileOutputStream) {
-				try {
-					fFileOutputStream.flush();
-					fFileOutputStream.close();
-				} catch (IOException e) {
-				}
-			}
+		if (fFileSink != null) {
+			fFileSink.close();
 		}
 		try {
 			fInput.close();
@@ -544,7 +548,7 @@ public class ProcessConsole extends IOConsole implements IConsole, IDebugEventSe
 		for (StreamListener listener : fStreamListeners) {
 			listener.dispose();
 		}
-		fFileOutputStream = null;
+		fFileSink = null;
 		fInput = null;
 		fUserInput = null;
 	}
@@ -577,6 +581,7 @@ public class ProcessConsole extends IOConsole implements IConsole, IDebugEventSe
 
 		setHandleControlCharacters(store.getBoolean(IDebugPreferenceConstants.CONSOLE_INTERPRET_CONTROL_CHARACTERS));
 		setCarriageReturnAsControlCharacter(store.getBoolean(IDebugPreferenceConstants.CONSOLE_INTERPRET_CR_AS_CONTROL_CHARACTER));
+		setBackgroundModeEnabled(store.getBoolean(IDebugPreferenceConstants.CONSOLE_BACKGROUND_MODE));
 
 		DebugUIPlugin.getStandardDisplay().asyncExec(() -> {
 			setFont(JFaceResources.getFont(IDebugUIConstants.PREF_CONSOLE_FONT));
@@ -720,7 +725,7 @@ public class ProcessConsole extends IOConsole implements IConsole, IDebugEventSe
 	 * from the process connected to console.
 	 * <p>
 	 * Received output will be redirected to given {@link IOConsoleOutputStream} to
-	 * get it shown in console and to {@link #fFileOutputStream} if set.
+	 * get it shown in console and to {@link #fFileSink} if set.
 	 */
 	private class StreamListener implements IStreamListener, IBinaryStreamListener {
 
@@ -752,7 +757,7 @@ public class ProcessConsole extends IOConsole implements IConsole, IDebugEventSe
 			fStreamMonitor = monitor;
 			fStream = stream;
 			fStreamMonitor.addListener(this);
-			if (fStreamMonitor instanceof IBinaryStreamMonitor && fFileOutputStream != null) {
+			if (fStreamMonitor instanceof IBinaryStreamMonitor && fFileSink != null) {
 				fBinaryStreamMonitor = (IBinaryStreamMonitor) monitor;
 				fBinaryStreamMonitor.addBinaryListener(this);
 			}
@@ -788,13 +793,12 @@ public class ProcessConsole extends IOConsole implements IConsole, IDebugEventSe
 
 		@Override
 		public void streamAppended(byte[] data, IBinaryStreamMonitor monitor) {
-			if (fFileOutputStream != null) {
-				synchronized (fFileOutputStream) {
-					try {
-						fFileOutputStream.write(data);
-					} catch (IOException e) {
-						DebugUIPlugin.log(e);
-					}
+			final ProcessConsoleFileSink fileSink = fFileSink;
+			if (fileSink != null) {
+				try {
+					fileSink.write(data);
+				} catch (IOException e) {
+					DebugUIPlugin.log(e);
 				}
 			}
 		}
@@ -814,7 +818,7 @@ public class ProcessConsole extends IOConsole implements IConsole, IDebugEventSe
 			// If the monitor does not provide the raw data API and we need to redirect to
 			// a file the second best (and in the past only) option is to write the encoded
 			// text to file.
-			if (fBinaryStreamMonitor == null && fFileOutputStream != null) {
+			if (fBinaryStreamMonitor == null && fFileSink != null) {
 				Charset charset = getCharset();
 				byte[] data = charset == null ? text.getBytes() : text.getBytes(charset);
 				streamAppended(data, null);
@@ -0,0 +1,375 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.debug.internal.ui.views.console;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.zip.GZIPOutputStream;
+
+import org.eclipse.debug.internal.ui.DebugUIPlugin;
+
+/**
+ * Writes captured process output to a file in a dedicated thread, so writing
+ * output does not wait for the disk.
+ * <p>
+ * Output is queued in buffers which the writer thread appends with gathering
+ * writes. The file is optionally rotated when it exceeds a size or when a time
+ * interval elapsed. Rotated files are named like the file with a suffix
+ * <code>.1</code> for the most recent, <code>.2</code> for the one before and
+ * so on, and are optionally compressed with gzip (suffix <code>.gz</code>).
+ * Rotation happens between writes, so a file may exceed the size by the output
+ * of one write.
+ * </p>
+ * <p>
+ * If rotating fails, output is appended to the current file and rotating is
+ * retried with the next write. If writing fails, the output of that write is
+ * dropped and the file is opened again for the next write. Only the first
+ * failure of a series is logged.
+ * </p>
+ */
+public class ProcessConsoleFileSink implements Closeable {
+
+	/** Maximum number of queued bytes. Writers wait if it is exceeded. */
+	private static final int MAX_QUEUED_BYTES = 16 * 1024 * 1024;
+
+	/** Size of the buffers small writes are collected in. */
+	private static final int BUFFER_SIZE = 8192;
+
+	/** The file output is written to. */
+	private final Path file;
+
+	/** Size in bytes after which the file is rotated or 0 to not rotate by size. */
+	private final long rotateSize;
+
+	/**
+	 * Time in milliseconds after which the file is rotated or 0 to not rotate
+	 * by time.
+	 */
+	private final long rotateInterval;
+
+	/** Number of rotated files kept. */
+	private final int rotatedFiles;
+
+	/** Whether rotated files are compressed. */
+	private final boolean compress;
+
+	/**
+	 * Buffers not yet written, in write mode. Access must be synchronized on the
+	 * queue.
+	 */
+	private final ArrayDeque<ByteBuffer> queue = new ArrayDeque<>();
+
+	/** Number of bytes in {@link #queue}. */
+	private long queuedBytes;
+
+	/** Number of bytes queued since the sink was created. */
+	private long queuedTotal;
+
+	/** Number of bytes processed by the writer thread since the sink was created. */
+	private long writtenTotal;
+
+	/** Set once the sink is closed. Writes are no longer accepted. */
+	private boolean closed;
+
+	/** The thread writing queued buffers to {@link #file}. */
+	private final Thread writer;
+
+	/** The channel of the current file. Only used by {@link #writer}. */
+	private FileChannel channel;
+
+	/** Size of the current file. Only used by {@link #writer}. */
+	private long size;
+
+	/** Time the current file was started. Only used by {@link #writer}. */
+	private long segmentStart;
+
+	/** Whether the last write failed. Only used by {@link #writer}. */
+	private boolean writeFailed;
+
+	/** Whether the last rotation failed. Only used by {@link #writer}. */
+	private boolean rotateFailed;
+
+	/**
+	 * Creates a sink which does not rotate the file.
+	 *
+	 * @param file   the file to write to
+	 * @param append whether to append to an existing file
+	 * @throws IOException if the file cannot be opened
+	 */
+	public ProcessConsoleFileSink(Path file, boolean append) throws IOException {
+		this(file, append, 0, 0, 0, false);
+	}
+
+	/**
+	 * Creates a sink.
+	 *
+	 * @param file           the file to write to
+	 * @param append         whether to append to an existing file
+	 * @param rotateSize     size in bytes after which the file is rotated or 0 to
+	 *                       not rotate by size
+	 * @param rotateInterval time in milliseconds after which the file is rotated
+	 *                       or 0 to not rotate by time
+	 * @param rotatedFiles   number of rotated files to keep
+	 * @param compress       whether to compress rotated files with gzip
+	 * @throws IOException if the file cannot be opened
+	 */
+	public ProcessConsoleFileSink(Path file, boolean append, long rotateSize, long rotateInterval, int rotatedFiles, boolean compress) throws IOException {
+		this.file = file;
+		this.rotateSize = Math.max(0, rotateSize);
+		this.rotateInterval = Math.max(0, rotateInterval);
+		this.rotatedFiles = Math.max(0, rotatedFiles);
+		this.compress = compress;
+		open(append);
+		writer = new Thread(this::writeQueued, "Process Console File Writer: " + file.getFileName()); //$NON-NLS-1$
+		writer.setDaemon(true);
+		writer.start();
+	}
+
+	/**
+	 * Queues output to be written to the file. Only waits if the writer thread
+	 * falls far behind.
+	 *
+	 * @param data the output to write
+	 * @throws IOException if the sink is closed or interrupted while waiting
+	 */
+	public void write(byte[] data) throws IOException {
+		write(data, 0, data.length);
+	}
+
+	/**
+	 * Queues output to be written to the file. Only waits if the writer thread
+	 * falls far behind.
+	 *
+	 * @param data   the output to write
+	 * @param offset the start of the output in data
+	 * @param length the number of bytes to write
+	 * @throws IOException if the sink is closed or interrupted while waiting
+	 */
+	public void write(byte[] data, int offset, int length) throws IOException {
+		if (length <= 0) {
+			return;
+		}
+		synchronized (queue) {
+			while (queuedBytes >= MAX_QUEUED_BYTES && !closed) {
+				try {
+					queue.wait();
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+					throw new InterruptedIOException();
+				}
+			}
+			if (closed) {
+				throw new IOException("File sink is closed"); //$NON-NLS-1$
+			}
+			final ByteBuffer last = queue.peekLast();
+			if (last != null && last.remaining() >= length) {
+				last.put(data, offset, length);
+			} else {
+				queue.add(ByteBuffer.allocate(Math.max(BUFFER_SIZE, length)).put(data, offset, length));
+			}
+			queuedBytes += length;
+			queuedTotal += length;
+			queue.notifyAll();
+		}
+	}
+
+	/**
+	 * Waits until the output queued so far was written to the file.
+	 *
+	 * @throws IOException if interrupted while waiting
+	 */
+	public void flush() throws IOException {
+		synchronized (queue) {
+			final long target = queuedTotal;
+			while (writtenTotal < target && writer.isAlive()) {
+				try {
+					queue.wait(100);
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+					throw new InterruptedIOException();
+				}
+			}
+		}
+	}
+
+	/**
+	 * Writes the queued output and closes the file. Waits until the writer
+	 * thread has finished.
+	 */
+	@Override
+	public void close() {
+		synchronized (queue) {
+			closed = true;
+			queue.notifyAll();
+		}
+		try {
+			writer.join();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	/**
+	 * Loop of the writer thread. Takes all queued buffers and writes them with
+	 * one gathering write until the sink is closed.
+	 */
+	private void writeQueued() {
+		while (true) {
+			final ByteBuffer[] buffers;
+			final long length;
+			final boolean done;
+			synchronized (queue) {
+				while (queue.isEmpty() && !closed) {
+					try {
+						queue.wait();
+					} catch (InterruptedException e) {
+						// nobody interrupts the writer
+					}
+				}
+				buffers = queue.toArray(new ByteBuffer[queue.size()]);
+				queue.clear();
+				length = queuedBytes;
+				queuedBytes = 0;
+				done = closed;
+				queue.notifyAll();
+			}
+			if (buffers.length > 0) {
+				try {
+					writeBuffers(buffers);
+					writeFailed = false;
+				} catch (IOException e) {
+					// drop this output and reopen the file with the next write
+					if (!writeFailed) {
+						writeFailed = true;
+						DebugUIPlugin.log(e);
+					}
+					closeChannel();
+				}
+			}
+			synchronized (queue) {
+				writtenTotal += length;
+				queue.notifyAll();
+			}
+			if (done) {
+				break;
+			}
+		}
+		closeChannel();
+	}
+
+	private void writeBuffers(ByteBuffer[] buffers) throws IOException {
+		long length = 0;
+		for (ByteBuffer buffer : buffers) {
+			buffer.flip();
+			length += buffer.remaining();
+		}
+		if (size > 0 && ((rotateSize > 0 && size + length > rotateSize) || (rotateInterval > 0 && System.currentTimeMillis() - segmentStart >= rotateInterval))) {
+			try {
+				rotate();
+				rotateFailed = false;
+			} catch (IOException e) {
+				// keep appending to the current file and retry with the next write
+				if (!rotateFailed) {
+					rotateFailed = true;
+					DebugUIPlugin.log(e);
+				}
+			}
+		}
+		if (!channel.isOpen()) {
+			// continue the current file after a failure
+			final long start = segmentStart;
+			open(true);
+			segmentStart = start;
+		}
+		long written = 0;
+		while (written < length) {
+			written += channel.write(buffers);
+		}
+		size += length;
+	}
+
+	/**
+	 * Moves the current file to the first rotated file, shifting and deleting
+	 * older rotated files, and starts a new file. The file is compressed before
+	 * rotated files are shifted, so a failed compression leaves them untouched.
+	 * If rotating fails, the current file may be closed.
+	 */
+	private void rotate() throws IOException {
+		channel.close();
+		if (rotatedFiles > 0) {
+			Path source = file;
+			if (compress) {
+				source = file.resolveSibling(getRotatedFile(1).getFileName() + ".tmp"); //$NON-NLS-1$
+				try (InputStream in = Files.newInputStream(file); OutputStream out = new GZIPOutputStream(Files.newOutputStream(source), BUFFER_SIZE)) {
+					in.transferTo(out);
+				} catch (IOException e) {
+					Files.deleteIfExists(source);
+					throw e;
+				}
+			}
+			Files.deleteIfExists(getRotatedFile(rotatedFiles));
+			for (int i = rotatedFiles - 1; i > 0; i--) {
+				final Path rotated = getRotatedFile(i);
+				if (Files.exists(rotated)) {
+					Files.move(rotated, getRotatedFile(i + 1), StandardCopyOption.REPLACE_EXISTING);
+				}
+			}
+			Files.move(source, getRotatedFile(1), StandardCopyOption.REPLACE_EXISTING);
+		}
+		open(false);
+	}
+
+	/**
+	 * Closes the channel of the current file, logging failures.
+	 */
+	private void closeChannel() {
+		try {
+			channel.close();
+		} catch (IOException e) {
+			DebugUIPlugin.log(e);
+		}
+	}
+
+	/**
+	 * Opens the current file.
+	 *
+	 * @param append whether to append to an existing file
+	 */
+	private void open(boolean append) throws IOException {
+		channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE, append ? StandardOpenOption.APPEND : StandardOpenOption.TRUNCATE_EXISTING);
+		size = append ? channel.size() : 0;
+		segmentStart = System.currentTimeMillis();
+	}
+
+	/**
+	 * Returns the path of a rotated file.
+	 *
+	 * @param index the index of the rotated file, starting with 1 for the most
+	 *              recent one
+	 * @return the path of the rotated file
+	 */
+	public Path getRotatedFile(int index) {
+		return file.resolveSibling(file.getFileName() + "." + index + (compress ? ".gz" : "")); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+	}
+}
@@ -994,6 +994,49 @@ public interface IDebugUIConstants {
 	 */
 	String ATTR_APPEND_TO_FILE = PLUGIN_ID + ".ATTR_APPEND_TO_FILE"; //$NON-NLS-1$
 
+	/**
+	 * Launch configuration attribute specifying the size in kilobytes after
+	 * which the file specified by the <code>ATTR_CAPTURE_IN_FILE</code>
+	 * attribute is rotated. Default value is <code>0</code>, which does not
+	 * rotate the file by size.
+	 *
+	 * @see #ATTR_CAPTURE_IN_FILE_ROTATED_FILES
+	 * @since 3.18
+	 */
+	String ATTR_CAPTURE_IN_FILE_ROTATE_SIZE = PLUGIN_ID + ".ATTR_CAPTURE_IN_FILE_ROTATE_SIZE"; //$NON-NLS-1$
+
+	/**
+	 * Launch configuration attribute specifying the time in minutes after which
+	 * the file specified by the <code>ATTR_CAPTURE_IN_FILE</code> attribute is
+	 * rotated. Default value is <code>0</code>, which does not rotate the file
+	 * by time.
+	 *
+	 * @see #ATTR_CAPTURE_IN_FILE_ROTATED_FILES
+	 * @since 3.18
+	 */
+	String ATTR_CAPTURE_IN_FILE_ROTATE_INTERVAL = PLUGIN_ID + ".ATTR_CAPTURE_IN_FILE_ROTATE_INTERVAL"; //$NON-NLS-1$
+
+	/**
+	 * Launch configuration attribute specifying how many rotated files of the
+	 * file specified by the <code>ATTR_CAPTURE_IN_FILE</code> attribute are
+	 * kept. Rotated files are named like the file with the suffix
+	 * <code>.1</code> for the most recent one, <code>.2</code> for the one
+	 * before and so on. Default value is <code>5</code>.
+	 *
+	 * @since 3.18
+	 */
+	String ATTR_CAPTURE_IN_FILE_ROTATED_FILES = PLUGIN_ID + ".ATTR_CAPTURE_IN_FILE_ROTATED_FILES"; //$NON-NLS-1$
+
+	/**
+	 * Launch configuration attribute specifying whether rotated files of the
+	 * file specified by the <code>ATTR_CAPTURE_IN_FILE</code> attribute are
+	 * compressed with gzip and get the additional suffix <code>.gz</code>.
+	 * Default value is <code>false</code>.
+	 *
+	 * @since 3.18
+	 */
+	String ATTR_CAPTURE_IN_FILE_COMPRESS = PLUGIN_ID + ".ATTR_CAPTURE_IN_FILE_COMPRESS"; //$NON-NLS-1$
+
 	// Extension points
 
 	/**
@@ -77,6 +77,13 @@ public class ImportBreakpointsOperation implements IRunnableWithProgress {
 
 	private BreakpointManager fManager = (BreakpointManager) DebugPlugin.getDefault().getBreakpointManager();
 
+	/**
+	 * The breakpoints registered when the import started, keyed by marker type
+	 * and by marker type and line number, or <code>null</code> when no import
+	 * is running
+	 */
+	private Map<String, List<IBreakpoint>> fExistingBreakpoints = null;
+
 	/**
 	 * When a buffer is specified, a file is not used.
 	 */
@@ -179,71 +186,102 @@ public class ImportBreakpointsOperation implements IRunnableWithProgress {
 				}
 			}
 			IMemento[] nodes = memento.getChildren(IImportExportConstants.IE_NODE_BREAKPOINT);
-			IWorkspaceRoot workspace = ResourcesPlugin.getWorkspace().getRoot();
 			localmonitor.setWorkRemaining(nodes.length);
-			Map<String, Object> attributes = null;
-			IBreakpointImportParticipant[] participants = null;
-			for (IMemento node : nodes) {
-				if(localmonitor.isCanceled()) {
-					return;
-				}
-				attributes = collectBreakpointProperties(node);
-				if(attributes == null) {
-					continue;
-				}
-				IResource resource;
-				if(fImportBreakpoints) {
-					resource = workspace.findMember((String) attributes.get(IImportExportConstants.IE_NODE_PATH));
-				} else {
-					resource = workspace;
-				}
-				// filter resource breakpoints that do not exist in this workspace
-				if(resource != null) {
-					try {
-						participants = fManager.getImportParticipants((String) attributes.get(IImportExportConstants.IE_NODE_TYPE));
-					}
-					catch(CoreException ce) {}
-					IMarker marker = findExistingMarker(attributes, participants);
-					if(marker == null) {
-						marker = resource.createMarker((String) attributes.get(IImportExportConstants.IE_NODE_TYPE));
-						restoreBreakpoint(marker, attributes, participants);
-					}
-					else {
-						if(fOverwriteAll) {
-							if(!fImportBreakpoints) {
-								marker = resource.createMarker((String) attributes.get(IImportExportConstants.IE_NODE_TYPE));
-							} else {
-								marker.setAttributes(null);
-							}
-							restoreBreakpoint(marker, attributes, participants);
-						}
-					}
-				}
-				fCurrentWorkingSetProperty = null;
-				localmonitor.worked(1);
-			}
-			if(fAdded.size() > 0 && fImportBreakpoints) {
-				fManager.addBreakpoints(fAdded.toArray(new IBreakpoint[fAdded.size()]));
-			}
+			// create all markers in one workspace operation and notify
+			// breakpoint listeners once
+			fManager.runBatch(m -> importBreakpoints(nodes, localmonitor), null);
 		}
 		catch(CoreException ce) {
 			throw new InvocationTargetException(ce,
  MessageFormat.format("There was a problem importing breakpoints from: {0}", new Object[] { fFileName })); //$NON-NLS-1$
 		}
 		finally {
+			fExistingBreakpoints = null;
 			localmonitor.done();
 		}
 	}
 
+	/**
+	 * Creates or updates the markers for the given breakpoint nodes and
+	 * registers the imported breakpoints.
+	 *
+	 * @param nodes the breakpoint nodes to import
+	 * @param monitor progress monitor with one unit of work per node
+	 * @throws CoreException if a problem is encountered
+	 */
+	private void importBreakpoints(IMemento[] nodes, SubMonitor monitor) throws CoreException {
+		IWorkspaceRoot workspace = ResourcesPlugin.getWorkspace().getRoot();
+		Map<String, Object> attributes = null;
+		IBreakpointImportParticipant[] participants = null;
+		// the imported breakpoints are only registered once all nodes have
+		// been processed, look up the existing breakpoints once
+		fExistingBreakpoints = collectExistingBreakpoints();
+		for (IMemento node : nodes) {
+			if(monitor.isCanceled()) {
+				return;
+			}
+			attributes = collectBreakpointProperties(node);
+			if(attributes == null) {
+				continue;
+			}
+			IResource resource;
+			if(fImportBreakpoints) {
+				resource = workspace.findMember((String) attributes.get(IImportExportConstants.IE_NODE_PATH));
+			} else {
+				resource = workspace;
+			}
+			// filter resource breakpoints that do not exist in this workspace
+			if(resource != null) {
+				try {
+					participants = fManager.getImportParticipants((String) attributes.get(IImportExportConstants.IE_NODE_TYPE));
+				}
+				catch(CoreException ce) {}
+				IMarker marker = findExistingMarker(attributes, participants);
+				if(marker == null) {
+					marker = resource.createMarker((String) attributes.get(IImportExportConstants.IE_NODE_TYPE));
+					restoreBreakpoint(marker, attributes, participants);
+				}
+				else {
+					if(fOverwriteAll) {
+						if(!fImportBreakpoints) {
+							marker = resource.createMarker((String) attributes.get(IImportExportConstants.IE_NODE_TYPE));
+						} else {
+							marker.setAttributes(null);
+						}
+						restoreBreakpoint(marker, attributes, participants);
+					}
+				}
+			}
+			fCurrentWorkingSetProperty = null;
+			monitor.worked(1);
+		}
+		if(fAdded.size() > 0 && fImportBreakpoints) {
+			fManager.addBreakpoints(fAdded.toArray(new IBreakpoint[fAdded.size()]));
+		}
+	}
+
 	/**
 	 * Returns a marker backing an existing breakpoint based on the given set of breakpoint attributes
+	 * <p>
+	 * While importing, only the breakpoints registered when the import started
+	 * that have the marker type and, if specified, the line number of the given
+	 * attributes are passed to the participants.
+	 * </p>
 	 * @param attributes the map of attributes to compare for marker equality
 	 * @param participants the list of participants to ask if a breakpoint matches the given map of attributes
 	 * @return the marker for an existing breakpoint or <code>null</code> if one could not be located
 	 * @since 3.5
 	 */
 	protected IMarker findExistingMarker(Map<String, Object> attributes, IBreakpointImportParticipant[] participants) {
-		IBreakpoint[] bps = fManager.getBreakpoints();
+		List<IBreakpoint> bps;
+		if (fExistingBreakpoints != null) {
+			bps = fExistingBreakpoints.get(getLookupKey((String) attributes.get(IImportExportConstants.IE_NODE_TYPE), attributes.get(IMarker.LINE_NUMBER)));
+			if (bps == null) {
+				return null;
+			}
+		} else {
+			bps = Arrays.asList(fManager.getBreakpoints());
+		}
 		for (IBreakpoint bp : bps) {
 			for (IBreakpointImportParticipant participant : participants) {
 				try {
@@ -256,6 +294,46 @@ public class ImportBreakpointsOperation implements IRunnableWithProgress {
 		return null;
 	}
 
+	/**
+	 * Returns the registered breakpoints keyed by their marker type and, for
+	 * breakpoints with a line number, also by their marker type and line
+	 * number.
+	 *
+	 * @return the registered breakpoints by lookup key
+	 */
+	private Map<String, List<IBreakpoint>> collectExistingBreakpoints() {
+		Map<String, List<IBreakpoint>> breakpoints = new HashMap<>();
+		for (IBreakpoint bp : fManager.getBreakpoints()) {
+			IMarker marker = bp.getMarker();
+			if (marker == null) {
+				continue;
+			}
+			try {
+				String type = marker.getType();
+				breakpoints.computeIfAbsent(getLookupKey(type, null), key -> new ArrayList<>()).add(bp);
+				Object line = marker.getAttribute(IMarker.LINE_NUMBER);
+				if (line != null) {
+					breakpoints.computeIfAbsent(getLookupKey(type, line), key -> new ArrayList<>()).add(bp);
+				}
+			} catch (CoreException ce) {
+			}
+		}
+		return breakpoints;
+	}
+
+	/**
+	 * Returns the key of the existing breakpoints that are candidates for an
+	 * imported breakpoint with the given marker type and line number.
+	 *
+	 * @param type the marker type
+	 * @param line the line number or <code>null</code> to match breakpoints on
+	 *            any line
+	 * @return the lookup key
+	 */
+	private static String getLookupKey(String type, Object line) {
+		return line == null ? type : type + ':' + line;
+	}
+
 	/**
 	 * Collects all of the properties for a breakpoint from the memento describing it.
 	 * The values in the map will be one of:
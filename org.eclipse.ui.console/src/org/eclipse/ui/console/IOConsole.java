@@ -253,6 +253,59 @@ public class IOConsole extends TextConsole {
 		partitioner.setWaterMarks(low, high);
 	}
 
+	/**
+	 * Sets whether output trimmed from the beginning of this console, when its
+	 * high water mark is exceeded, is kept in a temporary file instead of being
+	 * discarded. Kept output is shown again when the user scrolls to the start
+	 * of the console. Clearing the console discards the kept output.
+	 *
+	 * @param enabled whether to keep trimmed output
+	 * @since 3.13
+	 */
+	public void setScrollbackArchiveEnabled(boolean enabled) {
+		partitioner.setScrollbackArchiveEnabled(enabled);
+	}
+
+	/**
+	 * Returns whether output trimmed from the beginning of this console is kept
+	 * in a temporary file.
+	 *
+	 * @return whether trimmed output is kept
+	 * @see #setScrollbackArchiveEnabled(boolean)
+	 * @since 3.13
+	 */
+	public boolean isScrollbackArchiveEnabled() {
+		return partitioner.isScrollbackArchiveEnabled();
+	}
+
+	/**
+	 * Sets whether output is kept in a compact buffer instead of this console's
+	 * document while no page shows this console. The buffered output is
+	 * appended to the document when a page shows this console, when all
+	 * streams are closed or when the background mode is disabled. Until then
+	 * the document does not contain the buffered output and pattern match
+	 * listeners are not notified about it. Buffered output exceeding the high
+	 * water mark is discarded.
+	 *
+	 * @param enabled whether to buffer output while this console is hidden
+	 * @since 3.13
+	 */
+	public void setBackgroundModeEnabled(boolean enabled) {
+		partitioner.setBackgroundModeEnabled(enabled);
+	}
+
+	/**
+	 * Returns whether output is kept in a compact buffer while no page shows
+	 * this console.
+	 *
+	 * @return whether output is buffered while this console is hidden
+	 * @see #setBackgroundModeEnabled(boolean)
+	 * @since 3.13
+	 */
+	public boolean isBackgroundModeEnabled() {
+		return partitioner.isBackgroundModeEnabled();
+	}
+
 	/**
 	 * Check if all streams connected to this console are closed. If so,
 	 * notify the partitioner that this console is finished.
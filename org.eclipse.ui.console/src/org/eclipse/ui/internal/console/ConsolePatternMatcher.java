@@ -15,7 +15,13 @@
 package org.eclipse.ui.internal.console;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -27,11 +33,29 @@ import org.eclipse.jface.text.BadLocationException;
 import org.eclipse.jface.text.DocumentEvent;
 import org.eclipse.jface.text.IDocument;
 import org.eclipse.jface.text.IDocumentListener;
+import org.eclipse.jface.text.MultiStringMatcher;
+import org.eclipse.jface.text.MultiStringMatcher.Match;
 import org.eclipse.ui.console.ConsolePlugin;
 import org.eclipse.ui.console.IPatternMatchListener;
 import org.eclipse.ui.console.PatternMatchEvent;
 import org.eclipse.ui.console.TextConsole;
 
+/**
+ * Matches the content of a console against the patterns of its pattern match
+ * listeners.
+ * <p>
+ * New content is read from the document once per match run and shared by all
+ * listeners. Line qualifiers which are plain literals are combined into a
+ * single {@link MultiStringMatcher}, which finds the candidate lines of all
+ * these listeners in one pass over the new content. A listener's pattern is
+ * only applied from the start of its candidate lines. Qualifiers which are
+ * not literals are still matched as regular expressions.
+ * </p>
+ * <p>
+ * The time spent and the matches found for each listener are recorded and
+ * available from {@link #getStatistics()}.
+ * </p>
+ */
 public class ConsolePatternMatcher implements IDocumentListener {
 
 	private MatchJob fMatchJob;
@@ -41,6 +65,16 @@ public class ConsolePatternMatcher implements IDocumentListener {
 	 */
 	private ArrayList<CompiledPatternMatchListener> fPatterns = new ArrayList<>();
 
+	/**
+	 * Literal qualifiers of the listeners in {@link #fPatterns}, or
+	 * <code>null</code> if no listener has a literal qualifier. Replaced when
+	 * listeners are added or removed.
+	 */
+	private LiteralPrefilter fPrefilter;
+
+	/** Time spent searching literal qualifiers, in nanoseconds. */
+	private volatile long fPrefilterTime;
+
 	private TextConsole fConsole;
 
 	private boolean fFinalMatch;
@@ -62,8 +96,6 @@ public class ConsolePatternMatcher implements IDocumentListener {
 		@Override
 		protected IStatus run(IProgressMonitor monitor) {
 			IDocument doc = fConsole.getDocument();
-			String text = null;
-			int prevBaseOffset = -1;
 			if (doc != null && !monitor.isCanceled()) {
 				int endOfSearch = doc.getLength();
 				int indexOfLastChar = endOfSearch;
@@ -79,84 +111,66 @@ public class ConsolePatternMatcher implements IDocumentListener {
 					// perhaps the buffer was re-set
 					return Status.OK_STATUS;
 				}
-				Object[] patterns = null;
+				CompiledPatternMatchListener[] patterns;
+				LiteralPrefilter prefilter;
+				int[] restored;
+				int maxRestored = 0;
 				synchronized (fPatterns) {
-					patterns = fPatterns.toArray();
+					patterns = fPatterns.toArray(new CompiledPatternMatchListener[fPatterns.size()]);
+					prefilter = fPrefilter;
+					restored = new int[patterns.length];
+					for (int i = 0; i < patterns.length; i++) {
+						restored[i] = patterns[i].restored;
+						patterns[i].restored = 0;
+						maxRestored = Math.max(maxRestored, restored[i]);
+					}
 				}
-				for (Object pattern : patterns) {
-					if (monitor.isCanceled()) {
-						break;
+				if (maxRestored > 0) {
+					try {
+						matchRestored(doc, patterns, restored, maxRestored, prefilter, monitor);
+					} catch (BadLocationException e) {
+						// perhaps the buffer was re-set
+						return Status.OK_STATUS;
 					}
-					CompiledPatternMatchListener notifier = (CompiledPatternMatchListener) pattern;
-					int baseOffset = notifier.end;
-					int lengthToSearch = endOfSearch - baseOffset;
-					if (lengthToSearch > 0) {
-						try {
-							if (prevBaseOffset != baseOffset) {
-								// reuse the text string if possible
-								text = doc.get(baseOffset, lengthToSearch);
+				}
+				// read the new content once for all listeners
+				int textOffset = endOfSearch;
+				for (CompiledPatternMatchListener notifier : patterns) {
+					textOffset = Math.min(textOffset, notifier.end);
+				}
+				if (textOffset < endOfSearch) {
+					try {
+						String text = doc.get(textOffset, endOfSearch - textOffset);
+						if (prefilter != null) {
+							prefilter.findCandidates(text, monitor);
+						}
+						String listenerText = text;
+						int listenerTextOffset = textOffset;
+						for (CompiledPatternMatchListener notifier : patterns) {
+							if (monitor.isCanceled()) {
+								break;
 							}
-							if(text == null) {
+							int baseOffset = notifier.end;
+							if (baseOffset >= endOfSearch || notifier.pattern == null) {
 								continue;
 							}
-							Matcher reg = notifier.pattern.matcher(text);
-							Matcher quick = null;
-							if (notifier.qualifier != null) {
-								quick = notifier.qualifier.matcher(text);
-							}
-							int startOfNextSearch = 0;
-							int endOfLastMatch = -1;
-							int lineOfLastMatch = -1;
-							while ((startOfNextSearch < lengthToSearch) && !monitor.isCanceled()) {
-								if (quick != null) {
-									if (quick.find(startOfNextSearch)) {
-										// start searching on the beginning
-										// of the line where the potential
-										// match was found, or after the
-										// last match on the same line
-										int matchLine = doc.getLineOfOffset(baseOffset + quick.start());
-										if (lineOfLastMatch == matchLine) {
-											startOfNextSearch = endOfLastMatch;
-										} else {
-											startOfNextSearch = doc.getLineOffset(matchLine) - baseOffset;
-										}
-									} else {
-										startOfNextSearch = lengthToSearch;
-									}
-								}
-								if (startOfNextSearch < 0) {
-									startOfNextSearch = 0;
-								}
-								if (startOfNextSearch < lengthToSearch) {
-									if (reg.find(startOfNextSearch)) {
-										endOfLastMatch = reg.end();
-										lineOfLastMatch = doc.getLineOfOffset(baseOffset + endOfLastMatch - 1);
-										int regStart = reg.start();
-										IPatternMatchListener listener = notifier.listener;
-										if (listener != null && !monitor.isCanceled()) {
-											listener.matchFound(new PatternMatchEvent(fConsole, baseOffset + regStart, endOfLastMatch - regStart));
-										}
-										startOfNextSearch = endOfLastMatch;
-									} else {
-										startOfNextSearch = lengthToSearch;
-									}
-								}
+							if (baseOffset != listenerTextOffset) {
+								// reuse the text string if possible
+								listenerText = text.substring(baseOffset - textOffset);
+								listenerTextOffset = baseOffset;
 							}
-							// update start of next search to the last line
-							// searched
-							// or the end of the last match if it was on the
-							// line that
-							// was last searched
-							if (lastLineToSearch == lineOfLastMatch) {
-								notifier.end = baseOffset + endOfLastMatch;
-							} else {
-								notifier.end = offsetOfLastLineToSearch;
+							long start = System.nanoTime();
+							try {
+								notifier.end = match(doc, notifier, listenerText, baseOffset, baseOffset - textOffset, lastLineToSearch, offsetOfLastLineToSearch, monitor);
+							} catch (BadLocationException e) {
+								ConsolePlugin.log(e);
 							}
-						} catch (BadLocationException e) {
-							ConsolePlugin.log(e);
+							notifier.matchTime += System.nanoTime() - start;
 						}
+					} catch (BadLocationException e) {
+						// perhaps the buffer was re-set
+						return Status.OK_STATUS;
 					}
-					prevBaseOffset = baseOffset;
 				}
 			}
 
@@ -171,6 +185,127 @@ public class ConsolePatternMatcher implements IDocumentListener {
 			return Status.OK_STATUS;
 		}
 
+		/**
+		 * Searches the patterns of the listeners in the output restored at the
+		 * start of the document, which is before the content they already
+		 * searched. Restored output ends at a line start, so no match spans
+		 * restored and already searched content.
+		 *
+		 * @param doc the console document
+		 * @param patterns the listeners
+		 * @param restored length of the restored output not yet searched by
+		 *            each listener
+		 * @param maxRestored the largest restored length
+		 * @param prefilter the literal prefilter or <code>null</code>
+		 * @param monitor progress monitor checked for cancellation
+		 */
+		private void matchRestored(IDocument doc, CompiledPatternMatchListener[] patterns, int[] restored, int maxRestored, LiteralPrefilter prefilter, IProgressMonitor monitor) throws BadLocationException {
+			String text = doc.get(0, maxRestored);
+			if (prefilter != null) {
+				prefilter.findCandidates(text, monitor);
+			}
+			for (int i = 0; i < patterns.length; i++) {
+				CompiledPatternMatchListener notifier = patterns[i];
+				if (monitor.isCanceled()) {
+					break;
+				}
+				if (restored[i] == 0 || notifier.pattern == null) {
+					continue;
+				}
+				int lastLine = doc.getLineOfOffset(restored[i] - 1);
+				long start = System.nanoTime();
+				match(doc, notifier, restored[i] == maxRestored ? text : text.substring(0, restored[i]), 0, 0, lastLine, doc.getLineOffset(lastLine), monitor);
+				notifier.matchTime += System.nanoTime() - start;
+			}
+		}
+
+		/**
+		 * Searches the pattern of a listener in the given text and notifies the
+		 * listener of all matches.
+		 *
+		 * @param doc the console document
+		 * @param notifier the listener
+		 * @param text the document content from the listener's base offset
+		 * @param baseOffset document offset of the text
+		 * @param candidateShift offset of the text in the text searched for
+		 *            candidate lines
+		 * @param lastLineToSearch the last line of the document
+		 * @param offsetOfLastLineToSearch offset of the last line of the document
+		 * @param monitor progress monitor checked for cancellation
+		 * @return the offset to continue searching from in the next run
+		 */
+		private int match(IDocument doc, CompiledPatternMatchListener notifier, String text, int baseOffset, int candidateShift, int lastLineToSearch, int offsetOfLastLineToSearch, IProgressMonitor monitor) throws BadLocationException {
+			int lengthToSearch = text.length();
+			Matcher reg = notifier.pattern.matcher(text);
+			Matcher quick = null;
+			if (notifier.qualifier != null && notifier.literalQualifier == null) {
+				quick = notifier.qualifier.matcher(text);
+			}
+			boolean qualified = notifier.qualifier != null;
+			int candidateIndex = 0;
+			int startOfNextSearch = 0;
+			int endOfLastMatch = -1;
+			int lineOfLastMatch = -1;
+			while ((startOfNextSearch < lengthToSearch) && !monitor.isCanceled()) {
+				if (qualified) {
+					int candidate = -1;
+					if (quick == null) {
+						// next qualifier found by the prefilter
+						while (candidateIndex < notifier.candidateCount && notifier.candidates[candidateIndex] - candidateShift < startOfNextSearch) {
+							candidateIndex++;
+						}
+						if (candidateIndex < notifier.candidateCount) {
+							candidate = notifier.candidates[candidateIndex] - candidateShift;
+						}
+					} else if (quick.find(startOfNextSearch)) {
+						candidate = quick.start();
+					}
+					if (candidate >= 0) {
+						// start searching on the beginning
+						// of the line where the potential
+						// match was found, or after the
+						// last match on the same line
+						notifier.candidateLines++;
+						int matchLine = doc.getLineOfOffset(baseOffset + candidate);
+						if (lineOfLastMatch == matchLine) {
+							startOfNextSearch = endOfLastMatch;
+						} else {
+							startOfNextSearch = doc.getLineOffset(matchLine) - baseOffset;
+						}
+					} else {
+						startOfNextSearch = lengthToSearch;
+					}
+				}
+				if (startOfNextSearch < 0) {
+					startOfNextSearch = 0;
+				}
+				if (startOfNextSearch < lengthToSearch) {
+					if (reg.find(startOfNextSearch)) {
+						endOfLastMatch = reg.end();
+						lineOfLastMatch = doc.getLineOfOffset(baseOffset + endOfLastMatch - 1);
+						int regStart = reg.start();
+						IPatternMatchListener listener = notifier.listener;
+						if (listener != null && !monitor.isCanceled()) {
+							notifier.matches++;
+							listener.matchFound(new PatternMatchEvent(fConsole, baseOffset + regStart, endOfLastMatch - regStart));
+						}
+						startOfNextSearch = endOfLastMatch;
+					} else {
+						startOfNextSearch = lengthToSearch;
+					}
+				}
+			}
+			// update start of next search to the last line
+			// searched
+			// or the end of the last match if it was on the
+			// line that
+			// was last searched
+			if (lastLineToSearch == lineOfLastMatch) {
+				return baseOffset + endOfLastMatch;
+			}
+			return offsetOfLastLineToSearch;
+		}
+
 		@Override
 		public boolean belongsTo(Object family) {
 			return family == fConsole;
@@ -179,19 +314,112 @@ public class ConsolePatternMatcher implements IDocumentListener {
 
 	}
 
+	/**
+	 * Finds the literal qualifiers of several listeners in one pass.
+	 */
+	private class LiteralPrefilter {
+		private final MultiStringMatcher matcher;
+
+		/**
+		 * Listeners to notify of a match, by matched literal. A match also
+		 * notifies the listeners of literals which are prefixes of the match,
+		 * as only the longest literal starting at an offset is reported.
+		 */
+		private final Map<String, CompiledPatternMatchListener[]> listeners = new HashMap<>();
+
+		private final CompiledPatternMatchListener[] all;
+
+		LiteralPrefilter(List<CompiledPatternMatchListener> patterns) {
+			List<CompiledPatternMatchListener> literalPatterns = new ArrayList<>();
+			Set<String> literals = new LinkedHashSet<>();
+			for (CompiledPatternMatchListener notifier : patterns) {
+				if (notifier.literalQualifier != null) {
+					literalPatterns.add(notifier);
+					literals.add(notifier.literalQualifier);
+				}
+			}
+			for (String literal : literals) {
+				List<CompiledPatternMatchListener> notified = new ArrayList<>();
+				for (CompiledPatternMatchListener notifier : literalPatterns) {
+					if (literal.startsWith(notifier.literalQualifier)) {
+						notified.add(notifier);
+					}
+				}
+				listeners.put(literal, notified.toArray(new CompiledPatternMatchListener[notified.size()]));
+			}
+			all = literalPatterns.toArray(new CompiledPatternMatchListener[literalPatterns.size()]);
+			matcher = MultiStringMatcher.create(literals.toArray(new String[literals.size()]));
+		}
+
+		/**
+		 * Records the offsets of the literal qualifiers in the given text in
+		 * the listeners.
+		 */
+		void findCandidates(String text, IProgressMonitor monitor) {
+			long start = System.nanoTime();
+			for (CompiledPatternMatchListener notifier : all) {
+				notifier.candidateCount = 0;
+			}
+			Match match = matcher.indexOf(text, 0);
+			while (match != null && !monitor.isCanceled()) {
+				for (CompiledPatternMatchListener notifier : listeners.get(match.getText())) {
+					notifier.addCandidate(match.getOffset());
+				}
+				match = matcher.indexOf(text, match.getOffset() + 1);
+			}
+			fPrefilterTime += System.nanoTime() - start;
+		}
+	}
+
 	private static class CompiledPatternMatchListener {
 		Pattern pattern;
 
 		Pattern qualifier;
 
+		/**
+		 * Text matched by {@link #qualifier} if it matches only one literal
+		 * text, otherwise <code>null</code>.
+		 */
+		String literalQualifier;
+
 		IPatternMatchListener listener;
 
 		int end = 0;
 
+		/**
+		 * Length of the output restored at the start of the document which
+		 * was not searched yet.
+		 */
+		int restored;
+
+		/** Offsets of {@link #literalQualifier} found in the current match run. */
+		int[] candidates = new int[0];
+
+		int candidateCount;
+
+		/** Time spent matching, in nanoseconds. */
+		long matchTime;
+
+		/** Number of reported matches. */
+		long matches;
+
+		/** Number of lines the pattern was applied to after a qualifier was found. */
+		long candidateLines;
+
 		CompiledPatternMatchListener(Pattern pattern, Pattern qualifier, IPatternMatchListener matchListener) {
 			this.pattern = pattern;
 			this.listener = matchListener;
 			this.qualifier = qualifier;
+			if (qualifier != null) {
+				this.literalQualifier = toLiteral(qualifier.pattern(), qualifier.flags());
+			}
+		}
+
+		void addCandidate(int offset) {
+			if (candidateCount == candidates.length) {
+				candidates = Arrays.copyOf(candidates, Math.max(16, candidateCount * 2));
+			}
+			candidates[candidateCount++] = offset;
 		}
 
 		public void dispose() {
@@ -202,6 +430,169 @@ public class ConsolePatternMatcher implements IDocumentListener {
 		}
 	}
 
+	/**
+	 * Time spent and matches found for the pattern of a pattern match listener.
+	 */
+	public static final class PatternStatistics {
+		private final String pattern;
+		private final String qualifier;
+		private final boolean prefiltered;
+		private final long matchTime;
+		private final long matches;
+		private final long candidateLines;
+
+		PatternStatistics(CompiledPatternMatchListener notifier) {
+			Pattern p = notifier.pattern;
+			Pattern q = notifier.qualifier;
+			pattern = p == null ? null : p.pattern();
+			qualifier = q == null ? null : q.pattern();
+			prefiltered = notifier.literalQualifier != null;
+			matchTime = notifier.matchTime;
+			matches = notifier.matches;
+			candidateLines = notifier.candidateLines;
+		}
+
+		/**
+		 * @return the regular expression of the listener
+		 */
+		public String getPattern() {
+			return pattern;
+		}
+
+		/**
+		 * @return the line qualifier of the listener or <code>null</code>
+		 */
+		public String getQualifier() {
+			return qualifier;
+		}
+
+		/**
+		 * @return whether the qualifier is found by the shared literal
+		 *         prefilter
+		 */
+		public boolean isPrefiltered() {
+			return prefiltered;
+		}
+
+		/**
+		 * @return time spent applying the pattern, in nanoseconds
+		 */
+		public long getMatchTime() {
+			return matchTime;
+		}
+
+		/**
+		 * @return number of matches reported to the listener
+		 */
+		public long getMatches() {
+			return matches;
+		}
+
+		/**
+		 * @return number of lines the pattern was applied to because they
+		 *         contain the qualifier
+		 */
+		public long getCandidateLines() {
+			return candidateLines;
+		}
+
+		@Override
+		public String toString() {
+			return String.format("%s: %d matches, %d candidate lines, %.3f ms%s", pattern, matches, candidateLines, matchTime / 1_000_000.0, prefiltered ? " (prefiltered)" : ""); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+		}
+	}
+
+	/**
+	 * Returns the time spent and the matches found for each pattern match
+	 * listener since it was added.
+	 *
+	 * @return statistics of the current listeners, in the order they were added
+	 */
+	public PatternStatistics[] getStatistics() {
+		synchronized (fPatterns) {
+			PatternStatistics[] statistics = new PatternStatistics[fPatterns.size()];
+			for (int i = 0; i < statistics.length; i++) {
+				statistics[i] = new PatternStatistics(fPatterns.get(i));
+			}
+			return statistics;
+		}
+	}
+
+	/**
+	 * Returns the time spent searching literal line qualifiers of all
+	 * listeners.
+	 *
+	 * @return time in nanoseconds
+	 */
+	public long getPrefilterTime() {
+		return fPrefilterTime;
+	}
+
+	/**
+	 * Returns the text matched by the given regular expression if it matches
+	 * exactly one non-empty literal text.
+	 *
+	 * @param regex a regular expression
+	 * @param flags the compile flags of the expression
+	 * @return the literal text or <code>null</code> if the expression is not a
+	 *         literal
+	 */
+	static String toLiteral(String regex, int flags) {
+		if ((flags & (Pattern.CASE_INSENSITIVE | Pattern.COMMENTS | Pattern.CANON_EQ)) != 0) {
+			return null;
+		}
+		if ((flags & Pattern.LITERAL) != 0) {
+			return regex.isEmpty() ? null : regex;
+		}
+		StringBuilder literal = new StringBuilder(regex.length());
+		for (int i = 0; i < regex.length(); i++) {
+			char c = regex.charAt(i);
+			if (c == '\\') {
+				if (++i == regex.length()) {
+					return null;
+				}
+				char escaped = regex.charAt(i);
+				if (escaped == 'Q') {
+					int end = regex.indexOf("\\E", i + 1); //$NON-NLS-1$
+					literal.append(regex, i + 1, end < 0 ? regex.length() : end);
+					i = end < 0 ? regex.length() : end + 1;
+				} else if (escaped == 't') {
+					literal.append('\t');
+				} else if (escaped == 'n') {
+					literal.append('\n');
+				} else if (escaped == 'r') {
+					literal.append('\r');
+				} else if (escaped == 'f') {
+					literal.append('\f');
+				} else if (Character.isLetterOrDigit(escaped)) {
+					// character class, back reference or boundary
+					return null;
+				} else {
+					literal.append(escaped);
+				}
+			} else if ("[](){}.*+?^$|".indexOf(c) >= 0) { //$NON-NLS-1$
+				return null;
+			} else {
+				literal.append(c);
+			}
+		}
+		return literal.length() == 0 ? null : literal.toString();
+	}
+
+	/**
+	 * Rebuilds {@link #fPrefilter} from the current listeners. Must be called
+	 * while holding the lock of {@link #fPatterns}.
+	 */
+	private void updatePrefilter() {
+		for (CompiledPatternMatchListener notifier : fPatterns) {
+			if (notifier.literalQualifier != null) {
+				fPrefilter = new LiteralPrefilter(fPatterns);
+				return;
+			}
+		}
+		fPrefilter = null;
+	}
+
 	/**
 	 * Adds the given pattern match listener to this console. The listener will
 	 * be connected and receive match notifications.
@@ -229,6 +620,7 @@ public class ConsolePatternMatcher implements IDocumentListener {
 			}
 			CompiledPatternMatchListener notifier = new CompiledPatternMatchListener(pattern, qPattern, matchListener);
 			fPatterns.add(notifier);
+			updatePrefilter();
 			matchListener.connect(fConsole);
 			fMatchJob.schedule();
 		}
@@ -250,6 +642,7 @@ public class ConsolePatternMatcher implements IDocumentListener {
 					matchListener.disconnect();
 				}
 			}
+			updatePrefilter();
 		}
 	}
 
@@ -260,6 +653,7 @@ public class ConsolePatternMatcher implements IDocumentListener {
 				listener.dispose();
 			}
 			fPatterns.clear();
+			fPrefilter = null;
 		}
 	}
 
@@ -275,11 +669,24 @@ public class ConsolePatternMatcher implements IDocumentListener {
 					// document has been cleared, reset match listeners
 					for (CompiledPatternMatchListener notifier : fPatterns) {
 						notifier.end = 0;
+						notifier.restored = 0;
 					}
 				} else if (event.fOffset == 0) {
 					//document was trimmed
 					for (CompiledPatternMatchListener notifier : fPatterns) {
 						notifier.end = notifier.end > event.fLength ? notifier.end - event.fLength : 0;
+						notifier.restored = Math.max(0, notifier.restored - event.fLength);
+					}
+				}
+			}
+		} else if (event.fOffset == 0 && event.fText != null && !event.fText.isEmpty()) {
+			synchronized (fPatterns) {
+				// text was inserted before the matched content, e.g. restored
+				// output, which is searched in the next run
+				for (CompiledPatternMatchListener notifier : fPatterns) {
+					if (notifier.end > 0) {
+						notifier.end += event.fText.length();
+						notifier.restored += event.fText.length();
 					}
 				}
 			}
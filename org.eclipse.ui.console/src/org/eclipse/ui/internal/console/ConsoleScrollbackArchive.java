@@ -0,0 +1,285 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.ui.internal.console;
+
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Append-only archive of console output trimmed from the beginning of a
+ * console document, stored in temporary files so the output can be restored
+ * without keeping it in memory.
+ * <p>
+ * The text is stored as UTF-16 chars, so a char offset in the archive maps
+ * directly to a file position, and is read back with positional reads into
+ * reused buffers. The archive also stores the source of each run of text, an
+ * index chosen by the caller, as fixed size records in a second file.
+ * Restoring output truncates the archive at the start of the restored text, so
+ * the archive always holds the text that precedes the document content.
+ * </p>
+ * <p>
+ * The files are created on first use and deleted when the archive is closed.
+ * This class is not thread safe.
+ * </p>
+ */
+class ConsoleScrollbackArchive implements Closeable {
+
+	/** Size of a run record: the run offset and its source. */
+	private static final int RECORD_SIZE = Long.BYTES + Integer.BYTES;
+
+	/** Number of chars read at once. */
+	private static final int SCAN_SIZE = 8192;
+
+	/**
+	 * A run of archived text from a single source.
+	 */
+	static final class Run {
+		/** Offset of the run in the archive. */
+		final long offset;
+		/** Source of the text, as passed to {@link ConsoleScrollbackArchive#append(int, String)}. */
+		final int source;
+
+		Run(long offset, int source) {
+			this.offset = offset;
+			this.source = source;
+		}
+	}
+
+	private FileChannel text;
+	private FileChannel runs;
+
+	/** Number of archived chars. */
+	private long length;
+	/** Number of run records. */
+	private int runCount;
+	/** Source of the last run. */
+	private int lastSource;
+
+	/** Buffer for reading text, reused for all reads. */
+	private final ByteBuffer textBuffer = ByteBuffer.allocate(SCAN_SIZE * Character.BYTES);
+	/** Buffer for reading a run record, reused for all reads. */
+	private final ByteBuffer recordBuffer = ByteBuffer.allocate(RECORD_SIZE);
+
+	/**
+	 * Returns the number of archived chars.
+	 *
+	 * @return the archive length
+	 */
+	long getLength() {
+		return length;
+	}
+
+	/**
+	 * Appends text from the given source.
+	 *
+	 * @param source source of the text
+	 * @param content the text
+	 * @throws IOException if writing the archive fails
+	 */
+	void append(int source, String content) throws IOException {
+		if (content.isEmpty()) {
+			return;
+		}
+		open();
+		if (runCount == 0 || source != lastSource) {
+			ByteBuffer record = ByteBuffer.allocate(RECORD_SIZE);
+			record.putLong(length).putInt(source).flip();
+			writeFully(runs, record, (long) runCount * RECORD_SIZE);
+			runCount++;
+			lastSource = source;
+		}
+		ByteBuffer bytes = ByteBuffer.allocate(content.length() * Character.BYTES);
+		bytes.asCharBuffer().put(content);
+		writeFully(text, bytes, length * Character.BYTES);
+		length += content.length();
+	}
+
+	/**
+	 * Reads archived text.
+	 *
+	 * @param offset archive offset of the text
+	 * @param count number of chars to read
+	 * @return the text
+	 * @throws IOException if reading the archive fails
+	 */
+	String read(long offset, int count) throws IOException {
+		if (count == 0) {
+			return ""; //$NON-NLS-1$
+		}
+		StringBuilder result = new StringBuilder(count);
+		for (long start = offset; start < offset + count; start += SCAN_SIZE) {
+			result.append(readText(start, (int) Math.min(SCAN_SIZE, offset + count - start)));
+		}
+		return result.toString();
+	}
+
+	/**
+	 * Returns the start of the first line beginning after the given offset.
+	 *
+	 * @param offset archive offset to search from
+	 * @return offset following the first line feed at or after the given offset
+	 *         or <code>-1</code> if there is none
+	 * @throws IOException if reading the archive fails
+	 */
+	long findLineStart(long offset) throws IOException {
+		for (long start = offset; start < length; start += SCAN_SIZE) {
+			CharBuffer chars = readText(start, (int) Math.min(SCAN_SIZE, length - start));
+			for (int i = 0; i < chars.limit(); i++) {
+				if (chars.get(i) == '\n') {
+					return start + i + 1;
+				}
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * Returns the runs overlapping the given range. The first run starts at
+	 * the given offset.
+	 *
+	 * @param from start of the range
+	 * @param to end of the range
+	 * @return runs of the range in ascending order
+	 * @throws IOException if reading the archive fails
+	 */
+	List<Run> getRuns(long from, long to) throws IOException {
+		List<Run> result = new ArrayList<>();
+		if (from >= to) {
+			return result;
+		}
+		for (int i = findRun(from); i < runCount; i++) {
+			ByteBuffer record = readRecord(i);
+			long offset = record.getLong();
+			if (offset >= to) {
+				break;
+			}
+			result.add(new Run(Math.max(offset, from), record.getInt()));
+		}
+		return result;
+	}
+
+	/**
+	 * Removes the text from the given offset to the end.
+	 *
+	 * @param newLength the new archive length
+	 * @throws IOException if changing the archive fails
+	 */
+	void truncate(long newLength) throws IOException {
+		if (newLength >= length) {
+			return;
+		}
+		// the files are not truncated, the next append overwrites the old
+		// content
+		length = newLength;
+		if (newLength == 0) {
+			runCount = 0;
+		} else {
+			int last = findRun(newLength - 1);
+			lastSource = readRecord(last).getInt(Long.BYTES);
+			runCount = last + 1;
+		}
+	}
+
+	@Override
+	public void close() throws IOException {
+		length = 0;
+		runCount = 0;
+		try {
+			if (text != null) {
+				text.close();
+			}
+		} finally {
+			text = null;
+			if (runs != null) {
+				runs.close();
+				runs = null;
+			}
+		}
+	}
+
+	private void open() throws IOException {
+		if (text == null) {
+			text = openFile();
+			runs = openFile();
+		}
+	}
+
+	private static FileChannel openFile() throws IOException {
+		Path file = Files.createTempFile("console", ".scrollback"); //$NON-NLS-1$ //$NON-NLS-2$
+		return FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE, StandardOpenOption.DELETE_ON_CLOSE);
+	}
+
+	/**
+	 * Reads at most {@link #SCAN_SIZE} chars into the reused text buffer. The
+	 * returned buffer is only valid until the next read.
+	 */
+	private CharBuffer readText(long offset, int count) throws IOException {
+		textBuffer.clear().limit(count * Character.BYTES);
+		readFully(text, textBuffer, offset * Character.BYTES);
+		return textBuffer.asCharBuffer();
+	}
+
+	/**
+	 * Reads a run record into the reused record buffer. The returned buffer is
+	 * only valid until the next read.
+	 */
+	private ByteBuffer readRecord(int index) throws IOException {
+		recordBuffer.clear();
+		readFully(runs, recordBuffer, (long) index * RECORD_SIZE);
+		return recordBuffer;
+	}
+
+	/**
+	 * Returns the index of the last run starting at or before the given
+	 * offset.
+	 */
+	private int findRun(long offset) throws IOException {
+		int low = 0;
+		int high = runCount - 1;
+		while (low < high) {
+			int middle = (low + high + 1) >>> 1;
+			if (readRecord(middle).getLong() <= offset) {
+				low = middle;
+			} else {
+				high = middle - 1;
+			}
+		}
+		return low;
+	}
+
+	private static void readFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+		while (buffer.hasRemaining()) {
+			if (channel.read(buffer, position + buffer.position()) < 0) {
+				throw new EOFException();
+			}
+		}
+		buffer.flip();
+	}
+
+	private static void writeFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+		long current = position;
+		while (buffer.hasRemaining()) {
+			current += channel.write(buffer, current);
+		}
+	}
+}
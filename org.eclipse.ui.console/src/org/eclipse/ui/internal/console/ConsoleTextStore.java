@@ -0,0 +1,328 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.ui.internal.console;
+
+import java.util.Arrays;
+
+import org.eclipse.jface.text.GapTextStore;
+import org.eclipse.jface.text.ITextStore;
+
+/**
+ * Text store of a console document, optimized for appending at the end and
+ * trimming at the beginning.
+ * <p>
+ * The content is a sequence of pieces, each referring to a range of a char
+ * buffer. Appended text is copied into fixed size buffers and extends the last
+ * piece while it fits, so appending never copies existing content. Trimming
+ * the beginning of the document drops the pieces before the cut and shortens
+ * the first remaining piece, which takes time proportional to the number of
+ * dropped pieces instead of the document length as with a
+ * {@link GapTextStore}. Replacing text elsewhere splits the affected pieces
+ * and moves the pieces behind the change.
+ * </p>
+ * <p>
+ * Piece start positions are kept in a coordinate space that starts at the
+ * beginning of the first text ever stored, so trimming the beginning does not
+ * need to update the remaining pieces. Offsets are located with a binary search
+ * over the piece start positions, remembering the last piece found for
+ * sequential access.
+ * </p>
+ * <p>
+ * This class is not thread safe, the document must synchronize access.
+ * </p>
+ */
+public class ConsoleTextStore implements ITextStore {
+
+	/** Size of the buffers appended text is copied into. */
+	private static final int BUFFER_SIZE = 64 * 1024;
+
+	private static final int INITIAL_PIECES = 16;
+
+	/** Buffers referred to by the pieces. */
+	private char[][] buffers = new char[INITIAL_PIECES][];
+	/** Start of each piece in its buffer. */
+	private int[] from = new int[INITIAL_PIECES];
+	/** Length of each piece. */
+	private int[] lengths = new int[INITIAL_PIECES];
+	/** Start of each piece relative to {@link #origin}. */
+	private long[] starts = new long[INITIAL_PIECES];
+	/** Index of the first piece in the piece arrays. */
+	private int first;
+	/** Number of pieces. */
+	private int count;
+	/** Position of document offset 0 in the coordinate space of piece starts. */
+	private long origin;
+	/** Length of the stored text. */
+	private int length;
+
+	/** Buffer appended text is copied into. */
+	private char[] appendBuffer;
+	/** Number of chars used in {@link #appendBuffer}. */
+	private int appendBufferUsed;
+
+	/** Piece (relative to {@link #first}) that contained the last offset looked up. */
+	private int lastPiece;
+
+	@Override
+	public char get(int offset) {
+		int piece = findPiece(offset);
+		int index = first + piece;
+		return buffers[index][from[index] + (int) (offset - (starts[index] - origin))];
+	}
+
+	@Override
+	public String get(int offset, int textLength) {
+		if (textLength == 0) {
+			return ""; //$NON-NLS-1$
+		}
+		char[] text = new char[textLength];
+		int piece = findPiece(offset);
+		int copied = 0;
+		int index = first + piece;
+		int pieceOffset = (int) (offset - (starts[index] - origin));
+		while (copied < textLength) {
+			int n = Math.min(lengths[index] - pieceOffset, textLength - copied);
+			System.arraycopy(buffers[index], from[index] + pieceOffset, text, copied, n);
+			copied += n;
+			index++;
+			pieceOffset = 0;
+		}
+		return new String(text);
+	}
+
+	@Override
+	public int getLength() {
+		return length;
+	}
+
+	@Override
+	public void replace(int offset, int replaceLength, String text) {
+		int textLength = text == null ? 0 : text.length();
+		if (replaceLength == 0 && offset == length) {
+			append(text, textLength);
+		} else if (offset == 0 && textLength == 0) {
+			trimBeginning(replaceLength);
+		} else {
+			replaceRange(offset, replaceLength, text, textLength);
+		}
+	}
+
+	@Override
+	public void set(String text) {
+		Arrays.fill(buffers, first, first + count, null);
+		first = 0;
+		count = 0;
+		origin = 0;
+		length = 0;
+		appendBuffer = null;
+		appendBufferUsed = 0;
+		lastPiece = 0;
+		append(text, text == null ? 0 : text.length());
+	}
+
+	/**
+	 * Returns the number of pieces the text is stored in.
+	 *
+	 * @return the number of pieces
+	 */
+	public int getPieceCount() {
+		return count;
+	}
+
+	/**
+	 * Appends text at the end, extending the last piece while the text fits
+	 * into its buffer.
+	 */
+	private void append(String text, int textLength) {
+		int copied = 0;
+		while (copied < textLength) {
+			if (appendBuffer == null || appendBufferUsed == appendBuffer.length) {
+				appendBuffer = new char[Math.max(BUFFER_SIZE, textLength - copied)];
+				appendBufferUsed = 0;
+			}
+			int n = Math.min(appendBuffer.length - appendBufferUsed, textLength - copied);
+			text.getChars(copied, copied + n, appendBuffer, appendBufferUsed);
+			int last = first + count - 1;
+			if (count > 0 && buffers[last] == appendBuffer && from[last] + lengths[last] == appendBufferUsed) {
+				lengths[last] += n;
+			} else {
+				long start = count > 0 ? starts[last] + lengths[last] : origin;
+				insertPiece(count, appendBuffer, appendBufferUsed, n, start);
+			}
+			appendBufferUsed += n;
+			copied += n;
+			length += n;
+		}
+	}
+
+	/**
+	 * Removes text from the beginning by dropping the pieces before the cut
+	 * and shortening the first remaining piece.
+	 */
+	private void trimBeginning(int trimLength) {
+		origin += trimLength;
+		length -= trimLength;
+		int dropped = 0;
+		while (dropped < count && starts[first + dropped] + lengths[first + dropped] <= origin) {
+			buffers[first + dropped] = null;
+			dropped++;
+		}
+		first += dropped;
+		count -= dropped;
+		lastPiece = 0;
+		if (count == 0) {
+			first = 0;
+			return;
+		}
+		int cut = (int) (origin - starts[first]);
+		if (cut > 0) {
+			from[first] += cut;
+			lengths[first] -= cut;
+			starts[first] = origin;
+		}
+	}
+
+	/**
+	 * Replaces a range anywhere in the text by splitting the pieces at the
+	 * range boundaries and replacing the pieces in between.
+	 */
+	private void replaceRange(int offset, int replaceLength, String text, int textLength) {
+		int begin = split(offset);
+		int end = split(offset + replaceLength);
+		removePieces(begin, end);
+		int index = begin;
+		int copied = 0;
+		while (copied < textLength) {
+			if (appendBuffer == null || appendBufferUsed == appendBuffer.length) {
+				appendBuffer = new char[Math.max(BUFFER_SIZE, textLength - copied)];
+				appendBufferUsed = 0;
+			}
+			int n = Math.min(appendBuffer.length - appendBufferUsed, textLength - copied);
+			text.getChars(copied, copied + n, appendBuffer, appendBufferUsed);
+			insertPiece(index++, appendBuffer, appendBufferUsed, n, 0);
+			appendBufferUsed += n;
+			copied += n;
+		}
+		length += textLength - replaceLength;
+		// move the pieces behind the change
+		long start = begin == 0 ? origin : starts[first + begin - 1] + lengths[first + begin - 1];
+		for (int i = first + begin; i < first + count; i++) {
+			starts[i] = start;
+			start += lengths[i];
+		}
+		lastPiece = 0;
+	}
+
+	/**
+	 * Makes sure a piece starts at the given offset.
+	 *
+	 * @return index of the piece starting at the offset, or the number of
+	 *         pieces if the offset is the end of the text
+	 */
+	private int split(int offset) {
+		if (offset == length) {
+			return count;
+		}
+		int piece = findPiece(offset);
+		int index = first + piece;
+		int pieceOffset = (int) (offset - (starts[index] - origin));
+		if (pieceOffset == 0) {
+			return piece;
+		}
+		insertPiece(piece + 1, buffers[index], from[index] + pieceOffset, lengths[index] - pieceOffset, starts[index] + pieceOffset);
+		lengths[first + piece] = pieceOffset;
+		return piece + 1;
+	}
+
+	/**
+	 * Returns the piece containing the given offset, or the last piece if the
+	 * offset is the end of the text.
+	 */
+	private int findPiece(int offset) {
+		long position = origin + offset;
+		if (lastPiece < count) {
+			int index = first + lastPiece;
+			if (position >= starts[index] && position < starts[index] + lengths[index]) {
+				return lastPiece;
+			}
+		}
+		int low = first;
+		int high = first + count - 1;
+		while (low < high) {
+			int middle = (low + high + 1) >>> 1;
+			if (starts[middle] <= position) {
+				low = middle;
+			} else {
+				high = middle - 1;
+			}
+		}
+		lastPiece = low - first;
+		return lastPiece;
+	}
+
+	private void insertPiece(int piece, char[] buffer, int bufferOffset, int pieceLength, long start) {
+		if (first + count == buffers.length) {
+			makeRoom();
+		}
+		int index = first + piece;
+		int moved = count - piece;
+		if (moved > 0) {
+			System.arraycopy(buffers, index, buffers, index + 1, moved);
+			System.arraycopy(from, index, from, index + 1, moved);
+			System.arraycopy(lengths, index, lengths, index + 1, moved);
+			System.arraycopy(starts, index, starts, index + 1, moved);
+		}
+		buffers[index] = buffer;
+		from[index] = bufferOffset;
+		lengths[index] = pieceLength;
+		starts[index] = start;
+		count++;
+	}
+
+	private void removePieces(int begin, int end) {
+		if (begin == end) {
+			return;
+		}
+		int moved = count - end;
+		System.arraycopy(buffers, first + end, buffers, first + begin, moved);
+		System.arraycopy(from, first + end, from, first + begin, moved);
+		System.arraycopy(lengths, first + end, lengths, first + begin, moved);
+		System.arraycopy(starts, first + end, starts, first + begin, moved);
+		count -= end - begin;
+		Arrays.fill(buffers, first + count, first + count + end - begin, null);
+	}
+
+	/**
+	 * Makes room for another piece at the end of the piece arrays, either by
+	 * moving the pieces to the front if many pieces have been trimmed or by
+	 * growing the arrays.
+	 */
+	private void makeRoom() {
+		int capacity = buffers.length;
+		if (first > capacity / 2) {
+			System.arraycopy(buffers, first, buffers, 0, count);
+			System.arraycopy(from, first, from, 0, count);
+			System.arraycopy(lengths, first, lengths, 0, count);
+			System.arraycopy(starts, first, starts, 0, count);
+			Arrays.fill(buffers, count, first + count, null);
+			first = 0;
+			return;
+		}
+		int newCapacity = capacity + (capacity >> 1);
+		buffers = Arrays.copyOf(buffers, newCapacity);
+		from = Arrays.copyOf(from, newCapacity);
+		lengths = Arrays.copyOf(lengths, newCapacity);
+		starts = Arrays.copyOf(starts, newCapacity);
+	}
+}
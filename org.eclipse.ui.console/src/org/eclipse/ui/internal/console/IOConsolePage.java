@@ -16,8 +16,15 @@ package org.eclipse.ui.internal.console;
 
 import org.eclipse.jface.action.IMenuManager;
 import org.eclipse.jface.action.IToolBarManager;
+import org.eclipse.jface.text.IDocumentPartitioner;
+import org.eclipse.jface.text.IViewportListener;
+import org.eclipse.jface.text.JFaceTextUtil;
 import org.eclipse.jface.util.IPropertyChangeListener;
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.custom.StyledText;
 import org.eclipse.swt.widgets.Composite;
+import org.eclipse.swt.widgets.Control;
+import org.eclipse.swt.widgets.Listener;
 import org.eclipse.ui.actions.ActionFactory;
 import org.eclipse.ui.console.IConsoleConstants;
 import org.eclipse.ui.console.IConsoleView;
@@ -42,6 +49,27 @@ public class IOConsolePage extends TextConsolePage {
 
 	private IConsoleView fView;
 
+	/**
+	 * Number of chars of archived output restored when the user scrolls to the
+	 * start of the console.
+	 */
+	private static final int RESTORE_PAGE_SIZE = 64 * 1024;
+
+	/**
+	 * Restores archived output when the user scrolls to the start and resumes
+	 * trimming once the user scrolled back to the end.
+	 */
+	private IViewportListener fViewportListener;
+
+	/** Vertical offset of the viewport seen last by {@link #fViewportListener}. */
+	private int fLastVerticalOffset;
+
+	/** Tells the partitioner whether this page shows the console. */
+	private Listener fVisibilityListener;
+
+	/** Whether the partitioner was told that this page shows the console. */
+	private boolean fShown;
+
 	public IOConsolePage(TextConsole console, IConsoleView view) {
 		super(console, view);
 		fView = view;
@@ -62,6 +90,78 @@ public class IOConsolePage extends TextConsolePage {
 			IOConsoleViewer viewer = (IOConsoleViewer) getViewer();
 			viewer.setReadOnly();
 		}
+		fViewportListener = verticalOffset -> {
+			// only restore when scrolled to the start, not when the content
+			// was trimmed while the start is shown
+			if (verticalOffset == 0 && fLastVerticalOffset != 0) {
+				restoreArchivedOutput();
+			} else if (verticalOffset > fLastVerticalOffset) {
+				releaseRestoredOutput();
+			}
+			fLastVerticalOffset = verticalOffset;
+		};
+		getViewer().addViewportListener(fViewportListener);
+		// the page book shows only the control of the current page
+		Control control = getControl();
+		fVisibilityListener = event -> setShown(event.type == SWT.Show);
+		control.addListener(SWT.Show, fVisibilityListener);
+		control.addListener(SWT.Hide, fVisibilityListener);
+		setShown(control.getVisible());
+	}
+
+	/**
+	 * Tells the partitioner whether this page shows the console, so output kept
+	 * in background mode is appended to the document once the console is shown.
+	 *
+	 * @param shown whether this page shows the console
+	 */
+	private void setShown(boolean shown) {
+		IDocumentPartitioner documentPartitioner = ((TextConsole) getConsole()).getDocument().getDocumentPartitioner();
+		if (shown == fShown || !(documentPartitioner instanceof IOConsolePartitioner)) {
+			return;
+		}
+		fShown = shown;
+		IOConsolePartitioner partitioner = (IOConsolePartitioner) documentPartitioner;
+		if (shown) {
+			partitioner.pageShown();
+		} else {
+			partitioner.pageHidden();
+		}
+	}
+
+	/**
+	 * Restores a page of archived output, if any, keeping the previously first
+	 * visible line at the top of the viewer.
+	 */
+	private void restoreArchivedOutput() {
+		TextConsoleViewer viewer = getViewer();
+		if (viewer == null || !(viewer.getDocument().getDocumentPartitioner() instanceof IOConsolePartitioner)) {
+			return;
+		}
+		IOConsolePartitioner partitioner = (IOConsolePartitioner) viewer.getDocument().getDocumentPartitioner();
+		if (partitioner.getArchivedLength() == 0) {
+			return;
+		}
+		StyledText text = viewer.getTextWidget();
+		int lines = text.getLineCount();
+		if (partitioner.restoreArchivedOutput(RESTORE_PAGE_SIZE) > 0) {
+			viewer.setTopIndex(text.getLineCount() - lines);
+		}
+	}
+
+	/**
+	 * Resumes trimming paused for restored output once the end of the document
+	 * is shown.
+	 */
+	private void releaseRestoredOutput() {
+		TextConsoleViewer viewer = getViewer();
+		if (viewer == null || !(viewer.getDocument().getDocumentPartitioner() instanceof IOConsolePartitioner)) {
+			return;
+		}
+		StyledText text = viewer.getTextWidget();
+		if (JFaceTextUtil.getPartialBottomIndex(text) >= text.getLineCount() - 1) {
+			((IOConsolePartitioner) viewer.getDocument().getDocumentPartitioner()).releaseRestoredOutput();
+		}
 	}
 
 	@Override
@@ -142,6 +242,19 @@ public class IOConsolePage extends TextConsolePage {
 			fWordWrapAction.dispose();
 			fWordWrapAction = null;
 		}
+		if (fViewportListener != null && getViewer() != null) {
+			getViewer().removeViewportListener(fViewportListener);
+			fViewportListener = null;
+		}
+		if (fVisibilityListener != null) {
+			Control control = getControl();
+			if (control != null && !control.isDisposed()) {
+				control.removeListener(SWT.Show, fVisibilityListener);
+				control.removeListener(SWT.Hide, fVisibilityListener);
+			}
+			setShown(false);
+			fVisibilityListener = null;
+		}
 		fView = null;
 		getConsole().removePropertyChangeListener(fPropertyChangeListener);
 		super.dispose();
@@ -32,8 +32,14 @@ public class IOConsolePartition implements ITypedRegion {
 	/** Type for output partitions. */
 	public static final String INPUT_PARTITION_TYPE = ConsolePlugin.getUniqueIdentifier() + ".io_console_input_partition_type"; //$NON-NLS-1$
 
-	private int offset;
+	/**
+	 * Offset in the document, relative to {@link #origin} if this partition is
+	 * in a {@link IOConsolePartitionList}.
+	 */
+	private long offset;
 	private int length;
+	/** Origin of the list containing this partition or <code>null</code>. */
+	private IOConsolePartitionList.Origin origin;
 	private String type;
 
 	/**
@@ -118,7 +124,7 @@ public class IOConsolePartition implements ITypedRegion {
 
 	@Override
 	public int getOffset() {
-		return offset;
+		return (int) (origin == null ? offset : offset - origin.value);
 	}
 
 	/**
@@ -127,7 +133,20 @@ public class IOConsolePartition implements ITypedRegion {
 	 * @param offset This partitions offset in the document.
 	 */
 	public void setOffset(int offset) {
-		this.offset = offset;
+		this.offset = origin == null ? offset : offset + origin.value;
+	}
+
+	/**
+	 * Sets the origin the offset of this partition is relative to, keeping the
+	 * current offset.
+	 *
+	 * @param origin origin of the list containing this partition or
+	 *               <code>null</code> if it is removed from the list
+	 */
+	void setOrigin(IOConsolePartitionList.Origin origin) {
+		int current = getOffset();
+		this.origin = origin;
+		setOffset(current);
 	}
 
 	/**
@@ -265,7 +284,7 @@ public class IOConsolePartition implements ITypedRegion {
 		}
 		sb.append("]"); //$NON-NLS-1$
 		sb.append(" Offset: "); //$NON-NLS-1$
-		sb.append(offset);
+		sb.append(getOffset());
 		sb.append(" Length: "); //$NON-NLS-1$
 		sb.append(length);
 		return sb.toString();
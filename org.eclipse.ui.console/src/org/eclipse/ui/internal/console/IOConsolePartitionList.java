@@ -0,0 +1,174 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.ui.internal.console;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.RandomAccess;
+
+/**
+ * List of the partitions of a console document, optimized for trimming the
+ * beginning of the document.
+ * <p>
+ * Removing partitions from the beginning of the list only advances the index
+ * of the first element, the array is compacted when it runs out of space. The
+ * offsets of all partitions in the list are relative to a shared
+ * {@link Origin}, so {@link #shiftOffsets(int)} moves all partitions in
+ * constant time. Partitions removed from the list keep the offset they had
+ * when they were removed.
+ * </p>
+ * <p>
+ * This class is not thread safe.
+ * </p>
+ */
+class IOConsolePartitionList extends AbstractList<IOConsolePartition> implements RandomAccess {
+
+	/**
+	 * Origin the offsets of the partitions in a list are relative to.
+	 */
+	static final class Origin {
+		long value;
+	}
+
+	private final Origin origin = new Origin();
+
+	private IOConsolePartition[] elements = new IOConsolePartition[16];
+
+	/** Index of the first element in {@link #elements}. */
+	private int head;
+
+	private int size;
+
+	@Override
+	public IOConsolePartition get(int index) {
+		checkIndex(index, size);
+		return elements[head + index];
+	}
+
+	@Override
+	public int size() {
+		return size;
+	}
+
+	@Override
+	public IOConsolePartition set(int index, IOConsolePartition element) {
+		checkIndex(index, size);
+		element.setOrigin(origin);
+		IOConsolePartition old = elements[head + index];
+		old.setOrigin(null);
+		elements[head + index] = element;
+		return old;
+	}
+
+	@Override
+	public void add(int index, IOConsolePartition element) {
+		checkIndex(index, size + 1);
+		element.setOrigin(origin);
+		if (index == 0 && head > 0) {
+			elements[--head] = element;
+		} else {
+			if (head + size == elements.length) {
+				makeRoom();
+			}
+			System.arraycopy(elements, head + index, elements, head + index + 1, size - index);
+			elements[head + index] = element;
+		}
+		size++;
+		modCount++;
+	}
+
+	@Override
+	public IOConsolePartition remove(int index) {
+		checkIndex(index, size);
+		IOConsolePartition old = elements[head + index];
+		old.setOrigin(null);
+		if (index == 0) {
+			elements[head++] = null;
+		} else {
+			System.arraycopy(elements, head + index + 1, elements, head + index, size - index - 1);
+			elements[head + size - 1] = null;
+		}
+		size--;
+		if (size == 0) {
+			head = 0;
+		}
+		modCount++;
+		return old;
+	}
+
+	@Override
+	protected void removeRange(int fromIndex, int toIndex) {
+		for (int i = head + fromIndex; i < head + toIndex; i++) {
+			elements[i].setOrigin(null);
+		}
+		int removed = toIndex - fromIndex;
+		if (fromIndex == 0) {
+			Arrays.fill(elements, head, head + removed, null);
+			head += removed;
+		} else {
+			System.arraycopy(elements, head + toIndex, elements, head + fromIndex, size - toIndex);
+			Arrays.fill(elements, head + size - removed, head + size, null);
+		}
+		size -= removed;
+		if (size == 0) {
+			head = 0;
+		}
+		modCount++;
+	}
+
+	@Override
+	public void clear() {
+		removeRange(0, size);
+		origin.value = 0;
+	}
+
+	/**
+	 * Removes the given number of partitions from the beginning of the list.
+	 *
+	 * @param count number of partitions to remove
+	 */
+	void removeFirst(int count) {
+		removeRange(0, count);
+	}
+
+	/**
+	 * Moves all partitions in this list towards the beginning of the document.
+	 *
+	 * @param delta the amount all offsets are decreased by
+	 */
+	void shiftOffsets(int delta) {
+		origin.value += delta;
+	}
+
+	/**
+	 * Makes room for another element at the end of the array, either by moving
+	 * the elements to the front if many elements have been removed from the
+	 * beginning or by growing the array.
+	 */
+	private void makeRoom() {
+		if (head > elements.length / 2) {
+			System.arraycopy(elements, head, elements, 0, size);
+			Arrays.fill(elements, size, head + size, null);
+			head = 0;
+		} else {
+			elements = Arrays.copyOf(elements, elements.length + (elements.length >> 1));
+		}
+	}
+
+	private static void checkIndex(int index, int bound) {
+		if (index < 0 || index >= bound) {
+			throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + bound); //$NON-NLS-1$ //$NON-NLS-2$
+		}
+	}
+}
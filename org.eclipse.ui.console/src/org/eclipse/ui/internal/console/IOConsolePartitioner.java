@@ -22,15 +22,13 @@
 package org.eclipse.ui.internal.console;
 
 import java.io.IOException;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Objects;
-import java.util.concurrent.BlockingQueue;
-import java.util.concurrent.LinkedBlockingQueue;
-import java.util.concurrent.TimeUnit;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -84,6 +82,11 @@ public class IOConsolePartitioner
 		OUTPUT,
 		/** Document update was triggered from this partitioner's {@link TrimJob}. */
 		TRIM,
+		/**
+		 * Document update was triggered from this partitioner by restoring output
+		 * from the {@link ConsoleScrollbackArchive}.
+		 */
+		RESTORE,
 	}
 
 	/**
@@ -114,8 +117,12 @@ public class IOConsolePartitioner
 	 * List of all partitions. Must always be sorted ascending by
 	 * {@link IRegion#getOffset()} and not contain <code>null</code> or 0-length
 	 * elements. (see also {@link #checkPartitions()})
+	 * <p>
+	 * Trimming removes the leading partitions and moves the remaining ones in
+	 * constant time.
+	 * </p>
 	 */
-	private final ArrayList<IOConsolePartition> partitions = new ArrayList<>();
+	private final IOConsolePartitionList partitions = new IOConsolePartitionList();
 	/**
 	 * max ~ 16MB when debugged application outputs faster then we can handle. Seems
 	 * to be a could compromise between memory and speed we can handle. Eclipse IDE
@@ -123,12 +130,67 @@ public class IOConsolePartitioner
 	 */
 	private static final int MAX_BUFFER_BYTES = 16_000_000;
 	/**
-	 * Queue of buffers that have not yet been appended to the document. Every
-	 * buffer will hold up to 8192 byte - but typically a single line output if
-	 * handled fast. The debugged application will block if the limit is exceeded.
+	 * Queue of buffers that have not yet been appended to the document. Output
+	 * written to the same stream is coalesced into the last buffer until it holds
+	 * {@link #PENDING_PARTITION_SIZE} characters. The debugged application will
+	 * block if {@link #MAX_PENDING_PARTITIONS} is exceeded. Access must be
+	 * synchronized on the queue.
+	 */
+	private final ArrayDeque<PendingPartition> pendingPartitions = new ArrayDeque<>();
+	/** Maximum number of {@link #pendingPartitions}. */
+	private static final int MAX_PENDING_PARTITIONS = MAX_BUFFER_BYTES / 8192;
+	/**
+	 * Number of characters after which output is no longer coalesced into the
+	 * last pending partition.
+	 */
+	private static final int PENDING_PARTITION_SIZE = 8192;
+	/**
+	 * Delay in milliseconds before new output is appended to the document. Output
+	 * written to the same stream within this delay is appended in one update.
 	 */
-	private final BlockingQueue<PendingPartition> pendingPartitions = new LinkedBlockingQueue<>(
-			MAX_BUFFER_BYTES / 8192);
+	private static final long FLUSH_DELAY = 10;
+	/**
+	 * Time in nanoseconds the update job should spend per run so the display
+	 * can still paint and handle input in the same frame.
+	 */
+	private static final long FRAME_BUDGET = 8_000_000;
+	/** Minimum number of characters appended to the document per job run. */
+	private static final int MIN_BATCH_LENGTH = PENDING_PARTITION_SIZE;
+	/** Maximum number of characters appended to the document per job run. */
+	private static final int MAX_BATCH_LENGTH = MAX_BUFFER_BYTES / 4;
+	/** Number of characters in {@link #pendingPartitions}. */
+	private long pendingLength;
+	/** Number of writes appended to an already pending partition. */
+	private long coalescedWrites;
+	/** Number of pending partitions merged with the previous partition of the same stream. */
+	private long mergedPartitions;
+	/** Number of pending partitions discarded before they were appended. */
+	private long droppedPartitions;
+	/** Number of characters discarded before they were appended. */
+	private long droppedLength;
+	/** Number of job runs which appended output to the document. */
+	private long updates;
+	/** Number of job runs which left pending output for the next run. */
+	private long deferredUpdates;
+	/** Time in nanoseconds spent appending output to the document. */
+	private long updateTime;
+	/** Longest time in nanoseconds spent in a single job run. */
+	private long maxUpdateTime;
+	/**
+	 * Whether output is kept in {@link #backgroundOutput} instead of the document
+	 * while no page shows the console.
+	 */
+	private volatile boolean backgroundMode;
+	/** Number of pages currently showing the console. Only changed in UI thread. */
+	private volatile int shownPages;
+	/**
+	 * Output received in background mode while no page shows the console, in
+	 * order of arrival. Adjacent output of the same stream is coalesced. Access
+	 * must be synchronized on {@link #pendingPartitions}.
+	 */
+	private final ArrayDeque<PendingPartition> backgroundOutput = new ArrayDeque<>();
+	/** Number of characters in {@link #backgroundOutput}. */
+	private long backgroundLength;
 	/** Job that appends pending partitions to the document. */
 	private final QueueProcessingJob queueJob = new QueueProcessingJob();
 	/** Job that trims console content if it exceeds {@link #highWaterMark}. */
@@ -183,6 +245,26 @@ public class IOConsolePartitioner
 	 * Offset where next output is written to console.
 	 */
 	private int outputOffset = 0;
+	/**
+	 * Archive of the output trimmed from the document or <code>null</code> if
+	 * trimmed output is discarded.
+	 */
+	private ConsoleScrollbackArchive scrollbackArchive;
+	/**
+	 * Output streams of the archived output. The index of a stream is its
+	 * source in the {@link #scrollbackArchive}.
+	 */
+	private final List<IOConsoleOutputStream> archivedStreams = new ArrayList<>();
+	/** Source of archived input in the {@link #scrollbackArchive}. */
+	private static final int ARCHIVED_INPUT = -1;
+	/**
+	 * Document length up to which trimming is paused while restored archived
+	 * output is shown or <code>-1</code> if trimming is not paused. Set to the
+	 * document length after restoring plus the {@link #highWaterMark}, so the
+	 * restored output is kept until that much more output was written or the
+	 * user scrolled back to the end.
+	 */
+	private int pausedTrimLimit = -1;
 
 	/**
 	 * Create new partitioner for an {@link IOConsole}.
@@ -225,7 +307,7 @@ public class IOConsolePartitioner
 
 	@Override
 	public void disconnect() {
-		pendingPartitions.clear();
+		clearPendingPartitions();
 		synchronized (partitions) {
 			trimJob.cancel();
 			queueJob.cancel();
@@ -233,6 +315,7 @@ public class IOConsolePartitioner
 			document = null;
 			inputPartitions = null;
 			partitions.clear();
+			discardArchivedOutput();
 		}
 	}
 
@@ -269,6 +352,185 @@ public class IOConsolePartitioner
 		ConsolePlugin.getStandardDisplay().asyncExec(this::checkBufferSize);
 	}
 
+	/**
+	 * Sets whether output trimmed from the document is archived.
+	 *
+	 * @param enabled whether to archive trimmed output
+	 * @see IOConsole#setScrollbackArchiveEnabled(boolean)
+	 */
+	public void setScrollbackArchiveEnabled(boolean enabled) {
+		synchronized (partitions) {
+			if (enabled && scrollbackArchive == null) {
+				scrollbackArchive = new ConsoleScrollbackArchive();
+			} else if (!enabled && scrollbackArchive != null) {
+				discardArchivedOutput();
+				scrollbackArchive = null;
+			}
+		}
+	}
+
+	/**
+	 * Returns whether output trimmed from the document is archived.
+	 *
+	 * @return whether trimmed output is archived
+	 * @see IOConsole#isScrollbackArchiveEnabled()
+	 */
+	public boolean isScrollbackArchiveEnabled() {
+		synchronized (partitions) {
+			return scrollbackArchive != null;
+		}
+	}
+
+	/**
+	 * Returns the length of the archived output preceding the document content.
+	 *
+	 * @return number of archived chars
+	 */
+	public long getArchivedLength() {
+		synchronized (partitions) {
+			return scrollbackArchive == null ? 0 : scrollbackArchive.getLength();
+		}
+	}
+
+	/**
+	 * Moves the end of the archived output back to the beginning of the
+	 * document. The restored output starts at a line start if the given length
+	 * includes one. Trimming is paused until {@link #releaseRestoredOutput()}
+	 * is called or another {@link #getHighWaterMark()} chars of output were
+	 * written. Must be called in the UI thread.
+	 *
+	 * @param maxLength maximum number of chars to restore
+	 * @return number of restored chars
+	 */
+	public int restoreArchivedOutput(int maxLength) {
+		synchronized (partitions) {
+			if (document == null || scrollbackArchive == null || scrollbackArchive.getLength() == 0 || maxLength <= 0) {
+				return 0;
+			}
+			try {
+				long end = scrollbackArchive.getLength();
+				long start = Math.max(0, end - maxLength);
+				if (start > 0) {
+					long lineStart = scrollbackArchive.findLineStart(start - 1);
+					if (lineStart > 0 && lineStart < end) {
+						start = lineStart;
+					}
+				}
+				String text = scrollbackArchive.read(start, (int) (end - start));
+				List<ConsoleScrollbackArchive.Run> runs = scrollbackArchive.getRuns(start, end);
+
+				updateType = DocUpdateType.RESTORE;
+				document.replace(0, 0, text);
+
+				// move partitions behind the restored output and add its partitions
+				partitions.shiftOffsets(-text.length());
+				long runEnd = end;
+				for (int i = runs.size() - 1; i >= 0; i--) {
+					ConsoleScrollbackArchive.Run run = runs.get(i);
+					IOConsolePartition partition;
+					if (run.source == ARCHIVED_INPUT) {
+						partition = new IOConsolePartition((int) (run.offset - start), console.getInputStream());
+						partition.setReadOnly();
+					} else {
+						partition = new IOConsolePartition((int) (run.offset - start), archivedStreams.get(run.source));
+					}
+					partition.setLength((int) (runEnd - run.offset));
+					partitions.add(0, partition);
+					runEnd = run.offset;
+				}
+				outputOffset += text.length();
+				scrollbackArchive.truncate(start);
+				if (highWaterMark > 0) {
+					pausedTrimLimit = document.getLength() + highWaterMark;
+				}
+				if (ASSERT) {
+					checkPartitions();
+				}
+				return text.length();
+			} catch (IOException | BadLocationException e) {
+				log(e);
+				return 0;
+			}
+		}
+	}
+
+	/**
+	 * Resumes trimming paused by {@link #restoreArchivedOutput(int)}, e.g. once
+	 * the user scrolled back to the end of the document. Must be called in the
+	 * UI thread.
+	 */
+	public void releaseRestoredOutput() {
+		synchronized (partitions) {
+			if (pausedTrimLimit >= 0) {
+				pausedTrimLimit = -1;
+				checkBufferSize();
+			}
+		}
+	}
+
+	/**
+	 * Appends the document content before the given offset to the
+	 * {@link #scrollbackArchive}, if enabled. Archiving is disabled if writing
+	 * the archive fails.
+	 *
+	 * @param cutOffset end of the archived content
+	 * @throws BadLocationException if the partitions do not match the document
+	 */
+	private void archiveOutput(int cutOffset) throws BadLocationException {
+		if (scrollbackArchive == null) {
+			return;
+		}
+		try {
+			for (IOConsolePartition partition : partitions) {
+				int offset = partition.getOffset();
+				if (offset >= cutOffset) {
+					break;
+				}
+				int end = Math.min(offset + partition.getLength(), cutOffset);
+				scrollbackArchive.append(getArchiveSource(partition), document.get(offset, end - offset));
+			}
+		} catch (IOException e) {
+			log(e);
+			discardArchivedOutput();
+			scrollbackArchive = null;
+		}
+	}
+
+	/**
+	 * Returns the source of the given partition's content in the
+	 * {@link #scrollbackArchive}.
+	 *
+	 * @param partition an archived partition
+	 * @return the archive source
+	 */
+	private int getArchiveSource(IOConsolePartition partition) {
+		if (isInputPartition(partition)) {
+			return ARCHIVED_INPUT;
+		}
+		IOConsoleOutputStream stream = partition.getOutputStream();
+		for (int i = 0; i < archivedStreams.size(); i++) {
+			if (archivedStreams.get(i) == stream) {
+				return i;
+			}
+		}
+		archivedStreams.add(stream);
+		return archivedStreams.size() - 1;
+	}
+
+	/**
+	 * Removes all archived output, deleting the archive files.
+	 */
+	private void discardArchivedOutput() {
+		archivedStreams.clear();
+		if (scrollbackArchive != null) {
+			try {
+				scrollbackArchive.close();
+			} catch (IOException e) {
+				log(e);
+			}
+		}
+	}
+
 	/**
 	 * Notification from the console that all of its streams have been closed.
 	 */
@@ -290,7 +552,12 @@ public class IOConsolePartitioner
 		if (streamsClosed) {
 			// do not expect new data since all streams are closed
 			// check if pending data is queued
-			final boolean morePending = !pendingPartitions.isEmpty();
+			final boolean morePending;
+			synchronized (pendingPartitions) {
+				// a finished console shows all its output
+				queueBackgroundOutput();
+				morePending = !pendingPartitions.isEmpty();
+			}
 			if (morePending) {
 				queueJob.schedule();
 			} else {
@@ -427,13 +694,18 @@ public class IOConsolePartitioner
 	 * <p>
 	 * When the document length exceeds the high water mark, the beginning of the
 	 * document is trimmed until the document length is approximately the low water
-	 * mark.
+	 * mark. Trimming is paused while restored archived output is shown, unless
+	 * the document exceeds the {@link #pausedTrimLimit}.
 	 * </p>
 	 */
 	private void checkBufferSize() {
 		if (document != null && highWaterMark > 0) {
 			int length = document.getLength();
+			if (pausedTrimLimit >= 0 && length <= pausedTrimLimit) {
+				return;
+			}
 			if (length > highWaterMark) {
+				pausedTrimLimit = -1;
 				// do trim synchronous to prevent drawing trimmed text - we are already in UI and have the lock
 				trim(length - lowWaterMark, true);
 			}
@@ -444,7 +716,7 @@ public class IOConsolePartitioner
 	 * Clears the console content.
 	 */
 	public void clearBuffer() {
-		pendingPartitions.clear();
+		clearPendingPartitions();
 		synchronized (partitions) {
 			if (document != null) {
 				trimJob.setTrimOffset(document.getLength());
@@ -486,6 +758,8 @@ public class IOConsolePartitioner
 					return null; // changedRegion was never assigned
 				case TRIM:
 					return null; // trim does not change partition types
+				case RESTORE:
+					return null; // restored partitions are applied separately
 
 				default:
 					log(IStatus.ERROR, "Invalid enum value " + updateType); //$NON-NLS-1$
@@ -678,7 +952,9 @@ public class IOConsolePartitioner
 	 * A stream has been appended, add to pendingPartions list and schedule
 	 * updateJob. updateJob is scheduled with a slight delay, this allows the
 	 * console to run the job less frequently and update the document with a greater
-	 * amount of data each time the job is run.
+	 * amount of data each time the job is run. Output of the stream which wrote
+	 * the last pending partition is appended to that partition, so writing single
+	 * bytes or lines does not create one pending partition per write.
 	 *
 	 * @param stream The stream that was written to.
 	 * @param s      The string that should be appended to the document.
@@ -691,27 +967,299 @@ public class IOConsolePartitioner
 		if (s == null) {
 			return;
 		}
-		PendingPartition partition = new PendingPartition(stream, s);
-		while (!offer(partition)) {
-			helpProgress();
+		while (true) {
+			synchronized (pendingPartitions) {
+				if (backgroundMode && shownPages == 0) {
+					appendBackgroundOutput(stream, s);
+					return;
+				}
+				final PendingPartition last = pendingPartitions.peekLast();
+				if (last != null && last.stream == stream && last.text.length() < PENDING_PARTITION_SIZE) {
+					// updateJob was scheduled when last partition was queued
+					last.append(s);
+					pendingLength += s.length();
+					coalescedWrites++;
+					return;
+				}
+				if (pendingPartitions.size() < MAX_PENDING_PARTITIONS) {
+					pendingPartitions.add(new PendingPartition(stream, s));
+					pendingLength += s.length();
+					break;
+				}
+				if (Display.getCurrent() == null) {
+					// give UI thread chance to proceed
+					try {
+						pendingPartitions.wait(10);
+					} catch (InterruptedException e) {
+						// retry
+					}
+					continue;
+				}
+			}
+			// make sure pendingPartitions can take
+			queueJob.processPendingPartitions(Integer.MAX_VALUE);
+		}
+		queueJob.schedule(FLUSH_DELAY);
+	}
+
+	private void clearPendingPartitions() {
+		synchronized (pendingPartitions) {
+			droppedPartitions += pendingPartitions.size() + backgroundOutput.size();
+			droppedLength += pendingLength + backgroundLength;
+			pendingLength = 0;
+			pendingPartitions.clear();
+			backgroundLength = 0;
+			backgroundOutput.clear();
+			pendingPartitions.notifyAll();
+		}
+	}
+
+	/**
+	 * Sets whether output is kept in a compact buffer instead of the document
+	 * while no page shows the console. Disabling the background mode appends
+	 * the buffered output to the document.
+	 *
+	 * @param enabled whether to buffer output of the hidden console
+	 * @see IOConsole#setBackgroundModeEnabled(boolean)
+	 */
+	public void setBackgroundModeEnabled(boolean enabled) {
+		synchronized (pendingPartitions) {
+			backgroundMode = enabled;
+			if (!enabled) {
+				queueBackgroundOutput();
+			}
+		}
+		queueJob.schedule();
+	}
+
+	/**
+	 * Returns whether output is kept in a compact buffer while no page shows
+	 * the console.
+	 *
+	 * @return whether output of the hidden console is buffered
+	 * @see IOConsole#isBackgroundModeEnabled()
+	 */
+	public boolean isBackgroundModeEnabled() {
+		return backgroundMode;
+	}
+
+	/**
+	 * Notification that a page shows the console. Output buffered in background
+	 * mode is appended to the document. Must be called in UI thread.
+	 */
+	public void pageShown() {
+		synchronized (pendingPartitions) {
+			shownPages++;
+			queueBackgroundOutput();
 		}
 		queueJob.schedule();
 	}
 
-	private void helpProgress() {
-		if (Display.getCurrent() != null) {
-			// make sure pendingPartitions can take
-			queueJob.processPendingPartitions();
+	/**
+	 * Notification that a page no longer shows the console. Must be called in UI
+	 * thread and only after {@link #pageShown()}.
+	 */
+	public void pageHidden() {
+		synchronized (pendingPartitions) {
+			shownPages--;
+		}
+	}
+
+	/**
+	 * Append output received in background mode to {@link #backgroundOutput}. If
+	 * the buffered output exceeds {@link #highWaterMark} it is trimmed to about
+	 * {@link #lowWaterMark} characters like the document would be. Must be called
+	 * synchronized on {@link #pendingPartitions}.
+	 *
+	 * @param stream the stream that was written to
+	 * @param s      the output
+	 */
+	private void appendBackgroundOutput(IOConsoleOutputStream stream, String s) {
+		final PendingPartition last = backgroundOutput.peekLast();
+		if (last != null && last.stream == stream) {
+			last.append(s);
+			coalescedWrites++;
 		} else {
-			Thread.yield(); // give UI thread chance to proceed
+			backgroundOutput.add(new PendingPartition(stream, s));
+		}
+		backgroundLength += s.length();
+		if (highWaterMark > 0 && backgroundLength > highWaterMark) {
+			long cut = backgroundLength - lowWaterMark;
+			while (cut > 0) {
+				final PendingPartition first = backgroundOutput.peekFirst();
+				final int length = first.text.length();
+				if (length <= cut) {
+					backgroundOutput.poll();
+					droppedPartitions++;
+					droppedLength += length;
+					backgroundLength -= length;
+					cut -= length;
+				} else {
+					// trim to the start of a line if possible
+					final String text = first.text.toString();
+					final int lineStart = text.indexOf('\n', (int) cut - 1) + 1;
+					final int end = lineStart > 0 ? lineStart : (int) cut;
+					first.text = text.substring(end);
+					droppedLength += end;
+					backgroundLength -= end;
+					cut = 0;
+				}
+			}
 		}
 	}
 
-	private boolean offer(PendingPartition p) {
-		try {
-			return pendingPartitions.offer(p, 10, TimeUnit.MILLISECONDS);
-		} catch (InterruptedException e) {
-			return false;
+	/**
+	 * Move {@link #backgroundOutput} to the end of {@link #pendingPartitions}. All
+	 * pending partitions are older than the buffered output. Must be called
+	 * synchronized on {@link #pendingPartitions}.
+	 */
+	private void queueBackgroundOutput() {
+		if (!backgroundOutput.isEmpty()) {
+			pendingPartitions.addAll(backgroundOutput);
+			pendingLength += backgroundLength;
+			backgroundOutput.clear();
+			backgroundLength = 0;
+		}
+	}
+
+	/**
+	 * Returns counters of the output processed by this partitioner.
+	 *
+	 * @return a snapshot of the current counters
+	 */
+	public UpdateStatistics getUpdateStatistics() {
+		synchronized (pendingPartitions) {
+			return new UpdateStatistics(this);
+		}
+	}
+
+	/**
+	 * Counters of the output appended to the document by the update job.
+	 */
+	public static final class UpdateStatistics {
+		private final int pendingPartitionCount;
+		private final long pendingLength;
+		private final long coalescedWrites;
+		private final long mergedPartitions;
+		private final long droppedPartitions;
+		private final long droppedLength;
+		private final long updates;
+		private final long deferredUpdates;
+		private final long updateTime;
+		private final long maxUpdateTime;
+		private final int batchLength;
+		private final long backgroundLength;
+
+		UpdateStatistics(IOConsolePartitioner partitioner) {
+			pendingPartitionCount = partitioner.pendingPartitions.size();
+			pendingLength = partitioner.pendingLength;
+			coalescedWrites = partitioner.coalescedWrites;
+			mergedPartitions = partitioner.mergedPartitions;
+			droppedPartitions = partitioner.droppedPartitions;
+			droppedLength = partitioner.droppedLength;
+			updates = partitioner.updates;
+			deferredUpdates = partitioner.deferredUpdates;
+			updateTime = partitioner.updateTime;
+			maxUpdateTime = partitioner.maxUpdateTime;
+			batchLength = partitioner.queueJob.batchLength;
+			backgroundLength = partitioner.backgroundLength;
+		}
+
+		/**
+		 * @return number of pending partitions not yet appended
+		 */
+		public int getPendingPartitions() {
+			return pendingPartitionCount;
+		}
+
+		/**
+		 * @return number of characters not yet appended
+		 */
+		public long getPendingLength() {
+			return pendingLength;
+		}
+
+		/**
+		 * @return number of writes appended to an already pending partition
+		 */
+		public long getCoalescedWrites() {
+			return coalescedWrites;
+		}
+
+		/**
+		 * @return number of pending partitions merged with the previous
+		 *         partition of the same stream before they were appended
+		 */
+		public long getMergedPartitions() {
+			return mergedPartitions;
+		}
+
+		/**
+		 * @return number of pending partitions discarded because the console
+		 *         was cleared or disconnected before they were appended, or
+		 *         trimmed while buffered in background mode
+		 */
+		public long getDroppedPartitions() {
+			return droppedPartitions;
+		}
+
+		/**
+		 * @return number of characters discarded because the console was
+		 *         cleared or disconnected before they were appended, or
+		 *         trimmed while buffered in background mode
+		 */
+		public long getDroppedLength() {
+			return droppedLength;
+		}
+
+		/**
+		 * @return number of job runs which appended output to the document
+		 */
+		public long getUpdates() {
+			return updates;
+		}
+
+		/**
+		 * @return number of job runs which exhausted their budget and left
+		 *         output for the next run
+		 */
+		public long getDeferredUpdates() {
+			return deferredUpdates;
+		}
+
+		/**
+		 * @return time spent appending output to the document, in nanoseconds
+		 */
+		public long getUpdateTime() {
+			return updateTime;
+		}
+
+		/**
+		 * @return longest time spent in a single job run, in nanoseconds
+		 */
+		public long getMaxUpdateTime() {
+			return maxUpdateTime;
+		}
+
+		/**
+		 * @return number of characters the next job run may append
+		 */
+		public int getBatchLength() {
+			return batchLength;
+		}
+
+		/**
+		 * @return number of characters buffered in background mode while no
+		 *         page shows the console
+		 */
+		public long getBackgroundLength() {
+			return backgroundLength;
+		}
+
+		@Override
+		public String toString() {
+			return String.format("%d updates (%d deferred), %d coalesced writes, %d merged, %d dropped, %.3f ms (max %.3f ms), batch %d", //$NON-NLS-1$
+					updates, deferredUpdates, coalescedWrites, mergedPartitions, droppedPartitions, updateTime / 1_000_000.0, maxUpdateTime / 1_000_000.0, batchLength);
 		}
 	}
 
@@ -719,7 +1267,7 @@ public class IOConsolePartitioner
 	 * Holds data until updateJob can be run and the document can be updated.
 	 */
 	private class PendingPartition {
-		private final CharSequence text;
+		private CharSequence text;
 		private final IOConsoleOutputStream stream;
 
 		PendingPartition(IOConsoleOutputStream stream, CharSequence text) {
@@ -727,6 +1275,19 @@ public class IOConsolePartitioner
 			this.text = text;
 		}
 
+		/**
+		 * Append more output of the same stream. Must be called synchronized on
+		 * {@link #pendingPartitions}.
+		 *
+		 * @param s the output to append
+		 */
+		void append(CharSequence s) {
+			if (!(text instanceof StringBuilder)) {
+				text = new StringBuilder(Math.max(PENDING_PARTITION_SIZE, text.length() + s.length())).append(text);
+			}
+			((StringBuilder) text).append(s);
+		}
+
 		@Override
 		public String toString() {
 			return text.toString();
@@ -734,10 +1295,17 @@ public class IOConsolePartitioner
 	}
 
 	/**
-	 * Updates the document and partitioning structure. Will append everything
-	 * received from output streams that is available before finishing.
+	 * Updates the document and partitioning structure. Every run appends about as
+	 * much output as can be processed within {@link #FRAME_BUDGET} and reschedules
+	 * itself for the remaining output, so the display stays responsive during
+	 * heavy output.
 	 */
 	private class QueueProcessingJob extends UIJob {
+		/**
+		 * Number of characters appended per run. Adapted from the measured time of
+		 * previous runs.
+		 */
+		private volatile int batchLength = 8 * MIN_BATCH_LENGTH;
 		/** The partition which contains the current output offset. */
 		private IOConsolePartition atOutputPartition = null;
 		/** The index of atOutputPartition in the partitions list. */
@@ -755,53 +1323,92 @@ public class IOConsolePartitioner
 
 		@Override
 		public IStatus runInUIThread(IProgressMonitor monitor) {
-			processPendingPartitions();
+			processPendingPartitions(batchLength);
 			if (ASSERT) {
 				checkPartitions();
 			}
+			if (shouldRun()) {
+				// continue after the display had a chance to process other events
+				schedule();
+			}
 			return Status.OK_STATUS;
 		}
 
 		/*
-		 * Job will process as much as it can each time it's run, but it gets scheduled
-		 * everytime a PendingPartition is added to the list, meaning that this job
-		 * could get scheduled unnecessarily in cases of heavy output. Note however,
-		 * that schedule() will only reschedule a running/scheduled Job once even if
-		 * it's called many times.
+		 * Job will process as much as its budget allows each time it's run, but it gets
+		 * scheduled everytime a PendingPartition is added to the list, meaning that
+		 * this job could get scheduled unnecessarily in cases of heavy output. Note
+		 * however, that schedule() will only reschedule a running/scheduled Job once
+		 * even if it's called many times.
 		 */
 		@Override
 		public boolean shouldRun() {
-			return !pendingPartitions.isEmpty();
+			synchronized (pendingPartitions) {
+				return !pendingPartitions.isEmpty();
+			}
 		}
 
 		/**
 		 * Process {@link #pendingPartitions}, append their content to document and
-		 * update partitioning.
+		 * update partitioning. Adjacent partitions of the same stream are merged
+		 * before the document is changed.
+		 *
+		 * @param maxLength number of characters after which no more pending
+		 *                  partitions are processed
 		 */
-		private void processPendingPartitions() {
+		private void processPendingPartitions(int maxLength) {
 			final List<PendingPartition> pendingCopy = new ArrayList<>();
-			// draining the whole buffer here is important - this way we get as much data as
-			// available and may skip to draw text that exceeds the Console buffer size
-			// anyway (see checkBufferSize()).
-			pendingPartitions.drainTo(pendingCopy);
-			int sizeHint = 0;
-			if (pendingCopy.isEmpty()) {
-				return;
-			}
-			IOConsoleOutputStream stream = pendingCopy.get(0).stream;
-			for (PendingPartition p : pendingCopy) {
-				if (p.stream != stream) {
-					break;
+			long length = 0;
+			int merged = 0;
+			boolean deferred;
+			// Taken partitions are no longer appended to by writers.
+			synchronized (pendingPartitions) {
+				if (pendingPartitions.isEmpty()) {
+					return;
+				}
+				// draining the whole buffer if it exceeds the console buffer size anyway is
+				// important - this way we may skip to draw text that is trimmed right away
+				// (see checkBufferSize()).
+				final long limit = highWaterMark > 0 && pendingLength > highWaterMark ? Long.MAX_VALUE : maxLength;
+				PendingPartition last = null;
+				while (length < limit && !pendingPartitions.isEmpty()) {
+					final PendingPartition pending = pendingPartitions.poll();
+					length += pending.text.length();
+					if (last != null && last.stream == pending.stream) {
+						last.append(pending.text);
+						merged++;
+					} else {
+						pendingCopy.add(pending);
+						last = pending;
+					}
 				}
-				sizeHint += p.text.length();
+				pendingLength -= length;
+				deferred = !pendingPartitions.isEmpty();
+				pendingPartitions.notifyAll();
 			}
+			final long start = System.nanoTime();
 			synchronized (partitions) {
 				if (document != null) {
-					applyStreamOutput(pendingCopy, sizeHint);
+					applyStreamOutput(pendingCopy, pendingCopy.get(0).text.length());
 				}
 				checkFinished();
 				checkBufferSize(); // needs partitions synchronized
 			}
+			final long time = System.nanoTime() - start;
+			if (time > 0 && (length >= maxLength || time > FRAME_BUDGET)) {
+				// only full or slow runs tell how much output fits in the budget
+				final long budgetLength = length * FRAME_BUDGET / time;
+				batchLength = (int) Math.max(MIN_BATCH_LENGTH, Math.min(MAX_BATCH_LENGTH, (batchLength + budgetLength) / 2));
+			}
+			synchronized (pendingPartitions) {
+				updates++;
+				if (deferred) {
+					deferredUpdates++;
+				}
+				mergedPartitions += merged;
+				updateTime += time;
+				maxUpdateTime = Math.max(maxUpdateTime, time);
+			}
 		}
 
 		/**
@@ -1200,27 +1807,25 @@ public class IOConsolePartitioner
 						cutOffset = document.getLineOffset(cutoffLine);
 					}
 					if (cutOffset >= length) {
+						pausedTrimLimit = -1;
 						updateType = DocUpdateType.TRIM;
 						document.set(""); //$NON-NLS-1$
+						discardArchivedOutput();
 					} else {
-						// set the new length of the first partition
-						IOConsolePartition partition = getIOPartition(cutOffset);
+						archiveOutput(cutOffset);
+
+						// set the new bounds of the first partition
+						int index = findPartitionCandidate(cutOffset);
+						IOConsolePartition partition = partitions.get(index);
 						partition.setLength(partition.getOffset() + partition.getLength() - cutOffset);
+						partition.setOffset(cutOffset);
 
 						updateType = DocUpdateType.TRIM;
 						document.replace(0, cutOffset, ""); //$NON-NLS-1$
 
-						// remove partitions and reset Partition offsets
-						int index = partitions.indexOf(partition);
-						for (int i = 0; i < index; i++) {
-							partitions.remove(0);
-						}
-
-						int offset = 0;
-						for (IOConsolePartition p : partitions) {
-							p.setOffset(offset);
-							offset += p.getLength();
-						}
+						// remove partitions and move the remaining ones to the document start
+						partitions.removeFirst(index);
+						partitions.shiftOffsets(cutOffset);
 
 						// fix output offset
 						int removedLength = cutOffset;
@@ -10,18 +10,11 @@
  *******************************************************************************/
 package org.eclipse.ui.internal.console.ansi.participants;
 
-import java.util.ArrayList;
-import java.util.HashMap;
-import java.util.List;
-import java.util.regex.Matcher;
+import java.util.Arrays;
 
-import org.eclipse.jface.text.BadLocationException;
-import org.eclipse.jface.text.BadPositionCategoryException;
-import org.eclipse.jface.text.DefaultPositionUpdater;
 import org.eclipse.jface.text.DocumentEvent;
 import org.eclipse.jface.text.IDocument;
 import org.eclipse.jface.text.IPositionUpdater;
-import org.eclipse.jface.text.Position;
 import org.eclipse.swt.SWT;
 import org.eclipse.swt.custom.LineStyleEvent;
 import org.eclipse.swt.custom.LineStyleListener;
@@ -30,7 +23,6 @@ import org.eclipse.swt.custom.StyledText;
 import org.eclipse.swt.graphics.Color;
 import org.eclipse.swt.graphics.Font;
 import org.eclipse.swt.graphics.GlyphMetrics;
-import org.eclipse.ui.internal.console.ansi.AnsiConsoleUtils;
 import org.eclipse.ui.internal.console.ansi.preferences.AnsiConsolePreferenceUtils;
 import org.eclipse.ui.internal.console.ansi.utils.AnsiConsoleAttributes;
 import org.eclipse.ui.internal.console.ansi.utils.AnsiConsoleColorPalette;
@@ -38,14 +30,31 @@ import org.eclipse.ui.internal.console.ansi.utils.AnsiConsoleColorPalette;
 public class AnsiConsoleStyleListener implements LineStyleListener, IPositionUpdater {
 	private static final Font MONO_FONT = new Font(null, "Monospaced", 6, SWT.NORMAL); //$NON-NLS-1$
 
-	private final DefaultPositionUpdater defaultPositionUpdater = new DefaultPositionUpdater(AnsiPosition.POSITION_NAME);
-	private final HashMap<Integer, List<StyleRange>> offsetToStyleRangeCache = new HashMap<>();
+	// Number of styles kept for reuse, more than a repaint usually needs
+	private static final int STYLE_CACHE_SIZE = 64;
+	// Style key flags in addition to the AnsiStyleRunTable attribute flags
+	private static final int STYLE_CODE = 1 << 30;
+	private static final int STYLE_ERROR_COLOR = 1 << 29;
+
+	// Escape sequences and attributes of the document, parsed when text is appended
+	private final AnsiStyleRunTable styleRuns = new AnsiStyleRunTable();
+	private boolean styleRunsStale = true;
 	private IDocument document;
-	private boolean documentEverScanned = false;
 	private boolean isCdtBuildConsole = false;
 	private int oldEventTime;
 
-	private AnsiConsoleAttributes lastVisibleAttribute = new AnsiConsoleAttributes();
+	// Styles shared by all ranges with the same attributes, as the event ranges refer to them
+	private final int[] cachedForegrounds = new int[STYLE_CACHE_SIZE];
+	private final int[] cachedBackgrounds = new int[STYLE_CACHE_SIZE];
+	private final int[] cachedFlags = new int[STYLE_CACHE_SIZE];
+	private final StyleRange[] cachedStyles = new StyleRange[STYLE_CACHE_SIZE];
+	private int cachedStyleCount;
+	private final AnsiConsoleAttributes attributes = new AnsiConsoleAttributes();
+
+	// Ranges of the line being styled, reused for all lines
+	private int[] lineRanges = new int[32];
+	private StyleRange[] lineStyles = new StyleRange[16];
+	private int lineRangeCount;
 
 	public AnsiConsoleStyleListener(IDocument document) {
 		setDocument(document);
@@ -53,11 +62,13 @@ public class AnsiConsoleStyleListener implements LineStyleListener, IPositionUpd
 	}
 
 	private void setDocument(IDocument newDocument) {
-		offsetToStyleRangeCache.clear();
-		documentEverScanned = false;
+		if (document != null) {
+			document.removePositionUpdater(this);
+		}
 		document = newDocument;
 		isCdtBuildConsole = document.getClass().getSimpleName().equals("BuildConsoleDocument"); //$NON-NLS-1$
-		document.addPositionCategory(AnsiPosition.POSITION_NAME);
+		styleRunsStale = true;
+		cachedStyleCount = 0;
 		if (!hasPositionUpdater(this)) {
 			document.addPositionUpdater(this);
 		}
@@ -72,10 +83,31 @@ public class AnsiConsoleStyleListener implements LineStyleListener, IPositionUpd
 		return false;
 	}
 
-	private static void addRange(List<StyleRange> ranges, int start, int length,
-			AnsiConsoleAttributes attributes, Color foreground, boolean isCode) {
+	private void addRange(int start, int length, StyleRange style) {
+		if (lineRangeCount == lineStyles.length) {
+			lineStyles = Arrays.copyOf(lineStyles, lineRangeCount * 2);
+			lineRanges = Arrays.copyOf(lineRanges, lineRangeCount * 4);
+		}
+		lineRanges[lineRangeCount * 2] = start;
+		lineRanges[lineRangeCount * 2 + 1] = length;
+		lineStyles[lineRangeCount++] = style;
+	}
 
-		final StyleRange range = new StyleRange(start, length, foreground, null);
+	// Returns the shared style for the attributes after the given escape sequence
+	private StyleRange getStyle(int index, boolean isCode, Color foreground, boolean isErrorColor) {
+		final int fg = styleRuns.getForeground(index);
+		final int bg = styleRuns.getBackground(index);
+		final int flags = styleRuns.getFlags(index);
+		final int key = flags | (isCode ? STYLE_CODE : 0) | (isErrorColor ? STYLE_ERROR_COLOR : 0);
+		for (int i = 0; i < cachedStyleCount; i++) {
+			if (cachedFlags[i] == key && cachedForegrounds[i] == fg && cachedBackgrounds[i] == bg) {
+				return cachedStyles[i];
+			}
+		}
+
+		final StyleRange range = new StyleRange();
+		range.foreground = foreground;
+		AnsiStyleRunTable.toAttributes(fg, bg, flags, attributes);
 		AnsiConsoleAttributes.updateRangeStyle(range, attributes);
 		if (isCode) {
 			if (AnsiConsolePreferenceUtils.showAnsiEscapes()) {
@@ -84,7 +116,14 @@ public class AnsiConsoleStyleListener implements LineStyleListener, IPositionUpd
 				range.metrics = new GlyphMetrics(0, 0, 0); // Hide the codes
 			}
 		}
-		ranges.add(range);
+		if (cachedStyleCount == STYLE_CACHE_SIZE) {
+			cachedStyleCount = 0;
+		}
+		cachedForegrounds[cachedStyleCount] = fg;
+		cachedBackgrounds[cachedStyleCount] = bg;
+		cachedFlags[cachedStyleCount] = key;
+		cachedStyles[cachedStyleCount++] = range;
+		return range;
 	}
 
 	@Override
@@ -115,166 +154,120 @@ public class AnsiConsoleStyleListener implements LineStyleListener, IPositionUpd
 			}
 		}
 
-		final int eventOffset = event.lineOffset;
-		final int eventLength = event.lineText.length();
-		final List<StyleRange> cachedRanges = offsetToStyleRangeCache.get(eventOffset);
-		if (cachedRanges != null) {
-			event.styles = cachedRanges.toArray(new StyleRange[0]);
-			return;
-		}
-		if (event.styles == null) { // It looks that in some cases this comes in as null
-			event.styles = new StyleRange[0];
-		}
-
-		if (!documentEverScanned) {
-			calculateDocumentAnsiPositions(document, 0, 0, null);
+		if (styleRunsStale) {
+			rebuildStyleRuns();
 		}
-
-		Position[] positions;
-		try {
-			positions = document.getPositions(AnsiPosition.POSITION_NAME);
-		} catch (BadPositionCategoryException e) {
+		if (!styleRuns.hasStyles()) {
 			return;
 		}
 
-		if (positions.length == 0) {
-			return;
-		}
+		final int eventOffset = event.lineOffset;
+		final int lineEnd = eventOffset + event.lineText.length();
+		final StyleRange[] oldStyles = event.styles == null ? new StyleRange[0] : event.styles;
+		final int[] oldRanges = event.ranges;
 
 		final Color errorColor = AnsiConsolePreferenceUtils.getDebugConsoleErrorColor();
 		Color foregroundColor = AnsiConsolePreferenceUtils.getDebugConsoleFgColor();
 		if (AnsiConsolePreferenceUtils.tryPreservingStdErrColor()) {
-			for (StyleRange range : event.styles) {
+			for (StyleRange range : oldStyles) {
 				if (errorColor.equals(range.foreground)) {
 					foregroundColor = errorColor;
 					break;
 				}
 			}
 		}
+		final boolean isErrorColor = foregroundColor == errorColor;
 
-		final List<StyleRange> ranges = new ArrayList<>();
-		AnsiConsoleAttributes prevAttr = lastVisibleAttribute;
+		lineRangeCount = 0;
+		int index = styleRuns.indexOf(eventOffset);
+		int prevIndex = index - 1; // the attributes in effect at the start of the line
 		int prevPos = eventOffset;
-
-		for (Position position : positions) {
-			AnsiPosition apos = (AnsiPosition) position;
-			if (apos.getOffset() > eventOffset + eventLength) { // we passed the end of line, stop searching
+		for (; index < styleRuns.getCount(); index++) {
+			final int start = Math.max(styleRuns.getOffset(index), eventOffset);
+			if (start >= lineEnd) { // we passed the end of line, stop searching
 				break;
 			}
-			if (apos.overlapsWith(eventOffset, eventLength)) {
-				if (apos.offset != prevPos) {
-					addRange(ranges, prevPos, apos.offset - prevPos, prevAttr, foregroundColor, false);
-				}
-				addRange(ranges, apos.offset, apos.length, apos.attributes, foregroundColor, true);
-				prevPos = apos.offset + apos.length;
-			}
-			if (apos.attributes != null) {
-				// Attributes can be null for non \e[..m escapes, for example \e[K
-				// Those kind of escape sequences don't affect the attributes.
-				prevAttr = apos.attributes;
+			if (start != prevPos) {
+				addRange(prevPos, start - prevPos, getStyle(prevIndex, false, foregroundColor, isErrorColor));
 			}
+			final int end = Math.min(styleRuns.getOffset(index) + styleRuns.getSequenceLength(index), lineEnd);
+			addRange(start, end - start, getStyle(index, true, foregroundColor, isErrorColor));
+			prevPos = end;
+			prevIndex = index;
+		}
+		if (prevPos < lineEnd) {
+			addRange(prevPos, lineEnd - prevPos, getStyle(prevIndex, false, foregroundColor, isErrorColor));
 		}
-		addRange(ranges, prevPos, eventOffset + eventLength - prevPos, prevAttr, foregroundColor, false);
 
-		if (!ranges.isEmpty()) {
-			// Copy the links that might already exist
-			for (StyleRange range : event.styles) {
-				if (range.foreground != null) {
-					if (range.foreground.equals(AnsiConsolePreferenceUtils.getHyperlinkColor())) {
-						ranges.add(range);
-					}
-					// We preserve the C/C++ build console colors (all except regular output)
-					if (isCdtBuildConsole && !range.foreground.equals(AnsiConsolePreferenceUtils.getCdtOutputStreamColor())) {
-						ranges.add(range);
+		// Copy the links that might already exist
+		for (int i = 0; i < oldStyles.length; i++) {
+			StyleRange range = oldStyles[i];
+			if (range.foreground != null) {
+				// We preserve the C/C++ build console colors (all except regular output)
+				if (range.foreground.equals(AnsiConsolePreferenceUtils.getHyperlinkColor())
+						|| (isCdtBuildConsole && !range.foreground.equals(AnsiConsolePreferenceUtils.getCdtOutputStreamColor()))) {
+					if (oldRanges != null) {
+						addRange(oldRanges[i * 2], oldRanges[i * 2 + 1], range);
+					} else {
+						addRange(range.start, range.length, range);
 					}
 				}
 			}
-			offsetToStyleRangeCache.put(eventOffset, ranges);
-			event.styles = ranges.toArray(new StyleRange[0]);
 		}
+		event.ranges = Arrays.copyOf(lineRanges, lineRangeCount * 2);
+		event.styles = Arrays.copyOf(lineStyles, lineRangeCount);
 	}
 
-	private static List<AnsiPosition> findPositions(int offset, String currentText) {
-		final List<AnsiPosition> result = new ArrayList<>();
-		final Matcher matcher = AnsiConsoleUtils.ESCAPE_SEQUENCE_REGEX_TXT.matcher(currentText);
-		while (matcher.find()) {
-			int start = matcher.start();
-			String group = matcher.group();
-			result.add(new AnsiPosition(start + offset, group));
-		}
-		return result;
+	private void rebuildStyleRuns() {
+		styleRuns.clear();
+		styleRuns.append(document.get());
+		styleRunsStale = false;
 	}
 
 	/**
-	 * We scan newly appended text, or the full document the first time.
+	 * We parse newly appended text, and drop the escape sequences of text removed from the beginning.
 	 *
 	 * Although in a general an IDocument can also replace text, or insert text in the middle (or beginning)
 	 * that would complicate things a lot.
 	 * But this is a console output, so I don't expect such a thing to happen.
 	 * We only expect to append (at the end), or remove from the beginning (when the doc size > console buffer size)
-	 *   offset: 0, length: 0, "something" => Appended at beginning of doc (the doc was empty)
 	 *   offset:42, length: 0, "something" => Appended at end of doc. 42 was doc size before append.
 	 *   offset:0, length: 100, ""         => Removed the first 100 characters (replace with "" == remove)
-	 *
-	 * @param eventDocument The document
-	 * @param offset        Where was the text added. 0 => might mean remove, or the first content added
-	 * @param length        The length of the text replaced. 0 if append, != if removed (from the beginning)
-	 * @param text          For insert / append, this is the new text. For delete, empty string.
+	 *   offset:0, length: 0, "something"  => Restored output inserted at the beginning. As its escape sequences
+	 *                                        change the attributes of the text behind, the runs are parsed again.
+	 * Other changes only move the escape sequences behind them, the inserted text is not parsed.
 	 */
-	private void calculateDocumentAnsiPositions(IDocument eventDocument, int offset, int length, String text) {
-		if (text == null) {
-			text = eventDocument.get();
-		}
-
-		if (length != 0) { // This is the length of the text replaced. If not zero then this is not append, is replace.
-			return;
-		}
-		// First time or the appended text is at the end (so it is not inserted text).
-		if (documentEverScanned && offset + text.length() != eventDocument.getLength()) {
-			return;
-		}
-		documentEverScanned = true;
-		try {
-			List<AnsiPosition> newPos = findPositions(offset, text);
-			for (AnsiPosition apos : newPos) {
-				eventDocument.addPosition(AnsiPosition.POSITION_NAME, apos);
-			}
-		} catch (BadPositionCategoryException | BadLocationException e) {
-			// ignored
-		}
-	}
-
 	@Override
 	public void update(DocumentEvent event) {
-		// Make sure we don't do anything if disabled
+		// Make sure we don't do anything if disabled, the document is parsed again when enabled
 		if (!AnsiConsolePreferenceUtils.isAnsiConsoleEnabled()) {
+			styleRunsStale = true;
+			return;
+		}
+		// Preferences used by the styles might have changed
+		cachedStyleCount = 0;
+		if (styleRunsStale) {
 			return;
 		}
-
-		final IDocument eventDocument = event.getDocument();
 
 		final int offset = event.getOffset();
 		final int length = event.getLength();
-		final String text = event.getText();
-		try {
-			if (offset == 0 && length != 0) { // This removes the beginning. We scan to find and save the last style.
-				for (Position pos : eventDocument.getPositions(AnsiPosition.POSITION_NAME)) {
-					if (pos.offset >= length) {
-						break;
-					}
-					AnsiConsoleAttributes attributes = ((AnsiPosition) pos).attributes;
-					if (attributes != null) {
-						lastVisibleAttribute = attributes;
-					}
-				}
-			}
-			defaultPositionUpdater.update(event);
-			// This will only do something on new text (appended)
-			calculateDocumentAnsiPositions(eventDocument, offset, length, text);
-			// Would probably be possible to re-calculate things. But let's measure first (premature optimization and all that :-)
-			offsetToStyleRangeCache.clear();
-		} catch (BadPositionCategoryException e) {
-			// ignored
+		final String text = event.getText() == null ? "" : event.getText(); //$NON-NLS-1$
+		if (length == 0 && offset == styleRuns.getLength()) {
+			styleRuns.append(text);
+		} else if (offset == 0 && length == styleRuns.getLength() && !text.isEmpty()) {
+			// The whole document was replaced
+			styleRuns.clear();
+			styleRuns.append(text);
+		} else if (offset == 0 && text.isEmpty()) {
+			styleRuns.trim(length);
+		} else if (offset == 0 && length == 0) {
+			styleRunsStale = true;
+		} else {
+			styleRuns.replace(offset, length, text.length());
+		}
+		if (styleRuns.getLength() != event.getDocument().getLength()) {
+			styleRunsStale = true;
 		}
 	}
 }
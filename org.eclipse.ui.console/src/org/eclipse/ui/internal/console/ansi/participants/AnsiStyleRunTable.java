@@ -0,0 +1,523 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.ui.internal.console.ansi.participants;
+
+import static org.eclipse.ui.internal.console.ansi.utils.AnsiCommands.COMMAND_ATTR_CONCEAL_OFF;
+import static org.eclipse.ui.internal.console.ansi.utils.AnsiCommands.COMMAND_ATTR_CONCEAL_ON;
+import static org.eclipse.ui.internal.console.ansi.utils.AnsiCommands.COMMAND_ATTR_CROSSOUT_OFF;
+import static org.eclipse.ui.internal.console.ansi.utils.AnsiCommands.COMMAND_ATTR_CROSSOUT_ON;
+import static org.eclipse.ui.internal.console.ansi.utils.AnsiCommands.COMMAND_ATTR_FRAMED_OFF;
+import static org.eclipse.ui.internal.console.ansi.utils.AnsiCommands.COMMAND_ATTR_FRAMED_ON;
+import static org.eclipse.ui.internal.console.ansi.utils.AnsiCommands.COMMAND_ATTR_INTENSITY_BRIGHT;
+import static org.eclipse.ui.internal.console.ansi.utils.AnsiCommands.COMMAND_ATTR_INTENSITY_FAINT;
+import static org.eclipse.ui.internal.console.ansi.utils.AnsiCommands.COMMAND_ATTR_INTENSITY_NORMAL;
+import static org.eclipse.ui.internal.console.ansi.utils.AnsiCommands.COMMAND_ATTR_ITALIC;
+import static org.eclipse.ui.internal.console.ansi.utils.AnsiCommands.COMMAND_ATTR_ITALIC_OFF;
+import static org.eclipse.ui.internal.console.ansi.utils.AnsiCommands.COMMAND_ATTR_NEGATIVE_OFF;
+import static org.eclipse.ui.internal.console.ansi.utils.AnsiCommands.COMMAND_ATTR_NEGATIVE_ON;
+import static org.eclipse.ui.internal.console.ansi.utils.AnsiCommands.COMMAND_ATTR_RESET;
+import static org.eclipse.ui.internal.console.ansi.utils.AnsiCommands.COMMAND_ATTR_UNDERLINE;
+import static org.eclipse.ui.internal.console.ansi.utils.AnsiCommands.COMMAND_ATTR_UNDERLINE_DOUBLE;
+import static org.eclipse.ui.internal.console.ansi.utils.AnsiCommands.COMMAND_ATTR_UNDERLINE_OFF;
+import static org.eclipse.ui.internal.console.ansi.utils.AnsiCommands.COMMAND_COLOR_BACKGROUND_FIRST;
+import static org.eclipse.ui.internal.console.ansi.utils.AnsiCommands.COMMAND_COLOR_BACKGROUND_LAST;
+import static org.eclipse.ui.internal.console.ansi.utils.AnsiCommands.COMMAND_COLOR_BACKGROUND_RESET;
+import static org.eclipse.ui.internal.console.ansi.utils.AnsiCommands.COMMAND_COLOR_FOREGROUND_FIRST;
+import static org.eclipse.ui.internal.console.ansi.utils.AnsiCommands.COMMAND_COLOR_FOREGROUND_LAST;
+import static org.eclipse.ui.internal.console.ansi.utils.AnsiCommands.COMMAND_COLOR_FOREGROUND_RESET;
+import static org.eclipse.ui.internal.console.ansi.utils.AnsiCommands.COMMAND_COLOR_INTENSITY_DELTA;
+import static org.eclipse.ui.internal.console.ansi.utils.AnsiCommands.COMMAND_HICOLOR_BACKGROUND;
+import static org.eclipse.ui.internal.console.ansi.utils.AnsiCommands.COMMAND_HICOLOR_BACKGROUND_FIRST;
+import static org.eclipse.ui.internal.console.ansi.utils.AnsiCommands.COMMAND_HICOLOR_BACKGROUND_LAST;
+import static org.eclipse.ui.internal.console.ansi.utils.AnsiCommands.COMMAND_HICOLOR_FOREGROUND;
+import static org.eclipse.ui.internal.console.ansi.utils.AnsiCommands.COMMAND_HICOLOR_FOREGROUND_FIRST;
+import static org.eclipse.ui.internal.console.ansi.utils.AnsiCommands.COMMAND_HICOLOR_FOREGROUND_LAST;
+
+import java.util.Arrays;
+
+import org.eclipse.swt.SWT;
+import org.eclipse.ui.internal.console.ansi.AnsiConsoleUtils;
+import org.eclipse.ui.internal.console.ansi.utils.AnsiConsoleAttributes;
+import org.eclipse.ui.internal.console.ansi.utils.AnsiConsoleColorPalette;
+
+/**
+ * The escape sequences of a console document and the text attributes they
+ * select.
+ * <p>
+ * Appended text is tokenized once by a state machine, which also recognizes
+ * sequences split across several appends. For each escape sequence the table
+ * stores its offset, its length and the attributes in effect after it in
+ * parallel primitive arrays, so the attributes of any range of the document are
+ * found with a binary search and without allocating objects.
+ * </p>
+ * <p>
+ * Offsets are kept relative to the beginning of the first text ever appended,
+ * so trimming the beginning of the document only drops the sequences before
+ * the cut. The attributes selected by the dropped sequences remain in effect
+ * for the text before the first remaining sequence.
+ * </p>
+ * <p>
+ * This class is not thread safe.
+ * </p>
+ */
+public class AnsiStyleRunTable {
+
+	/** Color value selecting the default color. */
+	public static final int DEFAULT_COLOR = -1;
+
+	/** Attribute flag for bold text. */
+	public static final int BOLD = 1;
+	/** Attribute flag for italic text. */
+	public static final int ITALIC = 1 << 1;
+	/** Attribute flag for text with swapped foreground and background. */
+	public static final int INVERT = 1 << 2;
+	/** Attribute flag for concealed text. */
+	public static final int CONCEAL = 1 << 3;
+	/** Attribute flag for crossed out text. */
+	public static final int STRIKE = 1 << 4;
+	/** Attribute flag for framed text. */
+	public static final int FRAMED = 1 << 5;
+	/** Attribute flag for text with a single underline. */
+	public static final int UNDERLINE_SINGLE = 1 << 6;
+	/** Attribute flag for text with a double underline. */
+	public static final int UNDERLINE_DOUBLE = 1 << 7;
+
+	private static final char ESC = '\u001b';
+
+	/** Parser state outside of escape sequences. */
+	private static final int TEXT = 0;
+	/** Parser state after an escape character. */
+	private static final int ESCAPE = 1;
+	/** Parser state in the parameters of a control sequence. */
+	private static final int CONTROL = 2;
+
+	/** Larger parameter values are clamped to avoid overflows. */
+	private static final int MAX_PARAMETER = 0xFFFFFF;
+
+	private static final int INITIAL_CAPACITY = 16;
+
+	/** Start of each sequence relative to the first text appended. */
+	private long[] starts = new long[INITIAL_CAPACITY];
+	/** Length of each sequence. */
+	private int[] lengths = new int[INITIAL_CAPACITY];
+	/** Foreground color after each sequence. */
+	private int[] foregrounds = new int[INITIAL_CAPACITY];
+	/** Background color after each sequence. */
+	private int[] backgrounds = new int[INITIAL_CAPACITY];
+	/** Attribute flags after each sequence. */
+	private int[] flags = new int[INITIAL_CAPACITY];
+	/** Index of the first sequence in the arrays. */
+	private int first;
+	/** Number of sequences. */
+	private int count;
+
+	/** Position of document offset 0 relative to the first text appended. */
+	private long origin;
+	/** Position of the end of the document relative to the first text appended. */
+	private long end;
+
+	/** Attributes in effect before the first sequence. */
+	private int baseForeground = DEFAULT_COLOR;
+	private int baseBackground = DEFAULT_COLOR;
+	private int baseFlags;
+
+	/** Attributes after the last sequence parsed. */
+	private int foreground = DEFAULT_COLOR;
+	private int background = DEFAULT_COLOR;
+	private int currentFlags;
+
+	private int state = TEXT;
+	/** Start of the sequence being parsed. */
+	private long sequenceStart;
+	/** Parameters of the sequence being parsed. */
+	private int[] parameters = new int[8];
+	private int parameterCount;
+	/** Value of the parameter being parsed. */
+	private int parameter;
+
+	/**
+	 * Parses text appended at the end of the document.
+	 *
+	 * @param text the appended text
+	 */
+	public void append(CharSequence text) {
+		int textLength = text.length();
+		for (int i = 0; i < textLength; i++) {
+			char c = text.charAt(i);
+			switch (state) {
+				case TEXT:
+					if (c == ESC) {
+						state = ESCAPE;
+						sequenceStart = end + i;
+					}
+					break;
+				case ESCAPE:
+					if (c == '[') {
+						state = CONTROL;
+						parameterCount = 0;
+						parameter = 0;
+					} else if (c == ESC) {
+						sequenceStart = end + i;
+					} else {
+						state = TEXT;
+					}
+					break;
+				default:
+					if (c >= '0' && c <= '9') {
+						parameter = Math.min(parameter * 10 + c - '0', MAX_PARAMETER);
+					} else if (c == ';') {
+						addParameter();
+					} else if (isFinal(c)) {
+						addParameter();
+						if (c == AnsiConsoleUtils.ESCAPE_SGR) {
+							interpretCommand();
+						}
+						addSequence(sequenceStart, (int) (end + i + 1 - sequenceStart));
+						state = TEXT;
+					} else if (c == ESC) {
+						state = ESCAPE;
+						sequenceStart = end + i;
+					} else {
+						state = TEXT;
+					}
+					break;
+			}
+		}
+		end += textLength;
+	}
+
+	/**
+	 * Removes the given number of chars from the beginning of the document.
+	 *
+	 * @param trimLength number of chars removed
+	 */
+	public void trim(int trimLength) {
+		origin += trimLength;
+		while (count > 0 && starts[first] < origin) {
+			baseForeground = foregrounds[first];
+			baseBackground = backgrounds[first];
+			baseFlags = flags[first];
+			first++;
+			count--;
+		}
+		if (count == 0) {
+			first = 0;
+		}
+		if (state != TEXT && sequenceStart < origin) {
+			state = TEXT;
+		}
+	}
+
+	/**
+	 * Updates the table for a change which is neither an append nor a trim.
+	 * The sequences in the replaced range are removed and the following
+	 * sequences are moved. The inserted text is not parsed.
+	 *
+	 * @param offset offset of the change
+	 * @param replaceLength number of chars replaced
+	 * @param textLength number of chars inserted
+	 */
+	public void replace(int offset, int replaceLength, int textLength) {
+		long from = origin + offset;
+		long to = from + replaceLength;
+		int delta = textLength - replaceLength;
+		int kept = first;
+		for (int i = first; i < first + count; i++) {
+			if (starts[i] + lengths[i] <= from) {
+				kept++;
+			} else if (starts[i] >= to) {
+				starts[kept] = starts[i] + delta;
+				lengths[kept] = lengths[i];
+				foregrounds[kept] = foregrounds[i];
+				backgrounds[kept] = backgrounds[i];
+				flags[kept] = flags[i];
+				kept++;
+			}
+		}
+		count = kept - first;
+		end += delta;
+		state = TEXT;
+	}
+
+	/**
+	 * Removes all sequences and resets the attributes.
+	 */
+	public void clear() {
+		first = 0;
+		count = 0;
+		origin = 0;
+		end = 0;
+		baseForeground = DEFAULT_COLOR;
+		baseBackground = DEFAULT_COLOR;
+		baseFlags = 0;
+		foreground = DEFAULT_COLOR;
+		background = DEFAULT_COLOR;
+		currentFlags = 0;
+		state = TEXT;
+	}
+
+	/**
+	 * Returns the length of the document as known to the table.
+	 *
+	 * @return the document length
+	 */
+	public int getLength() {
+		return (int) (end - origin);
+	}
+
+	/**
+	 * Returns whether the document has any styled text.
+	 *
+	 * @return <code>true</code> if the document contains escape sequences or
+	 *         its beginning has attributes selected by trimmed sequences
+	 */
+	public boolean hasStyles() {
+		return count > 0 || baseForeground != DEFAULT_COLOR || baseBackground != DEFAULT_COLOR || baseFlags != 0;
+	}
+
+	/**
+	 * Returns the number of escape sequences.
+	 *
+	 * @return the number of sequences
+	 */
+	public int getCount() {
+		return count;
+	}
+
+	/**
+	 * Returns the index of the first sequence ending after the given offset.
+	 *
+	 * @param offset a document offset
+	 * @return the sequence index or {@link #getCount()} if no sequence ends
+	 *         after the offset
+	 */
+	public int indexOf(int offset) {
+		long position = origin + offset;
+		int low = first;
+		int high = first + count;
+		while (low < high) {
+			int middle = (low + high) >>> 1;
+			if (starts[middle] + lengths[middle] <= position) {
+				low = middle + 1;
+			} else {
+				high = middle;
+			}
+		}
+		return low - first;
+	}
+
+	/**
+	 * @param index index of a sequence
+	 * @return document offset of the sequence
+	 */
+	public int getOffset(int index) {
+		return (int) (starts[first + index] - origin);
+	}
+
+	/**
+	 * @param index index of a sequence
+	 * @return length of the sequence
+	 */
+	public int getSequenceLength(int index) {
+		return lengths[first + index];
+	}
+
+	/**
+	 * @param index index of a sequence or <code>-1</code> for the text before
+	 *            the first sequence
+	 * @return palette index or RGB value of the foreground color after the
+	 *         sequence or {@link #DEFAULT_COLOR}
+	 */
+	public int getForeground(int index) {
+		return index < 0 ? baseForeground : foregrounds[first + index];
+	}
+
+	/**
+	 * @param index index of a sequence or <code>-1</code> for the text before
+	 *            the first sequence
+	 * @return palette index or RGB value of the background color after the
+	 *         sequence or {@link #DEFAULT_COLOR}
+	 */
+	public int getBackground(int index) {
+		return index < 0 ? baseBackground : backgrounds[first + index];
+	}
+
+	/**
+	 * @param index index of a sequence or <code>-1</code> for the text before
+	 *            the first sequence
+	 * @return attribute flags after the sequence
+	 */
+	public int getFlags(int index) {
+		return index < 0 ? baseFlags : flags[first + index];
+	}
+
+	/**
+	 * Sets console attributes to the given attribute values of the table.
+	 *
+	 * @param foregroundColor foreground color as returned by
+	 *            {@link #getForeground(int)}
+	 * @param backgroundColor background color as returned by
+	 *            {@link #getBackground(int)}
+	 * @param attributeFlags flags as returned by {@link #getFlags(int)}
+	 * @param attributes the attributes to set
+	 */
+	public static void toAttributes(int foregroundColor, int backgroundColor, int attributeFlags, AnsiConsoleAttributes attributes) {
+		attributes.currentFgColor = foregroundColor == DEFAULT_COLOR ? null : Integer.valueOf(foregroundColor);
+		attributes.currentBgColor = backgroundColor == DEFAULT_COLOR ? null : Integer.valueOf(backgroundColor);
+		if ((attributeFlags & UNDERLINE_SINGLE) != 0) {
+			attributes.underline = SWT.UNDERLINE_SINGLE;
+		} else if ((attributeFlags & UNDERLINE_DOUBLE) != 0) {
+			attributes.underline = SWT.UNDERLINE_DOUBLE;
+		} else {
+			attributes.underline = AnsiConsoleAttributes.UNDERLINE_NONE;
+		}
+		attributes.bold = (attributeFlags & BOLD) != 0;
+		attributes.italic = (attributeFlags & ITALIC) != 0;
+		attributes.invert = (attributeFlags & INVERT) != 0;
+		attributes.conceal = (attributeFlags & CONCEAL) != 0;
+		attributes.strike = (attributeFlags & STRIKE) != 0;
+		attributes.framed = (attributeFlags & FRAMED) != 0;
+	}
+
+	/**
+	 * Returns whether the given char ends a control sequence, the same chars
+	 * as {@link AnsiConsoleUtils#ESCAPE_SEQUENCE_REGEX_TXT} accepts.
+	 */
+	private static boolean isFinal(char c) {
+		return (c >= 'A' && c <= 'H') || c == 'J' || c == 'K' || c == 'S' || c == 'T' || c == 'f' || c == 'i' || c == 'm' || c == 'n' || c == 's' || c == 'u';
+	}
+
+	private void addParameter() {
+		if (parameterCount == parameters.length) {
+			parameters = Arrays.copyOf(parameters, parameterCount * 2);
+		}
+		parameters[parameterCount++] = parameter;
+		parameter = 0;
+	}
+
+	private void addSequence(long start, int sequenceLength) {
+		if (first + count == starts.length) {
+			makeRoom();
+		}
+		int index = first + count;
+		starts[index] = start;
+		lengths[index] = sequenceLength;
+		foregrounds[index] = foreground;
+		backgrounds[index] = background;
+		flags[index] = currentFlags;
+		count++;
+	}
+
+	/**
+	 * Makes room for another sequence at the end of the arrays, either by
+	 * moving the sequences to the front if many have been trimmed or by
+	 * growing the arrays.
+	 */
+	private void makeRoom() {
+		int capacity = starts.length;
+		if (first > capacity / 2) {
+			System.arraycopy(starts, first, starts, 0, count);
+			System.arraycopy(lengths, first, lengths, 0, count);
+			System.arraycopy(foregrounds, first, foregrounds, 0, count);
+			System.arraycopy(backgrounds, first, backgrounds, 0, count);
+			System.arraycopy(flags, first, flags, 0, count);
+			first = 0;
+			return;
+		}
+		int newCapacity = capacity + (capacity >> 1);
+		starts = Arrays.copyOf(starts, newCapacity);
+		lengths = Arrays.copyOf(lengths, newCapacity);
+		foregrounds = Arrays.copyOf(foregrounds, newCapacity);
+		backgrounds = Arrays.copyOf(backgrounds, newCapacity);
+		flags = Arrays.copyOf(flags, newCapacity);
+	}
+
+	/**
+	 * Applies the parameters of a Select Graphic Rendition (SGR) sequence to
+	 * the current attributes.
+	 */
+	private void interpretCommand() {
+		for (int i = 0; i < parameterCount; i++) {
+			int nCmd = parameters[i];
+			switch (nCmd) {
+				case COMMAND_ATTR_RESET:
+					foreground = DEFAULT_COLOR;
+					background = DEFAULT_COLOR;
+					currentFlags = 0;
+					break;
+
+				case COMMAND_ATTR_INTENSITY_BRIGHT:  currentFlags |= BOLD; break;
+				case COMMAND_ATTR_INTENSITY_FAINT: // Intentional fallthrough
+				case COMMAND_ATTR_INTENSITY_NORMAL:  currentFlags &= ~BOLD; break;
+
+				case COMMAND_ATTR_ITALIC:            currentFlags |= ITALIC; break;
+				case COMMAND_ATTR_ITALIC_OFF:        currentFlags &= ~ITALIC; break;
+
+				case COMMAND_ATTR_UNDERLINE:         currentFlags = (currentFlags & ~UNDERLINE_DOUBLE) | UNDERLINE_SINGLE; break;
+				case COMMAND_ATTR_UNDERLINE_DOUBLE:  currentFlags = (currentFlags & ~UNDERLINE_SINGLE) | UNDERLINE_DOUBLE; break;
+				case COMMAND_ATTR_UNDERLINE_OFF:     currentFlags &= ~(UNDERLINE_SINGLE | UNDERLINE_DOUBLE); break;
+
+				case COMMAND_ATTR_CROSSOUT_ON:       currentFlags |= STRIKE; break;
+				case COMMAND_ATTR_CROSSOUT_OFF:      currentFlags &= ~STRIKE; break;
+
+				case COMMAND_ATTR_NEGATIVE_ON:       currentFlags |= INVERT; break;
+				case COMMAND_ATTR_NEGATIVE_OFF:      currentFlags &= ~INVERT; break;
+
+				case COMMAND_ATTR_CONCEAL_ON:        currentFlags |= CONCEAL; break;
+				case COMMAND_ATTR_CONCEAL_OFF:       currentFlags &= ~CONCEAL; break;
+
+				case COMMAND_ATTR_FRAMED_ON:         currentFlags |= FRAMED; break;
+				case COMMAND_ATTR_FRAMED_OFF:        currentFlags &= ~FRAMED; break;
+
+				case COMMAND_COLOR_FOREGROUND_RESET: foreground = DEFAULT_COLOR; break;
+				case COMMAND_COLOR_BACKGROUND_RESET: background = DEFAULT_COLOR; break;
+
+				case COMMAND_HICOLOR_FOREGROUND:
+				case COMMAND_HICOLOR_BACKGROUND: // {esc}[48;5;{color}m
+					int color = -1;
+					int nMustBe2or5 = i + 1 < parameterCount ? parameters[++i] : -1;
+					if (nMustBe2or5 == 5) { // 256 colors
+						color = i + 1 < parameterCount ? parameters[++i] : -1;
+						if (!AnsiConsoleColorPalette.isValidIndex(color)) {
+							color = -1;
+						}
+					} else if (nMustBe2or5 == 2) { // rgb colors
+						int r = i + 1 < parameterCount ? parameters[++i] : -1;
+						int g = i + 1 < parameterCount ? parameters[++i] : -1;
+						int b = i + 1 < parameterCount ? parameters[++i] : -1;
+						color = AnsiConsoleColorPalette.hackRgb(r, g, b);
+					}
+					if (color != -1) {
+						if (nCmd == COMMAND_HICOLOR_FOREGROUND) {
+							foreground = color;
+						} else {
+							background = color;
+						}
+					}
+					break;
+
+				default:
+					if (nCmd >= COMMAND_COLOR_FOREGROUND_FIRST && nCmd <= COMMAND_COLOR_FOREGROUND_LAST) { // text color
+						foreground = nCmd - COMMAND_COLOR_FOREGROUND_FIRST;
+					} else if (nCmd >= COMMAND_COLOR_BACKGROUND_FIRST && nCmd <= COMMAND_COLOR_BACKGROUND_LAST) { // background color
+						background = nCmd - COMMAND_COLOR_BACKGROUND_FIRST;
+					} else if (nCmd >= COMMAND_HICOLOR_FOREGROUND_FIRST && nCmd <= COMMAND_HICOLOR_FOREGROUND_LAST) { // text color
+						foreground = nCmd - COMMAND_HICOLOR_FOREGROUND_FIRST + COMMAND_COLOR_INTENSITY_DELTA;
+					} else if (nCmd >= COMMAND_HICOLOR_BACKGROUND_FIRST && nCmd <= COMMAND_HICOLOR_BACKGROUND_LAST) { // background color
+						background = nCmd - COMMAND_HICOLOR_BACKGROUND_FIRST + COMMAND_COLOR_INTENSITY_DELTA;
+					}
+			}
+		}
+	}
+}